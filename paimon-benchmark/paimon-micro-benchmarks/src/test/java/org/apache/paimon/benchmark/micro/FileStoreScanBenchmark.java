@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.micro;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.KeyValueFileStore;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.operation.AbstractFileStoreScan;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.table.AbstractFileStoreTable;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link AbstractFileStoreScan#plan} of a primary key table, one operation is one
+ * plan of the latest snapshot.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class FileStoreScanBenchmark extends TableBenchmarkBase {
+
+    private static final int ROWS_PER_COMMIT = 1000;
+
+    @Param({"10", "100"})
+    private int numCommits;
+
+    @Param({"0b", "64mb"})
+    private String manifestCacheSize;
+
+    private KeyValueFileStore store;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Map<String, String> options = new HashMap<>();
+        // the format of data files does not matter, avro files are the fastest to write
+        options.put(CoreOptions.FILE_FORMAT.key(), "avro");
+        // write only, so that every commit adds a file to each bucket of each partition
+        options.put(CoreOptions.WRITE_ONLY.key(), Boolean.TRUE.toString());
+        options.put(CoreOptions.MANIFEST_CACHE_MAX_MEMORY_SIZE.key(), manifestCacheSize);
+        createTable(options);
+        store = (KeyValueFileStore) ((AbstractFileStoreTable) table).store();
+
+        Random random = new Random(42);
+        for (int i = 0; i < numCommits; i++) {
+            List<InternalRow> rows = new ArrayList<>();
+            for (int j = 0; j < ROWS_PER_COMMIT; j++) {
+                int key = i * ROWS_PER_COMMIT + j;
+                rows.add(row(j % NUM_PARTITIONS, key, random.nextLong(), random.nextDouble(), "c"));
+            }
+            commit(rows);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        dropTable();
+    }
+
+    @Benchmark
+    public List<ManifestEntry> plan() {
+        return store.newScan().plan().files();
+    }
+
+    @Benchmark
+    public List<ManifestEntry> planWithPartitionFilter() {
+        return store.newScan()
+                .withPartitionFilter(
+                        new PredicateBuilder(RowType.of(DataTypes.STRING())).equal(0, partition(0)))
+                .plan()
+                .files();
+    }
+
+    @Benchmark
+    public List<ManifestEntry> planWithKeyFilter() {
+        // keys of a single commit, most of the files are filtered by their key stats
+        return store.newScan()
+                .withKeyFilter(
+                        new PredicateBuilder(RowType.of(DataTypes.INT()))
+                                .between(0, 0, ROWS_PER_COMMIT - 1))
+                .plan()
+                .files();
+    }
+}
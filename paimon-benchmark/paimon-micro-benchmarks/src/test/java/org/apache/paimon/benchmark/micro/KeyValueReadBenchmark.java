@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.micro;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.KeyValueFileStore;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.operation.KeyValueFileStoreRead;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.table.AbstractFileStoreTable;
+import org.apache.paimon.table.source.DataSplit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for reading a primary key table with {@link KeyValueFileStoreRead#createReader}, one
+ * operation is one read of all splits of the table.
+ *
+ * <p>Each bucket of the table consists of {@code numSortedRuns} sorted runs, as a table does when
+ * compaction is triggered at this number of sorted runs by {@code
+ * num-sorted-run.compaction-trigger}. The first run writes {@code ROWS_PER_RUN} new keys, in each
+ * of the following runs a fraction of {@code overlapRatio} of the rows update existing keys and the
+ * others write new keys. The read amplification, which is the number of rows in the data files
+ * divided by the number of rows after merging, is printed when setting up each trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class KeyValueReadBenchmark extends TableBenchmarkBase {
+
+    private static final int ROWS_PER_RUN = 20_000;
+
+    @Param({"orc", "parquet", "avro"})
+    private String fileFormat;
+
+    @Param({"deduplicate", "partial-update", "aggregation"})
+    private String mergeEngine;
+
+    @Param({"1", "5", "10"})
+    private int numSortedRuns;
+
+    @Param({"0.5"})
+    private double overlapRatio;
+
+    private KeyValueFileStore store;
+    private List<DataSplit> splits;
+    private int numKeys;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.FILE_FORMAT.key(), fileFormat);
+        options.put(CoreOptions.MERGE_ENGINE.key(), mergeEngine);
+        options.put("fields.a.aggregate-function", "sum");
+        options.put("fields.b.aggregate-function", "max");
+        options.put("fields.c.aggregate-function", "last_non_null_value");
+        // write only, so that every commit adds a sorted run to each bucket
+        options.put(CoreOptions.WRITE_ONLY.key(), Boolean.TRUE.toString());
+        createTable(options);
+        store = (KeyValueFileStore) ((AbstractFileStoreTable) table).store();
+
+        Random random = new Random(42);
+        for (int i = 0; i < numSortedRuns; i++) {
+            List<InternalRow> rows = new ArrayList<>();
+            for (int j = 0; j < ROWS_PER_RUN; j++) {
+                int key =
+                        i > 0 && random.nextDouble() < overlapRatio
+                                ? random.nextInt(numKeys)
+                                : numKeys++;
+                rows.add(
+                        row(
+                                key % NUM_PARTITIONS,
+                                key,
+                                random.nextBoolean() ? random.nextLong() : null,
+                                random.nextBoolean() ? random.nextDouble() : null,
+                                random.nextBoolean() ? "c" + random.nextInt() : null));
+            }
+            commit(rows);
+        }
+        splits = table.newScan().plan().splits;
+
+        long fileRows = 0;
+        for (DataSplit split : splits) {
+            for (DataFileMeta file : split.files()) {
+                fileRows += file.rowCount();
+            }
+        }
+        long mergedRows = readAll(store.newRead(), null);
+        System.out.printf(
+                "%nRead amplification: %d rows in files, %d rows after merging, %.2fx%n",
+                fileRows, mergedRows, (double) fileRows / mergedRows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        dropTable();
+    }
+
+    @Benchmark
+    public long read(Blackhole blackhole) throws IOException {
+        return readAll(store.newRead(), blackhole);
+    }
+
+    @Benchmark
+    public long readWithProjection(Blackhole blackhole) throws IOException {
+        return readAll(store.newRead().withValueProjection(projection()), blackhole);
+    }
+
+    @Benchmark
+    public long readWithFilter(Blackhole blackhole) throws IOException {
+        KeyValueFileStoreRead read = store.newRead();
+        read.withFilter(filter());
+        return readAll(read, blackhole);
+    }
+
+    @Benchmark
+    public long readWithProjectionAndFilter(Blackhole blackhole) throws IOException {
+        KeyValueFileStoreRead read = store.newRead().withValueProjection(projection());
+        read.withFilter(filter());
+        return readAll(read, blackhole);
+    }
+
+    /** Projects the value to (k, c). */
+    private int[][] projection() {
+        return new int[][] {{1}, {4}};
+    }
+
+    /** Filters the first 10 percent of the keys. */
+    private Predicate filter() {
+        return new PredicateBuilder(table.rowType()).lessThan(1, numKeys / 10);
+    }
+
+    private long readAll(KeyValueFileStoreRead read, @Nullable Blackhole blackhole)
+            throws IOException {
+        long count = 0;
+        for (DataSplit split : splits) {
+            try (RecordReader<KeyValue> reader = read.createReader(split)) {
+                RecordReader.RecordIterator<KeyValue> batch;
+                while ((batch = reader.readBatch()) != null) {
+                    KeyValue kv;
+                    while ((kv = batch.next()) != null) {
+                        if (blackhole != null) {
+                            blackhole.consume(kv);
+                        }
+                        count++;
+                    }
+                    batch.releaseBatch();
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.micro;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.lookup.hash.HashLookupStoreReader;
+import org.apache.paimon.lookup.hash.HashLookupStoreWriter;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link HashLookupStoreReader#lookup} of existing and absent keys, one operation is
+ * one lookup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class LookupStoreBenchmark {
+
+    private static final int NUM_KEYS = 1_000_000;
+
+    @Param({"false", "true"})
+    private boolean memoryMapped;
+
+    private File file;
+    private HashLookupStoreReader reader;
+    private byte[][] keys;
+    private byte[][] absentKeys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        RowCompactedSerializer keySerializer =
+                new RowCompactedSerializer(RowType.of(DataTypes.INT()));
+        RowCompactedSerializer valueSerializer =
+                new RowCompactedSerializer(RowType.of(DataTypes.BIGINT(), DataTypes.STRING()));
+
+        file = Files.createTempFile("lookup-store-benchmark", ".db").toFile();
+        HashLookupStoreFactory factory =
+                new HashLookupStoreFactory(
+                        new CacheManager(16 * 1024, MemorySize.ofMebiBytes(256), memoryMapped),
+                        0.75);
+        Random random = new Random(42);
+        try (HashLookupStoreWriter writer = factory.createWriter(file)) {
+            for (int i = 0; i < NUM_KEYS; i++) {
+                writer.put(
+                        keySerializer.serializeToBytes(GenericRow.of(i * 2)),
+                        valueSerializer.serializeToBytes(
+                                GenericRow.of(
+                                        random.nextLong(),
+                                        BinaryString.fromString("value-" + random.nextInt()))));
+            }
+        }
+        reader = factory.createReader(file);
+
+        // look up keys in random order, odd keys are absent
+        keys = new byte[NUM_KEYS][];
+        absentKeys = new byte[NUM_KEYS][];
+        for (int i = 0; i < NUM_KEYS; i++) {
+            int key = random.nextInt(NUM_KEYS);
+            keys[i] = keySerializer.serializeToBytes(GenericRow.of(key * 2));
+            absentKeys[i] = keySerializer.serializeToBytes(GenericRow.of(key * 2 + 1));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        reader.close();
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public byte[] lookupExisting() throws IOException {
+        return reader.lookup(keys[nextIndex()]);
+    }
+
+    @Benchmark
+    public byte[] lookupAbsent() throws IOException {
+        return reader.lookup(absentKeys[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        next = next + 1 == NUM_KEYS ? 0 : next + 1;
+        return next;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.micro;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.KeyValueFileStore;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestFile;
+import org.apache.paimon.manifest.ManifestFileMeta;
+import org.apache.paimon.table.AbstractFileStoreTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for writing and reading a {@link ManifestFile} with entries copied from the data files
+ * of a table, one operation is one manifest file of {@code numEntries} entries.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class ManifestFileBenchmark extends TableBenchmarkBase {
+
+    private static final int NUM_COMMITS = 4;
+
+    @Param({"1000", "10000"})
+    private int numEntries;
+
+    private ManifestFile manifestFile;
+    private List<ManifestEntry> entries;
+    private String fileToRead;
+    private List<ManifestFileMeta> written;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Map<String, String> options = new HashMap<>();
+        // the format of data files does not matter, avro files are the fastest to write
+        options.put(CoreOptions.FILE_FORMAT.key(), "avro");
+        // write only, so that every commit adds a file to each bucket of each partition
+        options.put(CoreOptions.WRITE_ONLY.key(), Boolean.TRUE.toString());
+        // read the manifest file instead of the cached entries
+        options.put(CoreOptions.MANIFEST_CACHE_MAX_MEMORY_SIZE.key(), "0b");
+        createTable(options);
+        KeyValueFileStore store = (KeyValueFileStore) ((AbstractFileStoreTable) table).store();
+        manifestFile = store.manifestFileFactory().create();
+
+        Random random = new Random(42);
+        for (int i = 0; i < NUM_COMMITS; i++) {
+            List<InternalRow> rows = new ArrayList<>();
+            for (int key = 0; key < 256; key++) {
+                rows.add(
+                        row(
+                                key % NUM_PARTITIONS,
+                                key,
+                                random.nextLong(),
+                                random.nextDouble(),
+                                "c"));
+            }
+            commit(rows);
+        }
+
+        // copy the entries of the committed files under different file names
+        List<ManifestEntry> committed = store.newScan().plan().files();
+        entries = new ArrayList<>();
+        for (int i = 0; i < numEntries; i++) {
+            ManifestEntry entry = committed.get(i % committed.size());
+            DataFileMeta file = entry.file();
+            entries.add(
+                    new ManifestEntry(
+                            entry.kind(),
+                            entry.partition(),
+                            entry.bucket(),
+                            entry.totalBuckets(),
+                            new DataFileMeta(
+                                    file.fileName() + "-" + i,
+                                    file.fileSize(),
+                                    file.rowCount(),
+                                    file.minKey(),
+                                    file.maxKey(),
+                                    file.keyStats(),
+                                    file.valueStats(),
+                                    file.minSequenceNumber(),
+                                    file.maxSequenceNumber(),
+                                    file.schemaId(),
+                                    file.level(),
+                                    file.extraFiles(),
+                                    file.creationTime())));
+        }
+
+        List<ManifestFileMeta> metas = manifestFile.write(entries);
+        if (metas.size() != 1) {
+            throw new IllegalStateException("Entries are expected to be written to a single file.");
+        }
+        fileToRead = metas.get(0).fileName();
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteWritten() {
+        if (written != null) {
+            written.forEach(meta -> manifestFile.delete(meta.fileName()));
+            written = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        dropTable();
+    }
+
+    @Benchmark
+    public List<ManifestFileMeta> write() {
+        written = manifestFile.write(entries);
+        return written;
+    }
+
+    @Benchmark
+    public List<ManifestEntry> read() {
+        return manifestFile.read(fileToRead);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.micro;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.mergetree.compact.PartialUpdateMergeFunction;
+import org.apache.paimon.mergetree.compact.aggregate.AggregateMergeFunction;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the {@link MergeFunction}s of the merge engines, merging versions of the same key
+ * where about half of the value fields are null. One operation is one input record.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class MergeFunctionBenchmark {
+
+    private static final int NUM_RECORDS = 100_000;
+
+    @Param({"deduplicate", "partial-update", "aggregation"})
+    private String mergeEngine;
+
+    @Param({"2", "10"})
+    private int versionsPerKey;
+
+    private MergeFunction<KeyValue> mergeFunction;
+    private KeyValue[] records;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // (k INT, a BIGINT, b DOUBLE, c STRING, d INT) with primary key k
+        List<String> names = Arrays.asList("k", "a", "b", "c", "d");
+        List<DataType> types =
+                Arrays.asList(
+                        DataTypes.INT(),
+                        DataTypes.BIGINT(),
+                        DataTypes.DOUBLE(),
+                        DataTypes.STRING(),
+                        DataTypes.INT());
+        switch (mergeEngine) {
+            case "deduplicate":
+                mergeFunction = DeduplicateMergeFunction.factory().create();
+                break;
+            case "partial-update":
+                mergeFunction = PartialUpdateMergeFunction.factory(false, types).create();
+                break;
+            case "aggregation":
+                Options options = new Options();
+                options.set("fields.a.aggregate-function", "sum");
+                options.set("fields.b.aggregate-function", "max");
+                options.set("fields.c.aggregate-function", "last_non_null_value");
+                options.set("fields.d.aggregate-function", "min");
+                mergeFunction =
+                        AggregateMergeFunction.factory(options, names, types, Arrays.asList("k"))
+                                .create();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown merge engine: " + mergeEngine);
+        }
+
+        Random random = new Random(42);
+        records = new KeyValue[NUM_RECORDS];
+        for (int i = 0; i < NUM_RECORDS; i++) {
+            int key = i / versionsPerKey;
+            records[i] =
+                    new KeyValue()
+                            .replace(
+                                    GenericRow.of(key),
+                                    i,
+                                    RowKind.INSERT,
+                                    GenericRow.of(
+                                            key,
+                                            random.nextBoolean() ? random.nextLong() : null,
+                                            random.nextBoolean() ? random.nextDouble() : null,
+                                            random.nextBoolean()
+                                                    ? BinaryString.fromString("c" + i)
+                                                    : null,
+                                            random.nextBoolean() ? random.nextInt() : null));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_RECORDS)
+    public void merge(Blackhole blackhole) {
+        for (int i = 0; i < NUM_RECORDS; i += versionsPerKey) {
+            mergeFunction.reset();
+            for (int j = i; j < i + versionsPerKey; j++) {
+                mergeFunction.add(records[j]);
+            }
+            blackhole.consume(mergeFunction.getResult());
+        }
+    }
+}
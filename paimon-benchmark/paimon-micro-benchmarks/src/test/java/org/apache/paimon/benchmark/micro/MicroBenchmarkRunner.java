@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.micro;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the JMH micro benchmarks of this package, reporting the throughput in ops/s and the
+ * allocation rate of each benchmark with the {@link GCProfiler}.
+ *
+ * <p>All JMH command line options are supported, for example a regular expression to select the
+ * benchmarks to run. Results are written in JSON format to {@code jmh-result.json} unless {@code
+ * -rf} or {@code -rff} is given. Additionally:
+ *
+ * <ul>
+ *   <li>{@code --baseline <file>}: compares the results with the JSON results of a previous run,
+ *       and exits with a non-zero code if the throughput of any benchmark regresses.
+ *   <li>{@code --threshold <ratio>}: the tolerated throughput regression, 0.1 by default.
+ * </ul>
+ *
+ * <p>Usage: {@code mvn test -Pjmh -DskipTests -pl paimon-benchmark/paimon-micro-benchmarks
+ * -Djmh.args="SortMergeReader --baseline /path/to/jmh-result.json"}. Arguments are split by
+ * whitespaces, so argument values must not contain spaces.
+ */
+public class MicroBenchmarkRunner {
+
+    private static final String BASELINE = "--baseline";
+    private static final String THRESHOLD = "--threshold";
+    private static final String ALLOC_RATE_NORM = "gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>();
+        String baseline = null;
+        double threshold = 0.1;
+
+        // arguments passed by maven may be a single string containing spaces
+        List<String> allArgs = new ArrayList<>();
+        for (String arg : args) {
+            for (String split : arg.trim().split("\\s+")) {
+                if (!split.isEmpty()) {
+                    allArgs.add(split);
+                }
+            }
+        }
+        Iterator<String> iterator = allArgs.iterator();
+        while (iterator.hasNext()) {
+            String arg = iterator.next();
+            if (BASELINE.equals(arg)) {
+                baseline = nextValue(iterator, arg);
+            } else if (THRESHOLD.equals(arg)) {
+                threshold = Double.parseDouble(nextValue(iterator, arg));
+            } else {
+                jmhArgs.add(arg);
+            }
+        }
+
+        CommandLineOptions commandLineOptions =
+                new CommandLineOptions(jmhArgs.toArray(new String[0]));
+        ChainedOptionsBuilder builder =
+                new OptionsBuilder().parent(commandLineOptions).addProfiler(GCProfiler.class);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            builder.include(MicroBenchmarkRunner.class.getPackage().getName() + ".*");
+        }
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            builder.result("jmh-result.json");
+        }
+
+        Collection<RunResult> results = new Runner(builder.build()).run();
+        if (baseline != null && !compare(results, new File(baseline), threshold)) {
+            System.exit(1);
+        }
+    }
+
+    private static String nextValue(Iterator<String> iterator, String option) {
+        if (!iterator.hasNext()) {
+            throw new IllegalArgumentException("Missing value of option " + option);
+        }
+        return iterator.next();
+    }
+
+    /** Prints the comparison with the baseline, returns false if any benchmark regresses. */
+    private static boolean compare(Collection<RunResult> results, File baseline, double threshold)
+            throws Exception {
+        Map<String, JsonNode> baselineResults = new LinkedHashMap<>();
+        for (JsonNode node : new ObjectMapper().readTree(baseline)) {
+            Map<String, String> params = new TreeMap<>();
+            JsonNode paramsNode = node.get("params");
+            if (paramsNode != null) {
+                paramsNode
+                        .fields()
+                        .forEachRemaining(e -> params.put(e.getKey(), e.getValue().asText()));
+            }
+            baselineResults.put(benchmarkId(node.get("benchmark").asText(), params), node);
+        }
+
+        System.out.println();
+        System.out.printf(
+                "%-100s %16s %16s %10s %16s %16s%n",
+                "Benchmark",
+                "Baseline(ops/s)",
+                "Current(ops/s)",
+                "Change",
+                "Baseline(B/op)",
+                "Current(B/op)");
+        boolean passed = true;
+        for (RunResult result : results) {
+            Map<String, String> params = new TreeMap<>();
+            for (String key : result.getParams().getParamsKeys()) {
+                params.put(key, result.getParams().getParam(key));
+            }
+            String id = benchmarkId(result.getParams().getBenchmark(), params);
+            JsonNode baselineResult = baselineResults.get(id);
+            if (baselineResult == null) {
+                System.out.printf("%-100s %16s%n", id, "missing");
+                continue;
+            }
+
+            double baselineScore = baselineResult.get("primaryMetric").get("score").asDouble();
+            double score = result.getPrimaryResult().getScore();
+            double change = (score - baselineScore) / baselineScore;
+            boolean regressed = change < -threshold;
+            passed &= !regressed;
+            System.out.printf(
+                    "%-100s %16.1f %16.1f %9.1f%% %16s %16s%s%n",
+                    id,
+                    baselineScore,
+                    score,
+                    change * 100,
+                    baselineAllocation(baselineResult),
+                    allocation(result),
+                    regressed ? "  REGRESSED" : "");
+        }
+        return passed;
+    }
+
+    private static String benchmarkId(String benchmark, Map<String, String> params) {
+        return params.isEmpty() ? benchmark : benchmark + params;
+    }
+
+    private static String allocation(RunResult result) {
+        for (Map.Entry<String, Result> entry : result.getSecondaryResults().entrySet()) {
+            if (entry.getKey().endsWith(ALLOC_RATE_NORM)) {
+                return String.format("%.1f", entry.getValue().getScore());
+            }
+        }
+        return "-";
+    }
+
+    private static String baselineAllocation(JsonNode baselineResult) {
+        JsonNode secondary = baselineResult.get("secondaryMetrics");
+        if (secondary != null) {
+            Iterator<Map.Entry<String, JsonNode>> fields = secondary.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> entry = fields.next();
+                if (entry.getKey().endsWith(ALLOC_RATE_NORM)) {
+                    return String.format("%.1f", entry.getValue().get("score").asDouble());
+                }
+            }
+        }
+        return "-";
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.micro;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link RowCompactedSerializer}, which serializes keys and values of lookup files,
+ * one operation is one row.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class RowCompactedSerializerBenchmark {
+
+    private static final int NUM_ROWS = 1024;
+
+    private RowCompactedSerializer serializer;
+    private InternalRow[] rows;
+    private byte[][] bytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        RowType rowType =
+                RowType.of(
+                        DataTypes.INT(),
+                        DataTypes.BIGINT(),
+                        DataTypes.DOUBLE(),
+                        DataTypes.STRING(),
+                        DataTypes.STRING());
+        serializer = new RowCompactedSerializer(rowType);
+
+        Random random = new Random(42);
+        rows = new InternalRow[NUM_ROWS];
+        bytes = new byte[NUM_ROWS][];
+        for (int i = 0; i < NUM_ROWS; i++) {
+            rows[i] =
+                    GenericRow.of(
+                            random.nextInt(),
+                            random.nextLong(),
+                            random.nextDouble(),
+                            BinaryString.fromString("string-" + random.nextInt()),
+                            random.nextBoolean()
+                                    ? null
+                                    : BinaryString.fromString("nullable-" + random.nextLong()));
+            bytes[i] = serializer.serializeToBytes(rows[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_ROWS)
+    public void serialize(Blackhole blackhole) {
+        for (InternalRow row : rows) {
+            blackhole.consume(serializer.serializeToBytes(row));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_ROWS)
+    public void deserialize(Blackhole blackhole) {
+        for (byte[] b : bytes) {
+            blackhole.consume(serializer.deserialize(b));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.micro;
+
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalSerializers;
+import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.sort.BinaryInMemorySortBuffer;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.MutableObjectIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for writing and sorting records with {@link BinaryInMemorySortBuffer} as the write
+ * buffer of primary key tables does, one operation is one record.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class SortBufferBenchmark {
+
+    private static final int NUM_RECORDS = 100_000;
+
+    @Param({"INT", "STRING"})
+    private String keyType;
+
+    private InternalRow[] rows;
+    private BinaryInMemorySortBuffer buffer;
+    private BinaryRow reuse;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // rows are (key, sequence number, value) and sorted by key and sequence number
+        DataType key = "INT".equals(keyType) ? DataTypes.INT() : DataTypes.STRING();
+        RowType rowType = RowType.of(key, DataTypes.BIGINT(), DataTypes.STRING());
+        List<DataType> sortKeyTypes = Arrays.asList(key, DataTypes.BIGINT());
+
+        Random random = new Random(42);
+        rows = new InternalRow[NUM_RECORDS];
+        for (int i = 0; i < NUM_RECORDS; i++) {
+            int k = random.nextInt(NUM_RECORDS);
+            rows[i] =
+                    GenericRow.of(
+                            "INT".equals(keyType)
+                                    ? k
+                                    : BinaryString.fromString("key-" + k + "-" + (k * 31)),
+                            (long) i,
+                            BinaryString.fromString("value-" + random.nextLong()));
+        }
+
+        buffer =
+                BinaryInMemorySortBuffer.createBuffer(
+                        CodeGenUtils.newNormalizedKeyComputer(sortKeyTypes, "KeyComputer"),
+                        InternalSerializers.create(rowType),
+                        CodeGenUtils.newRecordComparator(sortKeyTypes, "Comparator"),
+                        new HeapMemorySegmentPool(64 * 1024 * 1024, 32 * 1024));
+        reuse = new BinaryRow(rowType.getFieldCount());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_RECORDS)
+    public void writeAndSort(Blackhole blackhole) throws IOException {
+        buffer.clear();
+        for (InternalRow row : rows) {
+            if (!buffer.write(row)) {
+                throw new IllegalStateException("Sort buffer is full.");
+            }
+        }
+        MutableObjectIterator<BinaryRow> iterator = buffer.sortedIterator();
+        BinaryRow row;
+        while ((row = iterator.next(reuse)) != null) {
+            blackhole.consume(row);
+        }
+    }
+}
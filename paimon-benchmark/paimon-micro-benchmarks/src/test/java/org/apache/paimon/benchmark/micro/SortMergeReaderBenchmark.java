@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.micro;
+
+import org.apache.paimon.CoreOptions.SortEngine;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.mergetree.compact.ReducerMergeFunctionWrapper;
+import org.apache.paimon.mergetree.compact.SortMergeReader;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.types.RowKind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link SortMergeReader} merging sorted runs with overlapping keys, one operation is
+ * one input record.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class SortMergeReaderBenchmark {
+
+    private static final int NUM_RECORDS = 100_000;
+
+    @Param({"2", "5", "10"})
+    private int numRuns;
+
+    @Param({"MIN_HEAP", "TOURNAMENT_TREE"})
+    private SortEngine sortEngine;
+
+    private final Comparator<InternalRow> keyComparator = Comparator.comparingInt(r -> r.getInt(0));
+
+    private List<List<KeyValue>> runs;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // keys of all runs are drawn from a key space of half the number of records, so that each
+        // key appears in two runs on average
+        Random random = new Random(42);
+        int[] keys = new int[NUM_RECORDS / 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+        }
+        long sequenceNumber = 0;
+        runs = new ArrayList<>();
+        for (int i = 0; i < numRuns; i++) {
+            int runSize = NUM_RECORDS / numRuns;
+            for (int j = 0; j < runSize; j++) {
+                int swap = j + random.nextInt(keys.length - j);
+                int tmp = keys[j];
+                keys[j] = keys[swap];
+                keys[swap] = tmp;
+            }
+            int[] runKeys = Arrays.copyOf(keys, runSize);
+            Arrays.sort(runKeys);
+
+            List<KeyValue> run = new ArrayList<>();
+            for (int key : runKeys) {
+                run.add(
+                        new KeyValue()
+                                .replace(
+                                        GenericRow.of(key),
+                                        sequenceNumber++,
+                                        RowKind.INSERT,
+                                        GenericRow.of(
+                                                key,
+                                                random.nextLong(),
+                                                BinaryString.fromString("v" + key))));
+            }
+            runs.add(run);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_RECORDS)
+    public void merge(Blackhole blackhole) throws IOException {
+        List<RecordReader<KeyValue>> readers = new ArrayList<>();
+        for (List<KeyValue> run : runs) {
+            readers.add(new ListRecordReader(run));
+        }
+        try (RecordReader<KeyValue> reader =
+                SortMergeReader.createSortMergeReader(
+                        readers,
+                        keyComparator,
+                        new ReducerMergeFunctionWrapper(
+                                DeduplicateMergeFunction.factory().create()),
+                        sortEngine)) {
+            RecordReader.RecordIterator<KeyValue> batch;
+            while ((batch = reader.readBatch()) != null) {
+                KeyValue kv;
+                while ((kv = batch.next()) != null) {
+                    blackhole.consume(kv);
+                }
+                batch.releaseBatch();
+            }
+        }
+    }
+
+    /** A {@link RecordReader} returning the given records in a single batch. */
+    static class ListRecordReader implements RecordReader<KeyValue> {
+
+        private final List<KeyValue> records;
+        private boolean read;
+
+        ListRecordReader(List<KeyValue> records) {
+            this.records = records;
+        }
+
+        @Nullable
+        @Override
+        public RecordIterator<KeyValue> readBatch() {
+            if (read) {
+                return null;
+            }
+            read = true;
+            return new RecordIterator<KeyValue>() {
+
+                private int next;
+
+                @Nullable
+                @Override
+                public KeyValue next() {
+                    return next < records.size() ? records.get(next++) : null;
+                }
+
+                @Override
+                public void releaseBatch() {}
+            };
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.micro;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.catalog.Catalog;
+import org.apache.paimon.catalog.CatalogContext;
+import org.apache.paimon.catalog.CatalogFactory;
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.options.CatalogOptions;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.sink.StreamTableCommit;
+import org.apache.paimon.table.sink.StreamTableWrite;
+import org.apache.paimon.table.sink.StreamWriteBuilder;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.utils.FileIOUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class of benchmarks on a primary key table {@code (dt STRING, k INT, a BIGINT, b DOUBLE, c
+ * STRING)} partitioned by {@code dt}.
+ */
+public abstract class TableBenchmarkBase {
+
+    protected static final int NUM_PARTITIONS = 4;
+    protected static final int NUM_BUCKETS = 4;
+
+    private Path warehouse;
+
+    protected FileStoreTable table;
+
+    private StreamTableWrite write;
+    private StreamTableCommit commit;
+    private long commitIdentifier;
+
+    protected void createTable(Map<String, String> tableOptions) throws Exception {
+        warehouse = Files.createTempDirectory("paimon-benchmark");
+        Options catalogOptions = new Options();
+        catalogOptions.set(CatalogOptions.WAREHOUSE, warehouse.toUri().toString());
+        Catalog catalog = CatalogFactory.createCatalog(CatalogContext.create(catalogOptions));
+        catalog.createDatabase("default", true);
+
+        Schema schema =
+                Schema.newBuilder()
+                        .column("dt", DataTypes.STRING())
+                        .column("k", DataTypes.INT())
+                        .column("a", DataTypes.BIGINT())
+                        .column("b", DataTypes.DOUBLE())
+                        .column("c", DataTypes.STRING())
+                        .partitionKeys("dt")
+                        .primaryKey("dt", "k")
+                        .options(tableOptions)
+                        .option(CoreOptions.BUCKET.key(), String.valueOf(NUM_BUCKETS))
+                        .build();
+        Identifier identifier = Identifier.create("default", "T");
+        catalog.createTable(identifier, schema, false);
+        table = (FileStoreTable) catalog.getTable(identifier);
+
+        StreamWriteBuilder writeBuilder = table.newStreamWriteBuilder();
+        write = writeBuilder.newWrite();
+        commit = writeBuilder.newCommit();
+    }
+
+    /** Writes the rows and commits them as a new snapshot. */
+    protected void commit(List<InternalRow> rows) throws Exception {
+        for (InternalRow row : rows) {
+            write.write(row);
+        }
+        commit.commit(commitIdentifier, write.prepareCommit(false, commitIdentifier));
+        commitIdentifier++;
+    }
+
+    protected static InternalRow row(int partition, int key, Long a, Double b, String c) {
+        return GenericRow.of(
+                partition(partition), key, a, b, c == null ? null : BinaryString.fromString(c));
+    }
+
+    protected static BinaryString partition(int partition) {
+        return BinaryString.fromString("p" + partition);
+    }
+
+    protected void dropTable() throws Exception {
+        if (write != null) {
+            write.close();
+            commit.close();
+        }
+        if (warehouse != null) {
+            FileIOUtils.deleteDirectory(warehouse.toFile());
+        }
+    }
+}
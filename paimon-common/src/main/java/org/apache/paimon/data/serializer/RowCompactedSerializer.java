@@ -33,20 +33,26 @@ import org.apache.paimon.io.DataInputView;
 import org.apache.paimon.io.DataOutputView;
 import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeRoot;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.SortUtil;
 import org.apache.paimon.utils.VarLengthIntUtils;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Objects;
 
 import static org.apache.paimon.data.BinaryRow.HEADER_SIZE_IN_BITS;
+import static org.apache.paimon.memory.MemorySegment.BYTE_ARRAY_BASE_OFFSET;
 import static org.apache.paimon.memory.MemorySegmentUtils.bitGet;
 import static org.apache.paimon.memory.MemorySegmentUtils.bitSet;
+import static org.apache.paimon.memory.MemoryUtils.UNSAFE;
 import static org.apache.paimon.types.DataTypeChecks.getPrecision;
 import static org.apache.paimon.types.DataTypeChecks.getScale;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
@@ -159,6 +165,28 @@ public class RowCompactedSerializer implements Serializer<InternalRow> {
         return row;
     }
 
+    /**
+     * Creates a comparator of serialized rows which compares the fields in order with nulls first,
+     * the same as the generated record comparator, without deserializing the rows. The comparator
+     * is stateless and can be shared by threads.
+     *
+     * @return the comparator, or null if a field type can not be compared on serialized bytes
+     */
+    @Nullable
+    public static Comparator<byte[]> createSliceComparator(RowType rowType) {
+        for (DataType type : rowType.getFieldTypes()) {
+            switch (type.getTypeRoot()) {
+                case ARRAY:
+                case MULTISET:
+                case MAP:
+                case ROW:
+                    return null;
+                default:
+            }
+        }
+        return new SliceComparator(rowType);
+    }
+
     private static FieldWriter createFieldWriter(DataType fieldType) {
         final FieldWriter fieldWriter;
         switch (fieldType.getTypeRoot()) {
@@ -624,4 +652,182 @@ public class RowCompactedSerializer implements Serializer<InternalRow> {
             return serializer.deserialize(bytes);
         }
     }
+
+    /** A {@link Comparator} comparing the fields of serialized rows on their bytes. */
+    private static class SliceComparator implements Comparator<byte[]>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int headerSizeInBytes;
+        private final DataTypeRoot[] types;
+        private final boolean[] compact;
+
+        private SliceComparator(RowType rowType) {
+            this.headerSizeInBytes = calculateBitSetInBytes(rowType.getFieldCount());
+            this.types = new DataTypeRoot[rowType.getFieldCount()];
+            this.compact = new boolean[rowType.getFieldCount()];
+            for (int i = 0; i < types.length; i++) {
+                DataType type = rowType.getTypeAt(i);
+                types[i] = type.getTypeRoot();
+                switch (types[i]) {
+                    case DECIMAL:
+                        compact[i] = Decimal.isCompact(getPrecision(type));
+                        break;
+                    case TIMESTAMP_WITHOUT_TIME_ZONE:
+                    case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                        compact[i] = Timestamp.isCompact(getPrecision(type));
+                        break;
+                    default:
+                }
+            }
+        }
+
+        @Override
+        public int compare(byte[] row1, byte[] row2) {
+            int pos1 = headerSizeInBytes;
+            int pos2 = headerSizeInBytes;
+            for (int i = 0; i < types.length; i++) {
+                boolean isNull1 = isNullAt(row1, i);
+                boolean isNull2 = isNullAt(row2, i);
+                if (isNull1 || isNull2) {
+                    if (isNull1 && isNull2) {
+                        continue;
+                    }
+                    return isNull1 ? -1 : 1;
+                }
+
+                int cmp;
+                switch (types[i]) {
+                    case CHAR:
+                    case VARCHAR:
+                    case BINARY:
+                    case VARBINARY:
+                        int length1 = readUnsignedInt(row1, pos1);
+                        int length2 = readUnsignedInt(row2, pos2);
+                        pos1 += unsignedIntSize(length1);
+                        pos2 += unsignedIntSize(length2);
+                        cmp = SortUtil.compareBinary(row1, pos1, length1, row2, pos2, length2);
+                        pos1 += length1;
+                        pos2 += length2;
+                        break;
+                    case BOOLEAN:
+                        cmp = Boolean.compare(row1[pos1++] != 0, row2[pos2++] != 0);
+                        break;
+                    case TINYINT:
+                        cmp = Byte.compare(row1[pos1++], row2[pos2++]);
+                        break;
+                    case SMALLINT:
+                        cmp = Short.compare(getShort(row1, pos1), getShort(row2, pos2));
+                        pos1 += 2;
+                        pos2 += 2;
+                        break;
+                    case INTEGER:
+                    case DATE:
+                    case TIME_WITHOUT_TIME_ZONE:
+                        cmp = Integer.compare(getInt(row1, pos1), getInt(row2, pos2));
+                        pos1 += 4;
+                        pos2 += 4;
+                        break;
+                    case BIGINT:
+                        cmp = Long.compare(getLong(row1, pos1), getLong(row2, pos2));
+                        pos1 += 8;
+                        pos2 += 8;
+                        break;
+                    case FLOAT:
+                        float float1 = UNSAFE.getFloat(row1, BYTE_ARRAY_BASE_OFFSET + pos1);
+                        float float2 = UNSAFE.getFloat(row2, BYTE_ARRAY_BASE_OFFSET + pos2);
+                        cmp = float1 > float2 ? 1 : float1 < float2 ? -1 : 0;
+                        pos1 += 4;
+                        pos2 += 4;
+                        break;
+                    case DOUBLE:
+                        double double1 = UNSAFE.getDouble(row1, BYTE_ARRAY_BASE_OFFSET + pos1);
+                        double double2 = UNSAFE.getDouble(row2, BYTE_ARRAY_BASE_OFFSET + pos2);
+                        cmp = double1 > double2 ? 1 : double1 < double2 ? -1 : 0;
+                        pos1 += 8;
+                        pos2 += 8;
+                        break;
+                    case DECIMAL:
+                        if (compact[i]) {
+                            // unscaled values of the same type have the same scale
+                            cmp = Long.compare(getLong(row1, pos1), getLong(row2, pos2));
+                            pos1 += 8;
+                            pos2 += 8;
+                        } else {
+                            int size1 = readUnsignedInt(row1, pos1);
+                            int size2 = readUnsignedInt(row2, pos2);
+                            pos1 += unsignedIntSize(size1);
+                            pos2 += unsignedIntSize(size2);
+                            BigInteger unscaled1 =
+                                    new BigInteger(Arrays.copyOfRange(row1, pos1, pos1 + size1));
+                            BigInteger unscaled2 =
+                                    new BigInteger(Arrays.copyOfRange(row2, pos2, pos2 + size2));
+                            cmp = unscaled1.compareTo(unscaled2);
+                            pos1 += size1;
+                            pos2 += size2;
+                        }
+                        break;
+                    case TIMESTAMP_WITHOUT_TIME_ZONE:
+                    case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                        cmp = Long.compare(getLong(row1, pos1), getLong(row2, pos2));
+                        pos1 += 8;
+                        pos2 += 8;
+                        if (!compact[i]) {
+                            int nanos1 = readUnsignedInt(row1, pos1);
+                            int nanos2 = readUnsignedInt(row2, pos2);
+                            pos1 += unsignedIntSize(nanos1);
+                            pos2 += unsignedIntSize(nanos2);
+                            if (cmp == 0) {
+                                cmp = Integer.compare(nanos1, nanos2);
+                            }
+                        }
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unsupported type: " + types[i]);
+                }
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        }
+
+        private static boolean isNullAt(byte[] row, int pos) {
+            int index = pos + HEADER_SIZE_IN_BITS;
+            return (row[index >>> 3] & (1 << (index & 7))) != 0;
+        }
+
+        private static short getShort(byte[] row, int pos) {
+            return UNSAFE.getShort(row, BYTE_ARRAY_BASE_OFFSET + pos);
+        }
+
+        private static int getInt(byte[] row, int pos) {
+            return UNSAFE.getInt(row, BYTE_ARRAY_BASE_OFFSET + pos);
+        }
+
+        private static long getLong(byte[] row, int pos) {
+            return UNSAFE.getLong(row, BYTE_ARRAY_BASE_OFFSET + pos);
+        }
+
+        private static int readUnsignedInt(byte[] row, int pos) {
+            int result = 0;
+            for (int offset = 0; offset < 32; offset += 7) {
+                int b = row[pos++];
+                result |= (b & 0x7F) << offset;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalStateException("Malformed integer.");
+        }
+
+        private static int unsignedIntSize(int value) {
+            int size = 1;
+            while ((value & ~0x7F) != 0) {
+                value >>>= 7;
+                size++;
+            }
+            return size;
+        }
+    }
 }
@@ -19,29 +19,58 @@
 package org.apache.paimon.format;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.DoubleColumnVector;
+import org.apache.paimon.data.columnar.FloatColumnVector;
+import org.apache.paimon.data.columnar.IntColumnVector;
+import org.apache.paimon.data.columnar.LongColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.data.serializer.InternalSerializers;
 import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.RowType;
-import org.apache.paimon.utils.RowDataToObjectArrayConverter;
+import org.apache.paimon.utils.RowDataUtils;
 
-/** Collector to extract statistics of each fields from a series of records. */
+/**
+ * Collector to extract statistics of each fields from a series of records.
+ *
+ * <p>Each field is collected by its {@link FieldStatsMode}, fields without stats are skipped and
+ * only the nulls of fields with null counts only are counted.
+ */
 public class FieldStatsCollector {
 
     private final Object[] minValues;
     private final Object[] maxValues;
     private final long[] nullCounts;
-    private final RowDataToObjectArrayConverter converter;
+    private final InternalRow.FieldGetter[] fieldGetters;
     private final Serializer<Object>[] fieldSerializers;
+    private final DataType[] fieldTypes;
+    private final FieldStatsMode[] modes;
 
     public FieldStatsCollector(RowType rowType) {
+        this(rowType, FieldStatsMode.full(rowType.getFieldCount()));
+    }
+
+    public FieldStatsCollector(RowType rowType, FieldStatsMode[] modes) {
         int numFields = rowType.getFieldCount();
+        if (modes.length != numFields) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Number of stats modes %d does not match number of fields %d.",
+                            modes.length, numFields));
+        }
         this.minValues = new Object[numFields];
         this.maxValues = new Object[numFields];
         this.nullCounts = new long[numFields];
-        this.converter = new RowDataToObjectArrayConverter(rowType);
+        this.fieldGetters = new InternalRow.FieldGetter[numFields];
         this.fieldSerializers = new Serializer[numFields];
+        this.fieldTypes = new DataType[numFields];
+        this.modes = modes;
         for (int i = 0; i < numFields; i++) {
+            fieldGetters[i] = RowDataUtils.createNullCheckingFieldGetter(rowType.getTypeAt(i), i);
             fieldSerializers[i] = InternalSerializers.create(rowType.getTypeAt(i));
+            fieldTypes[i] = rowType.getTypeAt(i);
         }
     }
 
@@ -52,32 +81,194 @@ public class FieldStatsCollector {
      * the collector.
      */
     public void collect(InternalRow row) {
-        Object[] objects = converter.convert(row);
-        for (int i = 0; i < row.getFieldCount(); i++) {
-            Object obj = objects[i];
+        for (int i = 0; i < fieldGetters.length; i++) {
+            if (!modes[i].collectMinMax()) {
+                if (modes[i].collectNullCount() && row.isNullAt(i)) {
+                    nullCounts[i]++;
+                }
+                continue;
+            }
+
+            Object obj = fieldGetters[i].getFieldOrNull(row);
             if (obj == null) {
                 nullCounts[i]++;
                 continue;
             }
 
-            // TODO use comparator for not comparable types and extract this logic to a util class
-            if (!(obj instanceof Comparable)) {
+            updateMinMax(i, obj, obj);
+        }
+    }
+
+    /**
+     * Update the statistics with all rows of a columnar batch. The statistics are collected column
+     * by column, and numeric columns are compared without boxing each value.
+     */
+    public void collect(VectorizedColumnBatch batch) {
+        int numRows = batch.getNumRows();
+        for (int i = 0; i < fieldTypes.length; i++) {
+            ColumnVector vector = batch.columns[i];
+            if (!modes[i].collectMinMax()) {
+                if (modes[i].collectNullCount()) {
+                    collectNulls(i, vector, numRows);
+                }
                 continue;
             }
-            Comparable<Object> c = (Comparable<Object>) obj;
-            if (minValues[i] == null || c.compareTo(minValues[i]) < 0) {
-                minValues[i] = fieldSerializers[i].copy(c);
+
+            switch (fieldTypes[i].getTypeRoot()) {
+                case INTEGER:
+                case DATE:
+                case TIME_WITHOUT_TIME_ZONE:
+                    collectInts(i, (IntColumnVector) vector, numRows);
+                    break;
+                case BIGINT:
+                    collectLongs(i, (LongColumnVector) vector, numRows);
+                    break;
+                case FLOAT:
+                    collectFloats(i, (FloatColumnVector) vector, numRows);
+                    break;
+                case DOUBLE:
+                    collectDoubles(i, (DoubleColumnVector) vector, numRows);
+                    break;
+                default:
+                    collectObjects(i, batch, numRows);
             }
-            if (maxValues[i] == null || c.compareTo(maxValues[i]) > 0) {
-                maxValues[i] = fieldSerializers[i].copy(c);
+        }
+    }
+
+    private void collectNulls(int field, ColumnVector vector, int numRows) {
+        long nullCount = 0;
+        for (int row = 0; row < numRows; row++) {
+            if (vector.isNullAt(row)) {
+                nullCount++;
+            }
+        }
+        nullCounts[field] += nullCount;
+    }
+
+    private void collectInts(int field, IntColumnVector vector, int numRows) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        long nullCount = 0;
+        for (int row = 0; row < numRows; row++) {
+            if (vector.isNullAt(row)) {
+                nullCount++;
+            } else {
+                int value = vector.getInt(row);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
             }
         }
+        nullCounts[field] += nullCount;
+        if (nullCount < numRows) {
+            updateMinMax(field, min, max);
+        }
+    }
+
+    private void collectLongs(int field, LongColumnVector vector, int numRows) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        long nullCount = 0;
+        for (int row = 0; row < numRows; row++) {
+            if (vector.isNullAt(row)) {
+                nullCount++;
+            } else {
+                long value = vector.getLong(row);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+        }
+        nullCounts[field] += nullCount;
+        if (nullCount < numRows) {
+            updateMinMax(field, min, max);
+        }
+    }
+
+    private void collectFloats(int field, FloatColumnVector vector, int numRows) {
+        // use Float.compare to keep the same order as collecting boxed values
+        float min = Float.NaN;
+        float max = Float.NaN;
+        long nullCount = 0;
+        boolean first = true;
+        for (int row = 0; row < numRows; row++) {
+            if (vector.isNullAt(row)) {
+                nullCount++;
+                continue;
+            }
+            float value = vector.getFloat(row);
+            if (first || Float.compare(value, min) < 0) {
+                min = value;
+            }
+            if (first || Float.compare(value, max) > 0) {
+                max = value;
+            }
+            first = false;
+        }
+        nullCounts[field] += nullCount;
+        if (!first) {
+            updateMinMax(field, min, max);
+        }
+    }
+
+    private void collectDoubles(int field, DoubleColumnVector vector, int numRows) {
+        // use Double.compare to keep the same order as collecting boxed values
+        double min = Double.NaN;
+        double max = Double.NaN;
+        long nullCount = 0;
+        boolean first = true;
+        for (int row = 0; row < numRows; row++) {
+            if (vector.isNullAt(row)) {
+                nullCount++;
+                continue;
+            }
+            double value = vector.getDouble(row);
+            if (first || Double.compare(value, min) < 0) {
+                min = value;
+            }
+            if (first || Double.compare(value, max) > 0) {
+                max = value;
+            }
+            first = false;
+        }
+        nullCounts[field] += nullCount;
+        if (!first) {
+            updateMinMax(field, min, max);
+        }
+    }
+
+    private void collectObjects(int field, VectorizedColumnBatch batch, int numRows) {
+        InternalRow.FieldGetter getter =
+                RowDataUtils.createNullCheckingFieldGetter(fieldTypes[field], field);
+        ColumnarRow row = new ColumnarRow(batch);
+        for (int rowId = 0; rowId < numRows; rowId++) {
+            row.setRowId(rowId);
+            Object obj = getter.getFieldOrNull(row);
+            if (obj == null) {
+                nullCounts[field]++;
+            } else {
+                updateMinMax(field, obj, obj);
+            }
+        }
+    }
+
+    private void updateMinMax(int field, Object min, Object max) {
+        // TODO use comparator for not comparable types and extract this logic to a util class
+        if (!(min instanceof Comparable)) {
+            return;
+        }
+        Comparable<Object> minComparable = (Comparable<Object>) min;
+        Comparable<Object> maxComparable = (Comparable<Object>) max;
+        if (minValues[field] == null || minComparable.compareTo(minValues[field]) < 0) {
+            minValues[field] = fieldSerializers[field].copy(min);
+        }
+        if (maxValues[field] == null || maxComparable.compareTo(maxValues[field]) > 0) {
+            maxValues[field] = fieldSerializers[field].copy(max);
+        }
     }
 
     public FieldStats[] extract() {
         FieldStats[] stats = new FieldStats[nullCounts.length];
         for (int i = 0; i < stats.length; i++) {
-            stats[i] = new FieldStats(minValues[i], maxValues[i], nullCounts[i]);
+            stats[i] = modes[i].apply(new FieldStats(minValues[i], maxValues[i], nullCounts[i]));
         }
         return stats;
     }
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format;
+
+import org.apache.paimon.data.BinaryString;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mode of collecting {@link FieldStats} of a field, one of:
+ *
+ * <ul>
+ *   <li>none: no stats are collected.
+ *   <li>counts: only null counts are collected.
+ *   <li>truncate(n): null counts and min/max values are collected, string min/max values are
+ *       truncated to n characters.
+ *   <li>full: null counts and min/max values are collected.
+ * </ul>
+ *
+ * <p>Truncated stats are still valid bounds of the values: the truncated min value is a prefix of
+ * the min value, and the truncated max value is the prefix of the max value with its last character
+ * incremented. The max value is unknown if no such prefix exists.
+ */
+public class FieldStatsMode implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Pattern TRUNCATE_PATTERN = Pattern.compile("truncate\\((\\d+)\\)");
+
+    public static final FieldStatsMode NONE = new FieldStatsMode("none", false, false, -1);
+    public static final FieldStatsMode COUNTS = new FieldStatsMode("counts", true, false, -1);
+    public static final FieldStatsMode FULL = new FieldStatsMode("full", true, true, -1);
+
+    private final String name;
+    private final boolean collectNullCount;
+    private final boolean collectMinMax;
+    private final int truncateLength;
+
+    private FieldStatsMode(
+            String name, boolean collectNullCount, boolean collectMinMax, int truncateLength) {
+        this.name = name;
+        this.collectNullCount = collectNullCount;
+        this.collectMinMax = collectMinMax;
+        this.truncateLength = truncateLength;
+    }
+
+    public static FieldStatsMode truncate(int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException(
+                    "Truncate length of stats mode must be positive, but is " + length);
+        }
+        return new FieldStatsMode("truncate(" + length + ")", true, true, length);
+    }
+
+    public static FieldStatsMode parse(String mode) {
+        String normalized = mode.trim().toLowerCase();
+        switch (normalized) {
+            case "none":
+                return NONE;
+            case "counts":
+                return COUNTS;
+            case "full":
+                return FULL;
+            default:
+                Matcher matcher = TRUNCATE_PATTERN.matcher(normalized);
+                if (matcher.matches()) {
+                    return truncate(Integer.parseInt(matcher.group(1)));
+                }
+                throw new IllegalArgumentException(
+                        "Unsupported stats mode: "
+                                + mode
+                                + ", supported modes are none, counts, truncate(n) and full.");
+        }
+    }
+
+    /** Returns an array of {@link #FULL} modes, which is the default of all fields. */
+    public static FieldStatsMode[] full(int numFields) {
+        FieldStatsMode[] modes = new FieldStatsMode[numFields];
+        Arrays.fill(modes, FULL);
+        return modes;
+    }
+
+    public boolean collectNullCount() {
+        return collectNullCount;
+    }
+
+    public boolean collectMinMax() {
+        return collectMinMax;
+    }
+
+    /** Applies this mode to the full stats of a field. */
+    public FieldStats apply(FieldStats stats) {
+        if (!collectNullCount) {
+            return new FieldStats(null, null, null);
+        } else if (!collectMinMax) {
+            return new FieldStats(null, null, stats.nullCount());
+        } else if (truncateLength > 0
+                && (stats.minValue() instanceof BinaryString
+                        || stats.maxValue() instanceof BinaryString)) {
+            return new FieldStats(
+                    truncateMin((BinaryString) stats.minValue()),
+                    truncateMax((BinaryString) stats.maxValue()),
+                    stats.nullCount());
+        } else {
+            return stats;
+        }
+    }
+
+    @Nullable
+    private BinaryString truncateMin(@Nullable BinaryString min) {
+        if (min == null || min.numChars() <= truncateLength) {
+            return min;
+        }
+        return min.substring(0, truncateLength);
+    }
+
+    @Nullable
+    private BinaryString truncateMax(@Nullable BinaryString max) {
+        if (max == null || max.numChars() <= truncateLength) {
+            return max;
+        }
+
+        int[] codePoints = max.substring(0, truncateLength).toString().codePoints().toArray();
+        for (int i = codePoints.length - 1; i >= 0; i--) {
+            int next = codePoints[i] + 1;
+            if (next >= Character.MIN_SURROGATE && next <= Character.MAX_SURROGATE) {
+                next = Character.MAX_SURROGATE + 1;
+            }
+            if (next <= Character.MAX_CODE_POINT) {
+                codePoints[i] = next;
+                return BinaryString.fromString(new String(codePoints, 0, i + 1));
+            }
+        }
+        // all characters are the max code point, no upper bound is shorter than the max value
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof FieldStatsMode)) {
+            return false;
+        }
+        FieldStatsMode that = (FieldStatsMode) o;
+        return collectNullCount == that.collectNullCount
+                && collectMinMax == that.collectMinMax
+                && truncateLength == that.truncateLength;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(collectNullCount, collectMinMax, truncateLength);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
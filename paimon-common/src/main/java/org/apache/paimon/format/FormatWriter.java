@@ -19,6 +19,8 @@
 package org.apache.paimon.format;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 
 import java.io.IOException;
 
@@ -38,6 +40,22 @@ public interface FormatWriter {
      */
     void addElement(InternalRow element) throws IOException;
 
+    /**
+     * Adds all rows of a columnar batch to the encoder. Columnar formats may override this to copy
+     * whole column vectors instead of adding the rows one by one.
+     *
+     * @param batch The batch to add, its rows are all inserts.
+     * @throws IOException Thrown, if the batch cannot be added to the encoder, or if the output
+     *     stream throws an exception.
+     */
+    default void addBatch(VectorizedColumnBatch batch) throws IOException {
+        ColumnarRow row = new ColumnarRow(batch);
+        for (int i = 0; i < batch.getNumRows(); i++) {
+            row.setRowId(i);
+            addElement(row);
+        }
+    }
+
     /**
      * Flushes all intermediate buffered data to the output stream. It is expected that flushing
      * often may reduce the efficiency of the encoding.
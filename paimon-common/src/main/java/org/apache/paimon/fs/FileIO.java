@@ -34,6 +34,7 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.UUID;
@@ -145,6 +146,19 @@ public interface FileIO extends Serializable {
         }
     }
 
+    /**
+     * Delete the given files quietly. File systems which can delete multiple files in one request
+     * (for example, S3 multi-object delete) should override this method to reduce the number of
+     * requests.
+     *
+     * @param files the files to delete, should not contain directories
+     */
+    default void deleteFilesQuietly(List<Path> files) {
+        for (Path file : files) {
+            deleteQuietly(file);
+        }
+    }
+
     default void deleteDirectoryQuietly(Path directory) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Ready to delete " + directory.toString());
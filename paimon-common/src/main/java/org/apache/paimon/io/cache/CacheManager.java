@@ -26,26 +26,62 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.options.MemorySize;
 
+import javax.annotation.Nullable;
+
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
 
-/** Cache manager to cache bytes to paged {@link MemorySegment}s. */
+/**
+ * Cache manager to cache bytes to paged {@link MemorySegment}s.
+ *
+ * <p>Besides pages, blocks decoded from the pages, such as decompressed blocks of a file, can be
+ * cached by {@link #getBlock}. Blocks are weighed by their size and share the max memory size with
+ * pages.
+ *
+ * <p>By default pages are copied into heap memory, and the total size of cached pages is bounded by
+ * the max memory size. If memory mapped, each file is mapped once with {@link FileChannel#map} and
+ * pages are slices of the mapping wrapped as off-heap {@link MemorySegment}s without copying. The
+ * total length of mapped files is bounded by the max memory size as well, pages of files which do
+ * not fit are copied into heap memory. So the resident memory is at most twice the max memory size.
+ * A mapping is not unmapped explicitly, as pages of it may still be read by other threads, it is
+ * released by garbage collection once {@link #releaseFile} dropped it and no page of it is
+ * referenced anymore.
+ */
 public class CacheManager {
 
     private final int pageSize;
+    private final boolean memoryMapped;
+    private final long maxMappedBytes;
     private final Cache<CacheKey, CacheValue> cache;
+    private final Map<RandomAccessFile, MappedFile> mappedFiles;
+
+    private long mappedBytes;
 
     public CacheManager(int pageSize, MemorySize maxMemorySize) {
+        this(pageSize, maxMemorySize, false);
+    }
+
+    public CacheManager(int pageSize, MemorySize maxMemorySize, boolean memoryMapped) {
         this.pageSize = pageSize;
+        this.memoryMapped = memoryMapped;
+        this.maxMappedBytes = maxMemorySize.getBytes();
         this.cache =
                 CacheBuilder.newBuilder()
                         .weigher(this::weigh)
                         .maximumWeight(maxMemorySize.getBytes())
                         .removalListener(this::onRemoval)
                         .build();
+        this.mappedFiles = new ConcurrentHashMap<>();
     }
 
     @VisibleForTesting
@@ -53,24 +89,91 @@ public class CacheManager {
         return cache;
     }
 
+    @VisibleForTesting
+    int numMappedFiles() {
+        return mappedFiles.size();
+    }
+
     public int pageSize() {
         return pageSize;
     }
 
     public MemorySegment getPage(
-            RandomAccessFile file, int pageNumber, Consumer<Integer> cleanCallback) {
-        CacheKey key = new CacheKey(file, pageNumber);
+            RandomAccessFile file,
+            int pageNumber,
+            BiConsumer<Integer, MemorySegment> cleanCallback) {
+        CacheKey key = new CacheKey(file, false, pageNumber);
         CacheValue value;
         try {
-            value = cache.get(key, () -> createValue(key, cleanCallback));
+            value = cache.get(key, () -> createValue(key, pageNumber, cleanCallback));
         } catch (ExecutionException e) {
             throw new RuntimeException(e);
         }
         return value.segment;
     }
 
+    /**
+     * Returns the block at the given position of the file, the block is loaded by the given loader
+     * if it is not cached.
+     */
+    public MemorySegment getBlock(
+            RandomAccessFile file,
+            long position,
+            Callable<MemorySegment> loader,
+            BiConsumer<Long, MemorySegment> cleanCallback)
+            throws IOException {
+        CacheKey key = new CacheKey(file, true, position);
+        CacheValue value;
+        try {
+            value =
+                    cache.get(
+                            key,
+                            () -> {
+                                MemorySegment segment = loader.call();
+                                return new CacheValue(
+                                        segment, () -> cleanCallback.accept(position, segment));
+                            });
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        return value.segment;
+    }
+
+    /** Returns whether the segment is the currently cached page of the file. */
+    boolean isCached(RandomAccessFile file, int pageNumber, MemorySegment segment) {
+        return isCached(new CacheKey(file, false, pageNumber), segment);
+    }
+
+    /** Returns whether the segment is the currently cached block of the file. */
+    boolean isBlockCached(RandomAccessFile file, long position, MemorySegment segment) {
+        return isCached(new CacheKey(file, true, position), segment);
+    }
+
+    private boolean isCached(CacheKey key, MemorySegment segment) {
+        CacheValue value = cache.getIfPresent(key);
+        return value != null && value.segment == segment;
+    }
+
     public void invalidPage(RandomAccessFile file, int pageNumber) {
-        cache.invalidate(new CacheKey(file, pageNumber));
+        cache.invalidate(new CacheKey(file, false, pageNumber));
+    }
+
+    public void invalidBlock(RandomAccessFile file, long position) {
+        cache.invalidate(new CacheKey(file, true, position));
+    }
+
+    /**
+     * Releases the memory mapping of the file, pages of the file must be invalidated before. The
+     * mapping is unmapped by garbage collection once no page of it is referenced anymore.
+     */
+    public synchronized void releaseFile(RandomAccessFile file) {
+        MappedFile mappedFile = mappedFiles.remove(file);
+        if (mappedFile != null) {
+            mappedBytes -= mappedFile.length;
+        }
     }
 
     private int weigh(CacheKey cacheKey, CacheValue cacheValue) {
@@ -78,31 +181,102 @@ public class CacheManager {
     }
 
     private void onRemoval(RemovalNotification<CacheKey, CacheValue> notification) {
-        notification.getValue().cleanCallback.accept(notification.getKey().pageNumber);
+        notification.getValue().cleanCallback.run();
     }
 
-    private CacheValue createValue(CacheKey key, Consumer<Integer> cleanCallback)
+    private CacheValue createValue(
+            CacheKey key, int pageNumber, BiConsumer<Integer, MemorySegment> cleanCallback)
             throws IOException {
-        return new CacheValue(key.read(pageSize), cleanCallback);
+        MappedFile mappedFile = memoryMapped ? mappedFile(key.file) : null;
+        MemorySegment segment =
+                mappedFile == null ? key.read(pageSize) : mappedFile.page(pageNumber);
+        return new CacheValue(segment, () -> cleanCallback.accept(pageNumber, segment));
+    }
+
+    /** Returns the mapping of the file, or null if the file does not fit into the max memory. */
+    @Nullable
+    private MappedFile mappedFile(RandomAccessFile file) throws IOException {
+        MappedFile mappedFile = mappedFiles.get(file);
+        if (mappedFile != null) {
+            return mappedFile;
+        }
+
+        synchronized (this) {
+            mappedFile = mappedFiles.get(file);
+            if (mappedFile == null) {
+                long length = file.length();
+                if (mappedBytes + length > maxMappedBytes) {
+                    return null;
+                }
+                mappedFile = new MappedFile(file, length);
+                mappedFiles.put(file, mappedFile);
+                mappedBytes += length;
+            }
+            return mappedFile;
+        }
+    }
+
+    /** A file mapped by regions, pages are slices of the regions. */
+    private class MappedFile {
+
+        private final RandomAccessFile file;
+        private final long length;
+        private final int regionSize;
+        private final MappedByteBuffer[] regions;
+
+        private MappedFile(RandomAccessFile file, long length) {
+            this.file = file;
+            this.length = length;
+            // a mapping can not be larger than Integer.MAX_VALUE, regions are aligned to pages
+            this.regionSize = Integer.MAX_VALUE / pageSize * pageSize;
+            this.regions = new MappedByteBuffer[(int) ((length + regionSize - 1) / regionSize)];
+        }
+
+        private synchronized MemorySegment page(int pageNumber) throws IOException {
+            long pageAddress = (long) pageNumber * pageSize;
+            int regionIndex = (int) (pageAddress / regionSize);
+            long regionAddress = (long) regionIndex * regionSize;
+            MappedByteBuffer region = regions[regionIndex];
+            if (region == null) {
+                int len = (int) Math.min(regionSize, length - regionAddress);
+                region = file.getChannel().map(FileChannel.MapMode.READ_ONLY, regionAddress, len);
+                regions[regionIndex] = region;
+            }
+
+            int offset = (int) (pageAddress - regionAddress);
+            ByteBuffer page = region.duplicate();
+            page.position(offset);
+            page.limit(Math.min(offset + pageSize, region.capacity()));
+            return MemorySegment.wrapOffHeapMemory(page.slice());
+        }
     }
 
     private static class CacheKey {
 
         private final RandomAccessFile file;
-        private final int pageNumber;
+        // page number of a page, or position of a block
+        private final boolean isBlock;
+        private final long index;
 
-        private CacheKey(RandomAccessFile file, int pageNumber) {
+        private CacheKey(RandomAccessFile file, boolean isBlock, long index) {
             this.file = file;
-            this.pageNumber = pageNumber;
+            this.isBlock = isBlock;
+            this.index = index;
         }
 
         private MemorySegment read(int pageSize) throws IOException {
             long length = file.length();
-            long pageAddress = (long) pageNumber * pageSize;
+            long pageAddress = index * pageSize;
             int len = (int) Math.min(pageSize, length - pageAddress);
             byte[] bytes = new byte[len];
-            file.seek(pageAddress);
-            file.readFully(bytes);
+            // positional read, pages of the same file may be read concurrently
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            FileChannel channel = file.getChannel();
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, pageAddress + buffer.position()) < 0) {
+                    throw new EOFException();
+                }
+            }
             return MemorySegment.wrap(bytes);
         }
 
@@ -115,21 +289,23 @@ public class CacheManager {
                 return false;
             }
             CacheKey cacheKey = (CacheKey) o;
-            return pageNumber == cacheKey.pageNumber && Objects.equals(file, cacheKey.file);
+            return isBlock == cacheKey.isBlock
+                    && index == cacheKey.index
+                    && Objects.equals(file, cacheKey.file);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(file, pageNumber);
+            return Objects.hash(file, isBlock, index);
         }
     }
 
     private static class CacheValue {
 
         private final MemorySegment segment;
-        private final Consumer<Integer> cleanCallback;
+        private final Runnable cleanCallback;
 
-        private CacheValue(MemorySegment segment, Consumer<Integer> cleanCallback) {
+        private CacheValue(MemorySegment segment, Runnable cleanCallback) {
             this.segment = segment;
             this.cleanCallback = cleanCallback;
         }
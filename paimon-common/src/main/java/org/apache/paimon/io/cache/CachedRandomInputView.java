@@ -30,9 +30,10 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A {@link SeekableDataInputView} to read bytes from {@link RandomAccessFile}, the bytes can be
@@ -45,6 +46,7 @@ public class CachedRandomInputView extends AbstractPagedInputView
     private final long fileLength;
     private final CacheManager cacheManager;
     private final Map<Integer, MemorySegment> segments;
+    private final Map<Long, MemorySegment> blocks;
     private final int segmentSizeBits;
     private final int segmentSizeMask;
 
@@ -55,7 +57,9 @@ public class CachedRandomInputView extends AbstractPagedInputView
         this.file = new RandomAccessFile(file, "r");
         this.fileLength = file.length();
         this.cacheManager = cacheManager;
-        this.segments = new HashMap<>();
+        // pages may be invalidated by the cache in other threads
+        this.segments = new ConcurrentHashMap<>();
+        this.blocks = new ConcurrentHashMap<>();
         int segmentSize = cacheManager.pageSize();
         this.segmentSizeBits = MathUtils.log2strict(segmentSize);
         this.segmentSizeMask = segmentSize - 1;
@@ -73,9 +77,81 @@ public class CachedRandomInputView extends AbstractPagedInputView
     }
 
     private MemorySegment getCurrentPage() {
-        return segments.computeIfAbsent(
-                currentSegmentIndex,
-                key -> cacheManager.getPage(file, currentSegmentIndex, this::invalidPage));
+        return getPage(currentSegmentIndex);
+    }
+
+    private MemorySegment getPage(int pageNumber) {
+        MemorySegment segment = segments.get(pageNumber);
+        if (segment != null) {
+            return segment;
+        }
+
+        // No lock is held while getting the page: the cache may evict pages of other views in this
+        // thread, which would lock views in different orders.
+        segment = cacheManager.getPage(file, pageNumber, this::invalidPage);
+        segments.put(pageNumber, segment);
+        // The page may have been evicted before it was put, then its invalidation missed it. The
+        // cache removes a page before invalidating it, so one of both removes it from this view.
+        if (!cacheManager.isCached(file, pageNumber, segment)) {
+            segments.remove(pageNumber, segment);
+        }
+        return segment;
+    }
+
+    /**
+     * Returns the block at the given position of the file. The block is loaded by the given loader,
+     * usually from the pages of this view, and cached in the {@link CacheManager} until it is
+     * evicted or this view is closed. This method can be called by multiple threads concurrently.
+     */
+    public MemorySegment getBlock(long position, Callable<MemorySegment> loader)
+            throws IOException {
+        MemorySegment block = blocks.get(position);
+        if (block != null) {
+            return block;
+        }
+
+        // see getPage for why the block is checked again after it was put
+        block = cacheManager.getBlock(file, position, loader, this::invalidBlock);
+        blocks.put(position, block);
+        if (!cacheManager.isBlockCached(file, position, block)) {
+            blocks.remove(position, block);
+        }
+        return block;
+    }
+
+    /**
+     * Reads bytes at the given position of the file. Unlike {@link #setReadPosition} and the read
+     * methods of {@link SeekableDataInputView}, this method does not change the read position of
+     * this view, so it can be called by multiple threads concurrently.
+     */
+    public void readFully(long position, byte[] b, int off, int len) throws IOException {
+        if (position + len > fileLength) {
+            throw new EOFException();
+        }
+
+        while (len > 0) {
+            int pageNumber = (int) (position >>> segmentSizeBits);
+            int pageOffset = (int) (position & segmentSizeMask);
+            MemorySegment segment = getPage(pageNumber);
+            int toRead = Math.min(len, segment.size() - pageOffset);
+            segment.get(pageOffset, b, off, toRead);
+            position += toRead;
+            off += toRead;
+            len -= toRead;
+        }
+    }
+
+    /**
+     * Reads a byte at the given position of the file without changing the read position of this
+     * view, see {@link #readFully(long, byte[], int, int)}.
+     */
+    public byte readByte(long position) throws IOException {
+        if (position >= fileLength) {
+            throw new EOFException();
+        }
+
+        return getPage((int) (position >>> segmentSizeBits))
+                .get((int) (position & segmentSizeMask));
     }
 
     @Override
@@ -93,8 +169,13 @@ public class CachedRandomInputView extends AbstractPagedInputView
         return segment.size();
     }
 
-    private void invalidPage(int pageNumber) {
-        segments.remove(pageNumber);
+    private void invalidPage(int pageNumber, MemorySegment segment) {
+        // the page may have been cached again with a new segment
+        segments.remove(pageNumber, segment);
+    }
+
+    private void invalidBlock(long position, MemorySegment block) {
+        blocks.remove(position, block);
     }
 
     @Override
@@ -102,7 +183,10 @@ public class CachedRandomInputView extends AbstractPagedInputView
         // copy out to avoid ConcurrentModificationException
         List<Integer> pages = new ArrayList<>(segments.keySet());
         pages.forEach(page -> cacheManager.invalidPage(file, page));
+        List<Long> blockPositions = new ArrayList<>(blocks.keySet());
+        blockPositions.forEach(position -> cacheManager.invalidBlock(file, position));
 
+        cacheManager.releaseFile(file);
         file.close();
     }
 }
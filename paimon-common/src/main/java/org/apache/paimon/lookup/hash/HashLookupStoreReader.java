@@ -36,6 +36,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
@@ -43,7 +44,13 @@ import java.util.Calendar;
 import java.util.Iterator;
 import java.util.Map;
 
-/** Internal read implementation for hash kv store. */
+/**
+ * Internal read implementation for hash kv store.
+ *
+ * <p>{@link #lookup} is thread-safe: it reads with positions against the shared pages of the file
+ * and keeps no mutable state, so one reader can serve lookups from multiple threads. Iterators
+ * returned by {@link #iterator()} and {@link #keys()} are not thread-safe.
+ */
 public class HashLookupStoreReader
         implements LookupStoreReader, Iterable<Map.Entry<byte[], byte[]>> {
 
@@ -61,9 +68,7 @@ public class HashLookupStoreReader
     // Offset of the data for different key length
     private final long[] dataOffsets;
     // File input view
-    private CachedRandomInputView inputView;
-    // Buffers
-    private final byte[] slotBuffer;
+    private final CachedRandomInputView inputView;
 
     HashLookupStoreReader(CacheManager cacheManager, File file) throws IOException {
         // File path
@@ -98,7 +103,6 @@ public class HashLookupStoreReader
             slots = new int[maxKeyLength + 1];
             slotSizes = new int[maxKeyLength + 1];
 
-            int maxSlotSize = 0;
             for (int i = 0; i < keyLengthCount; i++) {
                 int keyLength = dataInputStream.readInt();
 
@@ -107,12 +111,8 @@ public class HashLookupStoreReader
                 slotSizes[keyLength] = dataInputStream.readInt();
                 indexOffsets[keyLength] = dataInputStream.readInt();
                 dataOffsets[keyLength] = dataInputStream.readLong();
-
-                maxSlotSize = Math.max(maxSlotSize, slotSizes[keyLength]);
             }
 
-            slotBuffer = new byte[maxSlotSize];
-
             // Read index offset to resign indexOffsets
             indexOffset = dataInputStream.readInt();
             for (int i = 0; i < indexOffsets.length; i++) {
@@ -167,10 +167,10 @@ public class HashLookupStoreReader
         int indexOffset = indexOffsets[keyLength];
         long dataOffset = dataOffsets[keyLength];
 
+        byte[] slotBuffer = new byte[slotSize];
         for (int probe = 0; probe < numSlots; probe++) {
             long slot = (hash + probe) % numSlots;
-            inputView.setReadPosition(indexOffset + slot * slotSize);
-            inputView.readFully(slotBuffer, 0, slotSize);
+            inputView.readFully(indexOffset + slot * slotSize, slotBuffer, 0, slotSize);
 
             long offset = VarLengthIntUtils.decodeLong(slotBuffer, keyLength);
             if (offset == 0) {
@@ -193,14 +193,13 @@ public class HashLookupStoreReader
     }
 
     private byte[] getValue(long offset) throws IOException {
-        inputView.setReadPosition(offset);
-
         // Get size of data
-        int size = VarLengthIntUtils.decodeInt(inputView);
+        PositionalInputStream in = new PositionalInputStream(offset);
+        int size = VarLengthIntUtils.decodeInt(new DataInputStream(in));
 
         // Create output bytes
         byte[] res = new byte[size];
-        inputView.readFully(res);
+        inputView.readFully(in.position, res, 0, size);
         return res;
     }
 
@@ -214,7 +213,6 @@ public class HashLookupStoreReader
     @Override
     public void close() throws IOException {
         inputView.close();
-        inputView = null;
     }
 
     @Override
@@ -226,6 +224,21 @@ public class HashLookupStoreReader
         return new StorageIterator(false);
     }
 
+    /** Reads bytes from a position of the file without changing the read position of the view. */
+    private class PositionalInputStream extends InputStream {
+
+        private long position;
+
+        private PositionalInputStream(long position) {
+            this.position = position;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return inputView.readByte(position++) & 0xFF;
+        }
+    }
+
     private class StorageIterator implements Iterator<Map.Entry<byte[], byte[]>> {
 
         private final FastEntry entry = new FastEntry();
@@ -19,8 +19,11 @@
 package org.apache.paimon.memory;
 
 import org.apache.paimon.utils.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -28,6 +31,8 @@ import java.nio.ByteOrder;
 /** Utility class for memory operations. */
 public class MemoryUtils {
 
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryUtils.class);
+
     /** The "unsafe", which can be used to perform native memory accesses. */
     @SuppressWarnings({"restriction", "UseOfSunClasses"})
     public static final sun.misc.Unsafe UNSAFE = getUnsafe();
@@ -123,6 +128,32 @@ public class MemoryUtils {
         return offHeapAddress;
     }
 
+    /**
+     * Releases the native memory of a direct or mapped {@link ByteBuffer} without waiting for it to
+     * be garbage collected, the buffer must not be accessed afterwards.
+     */
+    public static void releaseDirectBuffer(ByteBuffer buffer) {
+        Preconditions.checkArgument(buffer.isDirect(), "Can't release a non-direct ByteBuffer.");
+        try {
+            try {
+                // Java 9+
+                Method invokeCleaner =
+                        UNSAFE.getClass().getMethod("invokeCleaner", ByteBuffer.class);
+                invokeCleaner.invoke(UNSAFE, buffer);
+            } catch (NoSuchMethodException e) {
+                // Java 8
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+            }
+        } catch (Exception e) {
+            LOG.warn("Failed to release buffer, it is released when it is garbage collected.", e);
+        }
+    }
+
     /** Should not be instantiated. */
     private MemoryUtils() {}
 }
@@ -65,7 +65,7 @@ public final class VarLengthIntUtils {
                 return result;
             }
         }
-        throw new Error("Malformed long.");
+        throw new IOException("Malformed long.");
     }
 
     public static long decodeLong(byte[] ba, int index) {
@@ -77,7 +77,7 @@ public final class VarLengthIntUtils {
                 return result;
             }
         }
-        throw new Error("Malformed long.");
+        throw new IllegalStateException("Malformed long.");
     }
 
     /** @return bytes length. */
@@ -123,6 +123,6 @@ public final class VarLengthIntUtils {
                 return result;
             }
         }
-        throw new Error("Malformed integer.");
+        throw new IOException("Malformed integer.");
     }
 }
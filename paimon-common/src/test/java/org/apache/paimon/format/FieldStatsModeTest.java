@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format;
+
+import org.apache.paimon.data.BinaryString;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link FieldStatsMode}. */
+public class FieldStatsModeTest {
+
+    @Test
+    public void testParse() {
+        assertThat(FieldStatsMode.parse("none")).isEqualTo(FieldStatsMode.NONE);
+        assertThat(FieldStatsMode.parse("Counts")).isEqualTo(FieldStatsMode.COUNTS);
+        assertThat(FieldStatsMode.parse(" full ")).isEqualTo(FieldStatsMode.FULL);
+        assertThat(FieldStatsMode.parse("truncate(16)")).isEqualTo(FieldStatsMode.truncate(16));
+        assertThat(FieldStatsMode.truncate(16).toString()).isEqualTo("truncate(16)");
+
+        assertThatThrownBy(() -> FieldStatsMode.parse("truncate(0)"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FieldStatsMode.parse("min-max"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testApply() {
+        FieldStats stats = new FieldStats(1, 10, 2L);
+        assertThat(FieldStatsMode.NONE.apply(stats)).isEqualTo(new FieldStats(null, null, null));
+        assertThat(FieldStatsMode.COUNTS.apply(stats)).isEqualTo(new FieldStats(null, null, 2L));
+        assertThat(FieldStatsMode.FULL.apply(stats)).isEqualTo(stats);
+        assertThat(FieldStatsMode.truncate(1).apply(stats)).isEqualTo(stats);
+    }
+
+    @Test
+    public void testTruncate() {
+        FieldStatsMode mode = FieldStatsMode.truncate(3);
+        assertThat(mode.apply(stats("ab", "abc"))).isEqualTo(stats("ab", "abc"));
+        assertThat(mode.apply(stats("abcdef", "xyz123"))).isEqualTo(stats("abc", "xy{"));
+
+        // the max value is incremented at the last character which can be incremented
+        String maxChar = new String(Character.toChars(Character.MAX_CODE_POINT));
+        assertThat(mode.apply(stats("a", "ab" + maxChar + "c"))).isEqualTo(stats("a", "ac"));
+        // no upper bound is shorter than the max value
+        assertThat(mode.apply(stats("a", maxChar + maxChar + maxChar + "c")))
+                .isEqualTo(stats("a", null));
+        // surrogates are skipped when incrementing
+        assertThat(mode.apply(stats("a", "ab\uD7FFc"))).isEqualTo(stats("a", "ab\uE000"));
+    }
+
+    private static FieldStats stats(String min, String max) {
+        return new FieldStats(
+                BinaryString.fromString(min),
+                max == null ? null : BinaryString.fromString(max),
+                0L);
+    }
+}
@@ -22,40 +22,57 @@ import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.options.MemorySize;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Test for {@link CachedRandomInputView}. */
 public class CachedRandomInputViewTest {
 
     @TempDir Path tempDir;
 
+    private static final File PROC_MAPS = new File("/proc/self/maps");
+
     private final ThreadLocalRandom rnd = ThreadLocalRandom.current();
 
-    @Test
-    public void testMatched() throws IOException {
-        innerTest(1024 * 512);
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testMatched(boolean memoryMapped) throws IOException {
+        innerTest(1024 * 512, memoryMapped);
     }
 
-    @Test
-    public void testNotMatched() throws IOException {
-        innerTest(131092);
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testNotMatched(boolean memoryMapped) throws IOException {
+        innerTest(131092, memoryMapped);
     }
 
-    @Test
-    public void testRandom() throws IOException {
-        innerTest(rnd.nextInt(5000, 100000));
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testRandom(boolean memoryMapped) throws IOException {
+        innerTest(rnd.nextInt(5000, 100000), memoryMapped);
     }
 
-    private void innerTest(int len) throws IOException {
+    private void innerTest(int len, boolean memoryMapped) throws IOException {
         byte[] bytes = new byte[len];
         MemorySegment segment = MemorySegment.wrap(bytes);
         for (int i = 0; i < bytes.length; i++) {
@@ -63,7 +80,8 @@ public class CachedRandomInputViewTest {
         }
 
         File file = writeFile(bytes);
-        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(128));
+        CacheManager cacheManager =
+                new CacheManager(1024, MemorySize.ofKibiBytes(128), memoryMapped);
         CachedRandomInputView view = new CachedRandomInputView(file, cacheManager);
 
         // read first one
@@ -94,6 +112,190 @@ public class CachedRandomInputViewTest {
         assertThat(cacheManager.cache().size()).isEqualTo(0);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testConcurrentPositionalRead(boolean memoryMapped) throws Exception {
+        byte[] bytes = new byte[rnd.nextInt(50000, 100000)];
+        rnd.nextBytes(bytes);
+
+        File file = writeFile(bytes);
+        // pages are evicted concurrently by other threads
+        CacheManager cacheManager =
+                new CacheManager(1024, MemorySize.ofKibiBytes(16), memoryMapped);
+        CachedRandomInputView view = new CachedRandomInputView(file, cacheManager);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                                    for (int i = 0; i < 10000; i++) {
+                                        int position = random.nextInt(bytes.length);
+                                        int len = random.nextInt(bytes.length - position + 1);
+                                        len = Math.min(len, 3000);
+                                        byte[] result = new byte[len];
+                                        view.readFully(position, result, 0, len);
+                                        assertThat(result)
+                                                .isEqualTo(
+                                                        Arrays.copyOfRange(
+                                                                bytes, position, position + len));
+                                        assertThat(view.readByte(position))
+                                                .isEqualTo(bytes[position]);
+                                    }
+                                    return null;
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThatThrownBy(() -> view.readByte(bytes.length)).isInstanceOf(EOFException.class);
+        assertThatThrownBy(() -> view.readFully(bytes.length - 1, new byte[2], 0, 2))
+                .isInstanceOf(EOFException.class);
+        view.close();
+        assertThat(cacheManager.cache().size()).isEqualTo(0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testConcurrentViewsSharingCache(boolean memoryMapped) throws Exception {
+        byte[] bytes1 = new byte[rnd.nextInt(50000, 100000)];
+        byte[] bytes2 = new byte[rnd.nextInt(50000, 100000)];
+        rnd.nextBytes(bytes1);
+        rnd.nextBytes(bytes2);
+
+        // loading a page of one view evicts pages of the other view in the same thread
+        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(8), memoryMapped);
+        CachedRandomInputView view1 = new CachedRandomInputView(writeFile(bytes1), cacheManager);
+        CachedRandomInputView view2 = new CachedRandomInputView(writeFile(bytes2), cacheManager);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                boolean firstView = t % 2 == 0;
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                                    for (int i = 0; i < 20000; i++) {
+                                        boolean useFirst = random.nextBoolean() ^ firstView;
+                                        CachedRandomInputView view = useFirst ? view1 : view2;
+                                        byte[] bytes = useFirst ? bytes1 : bytes2;
+                                        int position = random.nextInt(bytes.length);
+                                        assertThat(view.readByte(position))
+                                                .isEqualTo(bytes[position]);
+                                    }
+                                    return null;
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cacheManager.cache().size()).isLessThanOrEqualTo(8);
+        view1.close();
+        view2.close();
+        assertThat(cacheManager.cache().size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testReleaseMappedFile() throws IOException {
+        byte[] bytes = new byte[1024 * 256];
+        rnd.nextBytes(bytes);
+        File file = writeFile(bytes);
+
+        // the file fits into the max memory, so it is mapped
+        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(256), true);
+        CachedRandomInputView view = new CachedRandomInputView(file, cacheManager);
+        for (int i = 0; i < bytes.length; i += 512) {
+            assertThat(view.readByte(i)).isEqualTo(bytes[i]);
+        }
+        assertThat(cacheManager.cache().size()).isLessThanOrEqualTo(256);
+
+        // evicted pages do not hold mappings, the file is mapped once
+        assertThat(cacheManager.numMappedFiles()).isEqualTo(1);
+        if (PROC_MAPS.exists()) {
+            assertThat(numMappings(file)).isEqualTo(1);
+        }
+
+        // the mapping is released by garbage collection, as pages may still be referenced
+        view.close();
+        assertThat(cacheManager.cache().size()).isEqualTo(0);
+        assertThat(cacheManager.numMappedFiles()).isEqualTo(0);
+    }
+
+    @Test
+    public void testMappedBytesBoundedByMaxMemory() throws IOException {
+        byte[] bytes1 = new byte[1024 * 12];
+        byte[] bytes2 = new byte[1024 * 12];
+        rnd.nextBytes(bytes1);
+        rnd.nextBytes(bytes2);
+
+        // only one of both files can be mapped within the max memory
+        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(16), true);
+        CachedRandomInputView view1 = new CachedRandomInputView(writeFile(bytes1), cacheManager);
+        CachedRandomInputView view2 = new CachedRandomInputView(writeFile(bytes2), cacheManager);
+        for (int i = 0; i < bytes1.length; i += 512) {
+            assertThat(view1.readByte(i)).isEqualTo(bytes1[i]);
+            assertThat(view2.readByte(i)).isEqualTo(bytes2[i]);
+        }
+        assertThat(cacheManager.numMappedFiles()).isEqualTo(1);
+
+        // closing the mapped file frees its memory for the other file
+        view1.close();
+        assertThat(cacheManager.numMappedFiles()).isEqualTo(0);
+        for (int i = 0; i < bytes2.length; i += 512) {
+            assertThat(view2.readByte(i)).isEqualTo(bytes2[i]);
+        }
+        view2.close();
+        assertThat(cacheManager.cache().size()).isEqualTo(0);
+    }
+
+    private static long numMappings(File file) throws IOException {
+        String path = file.getCanonicalPath();
+        return Files.readAllLines(PROC_MAPS.toPath()).stream()
+                .filter(line -> line.endsWith(path))
+                .count();
+    }
+
+    @Test
+    public void testCachedBlocks() throws Exception {
+        byte[] bytes = new byte[16 * 1024];
+        rnd.nextBytes(bytes);
+
+        File file = writeFile(bytes);
+        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(64));
+        CachedRandomInputView view = new CachedRandomInputView(file, cacheManager);
+
+        AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            int block = i % 4;
+            MemorySegment segment =
+                    view.getBlock(
+                            block * 4096L,
+                            () -> {
+                                loads.incrementAndGet();
+                                byte[] blockBytes = new byte[2048];
+                                view.readFully(block * 4096L, blockBytes, 0, blockBytes.length);
+                                return MemorySegment.wrap(blockBytes);
+                            });
+            assertThat(segment.getArray())
+                    .isEqualTo(Arrays.copyOfRange(bytes, block * 4096, block * 4096 + 2048));
+        }
+        assertThat(loads.get()).isEqualTo(4);
+
+        view.close();
+        assertThat(cacheManager.cache().size()).isEqualTo(0);
+    }
+
     private File writeFile(byte[] bytes) throws IOException {
         File file = new File(tempDir.toFile(), UUID.randomUUID().toString());
         if (!file.createNewFile()) {
@@ -31,18 +31,25 @@ import org.apache.paimon.utils.VarLengthIntUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -316,6 +323,46 @@ public class HashLookupStoreFactoryTest {
         assertThat(valuesSet).isEmpty();
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testConcurrentLookup(boolean memoryMapped) throws Exception {
+        Integer[] keys = generateIntKeys(2000);
+        String[] values = generateStringData(keys.length, 100);
+
+        // Write
+        writeStore(file, keys, values);
+
+        // Read with a small cache, so that pages are evicted by other threads
+        factory =
+                new HashLookupStoreFactory(
+                        new CacheManager(1024, new MemorySize(8096), memoryMapped), 0.75d);
+        HashLookupStoreReader reader = factory.createReader(file);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                                    for (int i = 0; i < 5000; i++) {
+                                        int index = rnd.nextInt(keys.length);
+                                        assertThat(reader.lookup(toBytes(keys[index])))
+                                                .isEqualTo(toBytes(values[index]));
+                                        assertThat(reader.lookup(toBytes(-1 - index))).isNull();
+                                    }
+                                    return null;
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            reader.close();
+        }
+    }
+
     // UTILITY
 
     private void testReadKeyToString(Object[] keys) throws IOException {
@@ -21,16 +21,22 @@ package org.apache.paimon;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.manifest.FileStatsTypes;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.operation.FileStoreCommitImpl;
 import org.apache.paimon.operation.FileStoreExpireImpl;
 import org.apache.paimon.operation.PartitionExpire;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.KeyComparatorSupplier;
+import org.apache.paimon.utils.ObjectsCache;
 import org.apache.paimon.utils.SnapshotManager;
 
+import javax.annotation.Nullable;
+
 import java.time.Duration;
 import java.util.Comparator;
 
@@ -46,6 +52,7 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
     protected final long schemaId;
     protected final CoreOptions options;
     protected final RowType partitionType;
+    @Nullable private final KeyComparatorSupplier partitionComparatorSupplier;
 
     public AbstractFileStore(
             FileIO fileIO,
@@ -58,6 +65,8 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
         this.schemaId = schemaId;
         this.options = options;
         this.partitionType = partitionType;
+        this.partitionComparatorSupplier =
+                partitionType.getFieldCount() > 0 ? new KeyComparatorSupplier(partitionType) : null;
     }
 
     public FileStorePathFactory pathFactory() {
@@ -81,13 +90,25 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 partitionType,
                 options.manifestFormat(),
                 pathFactory(),
-                options.manifestTargetSize().getBytes());
+                options.manifestTargetSize().getBytes(),
+                manifestCache(),
+                partitionComparatorSupplier,
+                fileStatsTypes());
     }
 
+    /** Types of the key and value stats of data files written by this store. */
+    protected abstract FileStatsTypes fileStatsTypes();
+
     @VisibleForTesting
     public ManifestList.Factory manifestListFactory() {
         return new ManifestList.Factory(
-                fileIO, partitionType, options.manifestFormat(), pathFactory());
+                fileIO, partitionType, options.manifestFormat(), pathFactory(), manifestCache());
+    }
+
+    @Nullable
+    private ObjectsCache manifestCache() {
+        MemorySize maxMemorySize = options.manifestCacheMaxMemorySize();
+        return maxMemorySize.getBytes() > 0 ? ObjectsCache.shared(maxMemorySize) : null;
     }
 
     @Override
@@ -115,7 +136,9 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 options.bucket(),
                 options.manifestTargetSize(),
                 options.manifestMergeMinCount(),
-                newKeyComparator());
+                newKeyComparator(),
+                options.commitThreadNum(),
+                newScan());
     }
 
     @Override
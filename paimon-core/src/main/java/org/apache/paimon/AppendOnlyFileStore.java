@@ -21,10 +21,12 @@ package org.apache.paimon;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.format.FileFormatDiscover;
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.manifest.FileStatsTypes;
 import org.apache.paimon.operation.AppendOnlyFileStoreRead;
 import org.apache.paimon.operation.AppendOnlyFileStoreScan;
 import org.apache.paimon.operation.AppendOnlyFileStoreWrite;
 import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.stats.FieldStatsArraySerializer;
 import org.apache.paimon.types.RowType;
 
 import java.util.Comparator;
@@ -92,6 +94,17 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
                 checkNumOfBuckets);
     }
 
+    @Override
+    protected FileStatsTypes fileStatsTypes() {
+        // data files of append-only tables have no key stats
+        return new FileStatsTypes(
+                schemaId,
+                RowType.of(),
+                rowType,
+                FieldStatsArraySerializer.storedFields(
+                        options.statsModes(rowType.getFieldNames())));
+    }
+
     @Override
     public Comparator<InternalRow> newKeyComparator() {
         return null;
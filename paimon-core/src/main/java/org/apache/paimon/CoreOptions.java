@@ -20,6 +20,7 @@ package org.apache.paimon;
 
 import org.apache.paimon.annotation.Documentation.ExcludeFromDocumentation;
 import org.apache.paimon.annotation.Documentation.Immutable;
+import org.apache.paimon.format.FieldStatsMode;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.options.ConfigOption;
@@ -128,6 +129,34 @@ public class CoreOptions implements Serializable {
                             "To avoid frequent manifest merges, this parameter specifies the minimum number "
                                     + "of ManifestFileMeta to merge.");
 
+    public static final ConfigOption<MemorySize> MANIFEST_CACHE_MAX_MEMORY_SIZE =
+            key("manifest.cache-max-memory-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(64))
+                    .withDescription(
+                            "Max memory size for caching the records of manifest files and manifest"
+                                    + " lists. The cache is shared by all tables in the process with"
+                                    + " the same max memory size, 0 means the cache is disabled.");
+
+    public static final String FIELDS_PREFIX = "fields";
+
+    public static final String STATS_MODE_SUFFIX = "stats-mode";
+
+    public static final ConfigOption<String> METADATA_STATS_MODE =
+            key("metadata." + STATS_MODE_SUFFIX)
+                    .stringType()
+                    .defaultValue("full")
+                    .withDescription(
+                            "Mode of the column statistics of value fields stored in the metadata of"
+                                    + " data files, which can be none, counts, truncate(n) or full."
+                                    + " None collects no statistics, counts collects null counts"
+                                    + " only, truncate(n) truncates the min/max values of string"
+                                    + " fields to n characters. The mode of a field can be"
+                                    + " overwritten by 'fields.<field-name>.stats-mode'. Fields"
+                                    + " without statistics are left out of the statistics of data"
+                                    + " files. Stats modes can not be changed by dynamic options,"
+                                    + " only by altering the table.");
+
     public static final ConfigOption<String> PARTITION_DEFAULT_NAME =
             key("partition.default-name")
                     .stringType()
@@ -217,6 +246,48 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Whether the write buffer can be spillable. Enabled by default when using object storage.");
 
+    public static final ConfigOption<Boolean> WRITE_BUFFER_ASYNC_FLUSH =
+            key("write-buffer-async-flush")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to flush a full write buffer in background while another write buffer "
+                                    + "accepts records, each write buffer can use half of the write buffer memory. "
+                                    + "This only takes effect for tables with primary keys when the write buffer is "
+                                    + "not spillable or write-buffer-pre-merge is enabled.");
+
+    public static final ConfigOption<Boolean> WRITE_BUFFER_OFF_HEAP =
+            key("write-buffer-off-heap")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to allocate the write buffer memory off-heap. The pages are allocated "
+                                    + "on demand up to the write buffer size, reused by all writers of a task and "
+                                    + "released when the write is closed, which avoids long garbage collection "
+                                    + "pauses caused by large write buffers in the Java heap. The JVM must allow "
+                                    + "enough direct memory for the write buffer.");
+
+    public static final ConfigOption<WriteBufferPreemptPolicy> WRITE_BUFFER_PREEMPT_POLICY =
+            key("write-buffer-preempt-policy")
+                    .enumType(WriteBufferPreemptPolicy.class)
+                    .defaultValue(WriteBufferPreemptPolicy.LARGEST_OCCUPANCY)
+                    .withDescription(
+                            "Specify which writer flushes its write buffer when the shared write buffer "
+                                    + "memory of a task is exhausted. A writer is cold if it has not requested "
+                                    + "write buffer memory since the last time memory was preempted.");
+
+    public static final ConfigOption<Boolean> WRITE_BUFFER_PRE_MERGE =
+            key("write-buffer-pre-merge")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to merge records with the same primary key by the merge engine when "
+                                    + "they are written into the write buffer, so that the write buffer only holds "
+                                    + "one record for each key and is flushed less often for frequently updated keys. "
+                                    + "The write buffer is not spillable in this mode. This only takes effect for tables "
+                                    + "with primary keys, and does not take effect when changelog-producer is input "
+                                    + "or sequence.field is set.");
+
     public static final ConfigOption<Integer> LOCAL_SORT_MAX_NUM_FILE_HANDLES =
             key("local-sort.max-num-file-handles")
                     .intType()
@@ -226,6 +297,33 @@ public class CoreOptions implements Serializable {
                                     + "If it is too small, may cause intermediate merging. But if it is too large, "
                                     + "it will cause too many files opened at the same time, consume memory and lead to random reading.");
 
+    public static final ConfigOption<Boolean> LOCAL_SORT_ASYNC_IO =
+            key("local-sort.async-io")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the spillable write buffer compresses and writes the blocks of spilled "
+                                    + "files in background threads, and reads ahead the next block of each "
+                                    + "spilled file in background threads when merging them.");
+
+    public static final ConfigOption<Integer> LOCAL_SORT_ASYNC_IO_THREAD_NUM =
+            key("local-sort.async-io.thread-num")
+                    .intType()
+                    .defaultValue(2)
+                    .withDescription(
+                            "The number of background threads in a write task to compress, write and "
+                                    + "read ahead the blocks of spilled files when '"
+                                    + LOCAL_SORT_ASYNC_IO.key()
+                                    + "' is enabled. The threads are shared by all buckets of the task.");
+
+    public static final ConfigOption<SortEngine> SORT_ENGINE =
+            key("sort-engine")
+                    .enumType(SortEngine.class)
+                    .defaultValue(SortEngine.MIN_HEAP)
+                    .withDescription(
+                            "Specify the sort engine for merging the sorted runs of a section "
+                                    + "when reading or compacting a table with primary keys.");
+
     public static final ConfigOption<MemorySize> PAGE_SIZE =
             key("page-size")
                     .memoryType()
@@ -267,6 +365,36 @@ public class CoreOptions implements Serializable {
                     .defaultValue(false)
                     .withDescription("Whether to force a compaction before commit.");
 
+    public static final ConfigOption<Integer> COMMIT_THREAD_NUM =
+            key("commit.thread-num")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The maximum number of threads a commit uses to merge and write "
+                                    + "manifest files and to check conflicts. Commits with the "
+                                    + "same thread number share one pool. If not set, the "
+                                    + "common IO threads of the process are used.");
+
+    public static final ConfigOption<Integer> COMPACTION_THREAD_NUM =
+            key("compaction.thread-num")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads in a write task to compact its buckets. The "
+                                    + "threads are shared by all buckets, buckets closer to "
+                                    + "stopping writes are compacted first.");
+
+    public static final ConfigOption<Integer> COMPACTION_SECTION_PARALLELISM =
+            key("compaction.section-parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The max number of threads to rewrite the key-disjoint sections of "
+                                    + "one merge tree compaction concurrently. Each thread "
+                                    + "produces its own output files. Tables with the "
+                                    + "full-compaction or lookup changelog producer always "
+                                    + "rewrite sections sequentially.");
+
     public static final ConfigOption<Integer> COMPACTION_MAX_SIZE_AMPLIFICATION_PERCENT =
             key("compaction.max-size-amplification-percent")
                     .intType()
@@ -495,6 +623,26 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Define partition by table options, cannot define partition on DDL and table options at the same time.");
 
+    public static final ConfigOption<LookupLocalFileType> LOOKUP_LOCAL_FILE_TYPE =
+            key("lookup.local-file-type")
+                    .enumType(LookupLocalFileType.class)
+                    .defaultValue(LookupLocalFileType.HASH)
+                    .withDescription("The local file type for lookup.");
+
+    public static final ConfigOption<MemorySize> LOOKUP_SORT_FILE_BLOCK_SIZE =
+            key("lookup.sort-file.block-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("16 kb"))
+                    .withDescription(
+                            "The uncompressed size of the data blocks of sort lookup files.");
+
+    public static final ConfigOption<Boolean> LOOKUP_SORT_FILE_COMPRESSION_ENABLED =
+            key("lookup.sort-file.compression-enabled")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Whether to compress the data blocks of sort lookup files with lz4.");
+
     public static final ConfigOption<Float> LOOKUP_HASH_LOAD_FACTOR =
             key("lookup.hash-load-factor")
                     .floatType()
@@ -523,6 +671,41 @@ public class CoreOptions implements Serializable {
                     .defaultValue(MemorySize.parse("256 mb"))
                     .withDescription("Max memory size for lookup cache.");
 
+    public static final ConfigOption<Boolean> LOOKUP_BLOOM_FILTER_ENABLED =
+            key("lookup.bloom-filter.enabled")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Whether to build an in-memory bloom filter for each lookup file, so "
+                                    + "that lookups of absent keys do not read the file.");
+
+    public static final ConfigOption<Double> LOOKUP_BLOOM_FILTER_FPP =
+            key("lookup.bloom-filter.fpp")
+                    .doubleType()
+                    .defaultValue(0.05)
+                    .withDescription(
+                            "Expected false positive probability of the bloom filters of lookup files.");
+
+    public static final ConfigOption<Boolean> LOOKUP_REMOTE_FILE_ENABLED =
+            key("lookup.remote-file.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to persist the lookup file of each data file produced by "
+                                    + "compaction next to the data file, so that other writers and "
+                                    + "restarted writers can download it instead of building it "
+                                    + "from the data file.");
+
+    public static final ConfigOption<Boolean> LOOKUP_CACHE_MEMORY_MAPPED =
+            key("lookup.cache-memory-mapped")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to memory-map the local lookup files instead of copying "
+                                    + "their pages into heap memory. Files are only mapped while "
+                                    + "their total size is within 'lookup.cache-max-memory-size', "
+                                    + "pages of other files are copied into heap memory.");
+
     private final Options options;
 
     public CoreOptions(Map<String, String> options) {
@@ -569,6 +752,10 @@ public class CoreOptions implements Serializable {
         return options.get(MANIFEST_TARGET_FILE_SIZE);
     }
 
+    public MemorySize manifestCacheMaxMemorySize() {
+        return options.get(MANIFEST_CACHE_MAX_MEMORY_SIZE);
+    }
+
     public String partitionDefaultName() {
         return options.get(PARTITION_DEFAULT_NAME);
     }
@@ -595,6 +782,24 @@ public class CoreOptions implements Serializable {
         return options.get(MANIFEST_MERGE_MIN_COUNT);
     }
 
+    /**
+     * Stats modes of the given fields, configured by {@code fields.<field-name>.stats-mode} or
+     * {@link #METADATA_STATS_MODE}.
+     */
+    public FieldStatsMode[] statsModes(List<String> fieldNames) {
+        FieldStatsMode defaultMode = FieldStatsMode.parse(options.get(METADATA_STATS_MODE));
+        FieldStatsMode[] modes = new FieldStatsMode[fieldNames.size()];
+        for (int i = 0; i < modes.length; i++) {
+            String mode =
+                    options.get(
+                            key(FIELDS_PREFIX + "." + fieldNames.get(i) + "." + STATS_MODE_SUFFIX)
+                                    .stringType()
+                                    .noDefaultValue());
+            modes[i] = mode == null ? defaultMode : FieldStatsMode.parse(mode);
+        }
+        return modes;
+    }
+
     public MergeEngine mergeEngine() {
         return options.get(MERGE_ENGINE);
     }
@@ -615,6 +820,22 @@ public class CoreOptions implements Serializable {
         return options.getOptional(WRITE_BUFFER_SPILLABLE).orElse(usingObjectStore);
     }
 
+    public boolean writeBufferAsyncFlush() {
+        return options.get(WRITE_BUFFER_ASYNC_FLUSH);
+    }
+
+    public boolean writeBufferOffHeap() {
+        return options.get(WRITE_BUFFER_OFF_HEAP);
+    }
+
+    public WriteBufferPreemptPolicy writeBufferPreemptPolicy() {
+        return options.get(WRITE_BUFFER_PREEMPT_POLICY);
+    }
+
+    public boolean writeBufferPreMerge() {
+        return options.get(WRITE_BUFFER_PRE_MERGE);
+    }
+
     public Duration continuousDiscoveryInterval() {
         return options.get(CONTINUOUS_DISCOVERY_INTERVAL);
     }
@@ -623,6 +844,18 @@ public class CoreOptions implements Serializable {
         return options.get(LOCAL_SORT_MAX_NUM_FILE_HANDLES);
     }
 
+    public boolean localSortAsyncIo() {
+        return options.get(LOCAL_SORT_ASYNC_IO);
+    }
+
+    public int localSortAsyncIoThreadNum() {
+        return options.get(LOCAL_SORT_ASYNC_IO_THREAD_NUM);
+    }
+
+    public SortEngine sortEngine() {
+        return options.get(SORT_ENGINE);
+    }
+
     public int pageSize() {
         return (int) options.get(PAGE_SIZE).getBytes();
     }
@@ -659,6 +892,18 @@ public class CoreOptions implements Serializable {
         return options.get(COMMIT_FORCE_COMPACT);
     }
 
+    public Integer commitThreadNum() {
+        return options.get(COMMIT_THREAD_NUM);
+    }
+
+    public int compactionThreadNum() {
+        return options.get(COMPACTION_THREAD_NUM);
+    }
+
+    public int compactionSectionParallelism() {
+        return options.get(COMPACTION_SECTION_PARALLELISM);
+    }
+
     public int maxSizeAmplificationPercent() {
         return options.get(COMPACTION_MAX_SIZE_AMPLIFICATION_PERCENT);
     }
@@ -937,6 +1182,95 @@ public class CoreOptions implements Serializable {
         }
     }
 
+    /** Specifies the local file type for lookup. */
+    public enum LookupLocalFileType implements DescribedEnum {
+        HASH("hash", "Construct a hash file for lookup."),
+
+        SORT(
+                "sort",
+                "Construct a file of sorted and prefix-compressed blocks for lookup, "
+                        + "which is smaller than the hash file.");
+
+        private final String value;
+        private final String description;
+
+        LookupLocalFileType(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
+
+    /** Specifies the sort engine for merging sorted runs. */
+    public enum SortEngine implements DescribedEnum {
+        MIN_HEAP("min-heap", "Use a min-heap for merging sorted runs."),
+
+        TOURNAMENT_TREE(
+                "tournament-tree",
+                "Use a tournament tree for merging sorted runs, which needs about half of the "
+                        + "key comparisons of the min-heap.");
+
+        private final String value;
+        private final String description;
+
+        SortEngine(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
+
+    /** Specifies the policy to choose the writer to flush when write buffer memory is exhausted. */
+    public enum WriteBufferPreemptPolicy implements DescribedEnum {
+        LARGEST_OCCUPANCY("largest-occupancy", "Flush the writer which occupies the most memory."),
+
+        LEAST_RECENTLY_WRITTEN(
+                "least-recently-written",
+                "Flush the writer which has not requested memory for the longest time."),
+
+        COLD_FIRST(
+                "cold-first",
+                "Flush the cold writer which occupies the most memory, so that writers which are "
+                        + "still being written keep filling their write buffers instead of producing "
+                        + "small files. Falls back to largest-occupancy if there is no cold writer.");
+
+        private final String value;
+        private final String description;
+
+        WriteBufferPreemptPolicy(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
+
     /**
      * Set the default values of the {@link CoreOptions} via the given {@link Options}.
      *
@@ -963,6 +1297,12 @@ public class CoreOptions implements Serializable {
         return list;
     }
 
+    /** Whether the key is {@link #METADATA_STATS_MODE} or the stats mode of a field. */
+    public static boolean isStatsModeOption(String key) {
+        return key.equals(METADATA_STATS_MODE.key())
+                || (key.startsWith(FIELDS_PREFIX + ".") && key.endsWith("." + STATS_MODE_SUFFIX));
+    }
+
     public static Set<String> getImmutableOptionKeys() {
         final Field[] fields = CoreOptions.class.getFields();
         final Set<String> immutableKeys = new HashSet<>(fields.length);
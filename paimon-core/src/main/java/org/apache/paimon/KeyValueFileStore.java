@@ -21,6 +21,7 @@ package org.apache.paimon;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.format.FileFormatDiscover;
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.manifest.FileStatsTypes;
 import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.operation.KeyValueFileStoreRead;
 import org.apache.paimon.operation.KeyValueFileStoreScan;
@@ -118,6 +119,12 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                 checkNumOfBuckets);
     }
 
+    @Override
+    protected FileStatsTypes fileStatsTypes() {
+        // scans of primary-key tables only skip manifest files by key stats
+        return new FileStatsTypes(schemaId, keyType, RowType.of());
+    }
+
     @Override
     public Comparator<InternalRow> newKeyComparator() {
         return keyComparatorSupplier.get();
@@ -87,13 +87,19 @@ public class AppendOnlyCompactManager extends CompactFutureManager {
         taskFuture =
                 executor.submit(
                         new AppendOnlyCompactManager.IterativeCompactTask(
-                                fileIO,
-                                toCompact,
-                                targetFileSize,
-                                minFileNum,
-                                maxFileNum,
-                                rewriter,
-                                pathFactory));
+                                        fileIO,
+                                        toCompact,
+                                        targetFileSize,
+                                        minFileNum,
+                                        maxFileNum,
+                                        rewriter,
+                                        pathFactory)
+                                .withPriority(urgency()));
+    }
+
+    /** Number of files to compact relative to the max file number in percent. */
+    private int urgency() {
+        return (int) ((long) toCompact.size() * 100 / Math.max(1, maxFileNum));
     }
 
     private void triggerCompactionWithBestEffort() {
@@ -104,7 +110,9 @@ public class AppendOnlyCompactManager extends CompactFutureManager {
                 .ifPresent(
                         (inputs) ->
                                 taskFuture =
-                                        executor.submit(new AutoCompactTask(inputs, rewriter)));
+                                        executor.submit(
+                                                new AutoCompactTask(inputs, rewriter)
+                                                        .withPriority(urgency())));
     }
 
     @Override
@@ -21,6 +21,8 @@ package org.apache.paimon.append;
 
 import org.apache.paimon.compact.CompactManager;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.format.FieldStatsMode;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.io.CompactIncrement;
@@ -30,6 +32,7 @@ import org.apache.paimon.io.NewFilesIncrement;
 import org.apache.paimon.io.RowDataRollingFileWriter;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BatchRecordWriter;
 import org.apache.paimon.utils.CommitIncrement;
 import org.apache.paimon.utils.LongCounter;
 import org.apache.paimon.utils.Preconditions;
@@ -48,7 +51,7 @@ import static org.apache.paimon.io.DataFileMeta.getMaxSequenceNumber;
  * A {@link RecordWriter} implementation that only accepts records which are always insert
  * operations and don't have any unique keys or sort keys.
  */
-public class AppendOnlyWriter implements RecordWriter<InternalRow> {
+public class AppendOnlyWriter implements BatchRecordWriter {
 
     private final FileIO fileIO;
     private final long schemaId;
@@ -62,6 +65,7 @@ public class AppendOnlyWriter implements RecordWriter<InternalRow> {
     private final List<DataFileMeta> compactBefore;
     private final List<DataFileMeta> compactAfter;
     private final LongCounter seqNumCounter;
+    @Nullable private final FieldStatsMode[] statsModes;
 
     private RowDataRollingFileWriter writer;
 
@@ -76,6 +80,32 @@ public class AppendOnlyWriter implements RecordWriter<InternalRow> {
             boolean forceCompact,
             DataFilePathFactory pathFactory,
             @Nullable CommitIncrement increment) {
+        this(
+                fileIO,
+                schemaId,
+                fileFormat,
+                targetFileSize,
+                writeSchema,
+                maxSequenceNumber,
+                compactManager,
+                forceCompact,
+                pathFactory,
+                increment,
+                null);
+    }
+
+    public AppendOnlyWriter(
+            FileIO fileIO,
+            long schemaId,
+            FileFormat fileFormat,
+            long targetFileSize,
+            RowType writeSchema,
+            long maxSequenceNumber,
+            CompactManager compactManager,
+            boolean forceCompact,
+            DataFilePathFactory pathFactory,
+            @Nullable CommitIncrement increment,
+            @Nullable FieldStatsMode[] statsModes) {
         this.fileIO = fileIO;
         this.schemaId = schemaId;
         this.fileFormat = fileFormat;
@@ -88,6 +118,7 @@ public class AppendOnlyWriter implements RecordWriter<InternalRow> {
         this.compactBefore = new ArrayList<>();
         this.compactAfter = new ArrayList<>();
         this.seqNumCounter = new LongCounter(maxSequenceNumber + 1);
+        this.statsModes = statsModes;
 
         this.writer = createRollingRowWriter();
 
@@ -107,6 +138,15 @@ public class AppendOnlyWriter implements RecordWriter<InternalRow> {
         writer.write(rowData);
     }
 
+    /**
+     * Writes all rows of a columnar batch as inserts. The column vectors are handed to the format
+     * writer and statistics are collected per column vector, without converting each row.
+     */
+    @Override
+    public void writeBatch(VectorizedColumnBatch batch) throws Exception {
+        writer.writeBatch(batch);
+    }
+
     @Override
     public void compact(boolean fullCompaction) throws Exception {
         flushWriter(true, fullCompaction);
@@ -174,7 +214,8 @@ public class AppendOnlyWriter implements RecordWriter<InternalRow> {
                 targetFileSize,
                 writeSchema,
                 pathFactory,
-                seqNumCounter);
+                seqNumCounter,
+                statsModes);
     }
 
     private void trySyncLatestCompaction(boolean blocking)
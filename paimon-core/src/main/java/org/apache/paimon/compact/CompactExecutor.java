@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor shared by the compact managers of all buckets in a write task. Pending {@link
+ * CompactTask}s are executed in the order of their {@link CompactTask#priority()}, so that buckets
+ * close to stopping writes are compacted before others. Tasks with the same priority are executed
+ * in submission order.
+ *
+ * <p>The executor also records the queue time and execution time of tasks.
+ */
+public class CompactExecutor extends ThreadPoolExecutor {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong finishedTasks = new AtomicLong();
+    private final AtomicLong totalQueueMillis = new AtomicLong();
+    private final AtomicLong totalExecutionMillis = new AtomicLong();
+
+    public CompactExecutor(int numThreads, ThreadFactory threadFactory) {
+        super(
+                numThreads,
+                numThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                threadFactory);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        // the priority queue only accepts PrioritizedTask
+        super.execute(
+                command instanceof PrioritizedTask
+                        ? command
+                        : new PrioritizedTask<>(command, null, 0, sequence.getAndIncrement()));
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        int priority = callable instanceof CompactTask ? ((CompactTask) callable).priority() : 0;
+        return new PrioritizedTask<>(callable, priority, sequence.getAndIncrement());
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new PrioritizedTask<>(runnable, value, 0, sequence.getAndIncrement());
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        super.beforeExecute(t, r);
+        PrioritizedTask<?> task = (PrioritizedTask<?>) r;
+        task.startMillis = System.currentTimeMillis();
+        totalQueueMillis.addAndGet(task.startMillis - task.submitMillis);
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        super.afterExecute(r, t);
+        PrioritizedTask<?> task = (PrioritizedTask<?>) r;
+        totalExecutionMillis.addAndGet(System.currentTimeMillis() - task.startMillis);
+        finishedTasks.incrementAndGet();
+    }
+
+    /** Number of tasks waiting for a free thread. */
+    public int queueDepth() {
+        return getQueue().size();
+    }
+
+    /** Number of tasks which have finished, either normally or exceptionally. */
+    public long finishedTasks() {
+        return finishedTasks.get();
+    }
+
+    /** Average time a finished task waited in the queue before being executed. */
+    public long avgQueueMillis() {
+        long finished = finishedTasks.get();
+        return finished == 0 ? 0 : totalQueueMillis.get() / finished;
+    }
+
+    /** Average execution time of finished tasks. */
+    public long avgExecutionMillis() {
+        long finished = finishedTasks.get();
+        return finished == 0 ? 0 : totalExecutionMillis.get() / finished;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "CompactExecutor{threads=%d, active=%d, queueDepth=%d, finished=%d, "
+                        + "avgQueueMillis=%d, avgExecutionMillis=%d}",
+                getMaximumPoolSize(),
+                getActiveCount(),
+                queueDepth(),
+                finishedTasks(),
+                avgQueueMillis(),
+                avgExecutionMillis());
+    }
+
+    /** A {@link FutureTask} ordered by priority (descending) and then by submission order. */
+    private static class PrioritizedTask<T> extends FutureTask<T>
+            implements Comparable<PrioritizedTask<?>> {
+
+        private final int priority;
+        private final long sequence;
+        private final long submitMillis;
+        private long startMillis;
+
+        private PrioritizedTask(Callable<T> callable, int priority, long sequence) {
+            super(callable);
+            this.priority = priority;
+            this.sequence = sequence;
+            this.submitMillis = System.currentTimeMillis();
+        }
+
+        private PrioritizedTask(Runnable runnable, T value, int priority, long sequence) {
+            super(runnable, value);
+            this.priority = priority;
+            this.sequence = sequence;
+            this.submitMillis = System.currentTimeMillis();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask<?> o) {
+            int result = Integer.compare(o.priority, priority);
+            return result != 0 ? result : Long.compare(sequence, o.sequence);
+        }
+    }
+}
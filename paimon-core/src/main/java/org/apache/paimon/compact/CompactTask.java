@@ -32,10 +32,25 @@ public abstract class CompactTask implements Callable<CompactResult> {
 
     private final List<DataFileMeta> inputs;
 
+    private int priority;
+
     public CompactTask(List<DataFileMeta> inputs) {
         this.inputs = inputs;
     }
 
+    /**
+     * Sets the priority of this task. When executed by {@link CompactExecutor}, tasks with higher
+     * priority are executed first.
+     */
+    public CompactTask withPriority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    public int priority() {
+        return priority;
+    }
+
     @Override
     public CompactResult call() throws Exception {
         long startMillis = System.currentTimeMillis();
@@ -23,29 +23,44 @@ import org.apache.paimon.compression.BlockDecompressor;
 import org.apache.paimon.data.AbstractPagedInputView;
 import org.apache.paimon.memory.Buffer;
 import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.ExceptionUtils;
+
+import javax.annotation.Nullable;
 
 import java.io.EOFException;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * A {@link org.apache.flink.core.memory.DataInputView} that is backed by a {@link
  * BufferFileReader}, making it effectively a data input stream. The view reads it data in blocks
  * from the underlying channel and decompress it before returning to caller. The view can only read
  * data that has been written by {@link ChannelWriterOutputView}, due to block formatting.
+ *
+ * <p>If an executor is given, the view reads ahead: the next block is read and decompressed by the
+ * executor into a second pair of buffers while the caller consumes the current block.
  */
 public class ChannelReaderInputView extends AbstractPagedInputView {
 
     private final BlockDecompressor decompressor;
     private final BufferFileReader reader;
-    private final MemorySegment uncompressedBuffer;
+    private MemorySegment uncompressedBuffer;
 
-    private final MemorySegment compressedBuffer;
+    private MemorySegment compressedBuffer;
 
     private int numBlocksRemaining;
     private int currentSegmentLimit;
 
+    @Nullable private final ExecutorService executor;
+    private MemorySegment readAheadUncompressedBuffer;
+    private MemorySegment readAheadCompressedBuffer;
+    private int readAheadLimit;
+    @Nullable private Future<?> readAhead;
+
     public ChannelReaderInputView(
             FileIOChannel.ID id,
             IOManager ioManager,
@@ -53,6 +68,17 @@ public class ChannelReaderInputView extends AbstractPagedInputView {
             int compressionBlockSize,
             int numBlocks)
             throws IOException {
+        this(id, ioManager, compressionCodecFactory, compressionBlockSize, numBlocks, null);
+    }
+
+    public ChannelReaderInputView(
+            FileIOChannel.ID id,
+            IOManager ioManager,
+            BlockCompressionFactory compressionCodecFactory,
+            int compressionBlockSize,
+            int numBlocks,
+            @Nullable ExecutorService executor)
+            throws IOException {
         this.numBlocksRemaining = numBlocks;
         this.reader = ioManager.createBufferFileReader(id);
         uncompressedBuffer = MemorySegment.wrap(new byte[compressionBlockSize]);
@@ -63,6 +89,15 @@ public class ChannelReaderInputView extends AbstractPagedInputView {
                                 [compressionCodecFactory
                                         .getCompressor()
                                         .getMaxCompressedSize(compressionBlockSize)]);
+
+        this.executor = executor;
+        if (executor != null) {
+            readAheadUncompressedBuffer = MemorySegment.wrap(new byte[compressionBlockSize]);
+            readAheadCompressedBuffer = MemorySegment.wrap(new byte[compressedBuffer.size()]);
+            if (numBlocks > 0) {
+                startReadAhead();
+            }
+        }
     }
 
     @Override
@@ -73,26 +108,85 @@ public class ChannelReaderInputView extends AbstractPagedInputView {
             throw new EOFException();
         }
 
-        Buffer buffer = Buffer.create(compressedBuffer);
-        reader.readInto(buffer);
-        this.currentSegmentLimit =
-                decompressor.decompress(
-                        buffer.getMemorySegment().getArray(),
-                        0,
-                        buffer.getSize(),
-                        uncompressedBuffer.getArray(),
-                        0);
+        if (readAhead == null) {
+            this.currentSegmentLimit = readBlock(compressedBuffer, uncompressedBuffer);
+        } else {
+            waitReadAhead();
+            MemorySegment uncompressed = uncompressedBuffer;
+            uncompressedBuffer = readAheadUncompressedBuffer;
+            readAheadUncompressedBuffer = uncompressed;
+            MemorySegment compressed = compressedBuffer;
+            compressedBuffer = readAheadCompressedBuffer;
+            readAheadCompressedBuffer = compressed;
+            this.currentSegmentLimit = readAheadLimit;
+        }
         this.numBlocksRemaining--;
+
+        if (executor != null && numBlocksRemaining > 0) {
+            startReadAhead();
+        }
         return uncompressedBuffer;
     }
 
+    private int readBlock(MemorySegment compressed, MemorySegment uncompressed) throws IOException {
+        Buffer buffer = Buffer.create(compressed);
+        reader.readInto(buffer);
+        return decompressor.decompress(
+                buffer.getMemorySegment().getArray(),
+                0,
+                buffer.getSize(),
+                uncompressed.getArray(),
+                0);
+    }
+
+    private void startReadAhead() {
+        MemorySegment compressed = readAheadCompressedBuffer;
+        MemorySegment uncompressed = readAheadUncompressedBuffer;
+        readAhead =
+                executor.submit(
+                        () -> {
+                            readAheadLimit = readBlock(compressed, uncompressed);
+                            return null;
+                        });
+    }
+
+    private void waitReadAhead() throws IOException {
+        Future<?> future = readAhead;
+        readAhead = null;
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading ahead a block.", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to read ahead a block.", e.getCause());
+        }
+    }
+
     @Override
     protected int getLimitForSegment(MemorySegment segment) {
         return currentSegmentLimit;
     }
 
     public List<MemorySegment> close() throws IOException {
-        reader.close();
+        IOException exception = null;
+        if (readAhead != null) {
+            // the reader must not be closed while it is being read
+            try {
+                waitReadAhead();
+            } catch (IOException e) {
+                exception = e;
+            }
+        }
+
+        try {
+            reader.close();
+        } catch (IOException e) {
+            exception = ExceptionUtils.firstOrSuppressed(e, exception);
+        }
+        if (exception != null) {
+            throw exception;
+        }
         return Collections.emptyList();
     }
 
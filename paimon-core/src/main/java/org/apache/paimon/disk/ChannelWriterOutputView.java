@@ -24,19 +24,40 @@ import org.apache.paimon.data.AbstractPagedOutputView;
 import org.apache.paimon.memory.Buffer;
 import org.apache.paimon.memory.MemorySegment;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 
 /**
  * A {@link org.apache.flink.core.memory.DataOutputView} that is backed by a {@link FileIOChannel},
  * making it effectively a data output stream. The view will compress its data before writing it in
  * blocks to the underlying channel.
+ *
+ * <p>If an executor is given, full blocks are compressed by the executor in parallel and then
+ * written to the channel by the executor in order, while the view continues to accept writes into a
+ * new block. The writing thread only waits for the oldest block once more than {@link
+ * #MAX_PENDING_BLOCKS} blocks are pending, and for all remaining blocks when the view is closed.
  */
 public final class ChannelWriterOutputView extends AbstractPagedOutputView {
 
+    private static final int MAX_PENDING_BLOCKS = 4;
+
+    private final BlockCompressionFactory compressionCodecFactory;
     private final MemorySegment compressedBuffer;
     private final BlockCompressor compressor;
     private final BufferFileWriter writer;
 
+    @Nullable private final ExecutorService executor;
+    private final ArrayDeque<PendingBlock> pendingBlocks;
+    private final ArrayDeque<PendingBlock> freeBlocks;
+    private final ArrayDeque<MemorySegment> freeSegments;
+    private CompletableFuture<Void> lastWrite;
+
     private int blockCount;
 
     private long numBytes;
@@ -46,12 +67,26 @@ public final class ChannelWriterOutputView extends AbstractPagedOutputView {
             BufferFileWriter writer,
             BlockCompressionFactory compressionCodecFactory,
             int compressionBlockSize) {
+        this(writer, compressionCodecFactory, compressionBlockSize, null);
+    }
+
+    public ChannelWriterOutputView(
+            BufferFileWriter writer,
+            BlockCompressionFactory compressionCodecFactory,
+            int compressionBlockSize,
+            @Nullable ExecutorService executor) {
         super(MemorySegment.wrap(new byte[compressionBlockSize]), compressionBlockSize);
 
+        this.compressionCodecFactory = compressionCodecFactory;
         compressor = compressionCodecFactory.getCompressor();
         compressedBuffer =
                 MemorySegment.wrap(new byte[compressor.getMaxCompressedSize(compressionBlockSize)]);
         this.writer = writer;
+        this.executor = executor;
+        this.pendingBlocks = new ArrayDeque<>();
+        this.freeBlocks = new ArrayDeque<>();
+        this.freeSegments = new ArrayDeque<>();
+        this.lastWrite = CompletableFuture.completedFuture(null);
     }
 
     public FileIOChannel getChannel() {
@@ -61,9 +96,25 @@ public final class ChannelWriterOutputView extends AbstractPagedOutputView {
     public int close() throws IOException {
         if (!writer.isClosed()) {
             int currentPositionInSegment = getCurrentPositionInSegment();
-            writeCompressed(currentSegment, currentPositionInSegment);
-            clear();
-            this.writer.close();
+            if (executor == null) {
+                writeCompressed(currentSegment, currentPositionInSegment);
+                clear();
+                this.writer.close();
+            } else {
+                try {
+                    submitWrite(currentSegment, currentPositionInSegment);
+                    while (!pendingBlocks.isEmpty()) {
+                        awaitPending(pendingBlocks.poll());
+                    }
+                } finally {
+                    // blocks after a failed one are not written, the channel will be deleted, but
+                    // the channel must not be closed while a block is being written
+                    lastWrite.handle((ignored, throwable) -> null).join();
+                    pendingBlocks.clear();
+                    clear();
+                    this.writer.close();
+                }
+            }
         }
         return -1;
     }
@@ -71,8 +122,66 @@ public final class ChannelWriterOutputView extends AbstractPagedOutputView {
     @Override
     protected MemorySegment nextSegment(MemorySegment current, int positionInCurrent)
             throws IOException {
-        writeCompressed(current, positionInCurrent);
-        return current;
+        if (executor == null) {
+            writeCompressed(current, positionInCurrent);
+            return current;
+        }
+
+        submitWrite(current, positionInCurrent);
+        while (pendingBlocks.size() > MAX_PENDING_BLOCKS) {
+            awaitPending(pendingBlocks.poll());
+        }
+        MemorySegment next = freeSegments.poll();
+        return next == null ? MemorySegment.wrap(new byte[segmentSize]) : next;
+    }
+
+    private void submitWrite(MemorySegment segment, int size) {
+        PendingBlock block = freeBlocks.poll();
+        if (block == null) {
+            block = new PendingBlock(compressionCodecFactory.getCompressor(), segmentSize);
+        }
+        block.uncompressed = segment;
+        block.size = size;
+
+        // blocks are compressed in parallel, but each is written only after the previous one, and
+        // not at all if a previous one failed
+        PendingBlock toWrite = block;
+        CompletableFuture<Void> compressed = CompletableFuture.runAsync(block::compress, executor);
+        lastWrite = compressed.runAfterBothAsync(lastWrite, () -> write(toWrite), executor);
+        block.future = lastWrite;
+        pendingBlocks.add(block);
+    }
+
+    private void write(PendingBlock block) {
+        try {
+            writer.writeBlock(Buffer.create(block.compressed, block.compressedLen));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void awaitPending(PendingBlock block) throws IOException {
+        try {
+            block.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing a block.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            throw new IOException("Failed to compress a block.", cause);
+        }
+
+        blockCount++;
+        numBytes += block.size;
+        numCompressedBytes += block.compressedLen;
+
+        freeSegments.add(block.uncompressed);
+        block.uncompressed = null;
+        block.future = null;
+        freeBlocks.add(block);
     }
 
     private void writeCompressed(MemorySegment current, int size) throws IOException {
@@ -95,4 +204,27 @@ public final class ChannelWriterOutputView extends AbstractPagedOutputView {
     public int getBlockCount() {
         return blockCount;
     }
+
+    /** A full block which is compressed and written by the executor. */
+    private static class PendingBlock {
+
+        private final BlockCompressor compressor;
+        private final MemorySegment compressed;
+
+        private MemorySegment uncompressed;
+        private int size;
+        private int compressedLen;
+        private CompletableFuture<Void> future;
+
+        private PendingBlock(BlockCompressor compressor, int blockSize) {
+            this.compressor = compressor;
+            this.compressed =
+                    MemorySegment.wrap(new byte[compressor.getMaxCompressedSize(blockSize)]);
+        }
+
+        private void compress() {
+            compressedLen =
+                    compressor.compress(uncompressed.getArray(), 0, size, compressed.getArray(), 0);
+        }
+    }
 }
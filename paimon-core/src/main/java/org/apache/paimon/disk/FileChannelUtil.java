@@ -20,8 +20,11 @@ package org.apache.paimon.disk;
 
 import org.apache.paimon.compression.BlockCompressionFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /** File channel util for runtime. */
 public class FileChannelUtil {
@@ -31,7 +34,8 @@ public class FileChannelUtil {
             ChannelWithMeta channel,
             List<FileIOChannel> channels,
             BlockCompressionFactory compressionCodecFactory,
-            int compressionBlockSize)
+            int compressionBlockSize,
+            @Nullable ExecutorService ioExecutor)
             throws IOException {
         ChannelReaderInputView in =
                 new ChannelReaderInputView(
@@ -39,7 +43,8 @@ public class FileChannelUtil {
                         ioManager,
                         compressionCodecFactory,
                         compressionBlockSize,
-                        channel.getBlockCount());
+                        channel.getBlockCount(),
+                        ioExecutor);
         channels.add(in.getChannel());
         return in;
     }
@@ -48,10 +53,11 @@ public class FileChannelUtil {
             IOManager ioManager,
             FileIOChannel.ID channel,
             BlockCompressionFactory compressionCodecFactory,
-            int compressionBlockSize)
+            int compressionBlockSize,
+            @Nullable ExecutorService ioExecutor)
             throws IOException {
         BufferFileWriter bufferWriter = ioManager.createBufferFileWriter(channel);
         return new ChannelWriterOutputView(
-                bufferWriter, compressionCodecFactory, compressionBlockSize);
+                bufferWriter, compressionCodecFactory, compressionBlockSize, ioExecutor);
     }
 }
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io;
+
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+
+import java.io.IOException;
+
+/**
+ * A {@link FileWriter} of {@link InternalRow}s which can also write all rows of a {@link
+ * VectorizedColumnBatch} at once.
+ *
+ * @param <R> file result to collect.
+ */
+public interface BatchFileWriter<R> extends FileWriter<InternalRow, R> {
+
+    /**
+     * Add all rows of a columnar batch to this file writer, the rows are all inserts.
+     *
+     * <p>NOTE: If any exception occurs during writing, the writer should clean up useless files for
+     * the user.
+     *
+     * @param batch the columnar batch to write.
+     * @throws IOException if encounter any IO error.
+     */
+    void writeBatch(VectorizedColumnBatch batch) throws IOException;
+}
@@ -202,7 +202,17 @@ public class DataFileMeta {
      *         <li>Stores changelog files for {@link CoreOptions.ChangelogProducer#INPUT}. Changelog
      *             files are moved to {@link NewFilesIncrement} since Paimon 0.3.
      *       </ul>
+     *   <li>Paimon 0.4
+     *       <ul>
+     *         <li>Stores remote lookup files of compaction outputs when {@link
+     *             CoreOptions#LOOKUP_REMOTE_FILE_ENABLED} is set. A remote lookup file is named
+     *             {@code <data file>.<lookup file type>.lookup}, lives in the bucket directory of
+     *             the data file and is deleted together with it. See {@link
+     *             org.apache.paimon.mergetree.RemoteLookupFileManager}.
+     *       </ul>
      * </ul>
+     *
+     * <p>Names are relative to the bucket directory of this data file.
      */
     public List<String> extraFiles() {
         return extraFiles;
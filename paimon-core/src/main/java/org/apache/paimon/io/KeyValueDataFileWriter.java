@@ -23,6 +23,7 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.format.FieldStats;
+import org.apache.paimon.format.FieldStatsMode;
 import org.apache.paimon.format.FileStatsExtractor;
 import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.fs.FileIO;
@@ -75,7 +76,8 @@ public class KeyValueDataFileWriter
             @Nullable FileStatsExtractor fileStatsExtractor,
             long schemaId,
             int level,
-            String compression) {
+            String compression,
+            @Nullable FieldStatsMode[] valueStatsModes) {
         super(
                 fileIO,
                 factory,
@@ -83,7 +85,8 @@ public class KeyValueDataFileWriter
                 converter,
                 KeyValue.schema(keyType, valueType),
                 fileStatsExtractor,
-                compression);
+                compression,
+                recordStatsModes(keyType, valueType, valueStatsModes));
 
         this.keyType = keyType;
         this.valueType = valueType;
@@ -91,10 +94,26 @@ public class KeyValueDataFileWriter
         this.level = level;
 
         this.keyStatsConverter = new FieldStatsArraySerializer(keyType);
-        this.valueStatsConverter = new FieldStatsArraySerializer(valueType);
+        this.valueStatsConverter =
+                new FieldStatsArraySerializer(
+                        valueType, FieldStatsArraySerializer.storedFields(valueStatsModes));
         this.keySerializer = new InternalRowSerializer(keyType);
     }
 
+    /** Key fields and system fields always have full stats, which are used to filter keys. */
+    @Nullable
+    private static FieldStatsMode[] recordStatsModes(
+            RowType keyType, RowType valueType, @Nullable FieldStatsMode[] valueStatsModes) {
+        if (valueStatsModes == null) {
+            return null;
+        }
+
+        int numKeyFields = keyType.getFieldCount();
+        FieldStatsMode[] modes = FieldStatsMode.full(numKeyFields + 2 + valueType.getFieldCount());
+        System.arraycopy(valueStatsModes, 0, modes, numKeyFields + 2, valueStatsModes.length);
+        return modes;
+    }
+
     @Override
     public void write(KeyValue kv) throws IOException {
         super.write(kv);
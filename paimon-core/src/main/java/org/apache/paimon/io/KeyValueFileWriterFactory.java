@@ -22,6 +22,7 @@ import org.apache.paimon.KeyValue;
 import org.apache.paimon.KeyValueSerializer;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.format.FieldStatsMode;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FileStatsExtractor;
 import org.apache.paimon.format.FormatWriterFactory;
@@ -46,6 +47,7 @@ public class KeyValueFileWriterFactory {
     private final DataFilePathFactory pathFactory;
     private final long suggestedFileSize;
     private final Map<Integer, String> levelCompressions;
+    @Nullable private final FieldStatsMode[] valueStatsModes;
 
     private KeyValueFileWriterFactory(
             FileIO fileIO,
@@ -56,7 +58,8 @@ public class KeyValueFileWriterFactory {
             @Nullable FileStatsExtractor fileStatsExtractor,
             DataFilePathFactory pathFactory,
             long suggestedFileSize,
-            Map<Integer, String> levelCompressions) {
+            Map<Integer, String> levelCompressions,
+            @Nullable FieldStatsMode[] valueStatsModes) {
         this.fileIO = fileIO;
         this.schemaId = schemaId;
         this.keyType = keyType;
@@ -66,6 +69,7 @@ public class KeyValueFileWriterFactory {
         this.pathFactory = pathFactory;
         this.suggestedFileSize = suggestedFileSize;
         this.levelCompressions = levelCompressions;
+        this.valueStatsModes = valueStatsModes;
     }
 
     public RowType keyType() {
@@ -111,7 +115,8 @@ public class KeyValueFileWriterFactory {
                 fileStatsExtractor,
                 schemaId,
                 level,
-                compression);
+                compression,
+                valueStatsModes);
     }
 
     public void deleteFile(String filename) {
@@ -126,8 +131,35 @@ public class KeyValueFileWriterFactory {
             FileFormat fileFormat,
             FileStorePathFactory pathFactory,
             long suggestedFileSize) {
+        return builder(
+                fileIO,
+                schemaId,
+                keyType,
+                valueType,
+                fileFormat,
+                pathFactory,
+                suggestedFileSize,
+                null);
+    }
+
+    public static Builder builder(
+            FileIO fileIO,
+            long schemaId,
+            RowType keyType,
+            RowType valueType,
+            FileFormat fileFormat,
+            FileStorePathFactory pathFactory,
+            long suggestedFileSize,
+            @Nullable FieldStatsMode[] valueStatsModes) {
         return new Builder(
-                fileIO, schemaId, keyType, valueType, fileFormat, pathFactory, suggestedFileSize);
+                fileIO,
+                schemaId,
+                keyType,
+                valueType,
+                fileFormat,
+                pathFactory,
+                suggestedFileSize,
+                valueStatsModes);
     }
 
     /** Builder of {@link KeyValueFileWriterFactory}. */
@@ -140,6 +172,7 @@ public class KeyValueFileWriterFactory {
         private final FileFormat fileFormat;
         private final FileStorePathFactory pathFactory;
         private final long suggestedFileSize;
+        @Nullable private final FieldStatsMode[] valueStatsModes;
 
         private Builder(
                 FileIO fileIO,
@@ -148,7 +181,8 @@ public class KeyValueFileWriterFactory {
                 RowType valueType,
                 FileFormat fileFormat,
                 FileStorePathFactory pathFactory,
-                long suggestedFileSize) {
+                long suggestedFileSize,
+                @Nullable FieldStatsMode[] valueStatsModes) {
             this.fileIO = fileIO;
             this.schemaId = schemaId;
             this.keyType = keyType;
@@ -156,6 +190,7 @@ public class KeyValueFileWriterFactory {
             this.fileFormat = fileFormat;
             this.pathFactory = pathFactory;
             this.suggestedFileSize = suggestedFileSize;
+            this.valueStatsModes = valueStatsModes;
         }
 
         public KeyValueFileWriterFactory build(
@@ -170,7 +205,8 @@ public class KeyValueFileWriterFactory {
                     fileFormat.createStatsExtractor(recordType).orElse(null),
                     pathFactory.createDataFilePathFactory(partition, bucket),
                     suggestedFileSize,
-                    levelCompressions);
+                    levelCompressions,
+                    valueStatsModes);
         }
     }
 }
@@ -21,6 +21,7 @@ package org.apache.paimon.io;
 
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.utils.Preconditions;
+import org.apache.paimon.utils.ThrowingConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -96,6 +97,35 @@ public class RollingFileWriter<T, R> implements FileWriter<T, List<R>> {
         }
     }
 
+    /**
+     * Writes several records to the current file at once with the given action. Whether to roll the
+     * file is checked after the records are written.
+     */
+    protected void writeBundle(
+            ThrowingConsumer<SingleFileWriter<T, R>, IOException> action, long numRecords)
+            throws IOException {
+        try {
+            if (currentWriter == null) {
+                openCurrentWriter();
+            }
+
+            action.accept(currentWriter);
+            recordCount += numRecords;
+
+            if (currentWriter.length() >= targetFileSize) {
+                closeCurrentWriter();
+            }
+        } catch (Throwable e) {
+            LOG.warn(
+                    "Exception occurs when writing file "
+                            + (currentWriter == null ? null : currentWriter.path())
+                            + ". Cleaning up.",
+                    e);
+            abort();
+            throw e;
+        }
+    }
+
     private void openCurrentWriter() {
         currentWriter = writerFactory.get();
         openedWriters.add(currentWriter);
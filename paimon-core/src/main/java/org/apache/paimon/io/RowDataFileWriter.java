@@ -20,6 +20,8 @@
 package org.apache.paimon.io;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.format.FieldStatsMode;
 import org.apache.paimon.format.FileStatsExtractor;
 import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.fs.FileIO;
@@ -38,7 +40,8 @@ import java.util.function.Function;
  * A {@link StatsCollectingSingleFileWriter} to write data files containing {@link InternalRow}.
  * Also produces {@link DataFileMeta} after writing a file.
  */
-public class RowDataFileWriter extends StatsCollectingSingleFileWriter<InternalRow, DataFileMeta> {
+public class RowDataFileWriter extends StatsCollectingSingleFileWriter<InternalRow, DataFileMeta>
+        implements BatchFileWriter<DataFileMeta> {
 
     private final long schemaId;
     private final LongCounter seqNumCounter;
@@ -52,10 +55,32 @@ public class RowDataFileWriter extends StatsCollectingSingleFileWriter<InternalR
             @Nullable FileStatsExtractor fileStatsExtractor,
             long schemaId,
             LongCounter seqNumCounter) {
-        super(fileIO, factory, path, Function.identity(), writeSchema, fileStatsExtractor, null);
+        this(fileIO, factory, path, writeSchema, fileStatsExtractor, schemaId, seqNumCounter, null);
+    }
+
+    public RowDataFileWriter(
+            FileIO fileIO,
+            FormatWriterFactory factory,
+            Path path,
+            RowType writeSchema,
+            @Nullable FileStatsExtractor fileStatsExtractor,
+            long schemaId,
+            LongCounter seqNumCounter,
+            @Nullable FieldStatsMode[] statsModes) {
+        super(
+                fileIO,
+                factory,
+                path,
+                Function.identity(),
+                writeSchema,
+                fileStatsExtractor,
+                null,
+                statsModes);
         this.schemaId = schemaId;
         this.seqNumCounter = seqNumCounter;
-        this.statsArraySerializer = new FieldStatsArraySerializer(writeSchema);
+        this.statsArraySerializer =
+                new FieldStatsArraySerializer(
+                        writeSchema, FieldStatsArraySerializer.storedFields(statsModes));
     }
 
     @Override
@@ -64,6 +89,12 @@ public class RowDataFileWriter extends StatsCollectingSingleFileWriter<InternalR
         seqNumCounter.add(1L);
     }
 
+    @Override
+    public void writeBatch(VectorizedColumnBatch batch) throws IOException {
+        writeBatchImpl(batch);
+        seqNumCounter.add(batch.getNumRows());
+    }
+
     @Override
     public DataFileMeta result() throws IOException {
         BinaryTableStats stats = statsArraySerializer.toBinary(fieldStats());
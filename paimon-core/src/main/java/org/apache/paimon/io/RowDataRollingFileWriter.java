@@ -20,13 +20,21 @@
 package org.apache.paimon.io;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.format.FieldStatsMode;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.LongCounter;
 
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.List;
+
 /** {@link RollingFileWriter} for data files containing {@link InternalRow}. */
-public class RowDataRollingFileWriter extends RollingFileWriter<InternalRow, DataFileMeta> {
+public class RowDataRollingFileWriter extends RollingFileWriter<InternalRow, DataFileMeta>
+        implements BatchFileWriter<List<DataFileMeta>> {
 
     public RowDataRollingFileWriter(
             FileIO fileIO,
@@ -36,6 +44,26 @@ public class RowDataRollingFileWriter extends RollingFileWriter<InternalRow, Dat
             RowType writeSchema,
             DataFilePathFactory pathFactory,
             LongCounter seqNumCounter) {
+        this(
+                fileIO,
+                schemaId,
+                fileFormat,
+                targetFileSize,
+                writeSchema,
+                pathFactory,
+                seqNumCounter,
+                null);
+    }
+
+    public RowDataRollingFileWriter(
+            FileIO fileIO,
+            long schemaId,
+            FileFormat fileFormat,
+            long targetFileSize,
+            RowType writeSchema,
+            DataFilePathFactory pathFactory,
+            LongCounter seqNumCounter,
+            @Nullable FieldStatsMode[] statsModes) {
         super(
                 () ->
                         new RowDataFileWriter(
@@ -45,7 +73,14 @@ public class RowDataRollingFileWriter extends RollingFileWriter<InternalRow, Dat
                                 writeSchema,
                                 fileFormat.createStatsExtractor(writeSchema).orElse(null),
                                 schemaId,
-                                seqNumCounter),
+                                seqNumCounter,
+                                statsModes),
                 targetFileSize);
     }
+
+    @Override
+    public void writeBatch(VectorizedColumnBatch batch) throws IOException {
+        // files are created by the factory above, which always creates RowDataFileWriters
+        writeBundle(writer -> ((RowDataFileWriter) writer).writeBatch(batch), batch.getNumRows());
+    }
 }
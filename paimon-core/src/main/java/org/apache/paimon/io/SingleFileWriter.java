@@ -20,6 +20,7 @@
 package org.apache.paimon.io;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.format.FormatWriter;
 import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.fs.FileIO;
@@ -108,6 +109,25 @@ public abstract class SingleFileWriter<T, R> implements FileWriter<T, R> {
         }
     }
 
+    /**
+     * Writes all rows of a columnar batch directly to the format writer, bypassing the converter.
+     * Used by writers whose records are rows to implement {@link BatchFileWriter}.
+     */
+    protected void writeBatchImpl(VectorizedColumnBatch batch) throws IOException {
+        if (closed) {
+            throw new RuntimeException("Writer has already closed!");
+        }
+
+        try {
+            writer.addBatch(batch);
+            recordCount += batch.getNumRows();
+        } catch (Throwable e) {
+            LOG.warn("Exception occurs when writing file " + path + ". Cleaning up.", e);
+            abort();
+            throw e;
+        }
+    }
+
     @Override
     public long recordCount() {
         return recordCount;
@@ -20,8 +20,10 @@
 package org.apache.paimon.io;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.format.FieldStats;
 import org.apache.paimon.format.FieldStatsCollector;
+import org.apache.paimon.format.FieldStatsMode;
 import org.apache.paimon.format.FileStatsExtractor;
 import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.fs.FileIO;
@@ -35,7 +37,8 @@ import java.io.IOException;
 import java.util.function.Function;
 
 /**
- * A {@link SingleFileWriter} which also produces statistics for each written field.
+ * A {@link SingleFileWriter} which also produces statistics for each written field by its {@link
+ * FieldStatsMode}.
  *
  * @param <T> type of records to write.
  * @param <R> type of result to produce after writing a file.
@@ -44,6 +47,7 @@ public abstract class StatsCollectingSingleFileWriter<T, R> extends SingleFileWr
 
     @Nullable private final FileStatsExtractor fileStatsExtractor;
     @Nullable private FieldStatsCollector fieldStatsCollector = null;
+    private final FieldStatsMode[] statsModes;
 
     public StatsCollectingSingleFileWriter(
             FileIO fileIO,
@@ -52,11 +56,14 @@ public abstract class StatsCollectingSingleFileWriter<T, R> extends SingleFileWr
             Function<T, InternalRow> converter,
             RowType writeSchema,
             @Nullable FileStatsExtractor fileStatsExtractor,
-            String compression) {
+            String compression,
+            @Nullable FieldStatsMode[] statsModes) {
         super(fileIO, factory, path, converter, compression);
         this.fileStatsExtractor = fileStatsExtractor;
+        this.statsModes =
+                statsModes == null ? FieldStatsMode.full(writeSchema.getFieldCount()) : statsModes;
         if (this.fileStatsExtractor == null) {
-            this.fieldStatsCollector = new FieldStatsCollector(writeSchema);
+            this.fieldStatsCollector = new FieldStatsCollector(writeSchema, this.statsModes);
         }
     }
 
@@ -68,10 +75,24 @@ public abstract class StatsCollectingSingleFileWriter<T, R> extends SingleFileWr
         }
     }
 
+    @Override
+    protected void writeBatchImpl(VectorizedColumnBatch batch) throws IOException {
+        super.writeBatchImpl(batch);
+        // only formats without a stats extractor, such as avro, collect stats of the vectors
+        if (fieldStatsCollector != null) {
+            fieldStatsCollector.collect(batch);
+        }
+    }
+
     public FieldStats[] fieldStats() throws IOException {
         Preconditions.checkState(closed, "Cannot access metric unless the writer is closed.");
         if (fileStatsExtractor != null) {
-            return fileStatsExtractor.extract(fileIO, path);
+            // stats read from the file footer are free, only apply the modes to their results
+            FieldStats[] stats = fileStatsExtractor.extract(fileIO, path);
+            for (int i = 0; i < stats.length; i++) {
+                stats[i] = statsModes[i].apply(stats[i]);
+            }
+            return stats;
         } else {
             return fieldStatsCollector.extract();
         }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.Lz4BlockCompressionFactory;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+
+/**
+ * A {@link LookupStoreFactory} which stores records sorted by keys in prefix-compressed blocks, and
+ * looks up records by binary searching a sparse index of the blocks.
+ *
+ * <p>Records must be written in the order of the given key comparator. Compared to the hash store,
+ * sorted keys keep neighbouring keys in the same cached pages, the file has no empty slots, and
+ * records can be scanned from a key with {@link SortLookupStoreReader#iterator(byte[])}.
+ */
+public class SortLookupStoreFactory implements LookupStoreFactory {
+
+    private final Comparator<byte[]> keyComparator;
+    private final CacheManager cacheManager;
+    private final int blockSize;
+    private final boolean compressionEnabled;
+
+    public SortLookupStoreFactory(
+            Comparator<byte[]> keyComparator,
+            CacheManager cacheManager,
+            int blockSize,
+            boolean compressionEnabled) {
+        this.keyComparator = keyComparator;
+        this.cacheManager = cacheManager;
+        this.blockSize = blockSize;
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    @Override
+    public SortLookupStoreWriter createWriter(File file) throws IOException {
+        return new SortLookupStoreWriter(
+                file,
+                blockSize,
+                compressionEnabled ? new Lz4BlockCompressionFactory().getCompressor() : null);
+    }
+
+    @Override
+    public SortLookupStoreReader createReader(File file) throws IOException {
+        return new SortLookupStoreReader(file, cacheManager, keyComparator);
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.BlockDecompressor;
+import org.apache.paimon.compression.CompressorUtils;
+import org.apache.paimon.compression.Lz4BlockDecompressor;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.io.cache.CachedRandomInputView;
+import org.apache.paimon.lookup.LookupStoreReader;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.VarLengthIntUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.FOOTER_LENGTH;
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.LZ4_COMPRESSED;
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.MAGIC_NUMBER;
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.UNCOMPRESSED;
+
+/**
+ * Reader of {@link SortLookupStoreFactory}. The index block is kept in memory, data blocks are
+ * decompressed from the pages of the file once and then cached as blocks by {@link CacheManager}.
+ *
+ * <p>{@link #lookup} is thread-safe, iterators returned by {@link #iterator} are not.
+ */
+public class SortLookupStoreReader implements LookupStoreReader {
+
+    private final Comparator<byte[]> keyComparator;
+    private final CachedRandomInputView inputView;
+    private final BlockDecompressor decompressor;
+
+    // index of data blocks
+    private final byte[][] lastKeys;
+    private final long[] blockOffsets;
+    private final int[] blockLengths;
+    private final long recordCount;
+
+    SortLookupStoreReader(File file, CacheManager cacheManager, Comparator<byte[]> keyComparator)
+            throws IOException {
+        if (!file.exists()) {
+            throw new FileNotFoundException("File " + file.getAbsolutePath() + " not found");
+        }
+        this.keyComparator = keyComparator;
+        this.inputView = new CachedRandomInputView(file, cacheManager);
+        this.decompressor = new Lz4BlockDecompressor();
+
+        try {
+            byte[] footer = new byte[FOOTER_LENGTH];
+            inputView.readFully(file.length() - FOOTER_LENGTH, footer, 0, FOOTER_LENGTH);
+            DataInputDeserializer footerInput = new DataInputDeserializer(footer);
+            long indexOffset = footerInput.readLong();
+            int indexLength = footerInput.readInt();
+            this.recordCount = footerInput.readLong();
+            if (footerInput.readInt() != MAGIC_NUMBER) {
+                throw new IOException("File " + file + " is not a sorted lookup file.");
+            }
+
+            byte[] index = new byte[indexLength];
+            inputView.readFully(indexOffset, index, 0, indexLength);
+            DataInputDeserializer indexInput = new DataInputDeserializer(index);
+            int numBlocks = 0;
+            byte[][] lastKeys = new byte[16][];
+            long[] blockOffsets = new long[16];
+            int[] blockLengths = new int[16];
+            while (indexInput.available() > 0) {
+                if (numBlocks == lastKeys.length) {
+                    lastKeys = Arrays.copyOf(lastKeys, numBlocks * 2);
+                    blockOffsets = Arrays.copyOf(blockOffsets, numBlocks * 2);
+                    blockLengths = Arrays.copyOf(blockLengths, numBlocks * 2);
+                }
+                byte[] lastKey = new byte[indexInput.readInt()];
+                indexInput.readFully(lastKey);
+                lastKeys[numBlocks] = lastKey;
+                blockOffsets[numBlocks] = indexInput.readLong();
+                blockLengths[numBlocks] = indexInput.readInt();
+                numBlocks++;
+            }
+            this.lastKeys = Arrays.copyOf(lastKeys, numBlocks);
+            this.blockOffsets = Arrays.copyOf(blockOffsets, numBlocks);
+            this.blockLengths = Arrays.copyOf(blockLengths, numBlocks);
+        } catch (IOException e) {
+            inputView.close();
+            throw e;
+        }
+    }
+
+    public long recordCount() {
+        return recordCount;
+    }
+
+    @Nullable
+    @Override
+    public byte[] lookup(byte[] key) throws IOException {
+        int blockIndex = seekBlock(key);
+        if (blockIndex >= lastKeys.length) {
+            return null;
+        }
+
+        BlockIterator iterator = readBlock(blockIndex);
+        iterator.seek(key);
+        if (iterator.hasNext() && keyComparator.compare(iterator.key, key) == 0) {
+            return iterator.readValue();
+        }
+        return null;
+    }
+
+    /**
+     * Returns an iterator of the records whose keys are not smaller than the given key, or of all
+     * records if the given key is null.
+     */
+    public Iterator<Map.Entry<byte[], byte[]>> iterator(@Nullable byte[] fromKey)
+            throws IOException {
+        return new StoreIterator(fromKey);
+    }
+
+    /** Returns the first block whose last key is not smaller than the given key. */
+    private int seekBlock(byte[] key) {
+        int left = 0;
+        int right = lastKeys.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (keyComparator.compare(lastKeys[mid], key) < 0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    private BlockIterator readBlock(int blockIndex) throws IOException {
+        MemorySegment block =
+                inputView.getBlock(blockOffsets[blockIndex], () -> loadBlock(blockIndex));
+        return new BlockIterator(block.getArray());
+    }
+
+    private MemorySegment loadBlock(int blockIndex) throws IOException {
+        long offset = blockOffsets[blockIndex];
+        int length = blockLengths[blockIndex];
+        byte type = inputView.readByte(offset);
+        switch (type) {
+            case UNCOMPRESSED:
+                byte[] block = new byte[length - 1];
+                inputView.readFully(offset + 1, block, 0, block.length);
+                return MemorySegment.wrap(block);
+            case LZ4_COMPRESSED:
+                byte[] compressed = new byte[length - 1];
+                inputView.readFully(offset + 1, compressed, 0, compressed.length);
+                byte[] decompressed = new byte[CompressorUtils.readIntLE(compressed, 4)];
+                decompressor.decompress(compressed, 0, compressed.length, decompressed, 0);
+                return MemorySegment.wrap(decompressed);
+            default:
+                throw new IOException("Unknown block type " + type);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputView.close();
+    }
+
+    /**
+     * Iterator of the records in a data block. The block is shared with other lookups through the
+     * cache, so it is only read.
+     */
+    private class BlockIterator {
+
+        private final byte[] block;
+        private final int numRestartPoints;
+        private final int limit;
+        private final DataInputDeserializer input;
+
+        private byte[] key;
+        private int valueLength;
+        private int nextPosition;
+
+        private BlockIterator(byte[] block) throws IOException {
+            this.block = block;
+            this.input = new DataInputDeserializer(block, block.length - 4, 4);
+            this.numRestartPoints = input.readInt();
+            this.limit = block.length - 4 - numRestartPoints * 4;
+            moveTo(0);
+        }
+
+        private int restartPoint(int index) throws IOException {
+            input.setBuffer(block, limit + index * 4, 4);
+            return input.readInt();
+        }
+
+        private void moveTo(int position) throws IOException {
+            nextPosition = position;
+            advance();
+        }
+
+        /** Decodes the record at the next position, the key is null at the end of the block. */
+        private void advance() throws IOException {
+            if (nextPosition >= limit) {
+                key = null;
+                return;
+            }
+
+            input.setBuffer(block, nextPosition, limit - nextPosition);
+            int shared = VarLengthIntUtils.decodeInt(input);
+            int unshared = VarLengthIntUtils.decodeInt(input);
+            valueLength = VarLengthIntUtils.decodeInt(input);
+            byte[] newKey = new byte[shared + unshared];
+            if (shared > 0) {
+                System.arraycopy(key, 0, newKey, 0, shared);
+            }
+            input.readFully(newKey, shared, unshared);
+            key = newKey;
+            nextPosition = input.getPosition() + valueLength;
+        }
+
+        /** Positions at the first record whose key is not smaller than the given key. */
+        private void seek(byte[] target) throws IOException {
+            // binary search the last restart point whose key is smaller than the target
+            int left = 0;
+            int right = numRestartPoints - 1;
+            while (left < right) {
+                int mid = (left + right + 1) >>> 1;
+                moveTo(restartPoint(mid));
+                if (keyComparator.compare(key, target) < 0) {
+                    left = mid;
+                } else {
+                    right = mid - 1;
+                }
+            }
+
+            moveTo(restartPoint(left));
+            while (key != null && keyComparator.compare(key, target) < 0) {
+                advance();
+            }
+        }
+
+        private boolean hasNext() {
+            return key != null;
+        }
+
+        private byte[] readValue() {
+            int valueStart = nextPosition - valueLength;
+            return Arrays.copyOfRange(block, valueStart, nextPosition);
+        }
+    }
+
+    private class StoreIterator implements Iterator<Map.Entry<byte[], byte[]>> {
+
+        private int blockIndex;
+        @Nullable private BlockIterator current;
+
+        private StoreIterator(@Nullable byte[] fromKey) throws IOException {
+            if (fromKey == null) {
+                blockIndex = 0;
+                current = lastKeys.length == 0 ? null : readBlock(0);
+            } else {
+                blockIndex = seekBlock(fromKey);
+                if (blockIndex < lastKeys.length) {
+                    current = readBlock(blockIndex);
+                    current.seek(fromKey);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null && current.hasNext();
+        }
+
+        @Override
+        public Map.Entry<byte[], byte[]> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            try {
+                Map.Entry<byte[], byte[]> entry =
+                        new AbstractMap.SimpleImmutableEntry<>(current.key, current.readValue());
+                current.advance();
+                if (!current.hasNext()) {
+                    blockIndex++;
+                    current = blockIndex < lastKeys.length ? readBlock(blockIndex) : null;
+                }
+                return entry;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.BlockCompressor;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.lookup.LookupStoreWriter;
+import org.apache.paimon.utils.VarLengthIntUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writer of {@link SortLookupStoreFactory}. The file consists of:
+ *
+ * <ul>
+ *   <li>Data blocks: records in key order. Each key only stores the bytes that differ from the
+ *       previous key, except for the keys at restart points, which are stored fully so that a block
+ *       can be binary searched by its restart points. A block may be compressed.
+ *   <li>Index block: the last key, offset and length of each data block.
+ *   <li>Footer: the offset and length of the index block, the record count and a magic number.
+ * </ul>
+ */
+public class SortLookupStoreWriter implements LookupStoreWriter {
+
+    static final int MAGIC_NUMBER = 0x5041534C;
+    static final int FOOTER_LENGTH = 8 + 4 + 8 + 4;
+    static final int RESTART_INTERVAL = 16;
+
+    static final byte UNCOMPRESSED = 0;
+    static final byte LZ4_COMPRESSED = 1;
+
+    private final DataOutputStream out;
+    private final int blockSize;
+    @Nullable private final BlockCompressor compressor;
+
+    private final DataOutputSerializer block;
+    private final List<Integer> restartPoints;
+    private final DataOutputSerializer index;
+
+    private byte[] lastKey;
+    private int blockRecordCount;
+    private long recordCount;
+    private long position;
+    private byte[] compressBuffer;
+
+    SortLookupStoreWriter(File file, int blockSize, @Nullable BlockCompressor compressor)
+            throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        this.blockSize = blockSize;
+        this.compressor = compressor;
+        this.block = new DataOutputSerializer(blockSize + 1024);
+        this.restartPoints = new ArrayList<>();
+        this.index = new DataOutputSerializer(1024);
+        this.blockRecordCount = 0;
+        this.recordCount = 0;
+        this.position = 0;
+        this.compressBuffer = new byte[0];
+    }
+
+    @Override
+    public void put(byte[] key, byte[] value) throws IOException {
+        int shared = 0;
+        if (blockRecordCount % RESTART_INTERVAL == 0) {
+            restartPoints.add(block.length());
+        } else {
+            int limit = Math.min(lastKey.length, key.length);
+            while (shared < limit && lastKey[shared] == key[shared]) {
+                shared++;
+            }
+        }
+
+        VarLengthIntUtils.encodeInt(block, shared);
+        VarLengthIntUtils.encodeInt(block, key.length - shared);
+        VarLengthIntUtils.encodeInt(block, value.length);
+        block.write(key, shared, key.length - shared);
+        block.write(value);
+
+        lastKey = key;
+        blockRecordCount++;
+        recordCount++;
+        if (block.length() >= blockSize) {
+            flushBlock();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        for (int restartPoint : restartPoints) {
+            block.writeInt(restartPoint);
+        }
+        block.writeInt(restartPoints.size());
+
+        byte type = UNCOMPRESSED;
+        byte[] payload = block.getSharedBuffer();
+        int payloadLength = block.length();
+        if (compressor != null) {
+            int maxLength = compressor.getMaxCompressedSize(block.length());
+            if (compressBuffer.length < maxLength) {
+                compressBuffer = new byte[maxLength];
+            }
+            int compressedLength =
+                    compressor.compress(payload, 0, payloadLength, compressBuffer, 0);
+            // only keep the compressed block if it saves enough space
+            if (compressedLength < payloadLength - (payloadLength >> 3)) {
+                type = LZ4_COMPRESSED;
+                payload = compressBuffer;
+                payloadLength = compressedLength;
+            }
+        }
+
+        out.writeByte(type);
+        out.write(payload, 0, payloadLength);
+
+        index.writeInt(lastKey.length);
+        index.write(lastKey);
+        index.writeLong(position);
+        index.writeInt(payloadLength + 1);
+
+        position += payloadLength + 1;
+        block.clear();
+        restartPoints.clear();
+        blockRecordCount = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (blockRecordCount > 0) {
+                flushBlock();
+            }
+
+            long indexOffset = position;
+            out.write(index.getSharedBuffer(), 0, index.length());
+            out.writeLong(indexOffset);
+            out.writeInt(index.length());
+            out.writeLong(recordCount);
+            out.writeInt(MAGIC_NUMBER);
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.stats.FieldStatsArraySerializer;
+import org.apache.paimon.types.RowType;
+
+import javax.annotation.Nullable;
+
+/**
+ * Types of the key and value stats of {@link DataFileMeta}s written with a schema, used by {@link
+ * ManifestFile} to aggregate the stats of data files into {@link ManifestFileMeta}. Stats of an
+ * empty type are not aggregated and left null in {@link ManifestFileMeta}.
+ */
+public class FileStatsTypes {
+
+    private final long schemaId;
+    private final RowType keyType;
+    private final RowType valueType;
+    @Nullable private final int[] valueStoredFields;
+
+    public FileStatsTypes(long schemaId, RowType keyType, RowType valueType) {
+        this(schemaId, keyType, valueType, null);
+    }
+
+    /**
+     * Creates types of stats of which only the given value fields are stored, see {@link
+     * FieldStatsArraySerializer#storedFields}.
+     */
+    public FileStatsTypes(
+            long schemaId, RowType keyType, RowType valueType, @Nullable int[] valueStoredFields) {
+        this.schemaId = schemaId;
+        this.keyType = keyType;
+        this.valueType = valueType;
+        this.valueStoredFields = valueStoredFields;
+    }
+
+    public long schemaId() {
+        return schemaId;
+    }
+
+    public RowType keyType() {
+        return keyType;
+    }
+
+    public RowType valueType() {
+        return valueType;
+    }
+
+    @Nullable
+    public int[] valueStoredFields() {
+        return valueStoredFields;
+    }
+}
@@ -19,27 +19,44 @@
 package org.apache.paimon.manifest;
 
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.format.FieldStatsCollector;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.io.SingleFileWriter;
 import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.stats.BinaryTableStats;
+import org.apache.paimon.stats.FieldStatsAggregator;
 import org.apache.paimon.stats.FieldStatsArraySerializer;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.FileUtils;
+import org.apache.paimon.utils.ObjectsCache;
 import org.apache.paimon.utils.VersionedObjectSerializer;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * This file includes several {@link ManifestEntry}s, representing the additional changes since last
  * snapshot.
+ *
+ * <p>If a partition comparator is given, entries are clustered by partition when written, so that
+ * each manifest file covers a narrow range of partitions and can be skipped by partition filters
+ * with its partition stats.
+ *
+ * <p>If {@link FileStatsTypes} are given, the key and value stats of data files are aggregated into
+ * the {@link ManifestFileMeta}, so that scans can skip manifest files by key and value filters.
  */
 public class ManifestFile {
 
@@ -51,6 +68,9 @@ public class ManifestFile {
     private final FormatWriterFactory writerFactory;
     private final FileStorePathFactory pathFactory;
     private final long suggestedFileSize;
+    @Nullable private final ObjectsCache cache;
+    @Nullable private final Supplier<Comparator<InternalRow>> partitionComparatorSupplier;
+    @Nullable private final FileStatsTypes fileStatsTypes;
 
     private ManifestFile(
             FileIO fileIO,
@@ -60,7 +80,10 @@ public class ManifestFile {
             FormatReaderFactory readerFactory,
             FormatWriterFactory writerFactory,
             FileStorePathFactory pathFactory,
-            long suggestedFileSize) {
+            long suggestedFileSize,
+            @Nullable ObjectsCache cache,
+            @Nullable Supplier<Comparator<InternalRow>> partitionComparatorSupplier,
+            @Nullable FileStatsTypes fileStatsTypes) {
         this.fileIO = fileIO;
         this.schemaManager = schemaManager;
         this.partitionType = partitionType;
@@ -69,6 +92,9 @@ public class ManifestFile {
         this.writerFactory = writerFactory;
         this.pathFactory = pathFactory;
         this.suggestedFileSize = suggestedFileSize;
+        this.cache = cache;
+        this.partitionComparatorSupplier = partitionComparatorSupplier;
+        this.fileStatsTypes = fileStatsTypes;
     }
 
     @VisibleForTesting
@@ -77,9 +103,12 @@ public class ManifestFile {
     }
 
     public List<ManifestEntry> read(String fileName) {
+        Path path = pathFactory.toManifestFilePath(fileName);
         try {
-            return FileUtils.readListFromFile(
-                    fileIO, pathFactory.toManifestFilePath(fileName), serializer, readerFactory);
+            if (cache != null) {
+                return cache.read(fileIO, path, serializer, readerFactory);
+            }
+            return FileUtils.readListFromFile(fileIO, path, serializer, readerFactory);
         } catch (IOException e) {
             throw new RuntimeException("Failed to read manifest file " + fileName, e);
         }
@@ -91,6 +120,13 @@ public class ManifestFile {
      * <p>NOTE: This method is atomic.
      */
     public List<ManifestFileMeta> write(List<ManifestEntry> entries) {
+        if (partitionComparatorSupplier != null && entries.size() > 1) {
+            // the sort is stable, so entries of the same file keep their order
+            Comparator<InternalRow> partitionComparator = partitionComparatorSupplier.get();
+            entries = new ArrayList<>(entries);
+            entries.sort((a, b) -> partitionComparator.compare(a.partition(), b.partition()));
+        }
+
         RollingFileWriter<ManifestEntry, ManifestFileMeta> writer =
                 new RollingFileWriter<>(
                         () -> new ManifestEntryWriter(writerFactory, pathFactory.newManifestFile()),
@@ -112,16 +148,26 @@ public class ManifestFile {
 
         private final FieldStatsCollector partitionStatsCollector;
         private final FieldStatsArraySerializer partitionStatsSerializer;
+        @Nullable private final FieldStatsAggregator keyStatsAggregator;
+        @Nullable private final FieldStatsAggregator valueStatsAggregator;
 
         private long numAddedFiles = 0;
         private long numDeletedFiles = 0;
         private long schemaId = Long.MIN_VALUE;
+        private boolean fileStatsValid = fileStatsTypes != null;
 
         ManifestEntryWriter(FormatWriterFactory factory, Path path) {
             super(ManifestFile.this.fileIO, factory, path, serializer::toRow, null);
 
             this.partitionStatsCollector = new FieldStatsCollector(partitionType);
             this.partitionStatsSerializer = new FieldStatsArraySerializer(partitionType);
+            this.keyStatsAggregator =
+                    fileStatsValid ? createStatsAggregator(fileStatsTypes.keyType(), null) : null;
+            this.valueStatsAggregator =
+                    fileStatsValid
+                            ? createStatsAggregator(
+                                    fileStatsTypes.valueType(), fileStatsTypes.valueStoredFields())
+                            : null;
         }
 
         @Override
@@ -141,6 +187,32 @@ public class ManifestFile {
             schemaId = Math.max(schemaId, entry.file().schemaId());
 
             partitionStatsCollector.collect(entry.partition());
+            if (fileStatsValid) {
+                collectFileStats(entry.file());
+            }
+        }
+
+        private void collectFileStats(DataFileMeta file) {
+            // stats of data files of other schemas may have different fields, give up aggregating
+            // instead of evolving them
+            fileStatsValid =
+                    file.schemaId() == fileStatsTypes.schemaId()
+                            && (keyStatsAggregator == null
+                                    || keyStatsAggregator.collect(file.keyStats(), file.rowCount()))
+                            && (valueStatsAggregator == null
+                                    || valueStatsAggregator.collect(
+                                            file.valueStats(), file.rowCount()));
+        }
+
+        @Nullable
+        private FieldStatsAggregator createStatsAggregator(
+                RowType type, @Nullable int[] storedFields) {
+            return type.getFieldCount() == 0 ? null : new FieldStatsAggregator(type, storedFields);
+        }
+
+        @Nullable
+        private BinaryTableStats statsResult(@Nullable FieldStatsAggregator aggregator) {
+            return fileStatsValid && aggregator != null ? aggregator.result() : null;
         }
 
         @Override
@@ -153,7 +225,9 @@ public class ManifestFile {
                     partitionStatsSerializer.toBinary(partitionStatsCollector.extract()),
                     numAddedFiles + numDeletedFiles > 0
                             ? schemaId
-                            : schemaManager.latest().get().id());
+                            : schemaManager.latest().get().id(),
+                    statsResult(keyStatsAggregator),
+                    statsResult(valueStatsAggregator));
         }
     }
 
@@ -166,6 +240,9 @@ public class ManifestFile {
         private final FileFormat fileFormat;
         private final FileStorePathFactory pathFactory;
         private final long suggestedFileSize;
+        @Nullable private final ObjectsCache cache;
+        @Nullable private final Supplier<Comparator<InternalRow>> partitionComparatorSupplier;
+        @Nullable private final FileStatsTypes fileStatsTypes;
 
         public Factory(
                 FileIO fileIO,
@@ -174,12 +251,75 @@ public class ManifestFile {
                 FileFormat fileFormat,
                 FileStorePathFactory pathFactory,
                 long suggestedFileSize) {
+            this(
+                    fileIO,
+                    schemaManager,
+                    partitionType,
+                    fileFormat,
+                    pathFactory,
+                    suggestedFileSize,
+                    null);
+        }
+
+        public Factory(
+                FileIO fileIO,
+                SchemaManager schemaManager,
+                RowType partitionType,
+                FileFormat fileFormat,
+                FileStorePathFactory pathFactory,
+                long suggestedFileSize,
+                @Nullable ObjectsCache cache) {
+            this(
+                    fileIO,
+                    schemaManager,
+                    partitionType,
+                    fileFormat,
+                    pathFactory,
+                    suggestedFileSize,
+                    cache,
+                    null);
+        }
+
+        public Factory(
+                FileIO fileIO,
+                SchemaManager schemaManager,
+                RowType partitionType,
+                FileFormat fileFormat,
+                FileStorePathFactory pathFactory,
+                long suggestedFileSize,
+                @Nullable ObjectsCache cache,
+                @Nullable Supplier<Comparator<InternalRow>> partitionComparatorSupplier) {
+            this(
+                    fileIO,
+                    schemaManager,
+                    partitionType,
+                    fileFormat,
+                    pathFactory,
+                    suggestedFileSize,
+                    cache,
+                    partitionComparatorSupplier,
+                    null);
+        }
+
+        public Factory(
+                FileIO fileIO,
+                SchemaManager schemaManager,
+                RowType partitionType,
+                FileFormat fileFormat,
+                FileStorePathFactory pathFactory,
+                long suggestedFileSize,
+                @Nullable ObjectsCache cache,
+                @Nullable Supplier<Comparator<InternalRow>> partitionComparatorSupplier,
+                @Nullable FileStatsTypes fileStatsTypes) {
             this.fileIO = fileIO;
             this.schemaManager = schemaManager;
             this.partitionType = partitionType;
             this.fileFormat = fileFormat;
             this.pathFactory = pathFactory;
             this.suggestedFileSize = suggestedFileSize;
+            this.cache = cache;
+            this.partitionComparatorSupplier = partitionComparatorSupplier;
+            this.fileStatsTypes = fileStatsTypes;
         }
 
         public ManifestFile create() {
@@ -192,7 +332,10 @@ public class ManifestFile {
                     fileFormat.createReaderFactory(entryType),
                     fileFormat.createWriterFactory(entryType),
                     pathFactory,
-                    suggestedFileSize);
+                    suggestedFileSize,
+                    cache,
+                    partitionComparatorSupplier,
+                    fileStatsTypes);
         }
     }
 }
@@ -24,12 +24,19 @@ import org.apache.paimon.types.BigIntType;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.types.VarCharType;
+import org.apache.paimon.utils.ExceptionUtils;
+
+import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /** Metadata of a manifest file. */
 public class ManifestFileMeta {
@@ -40,6 +47,8 @@ public class ManifestFileMeta {
     private final long numDeletedFiles;
     private final BinaryTableStats partitionStats;
     private final long schemaId;
+    @Nullable private final BinaryTableStats keyStats;
+    @Nullable private final BinaryTableStats valueStats;
 
     public ManifestFileMeta(
             String fileName,
@@ -48,12 +57,34 @@ public class ManifestFileMeta {
             long numDeletedFiles,
             BinaryTableStats partitionStats,
             long schemaId) {
+        this(
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                null,
+                null);
+    }
+
+    public ManifestFileMeta(
+            String fileName,
+            long fileSize,
+            long numAddedFiles,
+            long numDeletedFiles,
+            BinaryTableStats partitionStats,
+            long schemaId,
+            @Nullable BinaryTableStats keyStats,
+            @Nullable BinaryTableStats valueStats) {
         this.fileName = fileName;
         this.fileSize = fileSize;
         this.numAddedFiles = numAddedFiles;
         this.numDeletedFiles = numDeletedFiles;
         this.partitionStats = partitionStats;
         this.schemaId = schemaId;
+        this.keyStats = keyStats;
+        this.valueStats = valueStats;
     }
 
     public String fileName() {
@@ -80,6 +111,24 @@ public class ManifestFileMeta {
         return schemaId;
     }
 
+    /**
+     * Min and max keys of all data files in this manifest file, null if unknown. Only present if
+     * all data files are of the schema {@link #schemaId()}.
+     */
+    @Nullable
+    public BinaryTableStats keyStats() {
+        return keyStats;
+    }
+
+    /**
+     * Min and max values of all data files in this manifest file, null if unknown. Only present if
+     * all data files are of the schema {@link #schemaId()}.
+     */
+    @Nullable
+    public BinaryTableStats valueStats() {
+        return valueStats;
+    }
+
     public static RowType schema() {
         List<DataField> fields = new ArrayList<>();
         fields.add(new DataField(0, "_FILE_NAME", new VarCharType(false, Integer.MAX_VALUE)));
@@ -88,6 +137,9 @@ public class ManifestFileMeta {
         fields.add(new DataField(3, "_NUM_DELETED_FILES", new BigIntType(false)));
         fields.add(new DataField(4, "_PARTITION_STATS", FieldStatsArraySerializer.schema()));
         fields.add(new DataField(5, "_SCHEMA_ID", new BigIntType(false)));
+        // stats fields are nullable, so manifest lists written before they were added can be read
+        fields.add(new DataField(6, "_KEY_STATS", FieldStatsArraySerializer.schema().copy(true)));
+        fields.add(new DataField(7, "_VALUE_STATS", FieldStatsArraySerializer.schema().copy(true)));
         return new RowType(fields);
     }
 
@@ -102,20 +154,36 @@ public class ManifestFileMeta {
                 && numAddedFiles == that.numAddedFiles
                 && numDeletedFiles == that.numDeletedFiles
                 && Objects.equals(partitionStats, that.partitionStats)
-                && schemaId == that.schemaId;
+                && schemaId == that.schemaId
+                && Objects.equals(keyStats, that.keyStats)
+                && Objects.equals(valueStats, that.valueStats);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(
-                fileName, fileSize, numAddedFiles, numDeletedFiles, partitionStats, schemaId);
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                keyStats,
+                valueStats);
     }
 
     @Override
     public String toString() {
         return String.format(
-                "{%s, %d, %d, %d, %s, %d}",
-                fileName, fileSize, numAddedFiles, numDeletedFiles, partitionStats, schemaId);
+                "{%s, %d, %d, %d, %s, %d, %s, %s}",
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                keyStats,
+                valueStats);
     }
 
     /**
@@ -129,31 +197,75 @@ public class ManifestFileMeta {
             ManifestFile manifestFile,
             long suggestedMetaSize,
             int suggestedMinMetaCount) {
-        List<ManifestFileMeta> result = new ArrayList<>();
-        // these are the newly created manifest files, clean them up if exception occurs
-        List<ManifestFileMeta> newMetas = new ArrayList<>();
+        return merge(metas, manifestFile, suggestedMetaSize, suggestedMinMetaCount, null);
+    }
+
+    /**
+     * Merges manifest files. If a pool is given, each group of candidates is read, merged and
+     * written by a separate task of the pool, the order of the result is the same as the serial
+     * merge.
+     */
+    public static List<ManifestFileMeta> merge(
+            List<ManifestFileMeta> metas,
+            ManifestFile manifestFile,
+            long suggestedMetaSize,
+            int suggestedMinMetaCount,
+            @Nullable ForkJoinPool pool) {
+        // group existing manifests by suggested size, each group is merged into new files unless
+        // it only contains one manifest
+        List<List<ManifestFileMeta>> groups = new ArrayList<>();
         List<ManifestFileMeta> candidates = new ArrayList<>();
         long totalSize = 0;
+        for (ManifestFileMeta manifest : metas) {
+            totalSize += manifest.fileSize;
+            candidates.add(manifest);
+            if (totalSize >= suggestedMetaSize) {
+                // reach suggested file size, perform merging and produce new file
+                groups.add(candidates);
+                candidates = new ArrayList<>();
+                totalSize = 0;
+            }
+        }
+
+        // merge the last bit of manifests if there are too many
+        List<ManifestFileMeta> lastBits = Collections.emptyList();
+        if (candidates.size() >= suggestedMinMetaCount) {
+            groups.add(candidates);
+        } else {
+            lastBits = candidates;
+        }
 
+        List<ManifestFileMeta> result = new ArrayList<>();
+        // these are the newly created manifest files, clean them up if exception occurs
+        List<ManifestFileMeta> newMetas = new ArrayList<>();
         try {
-            // merge existing manifests first
-            for (ManifestFileMeta manifest : metas) {
-                totalSize += manifest.fileSize;
-                candidates.add(manifest);
-                if (totalSize >= suggestedMetaSize) {
-                    // reach suggested file size, perform merging and produce new file
-                    mergeCandidates(candidates, manifestFile, result, newMetas);
-                    candidates.clear();
-                    totalSize = 0;
+            if (pool == null) {
+                for (List<ManifestFileMeta> group : groups) {
+                    collectMerged(group, mergeCandidates(group, manifestFile), result, newMetas);
                 }
-            }
-
-            // merge the last bit of manifests if there are too many
-            if (candidates.size() >= suggestedMinMetaCount) {
-                mergeCandidates(candidates, manifestFile, result, newMetas);
             } else {
-                result.addAll(candidates);
+                List<ForkJoinTask<List<ManifestFileMeta>>> tasks = new ArrayList<>();
+                for (List<ManifestFileMeta> group : groups) {
+                    tasks.add(pool.submit(() -> mergeCandidates(group, manifestFile)));
+                }
+                // wait for all tasks even if one fails, so that all new files can be cleaned up
+                Throwable error = null;
+                for (int i = 0; i < tasks.size(); i++) {
+                    try {
+                        collectMerged(groups.get(i), tasks.get(i).get(), result, newMetas);
+                    } catch (ExecutionException e) {
+                        error = ExceptionUtils.firstOrSuppressed(e.getCause(), error);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        error = ExceptionUtils.firstOrSuppressed(e, error);
+                    }
+                }
+                if (error != null) {
+                    throw new RuntimeException(
+                            "Failed to merge manifest files concurrently", error);
+                }
             }
+            result.addAll(lastBits);
         } catch (Throwable e) {
             // exception occurs, clean up and rethrow
             for (ManifestFileMeta manifest : newMetas) {
@@ -165,24 +277,30 @@ public class ManifestFileMeta {
         return result;
     }
 
-    private static void mergeCandidates(
+    private static void collectMerged(
             List<ManifestFileMeta> candidates,
-            ManifestFile manifestFile,
+            List<ManifestFileMeta> merged,
             List<ManifestFileMeta> result,
             List<ManifestFileMeta> newMetas) {
+        result.addAll(merged);
+        if (candidates.size() > 1) {
+            newMetas.addAll(merged);
+        }
+    }
+
+    private static List<ManifestFileMeta> mergeCandidates(
+            List<ManifestFileMeta> candidates, ManifestFile manifestFile) {
         if (candidates.size() == 1) {
-            result.add(candidates.get(0));
-            return;
+            return candidates;
         }
 
         Map<ManifestEntry.Identifier, ManifestEntry> map = new LinkedHashMap<>();
         for (ManifestFileMeta manifest : candidates) {
             ManifestEntry.mergeEntries(manifestFile.read(manifest.fileName), map);
         }
-        if (!map.isEmpty()) {
-            List<ManifestFileMeta> merged = manifestFile.write(new ArrayList<>(map.values()));
-            result.addAll(merged);
-            newMetas.addAll(merged);
+        if (map.isEmpty()) {
+            return Collections.emptyList();
         }
+        return manifestFile.write(new ArrayList<>(map.values()));
     }
 }
@@ -28,8 +28,11 @@ import org.apache.paimon.fs.PositionOutputStream;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.FileUtils;
+import org.apache.paimon.utils.ObjectsCache;
 import org.apache.paimon.utils.VersionedObjectSerializer;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.List;
 
@@ -44,24 +47,30 @@ public class ManifestList {
     private final FormatReaderFactory readerFactory;
     private final FormatWriterFactory writerFactory;
     private final FileStorePathFactory pathFactory;
+    @Nullable private final ObjectsCache cache;
 
     private ManifestList(
             FileIO fileIO,
             ManifestFileMetaSerializer serializer,
             FormatReaderFactory readerFactory,
             FormatWriterFactory writerFactory,
-            FileStorePathFactory pathFactory) {
+            FileStorePathFactory pathFactory,
+            @Nullable ObjectsCache cache) {
         this.fileIO = fileIO;
         this.serializer = serializer;
         this.readerFactory = readerFactory;
         this.writerFactory = writerFactory;
         this.pathFactory = pathFactory;
+        this.cache = cache;
     }
 
     public List<ManifestFileMeta> read(String fileName) {
+        Path path = pathFactory.toManifestListPath(fileName);
         try {
-            return FileUtils.readListFromFile(
-                    fileIO, pathFactory.toManifestListPath(fileName), serializer, readerFactory);
+            if (cache != null) {
+                return cache.read(fileIO, path, serializer, readerFactory);
+            }
+            return FileUtils.readListFromFile(fileIO, path, serializer, readerFactory);
         } catch (IOException e) {
             throw new RuntimeException("Failed to read manifest list " + fileName, e);
         }
@@ -110,16 +119,27 @@ public class ManifestList {
         private final RowType partitionType;
         private final FileFormat fileFormat;
         private final FileStorePathFactory pathFactory;
+        @Nullable private final ObjectsCache cache;
 
         public Factory(
                 FileIO fileIO,
                 RowType partitionType,
                 FileFormat fileFormat,
                 FileStorePathFactory pathFactory) {
+            this(fileIO, partitionType, fileFormat, pathFactory, null);
+        }
+
+        public Factory(
+                FileIO fileIO,
+                RowType partitionType,
+                FileFormat fileFormat,
+                FileStorePathFactory pathFactory,
+                @Nullable ObjectsCache cache) {
             this.fileIO = fileIO;
             this.partitionType = partitionType;
             this.fileFormat = fileFormat;
             this.pathFactory = pathFactory;
+            this.cache = cache;
         }
 
         public ManifestList create() {
@@ -129,7 +149,8 @@ public class ManifestList {
                     new ManifestFileMetaSerializer(),
                     fileFormat.createReaderFactory(metaType),
                     fileFormat.createWriterFactory(metaType),
-                    pathFactory);
+                    pathFactory,
+                    cache);
         }
     }
 }
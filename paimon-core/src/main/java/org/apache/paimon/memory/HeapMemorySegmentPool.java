@@ -63,4 +63,16 @@ public class HeapMemorySegmentPool implements MemorySegmentPool {
     public int freePages() {
         return segments.size() + maxPages - numPage;
     }
+
+    /** Number of pages allocated by this pool, including returned pages. */
+    public int allocatedPages() {
+        return numPage;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "HeapMemorySegmentPool{pageSize=%d, allocatedPages=%d, freePages=%d}",
+                pageSize, numPage, freePages());
+    }
 }
@@ -18,22 +18,66 @@
 
 package org.apache.paimon.memory;
 
+import org.apache.paimon.memory.MemoryPreemptPolicy.Candidate;
+import org.apache.paimon.memory.MemoryPreemptPolicy.LargestOccupancy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A factory which creates {@link MemorySegmentPool} from {@link MemoryOwner}. The returned memory
  * pool will try to preempt memory when there is no memory left.
+ *
+ * <p>The owner to flush is chosen by a {@link MemoryPreemptPolicy}. An owner is cold if it has not
+ * allocated a page since the last preemption, otherwise it is active. The factory records the
+ * number of preemptions and the bytes flushed from cold and active owners.
  */
 public class MemoryPoolFactory {
 
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryPoolFactory.class);
+
+    public static final String COLD_OWNER = "cold";
+    public static final String ACTIVE_OWNER = "active";
+
     private final MemorySegmentPool innerPool;
     private final int totalPages;
     private final Iterable<MemoryOwner> owners;
+    private final MemoryPreemptPolicy preemptPolicy;
+
+    // owners are not removed when they are closed, the values must not refer to the owners so
+    // that closed owners can be garbage collected
+    private final Map<MemoryOwner, AtomicLong> lastAllocations;
+
+    // logical clock of page allocations
+    private final AtomicLong allocations;
+    private long lastPreemptAllocation;
+
+    private final AtomicLong preemptCount;
+    private final Map<String, AtomicLong> preemptedBytes;
 
     public MemoryPoolFactory(MemorySegmentPool innerPool, Iterable<MemoryOwner> owners) {
+        this(innerPool, owners, new LargestOccupancy());
+    }
+
+    public MemoryPoolFactory(
+            MemorySegmentPool innerPool,
+            Iterable<MemoryOwner> owners,
+            MemoryPreemptPolicy preemptPolicy) {
         this.innerPool = innerPool;
         this.totalPages = innerPool.freePages();
         this.owners = owners;
+        this.preemptPolicy = preemptPolicy;
+        this.lastAllocations = new WeakHashMap<>();
+        this.allocations = new AtomicLong();
+        this.preemptCount = new AtomicLong();
+        this.preemptedBytes = new ConcurrentHashMap<>();
     }
 
     public void notifyNewOwner(MemoryOwner owner) {
@@ -41,38 +85,95 @@ public class MemoryPoolFactory {
     }
 
     MemorySegmentPool createSubPool(MemoryOwner owner) {
-        return new OwnerMemoryPool(owner);
+        AtomicLong lastAllocation = new AtomicLong();
+        lastAllocations.put(owner, lastAllocation);
+        return new OwnerMemoryPool(owner, lastAllocation);
     }
 
     private void preemptMemory(MemoryOwner owner) {
-        long maxMemory = -1;
-        MemoryOwner max = null;
+        List<Candidate> candidates = new ArrayList<>();
         for (MemoryOwner other : owners) {
             // Don't preempt yourself! Write and flush at the same time, which may lead to
             // inconsistent state
-            if (other != owner && other.memoryOccupancy() > maxMemory) {
-                maxMemory = other.memoryOccupancy();
-                max = other;
+            if (other != null && other != owner) {
+                AtomicLong ownerLastAllocation = lastAllocations.get(other);
+                long lastAllocation = ownerLastAllocation == null ? 0 : ownerLastAllocation.get();
+                candidates.add(
+                        new Candidate(
+                                other,
+                                other.memoryOccupancy(),
+                                lastAllocation,
+                                lastAllocation <= lastPreemptAllocation));
             }
         }
 
-        if (max != null) {
+        Candidate selected = preemptPolicy.select(candidates);
+        lastPreemptAllocation = allocations.get();
+        if (selected != null) {
             try {
-                max.flushMemory();
+                selected.owner().flushMemory();
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
+
+            long flushed = selected.memoryOccupancy() - selected.owner().memoryOccupancy();
+            String reason = selected.isCold() ? COLD_OWNER : ACTIVE_OWNER;
+            preemptCount.incrementAndGet();
+            preemptedBytes.computeIfAbsent(reason, r -> new AtomicLong()).addAndGet(flushed);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(
+                        "Preempted {} bytes from {} owner {} with {} candidates.",
+                        flushed,
+                        reason,
+                        selected.owner(),
+                        candidates.size());
+            }
         }
     }
 
+    /** Number of times an owner has been flushed to free memory for another owner. */
+    public long preemptCount() {
+        return preemptCount.get();
+    }
+
+    /**
+     * Bytes flushed by preemption, keyed by the reason {@link #COLD_OWNER} or {@link
+     * #ACTIVE_OWNER}.
+     */
+    public Map<String, Long> preemptedBytes() {
+        Map<String, Long> result = new HashMap<>();
+        preemptedBytes.forEach((reason, bytes) -> result.put(reason, bytes.get()));
+        return result;
+    }
+
+    /** Current memory occupancy of each owner. */
+    public Map<MemoryOwner, Long> ownerOccupancy() {
+        Map<MemoryOwner, Long> result = new HashMap<>();
+        for (MemoryOwner owner : owners) {
+            if (owner != null) {
+                result.put(owner, owner.memoryOccupancy());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "MemoryPoolFactory{innerPool=%s, preemptCount=%d, preemptedBytes=%s}",
+                innerPool, preemptCount(), preemptedBytes());
+    }
+
     private class OwnerMemoryPool implements MemorySegmentPool {
 
         private final MemoryOwner owner;
+        private final AtomicLong lastAllocation;
 
         private int allocatedPages = 0;
 
-        public OwnerMemoryPool(MemoryOwner owner) {
+        public OwnerMemoryPool(MemoryOwner owner, AtomicLong lastAllocation) {
             this.owner = owner;
+            this.lastAllocation = lastAllocation;
         }
 
         @Override
@@ -93,6 +194,7 @@ public class MemoryPoolFactory {
 
         @Override
         public MemorySegment nextSegment() {
+            lastAllocation.set(allocations.incrementAndGet());
             MemorySegment segment = innerPool.nextSegment();
             if (segment == null) {
                 preemptMemory(owner);
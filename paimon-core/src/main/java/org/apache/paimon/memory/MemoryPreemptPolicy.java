@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.memory;
+
+import org.apache.paimon.CoreOptions.WriteBufferPreemptPolicy;
+
+import javax.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Policy of {@link MemoryPoolFactory} to choose the {@link MemoryOwner} to flush when the shared
+ * memory pool is exhausted.
+ */
+public interface MemoryPreemptPolicy {
+
+    /**
+     * Selects the owner to flush from the given candidates, which never contain the owner
+     * requesting memory. Returns null if no owner should be flushed.
+     */
+    @Nullable
+    Candidate select(List<Candidate> candidates);
+
+    static MemoryPreemptPolicy create(WriteBufferPreemptPolicy policy) {
+        switch (policy) {
+            case LARGEST_OCCUPANCY:
+                return new LargestOccupancy();
+            case LEAST_RECENTLY_WRITTEN:
+                return new LeastRecentlyWritten();
+            case COLD_FIRST:
+                return new ColdFirst();
+            default:
+                throw new UnsupportedOperationException("Unsupported preempt policy: " + policy);
+        }
+    }
+
+    /** A memory owner which can be preempted, with its status at the time of preemption. */
+    class Candidate {
+
+        private final MemoryOwner owner;
+        private final long memoryOccupancy;
+        private final long lastAllocation;
+        private final boolean cold;
+
+        Candidate(MemoryOwner owner, long memoryOccupancy, long lastAllocation, boolean cold) {
+            this.owner = owner;
+            this.memoryOccupancy = memoryOccupancy;
+            this.lastAllocation = lastAllocation;
+            this.cold = cold;
+        }
+
+        public MemoryOwner owner() {
+            return owner;
+        }
+
+        public long memoryOccupancy() {
+            return memoryOccupancy;
+        }
+
+        /**
+         * Logical time of the last page allocation of this owner, a larger value means a more
+         * recent allocation. Zero if the owner has never allocated a page.
+         */
+        public long lastAllocation() {
+            return lastAllocation;
+        }
+
+        /** Whether this owner has not allocated a page since the last preemption. */
+        public boolean isCold() {
+            return cold;
+        }
+    }
+
+    /** Flushes the owner which occupies the most memory. */
+    class LargestOccupancy implements MemoryPreemptPolicy {
+
+        @Nullable
+        @Override
+        public Candidate select(List<Candidate> candidates) {
+            Candidate max = null;
+            for (Candidate candidate : candidates) {
+                if (max == null || candidate.memoryOccupancy > max.memoryOccupancy) {
+                    max = candidate;
+                }
+            }
+            return max;
+        }
+    }
+
+    /** Flushes the owner holding memory which has not allocated a page for the longest time. */
+    class LeastRecentlyWritten implements MemoryPreemptPolicy {
+
+        @Nullable
+        @Override
+        public Candidate select(List<Candidate> candidates) {
+            Candidate lru = null;
+            for (Candidate candidate : candidates) {
+                if (candidate.memoryOccupancy > 0
+                        && (lru == null || candidate.lastAllocation < lru.lastAllocation)) {
+                    lru = candidate;
+                }
+            }
+            return lru;
+        }
+    }
+
+    /**
+     * Flushes the cold owner which occupies the most memory, falls back to {@link LargestOccupancy}
+     * if no cold owner holds memory.
+     */
+    class ColdFirst extends LargestOccupancy {
+
+        @Nullable
+        @Override
+        public Candidate select(List<Candidate> candidates) {
+            Candidate max = null;
+            for (Candidate candidate : candidates) {
+                if (candidate.cold
+                        && candidate.memoryOccupancy > 0
+                        && (max == null || candidate.memoryOccupancy > max.memoryOccupancy)) {
+                    max = candidate;
+                }
+            }
+            return max == null ? super.select(candidates) : max;
+        }
+    }
+}
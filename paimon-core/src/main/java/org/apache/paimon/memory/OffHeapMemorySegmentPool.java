@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.memory;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * MemorySegment pool from off-heap memory. Pages are allocated on demand up to the max memory and
+ * returned pages are reused, so the pages do not live in the Java heap and are allocated at most
+ * once.
+ *
+ * <p>The pages are released when the pool is closed, the pool should be shared by all writers of a
+ * task instead of being created for each writer.
+ */
+public class OffHeapMemorySegmentPool implements MemorySegmentPool, Closeable {
+
+    private final LinkedList<MemorySegment> segments;
+    private final List<ByteBuffer> buffers;
+    private final int pageSize;
+    private final int maxPages;
+
+    public OffHeapMemorySegmentPool(long maxMemory, int pageSize) {
+        this.segments = new LinkedList<>();
+        this.buffers = new ArrayList<>();
+        this.pageSize = pageSize;
+        this.maxPages = (int) (maxMemory / pageSize);
+    }
+
+    @Override
+    public MemorySegment nextSegment() {
+        if (!segments.isEmpty()) {
+            return segments.poll();
+        }
+        if (buffers.size() < maxPages) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(pageSize);
+            buffers.add(buffer);
+            return MemorySegment.wrapOffHeapMemory(buffer);
+        }
+        return null;
+    }
+
+    @Override
+    public int pageSize() {
+        return pageSize;
+    }
+
+    @Override
+    public void returnAll(List<MemorySegment> memory) {
+        segments.addAll(memory);
+    }
+
+    @Override
+    public int freePages() {
+        return segments.size() + maxPages - buffers.size();
+    }
+
+    /** Number of pages allocated by this pool, including pages returned to it. */
+    public int allocatedPages() {
+        return buffers.size();
+    }
+
+    /** Releases all allocated pages, the pages must not be accessed afterwards. */
+    @Override
+    public void close() {
+        for (ByteBuffer buffer : buffers) {
+            MemoryUtils.releaseDirectBuffer(buffer);
+        }
+        buffers.clear();
+        segments.clear();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "OffHeapMemorySegmentPool{pageSize=%d, allocatedPages=%d, freePages=%d}",
+                pageSize, allocatedPages(), freePages());
+    }
+}
@@ -21,6 +21,8 @@ package org.apache.paimon.mergetree;
 import org.apache.flink.shaded.guava30.com.google.common.cache.Cache;
 import org.apache.flink.shaded.guava30.com.google.common.cache.CacheBuilder;
 import org.apache.flink.shaded.guava30.com.google.common.cache.RemovalNotification;
+import org.apache.flink.shaded.guava30.com.google.common.hash.BloomFilter;
+import org.apache.flink.shaded.guava30.com.google.common.hash.Funnels;
 
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.annotation.VisibleForTesting;
@@ -38,6 +40,8 @@ import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.FileIOUtils;
 import org.apache.paimon.utils.IOFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
@@ -51,16 +55,28 @@ import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 
-/** Provide lookup by key. */
+import static org.apache.paimon.utils.Preconditions.checkNotNull;
+
+/**
+ * Provide lookup by key.
+ *
+ * <p>Lookups can be served from multiple threads, as long as {@link Levels} is not updated
+ * concurrently.
+ */
 public class LookupLevels implements Levels.DropFileCallback, Closeable {
 
+    private static final Logger LOG = LoggerFactory.getLogger(LookupLevels.class);
+
     private final Levels levels;
     private final Comparator<InternalRow> keyComparator;
-    private final RowCompactedSerializer keySerializer;
-    private final RowCompactedSerializer valueSerializer;
+    // serializers reuse their buffers, so each thread needs its own
+    private final ThreadLocal<RowCompactedSerializer> keySerializer;
+    private final ThreadLocal<RowCompactedSerializer> valueSerializer;
     private final IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory;
     private final Supplier<File> localFileFactory;
     private final LookupStoreFactory lookupStoreFactory;
+    @Nullable private final Double bloomFilterFpp;
+    @Nullable private final RemoteLookupFileManager remoteFileManager;
 
     private final Cache<String, LookupFile> lookupFiles;
 
@@ -73,14 +89,18 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
             Supplier<File> localFileFactory,
             LookupStoreFactory lookupStoreFactory,
             Duration fileRetention,
-            MemorySize maxDiskSize) {
+            MemorySize maxDiskSize,
+            @Nullable Double bloomFilterFpp,
+            @Nullable RemoteLookupFileManager remoteFileManager) {
         this.levels = levels;
         this.keyComparator = keyComparator;
-        this.keySerializer = new RowCompactedSerializer(keyType);
-        this.valueSerializer = new RowCompactedSerializer(valueType);
+        this.keySerializer = ThreadLocal.withInitial(() -> new RowCompactedSerializer(keyType));
+        this.valueSerializer = ThreadLocal.withInitial(() -> new RowCompactedSerializer(valueType));
         this.fileReaderFactory = fileReaderFactory;
         this.localFileFactory = localFileFactory;
         this.lookupStoreFactory = lookupStoreFactory;
+        this.bloomFilterFpp = bloomFilterFpp;
+        this.remoteFileManager = remoteFileManager;
         this.lookupFiles =
                 CacheBuilder.newBuilder()
                         .expireAfterAccess(fileRetention)
@@ -162,12 +182,12 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         } catch (ExecutionException e) {
             throw new IOException(e);
         }
-        byte[] keyBytes = keySerializer.serializeToBytes(key);
+        byte[] keyBytes = keySerializer.get().serializeToBytes(key);
         byte[] valueBytes = lookupFile.get(keyBytes);
         if (valueBytes == null) {
             return null;
         }
-        InternalRow value = valueSerializer.deserialize(valueBytes);
+        InternalRow value = valueSerializer.get().deserialize(valueBytes);
         long sequenceNumber = MemorySegment.wrap(valueBytes).getLong(valueBytes.length - 9);
         RowKind rowKind = RowKind.fromByteValue(valueBytes[valueBytes.length - 1]);
         return new KeyValue()
@@ -190,19 +210,82 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         }
     }
 
+    /**
+     * Creates the lookup file of a new data file and persists it next to the data file. Returns the
+     * data file with the persisted lookup file registered as an extra file.
+     */
+    public DataFileMeta persistLookupFile(DataFileMeta file) throws IOException {
+        checkNotNull(remoteFileManager, "Persisting lookup files is not enabled.");
+        LookupFile lookupFile;
+        try {
+            // keep the local lookup file, it will be used once the file is added to levels
+            lookupFile = lookupFiles.get(file.fileName(), () -> buildLookupFile(file));
+        } catch (ExecutionException e) {
+            throw new IOException(e);
+        }
+        return remoteFileManager.upload(file, lookupFile.localFile, lookupFile.bloomFilter);
+    }
+
+    public boolean persistLookupFileEnabled() {
+        return remoteFileManager != null;
+    }
+
     private LookupFile createLookupFile(DataFileMeta file) throws IOException {
+        String remoteLookupFile =
+                remoteFileManager == null ? null : remoteFileManager.lookupFileName(file);
+        if (remoteLookupFile != null) {
+            File localFile = newLocalFile();
+            try {
+                BloomFilter<byte[]> bloomFilter =
+                        remoteFileManager.download(remoteLookupFile, localFile);
+                return new LookupFile(
+                        localFile,
+                        file,
+                        lookupStoreFactory.createReader(localFile),
+                        bloomFilterFpp == null ? null : bloomFilter);
+            } catch (IOException e) {
+                FileIOUtils.deleteFileOrDirectory(localFile);
+                LOG.warn(
+                        "Failed to download lookup file {}, build it from the data file.",
+                        remoteLookupFile,
+                        e);
+            }
+        }
+        return buildLookupFile(file);
+    }
+
+    private File newLocalFile() throws IOException {
         File localFile = localFileFactory.get();
         if (!localFile.createNewFile()) {
             throw new IOException("Can not create new file: " + localFile);
         }
+        return localFile;
+    }
+
+    private LookupFile buildLookupFile(DataFileMeta file) throws IOException {
+        File localFile = newLocalFile();
+        // keys of new records are usually not in any level, the bloom filter answers most of
+        // these lookups without reading the lookup file
+        BloomFilter<byte[]> bloomFilter =
+                bloomFilterFpp == null
+                        ? null
+                        : BloomFilter.create(
+                                Funnels.byteArrayFunnel(),
+                                Math.max(1, file.rowCount()),
+                                bloomFilterFpp);
         try (LookupStoreWriter kvWriter = lookupStoreFactory.createWriter(localFile);
                 RecordReader<KeyValue> reader = fileReaderFactory.apply(file)) {
+            RowCompactedSerializer keySerializer = this.keySerializer.get();
+            RowCompactedSerializer valueSerializer = this.valueSerializer.get();
             DataOutputSerializer valueOut = new DataOutputSerializer(32);
             RecordReader.RecordIterator<KeyValue> batch;
             KeyValue kv;
             while ((batch = reader.readBatch()) != null) {
                 while ((kv = batch.next()) != null) {
                     byte[] keyBytes = keySerializer.serializeToBytes(kv.key());
+                    if (bloomFilter != null) {
+                        bloomFilter.put(keyBytes);
+                    }
                     valueOut.clear();
                     valueOut.write(valueSerializer.serializeToBytes(kv.value()));
                     valueOut.writeLong(kv.sequenceNumber());
@@ -217,7 +300,8 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
             throw e;
         }
 
-        return new LookupFile(localFile, file, lookupStoreFactory.createReader(localFile));
+        return new LookupFile(
+                localFile, file, lookupStoreFactory.createReader(localFile), bloomFilter);
     }
 
     @Override
@@ -230,15 +314,24 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         private final File localFile;
         private final DataFileMeta remoteFile;
         private final LookupStoreReader reader;
+        @Nullable private final BloomFilter<byte[]> bloomFilter;
 
-        public LookupFile(File localFile, DataFileMeta remoteFile, LookupStoreReader reader) {
+        public LookupFile(
+                File localFile,
+                DataFileMeta remoteFile,
+                LookupStoreReader reader,
+                @Nullable BloomFilter<byte[]> bloomFilter) {
             this.localFile = localFile;
             this.remoteFile = remoteFile;
             this.reader = reader;
+            this.bloomFilter = bloomFilter;
         }
 
         @Nullable
         public byte[] get(byte[] key) throws IOException {
+            if (bloomFilter != null && !bloomFilter.mightContain(key)) {
+                return null;
+            }
             return reader.lookup(key);
         }
 
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.mergetree;
 
+import org.apache.paimon.CoreOptions.SortEngine;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.io.DataFileMeta;
@@ -44,7 +45,8 @@ public class MergeTreeReaders {
             boolean dropDelete,
             KeyValueFileReaderFactory readerFactory,
             Comparator<InternalRow> userKeyComparator,
-            MergeFunction<KeyValue> mergeFunction)
+            MergeFunction<KeyValue> mergeFunction,
+            SortEngine sortEngine)
             throws IOException {
         List<ConcatRecordReader.ReaderSupplier<KeyValue>> readers = new ArrayList<>();
         for (List<SortedRun> section : sections) {
@@ -54,7 +56,8 @@ public class MergeTreeReaders {
                                     section,
                                     readerFactory,
                                     userKeyComparator,
-                                    new ReducerMergeFunctionWrapper(mergeFunction)));
+                                    new ReducerMergeFunctionWrapper(mergeFunction),
+                                    sortEngine));
         }
         RecordReader<KeyValue> reader = ConcatRecordReader.create(readers);
         if (dropDelete) {
@@ -67,7 +70,8 @@ public class MergeTreeReaders {
             List<SortedRun> section,
             KeyValueFileReaderFactory readerFactory,
             Comparator<InternalRow> userKeyComparator,
-            MergeFunctionWrapper<KeyValue> mergeFunctionWrapper)
+            MergeFunctionWrapper<KeyValue> mergeFunctionWrapper,
+            SortEngine sortEngine)
             throws IOException {
         List<RecordReader<KeyValue>> readers = new ArrayList<>();
         for (SortedRun run : section) {
@@ -76,7 +80,8 @@ public class MergeTreeReaders {
         if (readers.size() == 1) {
             return readers.get(0);
         } else {
-            return new SortMergeReader<>(readers, userKeyComparator, mergeFunctionWrapper);
+            return SortMergeReader.createSortMergeReader(
+                    readers, userKeyComparator, mergeFunctionWrapper, sortEngine);
         }
     }
 
@@ -30,9 +30,11 @@ import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.NewFilesIncrement;
 import org.apache.paimon.io.RollingFileWriter;
+import org.apache.paimon.memory.LimitedMemorySegmentPool;
 import org.apache.paimon.memory.MemoryOwner;
 import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
 import org.apache.paimon.utils.RecordWriter;
@@ -40,15 +42,27 @@ import org.apache.paimon.utils.RecordWriter;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
-/** A {@link RecordWriter} to write records and generate {@link CompactIncrement}. */
+/**
+ * A {@link RecordWriter} to write records and generate {@link CompactIncrement}.
+ *
+ * <p>If a flush executor is given, the writer holds two write buffers, each of which can use half
+ * of the memory. When the current buffer is full, it is flushed by the flush executor while the
+ * other buffer accepts writes, so that writing is only blocked if the other buffer also becomes
+ * full before the flush finishes. Only one buffer is flushed at a time, and new files are applied
+ * by the writing thread after the flush finishes.
+ */
 public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     private final boolean writeBufferSpillable;
@@ -63,6 +77,9 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private final KeyValueFileWriterFactory writerFactory;
     private final boolean commitForceCompact;
     private final ChangelogProducer changelogProducer;
+    @Nullable private final ExecutorService flushExecutor;
+    @Nullable private final MergeFunctionFactory<KeyValue> preMergeFunctionFactory;
+    @Nullable private final ExecutorService spillIoExecutor;
 
     private final LinkedHashSet<DataFileMeta> newFiles;
     private final LinkedHashSet<DataFileMeta> newFilesChangelog;
@@ -73,6 +90,10 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private long newSequenceNumber;
     private WriteBuffer writeBuffer;
 
+    // the other buffer for async flushing, it is being flushed if flushFuture is not null
+    @Nullable private WriteBuffer flushingBuffer;
+    @Nullable private Future<NewFilesIncrement> flushFuture;
+
     public MergeTreeWriter(
             boolean writeBufferSpillable,
             int sortMaxFan,
@@ -85,6 +106,38 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
             boolean commitForceCompact,
             ChangelogProducer changelogProducer,
             @Nullable CommitIncrement increment) {
+        this(
+                writeBufferSpillable,
+                sortMaxFan,
+                ioManager,
+                compactManager,
+                maxSequenceNumber,
+                keyComparator,
+                mergeFunction,
+                writerFactory,
+                commitForceCompact,
+                changelogProducer,
+                increment,
+                null,
+                null,
+                null);
+    }
+
+    public MergeTreeWriter(
+            boolean writeBufferSpillable,
+            int sortMaxFan,
+            IOManager ioManager,
+            CompactManager compactManager,
+            long maxSequenceNumber,
+            Comparator<InternalRow> keyComparator,
+            MergeFunction<KeyValue> mergeFunction,
+            KeyValueFileWriterFactory writerFactory,
+            boolean commitForceCompact,
+            ChangelogProducer changelogProducer,
+            @Nullable CommitIncrement increment,
+            @Nullable ExecutorService flushExecutor,
+            @Nullable MergeFunctionFactory<KeyValue> preMergeFunctionFactory,
+            @Nullable ExecutorService spillIoExecutor) {
         this.writeBufferSpillable = writeBufferSpillable;
         this.sortMaxFan = sortMaxFan;
         this.ioManager = ioManager;
@@ -97,6 +150,9 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         this.writerFactory = writerFactory;
         this.commitForceCompact = commitForceCompact;
         this.changelogProducer = changelogProducer;
+        this.flushExecutor = flushExecutor;
+        this.preMergeFunctionFactory = preMergeFunctionFactory;
+        this.spillIoExecutor = spillIoExecutor;
 
         this.newFiles = new LinkedHashSet<>();
         this.newFilesChangelog = new LinkedHashSet<>();
@@ -126,14 +182,30 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void setMemoryPool(MemorySegmentPool memoryPool) {
-        this.writeBuffer =
-                new SortBufferWriteBuffer(
-                        keyType,
-                        valueType,
-                        memoryPool,
-                        writeBufferSpillable,
-                        sortMaxFan,
-                        ioManager);
+        if (flushExecutor == null) {
+            this.writeBuffer = createWriteBuffer(memoryPool);
+        } else {
+            int maxPages = memoryPool.freePages() / 2;
+            this.writeBuffer =
+                    createWriteBuffer(new LimitedMemorySegmentPool(memoryPool, maxPages));
+            this.flushingBuffer =
+                    createWriteBuffer(new LimitedMemorySegmentPool(memoryPool, maxPages));
+        }
+    }
+
+    private WriteBuffer createWriteBuffer(MemorySegmentPool memoryPool) {
+        if (preMergeFunctionFactory != null) {
+            return new PreMergeWriteBuffer(
+                    keyType, valueType, memoryPool, preMergeFunctionFactory.create());
+        }
+        return new SortBufferWriteBuffer(
+                keyType,
+                valueType,
+                memoryPool,
+                writeBufferSpillable,
+                sortMaxFan,
+                ioManager,
+                spillIoExecutor);
     }
 
     @Override
@@ -144,7 +216,11 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
                         : kv.sequenceNumber();
         boolean success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
         if (!success) {
-            flushWriteBuffer(false, false);
+            if (flushExecutor == null) {
+                flushWriteBuffer(false, false);
+            } else {
+                asyncFlushWriteBuffer();
+            }
             success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
             if (!success) {
                 throw new RuntimeException("Mem table is too small to hold a single element.");
@@ -169,7 +245,11 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public long memoryOccupancy() {
-        return writeBuffer.memoryOccupancy();
+        long occupancy = writeBuffer.memoryOccupancy();
+        if (flushingBuffer != null) {
+            occupancy += flushingBuffer.memoryOccupancy();
+        }
+        return occupancy;
     }
 
     @Override
@@ -182,45 +262,96 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     private void flushWriteBuffer(boolean waitForLatestCompaction, boolean forcedFullCompaction)
             throws Exception {
+        // the flushing buffer holds earlier records, so it must be finished first
+        if (finishAsyncFlush()) {
+            waitForLatestCompaction = true;
+        }
+
         if (writeBuffer.size() > 0) {
             if (compactManager.shouldWaitCompaction()) {
                 waitForLatestCompaction = true;
             }
 
-            final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
-                    changelogProducer == ChangelogProducer.INPUT
-                            ? writerFactory.createRollingChangelogFileWriter(0)
-                            : null;
-            final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
-                    writerFactory.createRollingMergeTreeFileWriter(0);
-
-            try {
-                writeBuffer.forEach(
-                        keyComparator,
-                        mergeFunction,
-                        changelogWriter == null ? null : changelogWriter::write,
-                        dataWriter::write);
-            } finally {
-                if (changelogWriter != null) {
-                    changelogWriter.close();
-                }
-                dataWriter.close();
-            }
+            applyNewFiles(flush(writeBuffer));
+            writeBuffer.clear();
+        }
 
-            if (changelogWriter != null) {
-                newFilesChangelog.addAll(changelogWriter.result());
-            }
+        trySyncLatestCompaction(waitForLatestCompaction);
+        compactManager.triggerCompaction(forcedFullCompaction);
+    }
 
-            for (DataFileMeta fileMeta : dataWriter.result()) {
-                newFiles.add(fileMeta);
-                compactManager.addNewFile(fileMeta);
-            }
+    private void asyncFlushWriteBuffer() throws Exception {
+        // the other buffer can only accept writes after its flush finishes
+        boolean waitForLatestCompaction = finishAsyncFlush();
 
-            writeBuffer.clear();
+        if (writeBuffer.size() > 0) {
+            WriteBuffer buffer = writeBuffer;
+            writeBuffer = flushingBuffer;
+            flushingBuffer = buffer;
+            flushFuture = flushExecutor.submit(() -> flush(buffer));
         }
 
         trySyncLatestCompaction(waitForLatestCompaction);
-        compactManager.triggerCompaction(forcedFullCompaction);
+        compactManager.triggerCompaction(false);
+    }
+
+    /**
+     * Waits for the flushing buffer and applies its new files, returns true if the latest
+     * compaction should be waited for because of too many sorted runs.
+     */
+    private boolean finishAsyncFlush() throws Exception {
+        if (flushFuture == null) {
+            return false;
+        }
+
+        boolean waitForLatestCompaction = compactManager.shouldWaitCompaction();
+        NewFilesIncrement increment;
+        try {
+            increment = flushFuture.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        } finally {
+            flushFuture = null;
+            // memory is returned by the writing thread, because memory pools are not thread-safe
+            flushingBuffer.clear();
+        }
+        applyNewFiles(increment);
+        return waitForLatestCompaction;
+    }
+
+    private NewFilesIncrement flush(WriteBuffer buffer) throws Exception {
+        final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
+                changelogProducer == ChangelogProducer.INPUT
+                        ? writerFactory.createRollingChangelogFileWriter(0)
+                        : null;
+        final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
+                writerFactory.createRollingMergeTreeFileWriter(0);
+
+        try {
+            buffer.forEach(
+                    keyComparator,
+                    mergeFunction,
+                    changelogWriter == null ? null : changelogWriter::write,
+                    dataWriter::write);
+        } finally {
+            if (changelogWriter != null) {
+                changelogWriter.close();
+            }
+            dataWriter.close();
+        }
+
+        return new NewFilesIncrement(
+                dataWriter.result(),
+                changelogWriter == null ? Collections.emptyList() : changelogWriter.result());
+    }
+
+    private void applyNewFiles(NewFilesIncrement increment) {
+        newFilesChangelog.addAll(increment.changelogFiles());
+        for (DataFileMeta fileMeta : increment.newFiles()) {
+            newFiles.add(fileMeta);
+            compactManager.addNewFile(fileMeta);
+        }
     }
 
     @Override
@@ -266,7 +397,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
                 // 2. This file is not the input of upgraded.
                 if (!compactBefore.containsKey(file.fileName())
                         && !afterFiles.contains(file.fileName())) {
-                    writerFactory.deleteFile(file.fileName());
+                    deleteDataFile(file);
                 }
             } else {
                 compactBefore.put(file.fileName(), file);
@@ -283,6 +414,9 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void close() throws Exception {
+        // wait for the flushing buffer, so that its new files are deleted below
+        finishAsyncFlush();
+
         // cancel compaction so that it does not block job cancelling
         compactManager.cancelCompaction();
         sync();
@@ -313,7 +447,14 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         compactChangelog.clear();
 
         for (DataFileMeta file : delete) {
-            writerFactory.deleteFile(file.fileName());
+            deleteDataFile(file);
+        }
+    }
+
+    private void deleteDataFile(DataFileMeta file) {
+        writerFactory.deleteFile(file.fileName());
+        for (String extraFile : file.extraFiles()) {
+            writerFactory.deleteFile(extraFile);
         }
     }
 }
@@ -0,0 +1,353 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.data.AbstractPagedOutputView;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.RandomAccessInputView;
+import org.apache.paimon.data.serializer.BinaryRowSerializer;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.mergetree.compact.ReducerMergeFunctionWrapper;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.types.RowType;
+
+import javax.annotation.Nullable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * A {@link WriteBuffer} which merges records with the same key by a {@link MergeFunction} when they
+ * are put, so that it only holds one record for each key. Records are sorted when the buffer is
+ * iterated.
+ *
+ * <p>Records are serialized into pages of the {@link MemorySegmentPool}, only an open addressing
+ * index from keys to the offsets of their records is kept in the heap. A merged record overwrites
+ * the previous record of the same key if it is not larger, otherwise it is appended and the space
+ * of the previous record is not reused until the buffer is cleared.
+ *
+ * <p>NOTE: Records must be put in the order of sequence numbers, and the merge function must not
+ * cancel out records, that is, {@link MergeFunction#getResult} must not return null.
+ */
+public class PreMergeWriteBuffer implements WriteBuffer {
+
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+    private static final long EMPTY = -1;
+
+    private final InternalRowSerializer keySerializer;
+    private final InternalRowSerializer valueSerializer;
+    private final BinaryRowSerializer keyPageSerializer;
+    private final BinaryRowSerializer valuePageSerializer;
+    private final MemorySegmentPool memoryPool;
+    private final int pageSize;
+    private final MergeFunction<KeyValue> mergeFunction;
+
+    private final ArrayList<MemorySegment> recordSegments;
+    private final RecordOutputView recordOutput;
+
+    // created when the first page is taken
+    private RandomAccessInputView recordInput;
+
+    private final BinaryRow reusedKey;
+    private final BinaryRow reusedValue;
+    private final KeyValue reusedPrevious;
+    private final KeyValue reusedKv;
+
+    // offsets of records and hash codes of their keys, EMPTY offset for free slots
+    private long[] indexOffsets;
+    private int[] indexHashes;
+    private int size;
+
+    private long currentOffset;
+
+    public PreMergeWriteBuffer(
+            RowType keyType,
+            RowType valueType,
+            MemorySegmentPool memoryPool,
+            MergeFunction<KeyValue> mergeFunction) {
+        this.keySerializer = new InternalRowSerializer(keyType);
+        this.valueSerializer = new InternalRowSerializer(valueType);
+        this.keyPageSerializer = new BinaryRowSerializer(keyType.getFieldCount());
+        this.valuePageSerializer = new BinaryRowSerializer(valueType.getFieldCount());
+        this.memoryPool = memoryPool;
+        this.pageSize = memoryPool.pageSize();
+        this.mergeFunction = mergeFunction;
+        this.recordSegments = new ArrayList<>();
+        this.recordOutput = new RecordOutputView();
+        this.reusedKey = new BinaryRow(keyType.getFieldCount());
+        this.reusedValue = new BinaryRow(valueType.getFieldCount());
+        this.reusedPrevious = new KeyValue();
+        this.reusedKv = new KeyValue();
+        resetIndex();
+    }
+
+    @Override
+    public boolean put(long sequenceNumber, RowKind valueKind, InternalRow key, InternalRow value)
+            throws IOException {
+        BinaryRow binaryKey = keySerializer.toBinaryRow(key);
+        int hash = binaryKey.hashCode();
+        int slot = findSlot(binaryKey, hash);
+        long offset = indexOffsets[slot];
+        if (offset == EMPTY) {
+            long newOffset =
+                    append(
+                            binaryKey,
+                            sequenceNumber,
+                            valueKind,
+                            valueSerializer.toBinaryRow(value));
+            if (newOffset == EMPTY) {
+                return false;
+            }
+
+            indexOffsets[slot] = newOffset;
+            indexHashes[slot] = hash;
+            if (++size * 2 > indexOffsets.length) {
+                growIndex();
+            }
+            return true;
+        }
+
+        KeyValue previous = readRecord(offset, reusedKey, reusedValue, reusedPrevious);
+        checkArgument(
+                sequenceNumber > previous.sequenceNumber(),
+                "Records must be put in the order of sequence numbers, but %s comes after %s.",
+                sequenceNumber,
+                previous.sequenceNumber());
+        int previousValueSize = ((BinaryRow) previous.value()).getSizeInBytes();
+        mergeFunction.reset();
+        mergeFunction.add(previous);
+        mergeFunction.add(reusedKv.replace(key, sequenceNumber, valueKind, value));
+        KeyValue merged = mergeFunction.getResult();
+
+        // serialize the merged value before overwriting the previous record it may point to
+        BinaryRow mergedValue = valueSerializer.toBinaryRow(merged.value());
+        if (mergedValue.getSizeInBytes() <= previousValueSize) {
+            recordOutput.seek(offset);
+            writeRecord(binaryKey, merged.sequenceNumber(), merged.valueKind(), mergedValue);
+            return true;
+        }
+
+        long newOffset =
+                append(binaryKey, merged.sequenceNumber(), merged.valueKind(), mergedValue);
+        if (newOffset == EMPTY) {
+            return false;
+        }
+        indexOffsets[slot] = newOffset;
+        return true;
+    }
+
+    private int findSlot(BinaryRow key, int hash) throws IOException {
+        int mask = indexOffsets.length - 1;
+        int slot = hash & mask;
+        while (indexOffsets[slot] != EMPTY) {
+            if (indexHashes[slot] == hash) {
+                recordInput.setReadPosition(indexOffsets[slot]);
+                if (keyPageSerializer.mapFromPages(reusedKey, recordInput).equals(key)) {
+                    return slot;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void growIndex() {
+        long[] oldOffsets = indexOffsets;
+        int[] oldHashes = indexHashes;
+        indexOffsets = new long[oldOffsets.length * 2];
+        indexHashes = new int[oldHashes.length * 2];
+        Arrays.fill(indexOffsets, EMPTY);
+        int mask = indexOffsets.length - 1;
+        for (int i = 0; i < oldOffsets.length; i++) {
+            if (oldOffsets[i] != EMPTY) {
+                int slot = oldHashes[i] & mask;
+                while (indexOffsets[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                indexOffsets[slot] = oldOffsets[i];
+                indexHashes[slot] = oldHashes[i];
+            }
+        }
+    }
+
+    /** Appends a record and returns its offset, or {@link #EMPTY} if there is no page left. */
+    private long append(BinaryRow key, long sequenceNumber, RowKind valueKind, BinaryRow value)
+            throws IOException {
+        long offset = currentOffset;
+        try {
+            recordOutput.seek(offset);
+            writeRecord(key, sequenceNumber, valueKind, value);
+        } catch (EOFException e) {
+            return EMPTY;
+        }
+        currentOffset = recordOutput.offset();
+        return offset;
+    }
+
+    private void writeRecord(BinaryRow key, long sequenceNumber, RowKind valueKind, BinaryRow value)
+            throws IOException {
+        keyPageSerializer.serializeToPages(key, recordOutput);
+        recordOutput.writeLong(sequenceNumber);
+        recordOutput.writeByte(valueKind.toByteValue());
+        valuePageSerializer.serializeToPages(value, recordOutput);
+    }
+
+    /** Reads the record at the offset, the key and value of the record point to the pages. */
+    private KeyValue readRecord(
+            long offset, BinaryRow keyReuse, BinaryRow valueReuse, KeyValue reuse)
+            throws IOException {
+        recordInput.setReadPosition(offset);
+        BinaryRow key = keyPageSerializer.mapFromPages(keyReuse, recordInput);
+        long sequenceNumber = recordInput.readLong();
+        RowKind valueKind = RowKind.fromByteValue(recordInput.readByte());
+        BinaryRow value = valuePageSerializer.mapFromPages(valueReuse, recordInput);
+        return reuse.replace(key, sequenceNumber, valueKind, value);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long memoryOccupancy() {
+        return currentOffset;
+    }
+
+    @Override
+    public boolean flushMemory() {
+        return false;
+    }
+
+    @Override
+    public void forEach(
+            Comparator<InternalRow> keyComparator,
+            MergeFunction<KeyValue> mergeFunction,
+            @Nullable KvConsumer rawConsumer,
+            KvConsumer mergedConsumer)
+            throws IOException {
+        KeyValue[] sorted = new KeyValue[size];
+        int n = 0;
+        for (long offset : indexOffsets) {
+            if (offset != EMPTY) {
+                sorted[n++] =
+                        readRecord(
+                                offset,
+                                new BinaryRow(keyPageSerializer.getArity()),
+                                new BinaryRow(valuePageSerializer.getArity()),
+                                new KeyValue());
+            }
+        }
+        Arrays.sort(
+                sorted,
+                (kv1, kv2) -> {
+                    int result = keyComparator.compare(kv1.key(), kv2.key());
+                    return result != 0
+                            ? result
+                            : Long.compare(kv1.sequenceNumber(), kv2.sequenceNumber());
+                });
+
+        // keys equal in comparator but not in binary are merged here
+        ReducerMergeFunctionWrapper mergeFunctionWrapper =
+                new ReducerMergeFunctionWrapper(mergeFunction);
+        int i = 0;
+        while (i < sorted.length) {
+            mergeFunctionWrapper.reset();
+            int j = i;
+            do {
+                if (rawConsumer != null) {
+                    rawConsumer.accept(sorted[j]);
+                }
+                mergeFunctionWrapper.add(sorted[j]);
+                j++;
+            } while (j < sorted.length
+                    && keyComparator.compare(sorted[i].key(), sorted[j].key()) == 0);
+
+            KeyValue result = mergeFunctionWrapper.getResult();
+            if (result != null) {
+                mergedConsumer.accept(result);
+            }
+            i = j;
+        }
+    }
+
+    @Override
+    public void clear() {
+        memoryPool.returnAll(recordSegments);
+        recordSegments.clear();
+        currentOffset = 0;
+        resetIndex();
+    }
+
+    private void resetIndex() {
+        indexOffsets = new long[INITIAL_INDEX_CAPACITY];
+        indexHashes = new int[INITIAL_INDEX_CAPACITY];
+        Arrays.fill(indexOffsets, EMPTY);
+        size = 0;
+    }
+
+    /** An output view over the record pages, which takes new pages from the memory pool. */
+    private class RecordOutputView extends AbstractPagedOutputView {
+
+        private int segmentIndex;
+
+        private RecordOutputView() {
+            super(MemorySegment.wrap(new byte[0]), pageSize);
+        }
+
+        private void seek(long offset) throws EOFException {
+            segmentIndex = (int) (offset / pageSize);
+            seekOutput(segment(segmentIndex), (int) (offset % pageSize));
+        }
+
+        private long offset() {
+            return (long) segmentIndex * pageSize + getCurrentPositionInSegment();
+        }
+
+        @Override
+        protected MemorySegment nextSegment(MemorySegment current, int positionInCurrent)
+                throws EOFException {
+            return segment(++segmentIndex);
+        }
+
+        private MemorySegment segment(int index) throws EOFException {
+            if (index == recordSegments.size()) {
+                MemorySegment segment = memoryPool.nextSegment();
+                if (segment == null) {
+                    throw new EOFException("No page left in the memory pool.");
+                }
+                recordSegments.add(segment);
+                if (recordInput == null) {
+                    recordInput = new RandomAccessInputView(recordSegments, pageSize);
+                }
+            }
+            return recordSegments.get(index);
+        }
+    }
+}
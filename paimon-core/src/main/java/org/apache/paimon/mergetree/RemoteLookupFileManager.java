@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree;
+
+import org.apache.flink.shaded.guava30.com.google.common.hash.BloomFilter;
+import org.apache.flink.shaded.guava30.com.google.common.hash.Funnels;
+
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataFilePathFactory;
+import org.apache.paimon.utils.IOUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Persists lookup files next to their data files and registers them as extra files of the data
+ * files, so that other writers and restarted writers can download a lookup file instead of building
+ * it from the data file.
+ *
+ * <p>A remote lookup file is only used by writers of the same schema and lookup file type, because
+ * the values in it are serialized with the value type of the writer which created it.
+ */
+public class RemoteLookupFileManager {
+
+    public static final String LOOKUP_FILE_SUFFIX = ".lookup";
+
+    private static final int VERSION = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileIO fileIO;
+    private final DataFilePathFactory pathFactory;
+    private final long schemaId;
+    private final String lookupFileType;
+
+    public RemoteLookupFileManager(
+            FileIO fileIO, DataFilePathFactory pathFactory, long schemaId, String lookupFileType) {
+        this.fileIO = fileIO;
+        this.pathFactory = pathFactory;
+        this.schemaId = schemaId;
+        this.lookupFileType = lookupFileType;
+    }
+
+    /** Returns the name of the remote lookup file of the given data file, null if not usable. */
+    @Nullable
+    public String lookupFileName(DataFileMeta file) {
+        if (file.schemaId() != schemaId) {
+            return null;
+        }
+        String name = newLookupFileName(file);
+        return file.extraFiles().contains(name) ? name : null;
+    }
+
+    private String newLookupFileName(DataFileMeta file) {
+        return file.fileName() + "." + lookupFileType + LOOKUP_FILE_SUFFIX;
+    }
+
+    /**
+     * Uploads the local lookup file of the given data file, returns the data file with the remote
+     * lookup file registered as an extra file.
+     */
+    public DataFileMeta upload(
+            DataFileMeta file, File localFile, @Nullable BloomFilter<byte[]> bloomFilter)
+            throws IOException {
+        String name = newLookupFileName(file);
+        Path path = pathFactory.toPath(name);
+        try (DataOutputStream out = new DataOutputStream(fileIO.newOutputStream(path, false));
+                InputStream in = new FileInputStream(localFile)) {
+            out.writeInt(VERSION);
+            if (bloomFilter == null) {
+                out.writeInt(-1);
+            } else {
+                ByteArrayOutputStream bloomFilterBytes = new ByteArrayOutputStream();
+                bloomFilter.writeTo(bloomFilterBytes);
+                out.writeInt(bloomFilterBytes.size());
+                bloomFilterBytes.writeTo(out);
+            }
+            IOUtils.copyBytes(in, out, BUFFER_SIZE, false);
+        } catch (IOException e) {
+            fileIO.deleteQuietly(path);
+            throw e;
+        }
+
+        List<String> extraFiles = new ArrayList<>(file.extraFiles());
+        extraFiles.add(name);
+        return file.copy(extraFiles);
+    }
+
+    /**
+     * Downloads the remote lookup file of the given data file into the local file, returns the
+     * persisted bloom filter of the keys, null if the lookup file was persisted without one.
+     */
+    @Nullable
+    public BloomFilter<byte[]> download(String lookupFileName, File localFile) throws IOException {
+        try (DataInputStream in =
+                        new DataInputStream(
+                                fileIO.newInputStream(pathFactory.toPath(lookupFileName)));
+                FileOutputStream out = new FileOutputStream(localFile)) {
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException(
+                        String.format(
+                                "Unsupported version %s of lookup file %s.",
+                                version, lookupFileName));
+            }
+
+            BloomFilter<byte[]> bloomFilter = null;
+            int bloomFilterLength = in.readInt();
+            if (bloomFilterLength >= 0) {
+                byte[] bloomFilterBytes = new byte[bloomFilterLength];
+                in.readFully(bloomFilterBytes);
+                bloomFilter =
+                        BloomFilter.readFrom(
+                                new ByteArrayInputStream(bloomFilterBytes),
+                                Funnels.byteArrayFunnel());
+            }
+            IOUtils.copyBytes(in, out, BUFFER_SIZE, false);
+            return bloomFilter;
+        }
+    }
+}
@@ -49,6 +49,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /** A {@link WriteBuffer} which stores records in {@link BinaryInMemorySortBuffer}. */
 public class SortBufferWriteBuffer implements WriteBuffer {
@@ -65,6 +66,17 @@ public class SortBufferWriteBuffer implements WriteBuffer {
             boolean spillable,
             int sortMaxFan,
             IOManager ioManager) {
+        this(keyType, valueType, memoryPool, spillable, sortMaxFan, ioManager, null);
+    }
+
+    public SortBufferWriteBuffer(
+            RowType keyType,
+            RowType valueType,
+            MemorySegmentPool memoryPool,
+            boolean spillable,
+            int sortMaxFan,
+            IOManager ioManager,
+            @Nullable ExecutorService spillIoExecutor) {
         this.keyType = keyType;
         this.valueType = valueType;
         this.serializer = new KeyValueSerializer(keyType, valueType);
@@ -96,7 +108,8 @@ public class SortBufferWriteBuffer implements WriteBuffer {
                                 memoryPool.pageSize(),
                                 inMemorySortBuffer,
                                 ioManager,
-                                sortMaxFan)
+                                sortMaxFan,
+                                spillIoExecutor)
                         : inMemorySortBuffer;
     }
 
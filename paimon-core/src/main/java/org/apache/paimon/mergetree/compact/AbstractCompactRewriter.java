@@ -35,6 +35,9 @@ public abstract class AbstractCompactRewriter implements CompactRewriter {
         return new CompactResult(file, file.upgrade(outputLevel));
     }
 
+    @Override
+    public void abort(CompactResult result) {}
+
     protected static List<DataFileMeta> extractFilesFromSections(List<List<SortedRun>> sections) {
         return sections.stream()
                 .flatMap(Collection::stream)
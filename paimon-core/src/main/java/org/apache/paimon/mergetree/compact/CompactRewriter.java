@@ -32,4 +32,7 @@ public interface CompactRewriter extends Closeable {
             throws Exception;
 
     CompactResult upgrade(int outputLevel, DataFileMeta file) throws Exception;
+
+    /** Deletes the files written by a {@link #rewrite} whose result is discarded. */
+    void abort(CompactResult result);
 }
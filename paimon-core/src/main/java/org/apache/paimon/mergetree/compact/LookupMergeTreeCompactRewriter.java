@@ -18,7 +18,9 @@
 
 package org.apache.paimon.mergetree.compact;
 
+import org.apache.paimon.CoreOptions.SortEngine;
 import org.apache.paimon.KeyValue;
+import org.apache.paimon.compact.CompactResult;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
@@ -28,8 +30,11 @@ import org.apache.paimon.mergetree.SortedRun;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * A {@link MergeTreeCompactRewriter} which produces changelog files by lookup for the compaction
@@ -44,11 +49,41 @@ public class LookupMergeTreeCompactRewriter extends ChangelogMergeTreeRewriter {
             KeyValueFileReaderFactory readerFactory,
             KeyValueFileWriterFactory writerFactory,
             Comparator<InternalRow> keyComparator,
-            MergeFunctionFactory<KeyValue> mfFactory) {
-        super(readerFactory, writerFactory, keyComparator, mfFactory);
+            MergeFunctionFactory<KeyValue> mfFactory,
+            SortEngine sortEngine) {
+        super(readerFactory, writerFactory, keyComparator, mfFactory, sortEngine);
         this.lookupLevels = lookupLevels;
     }
 
+    @Override
+    public CompactResult rewrite(
+            int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) throws Exception {
+        return persistLookupFiles(super.rewrite(outputLevel, dropDelete, sections));
+    }
+
+    @Override
+    public CompactResult upgrade(int outputLevel, DataFileMeta file) throws Exception {
+        return persistLookupFiles(super.upgrade(outputLevel, file));
+    }
+
+    private CompactResult persistLookupFiles(CompactResult result) throws IOException {
+        if (!lookupLevels.persistLookupFileEnabled()) {
+            return result;
+        }
+
+        Set<String> beforeFiles =
+                result.before().stream().map(DataFileMeta::fileName).collect(Collectors.toSet());
+        List<DataFileMeta> after = new ArrayList<>();
+        for (DataFileMeta file : result.after()) {
+            // level 0 files are never looked up, and upgraded files are not new files
+            if (file.level() > 0 && !beforeFiles.contains(file.fileName())) {
+                file = lookupLevels.persistLookupFile(file);
+            }
+            after.add(file);
+        }
+        return new CompactResult(result.before(), after, result.changelog());
+    }
+
     @Override
     protected boolean rewriteChangelog(
             int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) {
@@ -22,6 +22,7 @@ import org.apache.paimon.KeyValueFileStore;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.compact.CompactFutureManager;
 import org.apache.paimon.compact.CompactResult;
+import org.apache.paimon.compact.CompactTask;
 import org.apache.paimon.compact.CompactUnit;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.io.DataFileMeta;
@@ -31,6 +32,8 @@ import org.apache.paimon.utils.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.Comparator;
 import java.util.List;
@@ -51,6 +54,8 @@ public class MergeTreeCompactManager extends CompactFutureManager {
     private final long minFileSize;
     private final int numSortedRunStopTrigger;
     private final CompactRewriter rewriter;
+    @Nullable private final ExecutorService sectionExecutor;
+    private final int sectionParallelism;
 
     public MergeTreeCompactManager(
             ExecutorService executor,
@@ -60,6 +65,28 @@ public class MergeTreeCompactManager extends CompactFutureManager {
             long minFileSize,
             int numSortedRunStopTrigger,
             CompactRewriter rewriter) {
+        this(
+                executor,
+                levels,
+                strategy,
+                keyComparator,
+                minFileSize,
+                numSortedRunStopTrigger,
+                rewriter,
+                null,
+                1);
+    }
+
+    public MergeTreeCompactManager(
+            ExecutorService executor,
+            Levels levels,
+            CompactStrategy strategy,
+            Comparator<InternalRow> keyComparator,
+            long minFileSize,
+            int numSortedRunStopTrigger,
+            CompactRewriter rewriter,
+            @Nullable ExecutorService sectionExecutor,
+            int sectionParallelism) {
         this.executor = executor;
         this.levels = levels;
         this.strategy = strategy;
@@ -67,6 +94,8 @@ public class MergeTreeCompactManager extends CompactFutureManager {
         this.numSortedRunStopTrigger = numSortedRunStopTrigger;
         this.keyComparator = keyComparator;
         this.rewriter = rewriter;
+        this.sectionExecutor = sectionExecutor;
+        this.sectionParallelism = sectionParallelism;
     }
 
     @Override
@@ -147,14 +176,31 @@ public class MergeTreeCompactManager extends CompactFutureManager {
                 });
     }
 
+    /**
+     * Number of sorted runs relative to the stop trigger in percent. Writes are stopped when it
+     * exceeds 100, so buckets with higher urgency are compacted first.
+     */
+    private int urgency() {
+        return (int)
+                ((long) levels.numberOfSortedRuns() * 100 / Math.max(1, numSortedRunStopTrigger));
+    }
+
     @VisibleForTesting
     public Levels levels() {
         return levels;
     }
 
     private void submitCompaction(CompactUnit unit, boolean dropDelete) {
-        MergeTreeCompactTask task =
-                new MergeTreeCompactTask(keyComparator, minFileSize, rewriter, unit, dropDelete);
+        CompactTask task =
+                new MergeTreeCompactTask(
+                                keyComparator,
+                                minFileSize,
+                                rewriter,
+                                unit,
+                                dropDelete,
+                                sectionExecutor,
+                                sectionParallelism)
+                        .withPriority(urgency());
         if (LOG.isDebugEnabled()) {
             LOG.debug(
                     "Pick these files (name, level, size) for compaction: {}",
@@ -25,13 +25,25 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.mergetree.SortedRun;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import static java.util.Collections.singletonList;
 
-/** Compact task for merge tree compaction. */
+/**
+ * Compact task for merge tree compaction.
+ *
+ * <p>Sections are key-disjoint, so when a section executor is given, the sections to rewrite are
+ * split into key-ordered chunks which are rewritten concurrently. Results are merged in chunk
+ * order, so output files stay ordered by keys. The rewriter must be safe to use by multiple threads
+ * then. If a chunk fails, the files written by the other chunks are deleted.
+ */
 public class MergeTreeCompactTask extends CompactTask {
 
     private final long minFileSize;
@@ -42,6 +54,9 @@ public class MergeTreeCompactTask extends CompactTask {
 
     private final boolean dropDelete;
 
+    @Nullable private final ExecutorService sectionExecutor;
+    private final int sectionParallelism;
+
     // metric
     private int upgradeFilesNum;
 
@@ -51,12 +66,25 @@ public class MergeTreeCompactTask extends CompactTask {
             CompactRewriter rewriter,
             CompactUnit unit,
             boolean dropDelete) {
+        this(keyComparator, minFileSize, rewriter, unit, dropDelete, null, 1);
+    }
+
+    public MergeTreeCompactTask(
+            Comparator<InternalRow> keyComparator,
+            long minFileSize,
+            CompactRewriter rewriter,
+            CompactUnit unit,
+            boolean dropDelete,
+            @Nullable ExecutorService sectionExecutor,
+            int sectionParallelism) {
         super(unit.files());
         this.minFileSize = minFileSize;
         this.rewriter = rewriter;
         this.outputLevel = unit.outputLevel();
         this.partitioned = new IntervalPartition(unit.files(), keyComparator).partition();
         this.dropDelete = dropDelete;
+        this.sectionExecutor = sectionExecutor;
+        this.sectionParallelism = sectionParallelism;
 
         this.upgradeFilesNum = 0;
     }
@@ -126,8 +154,95 @@ public class MergeTreeCompactTask extends CompactTask {
                 return;
             }
         }
-        CompactResult rewriteResult = rewriter.rewrite(outputLevel, dropDelete, candidate);
-        toUpdate.merge(rewriteResult);
+        if (sectionExecutor == null || sectionParallelism <= 1 || candidate.size() == 1) {
+            toUpdate.merge(rewriter.rewrite(outputLevel, dropDelete, candidate));
+        } else {
+            rewriteInParallel(splitSections(candidate), toUpdate);
+        }
         candidate.clear();
     }
+
+    private void rewriteInParallel(List<List<List<SortedRun>>> chunks, CompactResult toUpdate)
+            throws Exception {
+        List<Future<CompactResult>> futures = new ArrayList<>();
+        for (int i = 1; i < chunks.size(); i++) {
+            List<List<SortedRun>> chunk = chunks.get(i);
+            futures.add(
+                    sectionExecutor.submit(() -> rewriter.rewrite(outputLevel, dropDelete, chunk)));
+        }
+
+        // the first chunk is rewritten by the current thread, results are merged in key order
+        List<CompactResult> results = new ArrayList<>();
+        Exception exception = null;
+        try {
+            results.add(rewriter.rewrite(outputLevel, dropDelete, chunks.get(0)));
+        } catch (Exception e) {
+            exception = e;
+        }
+        // wait for all chunks, so that no chunk writes files after a failure is cleaned up
+        for (Future<CompactResult> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                Exception current = cause instanceof Exception ? (Exception) cause : e;
+                if (exception == null) {
+                    exception = current;
+                } else {
+                    exception.addSuppressed(current);
+                }
+            }
+        }
+        if (exception != null) {
+            for (CompactResult result : results) {
+                try {
+                    rewriter.abort(result);
+                } catch (Exception e) {
+                    exception.addSuppressed(e);
+                }
+            }
+            throw exception;
+        }
+
+        for (CompactResult result : results) {
+            toUpdate.merge(result);
+        }
+    }
+
+    /**
+     * Splits key-ordered sections into at most {@link #sectionParallelism} chunks of similar size.
+     */
+    private List<List<List<SortedRun>>> splitSections(List<List<SortedRun>> sections) {
+        long totalSize = 0;
+        for (List<SortedRun> section : sections) {
+            totalSize += sectionSize(section);
+        }
+        // do not produce chunks which are smaller than files to rewrite
+        long chunkSize = Math.max(minFileSize, totalSize / sectionParallelism);
+
+        List<List<List<SortedRun>>> chunks = new ArrayList<>();
+        List<List<SortedRun>> chunk = new ArrayList<>();
+        long size = 0;
+        for (List<SortedRun> section : sections) {
+            chunk.add(section);
+            size += sectionSize(section);
+            if (size >= chunkSize && chunks.size() < sectionParallelism - 1) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                size = 0;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private static long sectionSize(List<SortedRun> section) {
+        long size = 0;
+        for (SortedRun run : section) {
+            size += run.totalSize();
+        }
+        return size;
+    }
 }
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.utils.Preconditions;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@link SortMergeReader} implemented with a tournament tree.
+ *
+ * <p>Each internal node of the tree stores the winner (the smallest element) of its subtree, and
+ * whether the winners of its two children have the same key. Replacing the element of a reader only
+ * replays the path from its leaf to the root, costing one comparison per level, while a min-heap
+ * needs about two comparisons per level to poll and then some more to offer. Elements with the same
+ * key as the overall winner are found by following the same-key flags down from the root, so no
+ * comparison is needed to find them.
+ */
+public class SortMergeReaderWithTournamentTree<T> implements SortMergeReader<T> {
+
+    private final List<RecordReader<KeyValue>> readers;
+    private final Comparator<InternalRow> userKeyComparator;
+    private final MergeFunctionWrapper<T> mergeFunctionWrapper;
+
+    /** Current element of each reader, null if the reader has no element in current batch. */
+    private final Element[] elements;
+
+    /** Number of leaves, the leaf of reader i is node {@code capacity + i}. */
+    private final int capacity;
+
+    /** Index of the winning reader of each node, -1 if there is no element in the subtree. */
+    private final int[] tree;
+
+    /** Whether the winners of the two children of each internal node have the same key. */
+    private final boolean[] sameKey;
+
+    private final int[] nextBatchReaders;
+    private int numNextBatchReaders;
+
+    private final int[] polled;
+    private int numPolled;
+
+    public SortMergeReaderWithTournamentTree(
+            List<RecordReader<KeyValue>> readers,
+            Comparator<InternalRow> userKeyComparator,
+            MergeFunctionWrapper<T> mergeFunctionWrapper) {
+        this.readers = new ArrayList<>(readers);
+        this.userKeyComparator = userKeyComparator;
+        this.mergeFunctionWrapper = mergeFunctionWrapper;
+
+        int numReaders = readers.size();
+        this.elements = new Element[numReaders];
+        this.capacity = Integer.highestOneBit(Math.max(1, numReaders - 1)) << 1;
+        this.tree = new int[2 * capacity];
+        Arrays.fill(tree, -1);
+        this.sameKey = new boolean[capacity];
+
+        this.nextBatchReaders = new int[numReaders];
+        for (int i = 0; i < numReaders; i++) {
+            nextBatchReaders[i] = i;
+        }
+        this.numNextBatchReaders = numReaders;
+        this.polled = new int[numReaders];
+        this.numPolled = 0;
+    }
+
+    @Nullable
+    @Override
+    public RecordIterator<T> readBatch() throws IOException {
+        for (int i = 0; i < numNextBatchReaders; i++) {
+            int index = nextBatchReaders[i];
+            RecordReader<KeyValue> reader = readers.get(index);
+            while (true) {
+                RecordIterator<KeyValue> iterator = reader.readBatch();
+                if (iterator == null) {
+                    // no more batches, permanently remove this reader
+                    reader.close();
+                    break;
+                }
+                KeyValue kv = iterator.next();
+                if (kv == null) {
+                    // empty iterator, clean up and try next batch
+                    iterator.releaseBatch();
+                } else {
+                    // found next kv
+                    elements[index] = new Element(kv, iterator);
+                    adjust(index);
+                    break;
+                }
+            }
+        }
+        numNextBatchReaders = 0;
+
+        return tree[1] < 0 ? null : new SortMergeIterator();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (int i = 0; i < numNextBatchReaders; i++) {
+            readers.get(nextBatchReaders[i]).close();
+        }
+        for (int i = 0; i < elements.length; i++) {
+            if (elements[i] != null) {
+                elements[i].iterator.releaseBatch();
+                readers.get(i).close();
+            }
+        }
+    }
+
+    /** Replays the path from the leaf of the given reader to the root. */
+    private void adjust(int index) {
+        int node = capacity + index;
+        tree[node] = elements[index] == null ? -1 : index;
+        for (node >>>= 1; node > 0; node >>>= 1) {
+            tree[node] = compete(node, tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    private int compete(int node, int left, int right) {
+        if (left < 0 || right < 0) {
+            sameKey[node] = false;
+            return left < 0 ? right : left;
+        }
+
+        KeyValue leftKv = elements[left].kv;
+        KeyValue rightKv = elements[right].kv;
+        int result = userKeyComparator.compare(leftKv.key(), rightKv.key());
+        sameKey[node] = result == 0;
+        if (result == 0) {
+            result = Long.compare(leftKv.sequenceNumber(), rightKv.sequenceNumber());
+        }
+        return result <= 0 ? left : right;
+    }
+
+    /** Collects the readers whose elements have the same key as the winner of the node. */
+    private void collectSameKey(int node) {
+        if (node >= capacity) {
+            polled[numPolled++] = node - capacity;
+            return;
+        }
+
+        int winner = tree[node];
+        int left = 2 * node;
+        if (tree[left] == winner || sameKey[node]) {
+            collectSameKey(left);
+        }
+        if (tree[left + 1] == winner || sameKey[node]) {
+            collectSameKey(left + 1);
+        }
+    }
+
+    /** Sorts polled readers by sequence number, there are only a few readers with the same key. */
+    private void sortPolled() {
+        for (int i = 1; i < numPolled; i++) {
+            int index = polled[i];
+            long sequenceNumber = elements[index].kv.sequenceNumber();
+            int j = i - 1;
+            while (j >= 0 && elements[polled[j]].kv.sequenceNumber() > sequenceNumber) {
+                polled[j + 1] = polled[j];
+                j--;
+            }
+            polled[j + 1] = index;
+        }
+    }
+
+    /** The iterator iterates on {@link SortMergeReaderWithTournamentTree}. */
+    private class SortMergeIterator implements RecordIterator<T> {
+
+        private boolean released = false;
+
+        @Override
+        public T next() throws IOException {
+            while (true) {
+                boolean hasMore = nextImpl();
+                if (!hasMore) {
+                    return null;
+                }
+                T result = mergeFunctionWrapper.getResult();
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+
+        private boolean nextImpl() throws IOException {
+            Preconditions.checkState(
+                    !released, "SortMergeIterator#advanceNext is called after release");
+            Preconditions.checkState(
+                    numNextBatchReaders == 0,
+                    "SortMergeIterator#advanceNext is called even if the last call returns null. "
+                            + "This is a bug.");
+
+            // previously polled elements can only be advanced now, because kvs may be reused
+            for (int i = 0; i < numPolled; i++) {
+                int index = polled[i];
+                Element element = elements[index];
+                if (!element.update()) {
+                    // reach end of batch, clean up
+                    element.iterator.releaseBatch();
+                    elements[index] = null;
+                    nextBatchReaders[numNextBatchReaders++] = index;
+                }
+                adjust(index);
+            }
+            numPolled = 0;
+
+            // there are readers reaching end of batch, so we end current batch
+            if (numNextBatchReaders > 0) {
+                return false;
+            }
+
+            Preconditions.checkState(tree[1] >= 0, "Tournament tree is empty. This is a bug.");
+
+            // fetch all elements with the same key
+            // note that the same iterator should not produce the same keys, so this code is correct
+            collectSameKey(1);
+            sortPolled();
+            mergeFunctionWrapper.reset();
+            for (int i = 0; i < numPolled; i++) {
+                mergeFunctionWrapper.add(elements[polled[i]].kv);
+            }
+            return true;
+        }
+
+        @Override
+        public void releaseBatch() {
+            released = true;
+        }
+    }
+
+    private static class Element {
+        private KeyValue kv;
+        private final RecordIterator<KeyValue> iterator;
+
+        private Element(KeyValue kv, RecordIterator<KeyValue> iterator) {
+            this.kv = kv;
+            this.iterator = iterator;
+        }
+
+        private boolean update() throws IOException {
+            KeyValue nextKv = iterator.next();
+            if (nextKv == null) {
+                return false;
+            }
+            kv = nextKv;
+            return true;
+        }
+    }
+}
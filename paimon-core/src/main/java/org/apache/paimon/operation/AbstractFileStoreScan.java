@@ -72,6 +72,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     private Integer specifiedBucket = null;
     private List<ManifestFileMeta> specifiedManifests = null;
     private ScanKind scanKind = ScanKind.ALL;
+    private Filter<Integer> bucketFilter = null;
     private Filter<Integer> levelFilter = null;
 
     public AbstractFileStoreScan(
@@ -141,6 +142,12 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         return this;
     }
 
+    @Override
+    public FileStoreScan withBucketFilter(Filter<Integer> bucketFilter) {
+        this.bucketFilter = bucketFilter;
+        return this;
+    }
+
     @Override
     public FileStoreScan withSnapshot(long snapshotId) {
         this.specifiedSnapshotId = snapshotId;
@@ -291,10 +298,11 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
     /** Note: Keep this thread-safe. */
     private boolean filterManifestFileMeta(ManifestFileMeta manifest) {
-        return partitionFilter == null
-                || partitionFilter.test(
-                        manifest.numAddedFiles() + manifest.numDeletedFiles(),
-                        manifest.partitionStats().fields(partitionStatsConverter));
+        return (partitionFilter == null
+                        || partitionFilter.test(
+                                manifest.numAddedFiles() + manifest.numDeletedFiles(),
+                                manifest.partitionStats().fields(partitionStatsConverter)))
+                && filterManifestByStats(manifest);
     }
 
     /** Note: Keep this thread-safe. */
@@ -310,7 +318,8 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
     /** Note: Keep this thread-safe. */
     private boolean filterByBucket(ManifestEntry entry) {
-        return (specifiedBucket == null || entry.bucket() == specifiedBucket);
+        return (specifiedBucket == null || entry.bucket() == specifiedBucket)
+                && (bucketFilter == null || bucketFilter.test(entry.bucket()));
     }
 
     /** Note: Keep this thread-safe. */
@@ -327,6 +336,15 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     /** Note: Keep this thread-safe. */
     protected abstract boolean filterByStats(ManifestEntry entry);
 
+    /**
+     * Filters a manifest file by the aggregated stats of its data files. A manifest file may only
+     * be skipped if none of its entries, including deleted ones, passes {@link #filterByStats}, so
+     * that adding and deleting the same data file are always skipped together.
+     *
+     * <p>Note: Keep this thread-safe.
+     */
+    protected abstract boolean filterManifestByStats(ManifestFileMeta manifest);
+
     /** Note: Keep this thread-safe. */
     private List<ManifestEntry> readManifestFileMeta(ManifestFileMeta manifest) {
         return manifestFileFactory.create().read(manifest.fileName());
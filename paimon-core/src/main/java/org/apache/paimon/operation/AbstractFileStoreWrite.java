@@ -20,12 +20,14 @@ package org.apache.paimon.operation;
 
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.compact.CompactExecutor;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.io.DataFileMeta;
-import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
+import org.apache.paimon.utils.BatchRecordWriter;
 import org.apache.paimon.utils.CommitIncrement;
 import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.RecordWriter;
@@ -44,7 +46,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * Base {@link FileStoreWrite} implementation.
@@ -58,20 +59,25 @@ public abstract class AbstractFileStoreWrite<T>
 
     private final String commitUser;
     private final SnapshotManager snapshotManager;
-    private final FileStoreScan scan;
+    private final LiveFileSet liveFiles;
 
     @Nullable protected IOManager ioManager;
 
     protected final Map<BinaryRow, Map<Integer, WriterContainer<T>>> writers;
 
-    private ExecutorService lazyCompactExecutor;
+    private final int compactionThreadNum;
+    private CompactExecutor lazyCompactExecutor;
     private boolean overwrite = false;
 
     protected AbstractFileStoreWrite(
-            String commitUser, SnapshotManager snapshotManager, FileStoreScan scan) {
+            String commitUser,
+            SnapshotManager snapshotManager,
+            FileStoreScan scan,
+            int compactionThreadNum) {
         this.commitUser = commitUser;
         this.snapshotManager = snapshotManager;
-        this.scan = scan;
+        this.liveFiles = new LiveFileSet(snapshotManager, scan);
+        this.compactionThreadNum = compactionThreadNum;
 
         this.writers = new HashMap<>();
     }
@@ -92,6 +98,17 @@ public abstract class AbstractFileStoreWrite<T>
         writer.write(data);
     }
 
+    @Override
+    public boolean writeBatch(BinaryRow partition, int bucket, VectorizedColumnBatch batch)
+            throws Exception {
+        RecordWriter<T> writer = getWriterWrapper(partition, bucket).writer;
+        if (!(writer instanceof BatchRecordWriter)) {
+            return false;
+        }
+        ((BatchRecordWriter) writer).writeBatch(batch);
+        return true;
+    }
+
     @Override
     public void compact(BinaryRow partition, int bucket, boolean fullCompaction) throws Exception {
         getWriterWrapper(partition, bucket).writer.compact(fullCompaction);
@@ -183,6 +200,7 @@ public abstract class AbstractFileStoreWrite<T>
                         }
                         writerContainer.writer.close();
                         bucketIter.remove();
+                        liveFiles.remove(partition, bucket);
                     }
                 } else {
                     writerContainer.lastModifiedCommitIdentifier = commitIdentifier;
@@ -194,6 +212,9 @@ public abstract class AbstractFileStoreWrite<T>
             }
         }
 
+        if (LOG.isDebugEnabled() && lazyCompactExecutor != null) {
+            LOG.debug("Compaction metrics of write task: {}", lazyCompactExecutor);
+        }
         return result;
     }
 
@@ -205,6 +226,7 @@ public abstract class AbstractFileStoreWrite<T>
             }
         }
         writers.clear();
+        liveFiles.clear();
         if (lazyCompactExecutor != null) {
             lazyCompactExecutor.shutdownNow();
         }
@@ -314,21 +336,16 @@ public abstract class AbstractFileStoreWrite<T>
 
     private List<DataFileMeta> scanExistingFileMetas(
             Long snapshotId, BinaryRow partition, int bucket) {
-        List<DataFileMeta> existingFileMetas = new ArrayList<>();
-        if (snapshotId != null) {
-            // Concat all the DataFileMeta of existing files into existingFileMetas.
-            scan.withSnapshot(snapshotId).withPartitionFilter(Collections.singletonList(partition))
-                    .withBucket(bucket).plan().files().stream()
-                    .map(ManifestEntry::file)
-                    .forEach(existingFileMetas::add);
-        }
-        return existingFileMetas;
+        // files of the bucket are planned once and then updated incrementally by snapshot deltas
+        // until its writer is closed
+        return new ArrayList<>(liveFiles.files(snapshotId, partition, bucket));
     }
 
     private ExecutorService compactExecutor() {
         if (lazyCompactExecutor == null) {
             lazyCompactExecutor =
-                    Executors.newSingleThreadScheduledExecutor(
+                    new CompactExecutor(
+                            compactionThreadNum,
                             new ExecutorThreadFactory(
                                     Thread.currentThread().getName() + "-compaction"));
         }
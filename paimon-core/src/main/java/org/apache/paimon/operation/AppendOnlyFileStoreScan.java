@@ -19,11 +19,14 @@
 package org.apache.paimon.operation;
 
 import org.apache.paimon.AppendOnlyFileStore;
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFile;
+import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.stats.FieldStatsConverters;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.SnapshotManager;
@@ -65,7 +68,14 @@ public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
                 checkNumOfBuckets);
         this.rowType = rowType;
         this.fieldStatsConverters =
-                new FieldStatsConverters(sid -> scanTableSchema(sid).fields(), schemaId);
+                new FieldStatsConverters(
+                        sid -> scanTableSchema(sid).fields(),
+                        sid -> {
+                            TableSchema schema = scanTableSchema(sid);
+                            return new CoreOptions(schema.options())
+                                    .statsModes(schema.fieldNames());
+                        },
+                        schemaId);
     }
 
     public AppendOnlyFileStoreScan withFilter(Predicate predicate) {
@@ -94,4 +104,20 @@ public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
                                         fieldStatsConverters.getOrCreate(entry.file().schemaId()),
                                         entry.file().rowCount()));
     }
+
+    /** Note: Keep this thread-safe. */
+    @Override
+    protected boolean filterManifestByStats(ManifestFileMeta manifest) {
+        if (filter == null || manifest.valueStats() == null) {
+            return true;
+        }
+
+        // null counts are not aggregated, the row count only marks fields added after the
+        // manifest file was written as all nulls, so any positive count works
+        long rowCount = manifest.numAddedFiles() + manifest.numDeletedFiles();
+        return filter.test(
+                rowCount,
+                manifest.valueStats()
+                        .fields(fieldStatsConverters.getOrCreate(manifest.schemaId()), rowCount));
+    }
 }
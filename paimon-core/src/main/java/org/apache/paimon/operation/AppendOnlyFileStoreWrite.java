@@ -26,6 +26,7 @@ import org.apache.paimon.compact.CompactManager;
 import org.apache.paimon.compact.NoopCompactManager;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.format.FieldStatsMode;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.io.DataFileMeta;
@@ -63,6 +64,7 @@ public class AppendOnlyFileStoreWrite extends AbstractFileStoreWrite<InternalRow
     private final int compactionMaxFileNum;
     private final boolean commitForceCompact;
     private final boolean skipCompaction;
+    private final FieldStatsMode[] statsModes;
 
     public AppendOnlyFileStoreWrite(
             FileIO fileIO,
@@ -74,7 +76,7 @@ public class AppendOnlyFileStoreWrite extends AbstractFileStoreWrite<InternalRow
             SnapshotManager snapshotManager,
             FileStoreScan scan,
             CoreOptions options) {
-        super(commitUser, snapshotManager, scan);
+        super(commitUser, snapshotManager, scan, options.compactionThreadNum());
         this.fileIO = fileIO;
         this.read = read;
         this.schemaId = schemaId;
@@ -86,6 +88,7 @@ public class AppendOnlyFileStoreWrite extends AbstractFileStoreWrite<InternalRow
         this.compactionMaxFileNum = options.compactionMaxFileNum();
         this.commitForceCompact = options.commitForceCompact();
         this.skipCompaction = options.writeOnly();
+        this.statsModes = options.statsModes(rowType.getFieldNames());
     }
 
     @Override
@@ -121,7 +124,8 @@ public class AppendOnlyFileStoreWrite extends AbstractFileStoreWrite<InternalRow
                 compactManager,
                 commitForceCompact,
                 factory,
-                restoreIncrement);
+                restoreIncrement,
+                statsModes);
     }
 
     private AppendOnlyCompactManager.CompactRewriter compactRewriter(
@@ -138,7 +142,8 @@ public class AppendOnlyFileStoreWrite extends AbstractFileStoreWrite<InternalRow
                             targetFileSize,
                             rowType,
                             pathFactory.createDataFilePathFactory(partition, bucket),
-                            new LongCounter(toCompact.get(0).minSequenceNumber()));
+                            new LongCounter(toCompact.get(0).minSequenceNumber()),
+                            statsModes);
             rewriter.write(
                     new RecordReaderIterator<>(
                             read.createReader(
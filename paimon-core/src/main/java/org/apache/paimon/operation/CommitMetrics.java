@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+/**
+ * Time spent in each phase of a commit of {@link FileStoreCommitImpl}, summed over all snapshots
+ * and retries of the commit.
+ */
+public class CommitMetrics {
+
+    private long readMillis;
+    private long conflictCheckMillis;
+    private long writeMillis;
+    private long commitMillis;
+    private int retries;
+
+    void addReadMillis(long millis) {
+        readMillis += millis;
+    }
+
+    void addConflictCheckMillis(long millis) {
+        conflictCheckMillis += millis;
+    }
+
+    void addWriteMillis(long millis) {
+        writeMillis += millis;
+    }
+
+    void addCommitMillis(long millis) {
+        commitMillis += millis;
+    }
+
+    void increaseRetries() {
+        retries++;
+    }
+
+    /** Time spent reading snapshots, manifest lists and manifest entries. */
+    public long readMillis() {
+        return readMillis;
+    }
+
+    /** Time spent checking file deletion and LSM conflicts, excluding reading base entries. */
+    public long conflictCheckMillis() {
+        return conflictCheckMillis;
+    }
+
+    /** Time spent merging and writing manifest files and manifest lists. */
+    public long writeMillis() {
+        return writeMillis;
+    }
+
+    /** Time spent writing the snapshot file, by atomic rename or under the external lock. */
+    public long commitMillis() {
+        return commitMillis;
+    }
+
+    /**
+     * Number of snapshot commits retried because of concurrent commits. A commit of both appended
+     * and compacted files commits two snapshots without any retry.
+     */
+    public int retries() {
+        return retries;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "CommitMetrics{readMillis=%d, conflictCheckMillis=%d, writeMillis=%d, "
+                        + "commitMillis=%d, retries=%d}",
+                readMillis, conflictCheckMillis, writeMillis, commitMillis, retries);
+    }
+}
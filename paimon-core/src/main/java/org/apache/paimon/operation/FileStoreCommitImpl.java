@@ -37,7 +37,9 @@ import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.ExceptionUtils;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.FileUtils;
 import org.apache.paimon.utils.RowDataToObjectArrayConverter;
 import org.apache.paimon.utils.SnapshotManager;
 import org.slf4j.Logger;
@@ -52,12 +54,17 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 /**
@@ -76,6 +83,14 @@ import java.util.stream.Collectors;
  *   <li>If atomic rename fails it tries again after reading the latest snapshot from step 2.
  * </ol>
  *
+ * <p>Manifest files are merged and written, and LSM conflicts of different levels are checked, by a
+ * bounded {@link ForkJoinPool}. The time spent in each phase of the last commit can be obtained
+ * from {@link #lastCommitMetrics()}.
+ *
+ * <p>If a {@link LiveFileSet} is maintained, conflicts are only checked against the live files of
+ * the buckets touched by the commit, which are kept up to date by reading the snapshots committed
+ * since the last check, instead of reading all files of the touched partitions for each commit.
+ *
  * <p>NOTE: If you want to modify this class, any exception during commit MUST NOT BE IGNORED. They
  * must be thrown to restart the job. It is recommended to run FileStoreCommitTest thousands of
  * times to make sure that your changes is correct.
@@ -98,9 +113,12 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     private final MemorySize manifestTargetSize;
     private final int manifestMergeMinCount;
     @Nullable private final Comparator<InternalRow> keyComparator;
+    private final ForkJoinPool commitPool;
+    @Nullable private final LiveFileSet liveFiles;
 
     @Nullable private Lock lock;
     private boolean ignoreEmptyCommit;
+    private CommitMetrics metrics;
 
     public FileStoreCommitImpl(
             FileIO fileIO,
@@ -116,6 +134,40 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             MemorySize manifestTargetSize,
             int manifestMergeMinCount,
             @Nullable Comparator<InternalRow> keyComparator) {
+        this(
+                fileIO,
+                schemaManager,
+                commitUser,
+                partitionType,
+                pathFactory,
+                snapshotManager,
+                manifestFileFactory,
+                manifestListFactory,
+                scan,
+                numBucket,
+                manifestTargetSize,
+                manifestMergeMinCount,
+                keyComparator,
+                null,
+                null);
+    }
+
+    public FileStoreCommitImpl(
+            FileIO fileIO,
+            SchemaManager schemaManager,
+            String commitUser,
+            RowType partitionType,
+            FileStorePathFactory pathFactory,
+            SnapshotManager snapshotManager,
+            ManifestFile.Factory manifestFileFactory,
+            ManifestList.Factory manifestListFactory,
+            FileStoreScan scan,
+            int numBucket,
+            MemorySize manifestTargetSize,
+            int manifestMergeMinCount,
+            @Nullable Comparator<InternalRow> keyComparator,
+            @Nullable Integer commitThreadNum,
+            @Nullable FileStoreScan liveFileScan) {
         this.fileIO = fileIO;
         this.schemaManager = schemaManager;
         this.commitUser = commitUser;
@@ -130,9 +182,20 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         this.manifestTargetSize = manifestTargetSize;
         this.manifestMergeMinCount = manifestMergeMinCount;
         this.keyComparator = keyComparator;
+        // a commit is never closed, and a process may run commits of many tables and jobs, so
+        // commits share pools instead of each leaking its own threads
+        this.commitPool =
+                commitThreadNum == null
+                        ? FileUtils.COMMON_IO_FORK_JOIN_POOL
+                        : FileUtils.ioForkJoinPool(commitThreadNum);
+
+        // the scan of live files must not be shared, see LiveFileSet
+        this.liveFiles =
+                liveFileScan == null ? null : new LiveFileSet(snapshotManager, liveFileScan);
 
         this.lock = null;
         this.ignoreEmptyCommit = true;
+        this.metrics = new CommitMetrics();
     }
 
     @Override
@@ -147,6 +210,11 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         return this;
     }
 
+    /** Time spent in each phase of the last call of {@link #commit} or {@link #overwrite}. */
+    public CommitMetrics lastCommitMetrics() {
+        return metrics;
+    }
+
     @Override
     public Set<Long> filterCommitted(Set<Long> commitIdentifiers) {
         // nothing to filter, fast exit
@@ -175,6 +243,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Ready to commit\n" + committable.toString());
         }
+        metrics = new CommitMetrics();
 
         Long safeLatestSnapshotId = null;
         List<ManifestEntry> baseEntries = new ArrayList<>();
@@ -202,8 +271,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 // it is possible that some partitions only have compact changes,
                 // so we need to contain all changes
                 baseEntries.addAll(
-                        readAllEntriesFromChangedPartitions(
-                                latestSnapshotId, appendTableFiles, compactTableFiles));
+                        readBaseEntries(latestSnapshotId, appendTableFiles, compactTableFiles));
                 noConflictsOrFail(baseEntries, appendTableFiles);
                 safeLatestSnapshotId = latestSnapshotId;
             }
@@ -241,6 +309,20 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                     Snapshot.CommitKind.COMPACT,
                     safeLatestSnapshotId);
         }
+
+        if (liveFiles != null) {
+            // only keep tracking partitions which are likely to be committed again
+            liveFiles.retainAll(
+                    changedPartitions(
+                            appendTableFiles,
+                            appendChangelog,
+                            compactTableFiles,
+                            compactChangelog));
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Finished commit {}: {}", committable.identifier(), metrics);
+        }
     }
 
     @Override
@@ -257,6 +339,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             + "\n"
                             + committable.toString());
         }
+        metrics = new CommitMetrics();
 
         List<ManifestEntry> appendTableFiles = new ArrayList<>();
         List<ManifestEntry> appendChangelog = new ArrayList<>();
@@ -333,6 +416,10 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                     Snapshot.CommitKind.COMPACT,
                     null);
         }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Finished overwrite {}: {}", committable.identifier(), metrics);
+        }
     }
 
     private void collectChanges(
@@ -395,6 +482,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                     safeLatestSnapshotId)) {
                 break;
             }
+            metrics.increaseRetries();
         }
     }
 
@@ -409,11 +497,13 @@ public class FileStoreCommitImpl implements FileStoreCommit {
 
             List<ManifestEntry> changesWithOverwrite = new ArrayList<>();
             if (latestSnapshotId != null) {
+                long startMillis = System.currentTimeMillis();
                 List<ManifestEntry> currentEntries =
                         scan.withSnapshot(latestSnapshotId)
                                 .withPartitionFilter(partitionFilter)
                                 .plan()
                                 .files();
+                metrics.addReadMillis(System.currentTimeMillis() - startMillis);
                 for (ManifestEntry entry : currentEntries) {
                     changesWithOverwrite.add(
                             new ManifestEntry(
@@ -437,6 +527,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                     null)) {
                 break;
             }
+            metrics.increaseRetries();
         }
     }
 
@@ -471,7 +562,9 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 // so we have to check again
                 noConflictsOrFail(latestSnapshotId, tableFiles);
             }
+            long startMillis = System.currentTimeMillis();
             latestSnapshot = snapshotManager.snapshot(latestSnapshotId);
+            metrics.addReadMillis(System.currentTimeMillis() - startMillis);
         }
 
         Snapshot newSnapshot;
@@ -484,6 +577,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         try {
             long previousTotalRecordCount = 0L;
             Long currentWatermark = watermark;
+            long startMillis = System.currentTimeMillis();
             if (latestSnapshot != null) {
                 previousTotalRecordCount = latestSnapshot.totalRecordCount(scan);
                 List<ManifestFileMeta> previousManifests =
@@ -501,26 +595,48 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                                     : Math.max(currentWatermark, latestWatermark);
                 }
             }
-            // merge manifest files with changes
-            newMetas.addAll(
-                    ManifestFileMeta.merge(
-                            oldMetas,
-                            manifestFile,
-                            manifestTargetSize.getBytes(),
-                            manifestMergeMinCount));
-            previousChangesListName = manifestList.write(newMetas);
-
-            // write new changes into manifest files
-            long deltaRecordCount = Snapshot.recordCount(tableFiles);
-            List<ManifestFileMeta> newChangesManifests = manifestFile.write(tableFiles);
+            metrics.addReadMillis(System.currentTimeMillis() - startMillis);
+
+            startMillis = System.currentTimeMillis();
+            // merge manifest files, and write new changes and changelog into manifest files, at
+            // the same time
+            ForkJoinTask<List<ManifestFileMeta>> mergeTask =
+                    commitPool.submit(
+                            () ->
+                                    ManifestFileMeta.merge(
+                                            oldMetas,
+                                            manifestFile,
+                                            manifestTargetSize.getBytes(),
+                                            manifestMergeMinCount,
+                                            commitPool));
+            ForkJoinTask<List<ManifestFileMeta>> changesTask =
+                    commitPool.submit(() -> manifestFile.write(tableFiles));
+            ForkJoinTask<List<ManifestFileMeta>> changelogTask =
+                    changelogFiles.isEmpty()
+                            ? null
+                            : commitPool.submit(() -> manifestFile.write(changelogFiles));
+
+            // wait for all tasks even if one fails, so that all new files can be cleaned up
+            List<ManifestFileMeta> mergedManifests = new ArrayList<>();
+            List<ManifestFileMeta> newChangesManifests = new ArrayList<>();
+            Throwable error = collectManifests(mergeTask, mergedManifests, null);
+            newMetas.addAll(mergedManifests);
+            error = collectManifests(changesTask, newChangesManifests, error);
             newMetas.addAll(newChangesManifests);
-            newChangesListName = manifestList.write(newChangesManifests);
+            if (changelogTask != null) {
+                error = collectManifests(changelogTask, changelogMetas, error);
+            }
+            if (error != null) {
+                throw error;
+            }
 
-            // write changelog into manifest files
+            previousChangesListName = manifestList.write(mergedManifests);
+            long deltaRecordCount = Snapshot.recordCount(tableFiles);
+            newChangesListName = manifestList.write(newChangesManifests);
             if (!changelogFiles.isEmpty()) {
-                changelogMetas.addAll(manifestFile.write(changelogFiles));
                 changelogListName = manifestList.write(changelogMetas);
             }
+            metrics.addWriteMillis(System.currentTimeMillis() - startMillis);
 
             // prepare snapshot file
             newSnapshot =
@@ -561,6 +677,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         }
 
         boolean success;
+        long startMillis = System.currentTimeMillis();
         try {
             Callable<Boolean> callable =
                     () -> {
@@ -598,6 +715,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             identifier,
                             commitKind.name()),
                     e);
+        } finally {
+            metrics.addCommitMillis(System.currentTimeMillis() - startMillis);
         }
 
         if (success) {
@@ -632,30 +751,84 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         return false;
     }
 
+    @Nullable
+    private static Throwable collectManifests(
+            ForkJoinTask<List<ManifestFileMeta>> task,
+            List<ManifestFileMeta> manifests,
+            @Nullable Throwable error) {
+        try {
+            manifests.addAll(task.get());
+        } catch (ExecutionException e) {
+            error = ExceptionUtils.firstOrSuppressed(e.getCause(), error);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = ExceptionUtils.firstOrSuppressed(e, error);
+        }
+        return error;
+    }
+
+    /**
+     * Reads the current files which may conflict with the given changes. These are the live files
+     * of the buckets touched by the changes if a {@link LiveFileSet} is maintained. Otherwise they
+     * are all files of the touched partitions.
+     */
     @SafeVarargs
-    private final List<ManifestEntry> readAllEntriesFromChangedPartitions(
+    private final List<ManifestEntry> readBaseEntries(
             long snapshotId, List<ManifestEntry>... changes) {
-        List<BinaryRow> changedPartitions =
-                Arrays.stream(changes)
-                        .flatMap(Collection::stream)
-                        .map(ManifestEntry::partition)
-                        .distinct()
-                        .collect(Collectors.toList());
+        long startMillis = System.currentTimeMillis();
         try {
-            return scan.withSnapshot(snapshotId)
-                    .withPartitionFilter(changedPartitions)
-                    .plan()
-                    .files();
+            if (liveFiles == null) {
+                return scan.withSnapshot(snapshotId)
+                        .withPartitionFilter(changedPartitions(changes))
+                        .plan()
+                        .files();
+            }
+
+            Map<BinaryRow, Set<Integer>> changedBuckets = new LinkedHashMap<>();
+            for (List<ManifestEntry> entries : changes) {
+                for (ManifestEntry entry : entries) {
+                    changedBuckets
+                            .computeIfAbsent(entry.partition(), p -> new LinkedHashSet<>())
+                            .add(entry.bucket());
+                }
+            }
+            List<ManifestEntry> baseEntries = new ArrayList<>();
+            for (Map.Entry<BinaryRow, Set<Integer>> entry : changedBuckets.entrySet()) {
+                for (int bucket : entry.getValue()) {
+                    baseEntries.addAll(liveFiles.entries(snapshotId, entry.getKey(), bucket));
+                }
+            }
+            return baseEntries;
         } catch (Throwable e) {
             throw new RuntimeException("Cannot read manifest entries from changed partitions.", e);
+        } finally {
+            metrics.addReadMillis(System.currentTimeMillis() - startMillis);
         }
     }
 
+    @SafeVarargs
+    private static List<BinaryRow> changedPartitions(List<ManifestEntry>... changes) {
+        return Arrays.stream(changes)
+                .flatMap(Collection::stream)
+                .map(ManifestEntry::partition)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
     private void noConflictsOrFail(long snapshotId, List<ManifestEntry> changes) {
-        noConflictsOrFail(readAllEntriesFromChangedPartitions(snapshotId, changes), changes);
+        noConflictsOrFail(readBaseEntries(snapshotId, changes), changes);
     }
 
     private void noConflictsOrFail(List<ManifestEntry> baseEntries, List<ManifestEntry> changes) {
+        long startMillis = System.currentTimeMillis();
+        try {
+            checkConflicts(baseEntries, changes);
+        } finally {
+            metrics.addConflictCheckMillis(System.currentTimeMillis() - startMillis);
+        }
+    }
+
+    private void checkConflicts(List<ManifestEntry> baseEntries, List<ManifestEntry> changes) {
         List<ManifestEntry> allEntries = new ArrayList<>(baseEntries);
         allEntries.addAll(changes);
 
@@ -687,23 +860,46 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             }
         }
 
-        // check for all LSM level >= 1, key ranges of files do not intersect
-        for (List<ManifestEntry> entries : levels.values()) {
-            entries.sort((a, b) -> keyComparator.compare(a.file().minKey(), b.file().minKey()));
-            for (int i = 0; i + 1 < entries.size(); i++) {
-                ManifestEntry a = entries.get(i);
-                ManifestEntry b = entries.get(i + 1);
-                if (keyComparator.compare(a.file().maxKey(), b.file().minKey()) >= 0) {
-                    throw createConflictException(
-                            "LSM conflicts detected! Give up committing. Conflict files are:\n"
-                                    + a.identifier().toString(pathFactory)
-                                    + "\n"
-                                    + b.identifier().toString(pathFactory),
-                            baseEntries,
-                            changes);
-                }
+        // check for all LSM level >= 1, key ranges of files do not intersect, levels are checked
+        // concurrently
+        Optional<ManifestEntry[]> conflict;
+        try {
+            conflict =
+                    commitPool
+                            .submit(
+                                    () ->
+                                            levels.values()
+                                                    .parallelStream()
+                                                    .map(this::findLsmConflict)
+                                                    .filter(Objects::nonNull)
+                                                    .findFirst())
+                            .get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Failed to check LSM conflicts concurrently", e);
+        }
+        if (conflict.isPresent()) {
+            throw createConflictException(
+                    "LSM conflicts detected! Give up committing. Conflict files are:\n"
+                            + conflict.get()[0].identifier().toString(pathFactory)
+                            + "\n"
+                            + conflict.get()[1].identifier().toString(pathFactory),
+                    baseEntries,
+                    changes);
+        }
+    }
+
+    /** Returns two files of a level whose key ranges intersect, null if there are none. */
+    @Nullable
+    private ManifestEntry[] findLsmConflict(List<ManifestEntry> entries) {
+        entries.sort((a, b) -> keyComparator.compare(a.file().minKey(), b.file().minKey()));
+        for (int i = 0; i + 1 < entries.size(); i++) {
+            ManifestEntry a = entries.get(i);
+            ManifestEntry b = entries.get(i + 1);
+            if (keyComparator.compare(a.file().maxKey(), b.file().minKey()) >= 0) {
+                return new ManifestEntry[] {a, b};
             }
         }
+        return null;
     }
 
     private RuntimeException createConflictException(
@@ -29,10 +29,13 @@ import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.FileUtils;
 import org.apache.paimon.utils.SnapshotManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -44,6 +47,7 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -59,6 +63,9 @@ public class FileStoreExpireImpl implements FileStoreExpire {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileStoreExpireImpl.class);
 
+    // S3 allows deleting at most 1000 objects in one request
+    private static final int MAX_DELETE_BATCH_SIZE = 1000;
+
     private final FileIO fileIO;
     private final int numRetainedMin;
     // snapshots exceeding any constraint will be expired
@@ -72,6 +79,8 @@ public class FileStoreExpireImpl implements FileStoreExpire {
 
     private Lock lock;
 
+    @Nullable private ExpireMetrics lastMetrics;
+
     public FileStoreExpireImpl(
             FileIO fileIO,
             int numRetainedMin,
@@ -158,15 +167,26 @@ public class FileStoreExpireImpl implements FileStoreExpire {
                     "Snapshot expire range is [" + beginInclusiveId + ", " + endExclusiveId + ")");
         }
 
+        long startMillis = System.currentTimeMillis();
+        ExpireMetrics metrics = new ExpireMetrics();
+
+        // Data and changelog files of the whole range are deleted first, in parallel. Then the
+        // metadata is deleted snapshot by snapshot from the earliest: the manifests and manifest
+        // lists of a snapshot in parallel, then the snapshot file. So only the snapshot being
+        // expired points to missing metadata, and a job killed during expiration only leaves
+        // files which can be cleaned by the next one.
+
         // delete merge tree files
         // deleted merge tree files in a snapshot are not used by the next snapshot, so the range of
         // id should be (beginInclusiveId, endExclusiveId]
+        DeletionCandidates dataFiles = new DeletionCandidates();
         for (long id = beginInclusiveId + 1; id <= endExclusiveId; id++) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Ready to delete merge tree files not used by snapshot #" + id);
             }
             Snapshot snapshot = snapshotManager.snapshot(id);
-            expireMergeTreeFiles(snapshot.deltaManifestList());
+            collectMergeTreeFiles(
+                    getManifestEntriesFromManifestList(snapshot.deltaManifestList()), dataFiles);
         }
 
         // delete changelog files
@@ -176,9 +196,10 @@ public class FileStoreExpireImpl implements FileStoreExpire {
             }
             Snapshot snapshot = snapshotManager.snapshot(id);
             if (snapshot.changelogManifestList() != null) {
-                expireChangelogFiles(snapshot.changelogManifestList());
+                collectChangelogFiles(snapshot.changelogManifestList(), dataFiles);
             }
         }
+        deleteFiles(dataFiles, metrics);
 
         // delete manifests
         Snapshot exclusiveSnapshot = snapshotManager.snapshot(endExclusiveId);
@@ -192,6 +213,7 @@ public class FileStoreExpireImpl implements FileStoreExpire {
             }
 
             Snapshot toExpire = snapshotManager.snapshot(id);
+            DeletionCandidates manifestFiles = new DeletionCandidates();
             // cannot call `toExpire.dataManifests` directly, it is possible that a job is
             // killed during expiration, so some manifest files may have been deleted
             List<ManifestFileMeta> toExpireManifests = new ArrayList<>();
@@ -201,40 +223,61 @@ public class FileStoreExpireImpl implements FileStoreExpire {
             // delete manifest
             for (ManifestFileMeta manifest : toExpireManifests) {
                 if (!manifestsInUse.contains(manifest) && !deletedManifests.contains(manifest)) {
-                    manifestFile.delete(manifest.fileName());
+                    manifestFiles.add(
+                            pathFactory.toManifestFilePath(manifest.fileName()),
+                            manifest.fileSize());
                     deletedManifests.add(manifest);
                 }
             }
             if (toExpire.changelogManifestList() != null) {
                 for (ManifestFileMeta manifest :
                         tryReadManifestList(toExpire.changelogManifestList())) {
-                    manifestFile.delete(manifest.fileName());
+                    manifestFiles.add(
+                            pathFactory.toManifestFilePath(manifest.fileName()),
+                            manifest.fileSize());
                 }
             }
 
             // delete manifest lists
-            manifestList.delete(toExpire.baseManifestList());
-            manifestList.delete(toExpire.deltaManifestList());
+            manifestFiles.add(pathFactory.toManifestListPath(toExpire.baseManifestList()));
+            manifestFiles.add(pathFactory.toManifestListPath(toExpire.deltaManifestList()));
             if (toExpire.changelogManifestList() != null) {
-                manifestList.delete(toExpire.changelogManifestList());
+                manifestFiles.add(pathFactory.toManifestListPath(toExpire.changelogManifestList()));
             }
+            deleteFiles(manifestFiles, metrics);
 
             // delete snapshot
+            // snapshots are deleted one by one from the earliest, the next expiration assumes that
+            // all snapshots preceding a missing one have been removed
             fileIO.deleteQuietly(snapshotManager.snapshotPath(id));
+            metrics.filesDeleted++;
         }
 
         writeEarliestHint(endExclusiveId);
-    }
 
-    private void expireMergeTreeFiles(String manifestListName) {
-        expireMergeTreeFiles(getManifestEntriesFromManifestList(manifestListName));
+        metrics.durationMillis = System.currentTimeMillis() - startMillis;
+        lastMetrics = metrics;
+        LOG.info(
+                "Expired snapshots [{}, {}) in {} ms, deleted {} files and reclaimed {} bytes.",
+                beginInclusiveId,
+                endExclusiveId,
+                metrics.durationMillis,
+                metrics.filesDeleted,
+                metrics.bytesReclaimed);
     }
 
     @VisibleForTesting
     void expireMergeTreeFiles(Iterable<ManifestEntry> dataFileLog) {
+        DeletionCandidates candidates = new DeletionCandidates();
+        collectMergeTreeFiles(dataFileLog, candidates);
+        deleteFiles(candidates, new ExpireMetrics());
+    }
+
+    private void collectMergeTreeFiles(
+            Iterable<ManifestEntry> dataFileLog, DeletionCandidates candidates) {
         // we cannot delete a data file directly when we meet a DELETE entry, because that
         // file might be upgraded
-        Map<Path, List<Path>> dataFileToDelete = new HashMap<>();
+        Map<Path, ManifestEntry> dataFileToDelete = new HashMap<>();
         for (ManifestEntry entry : dataFileLog) {
             Path bucketPath = pathFactory.bucketPath(entry.partition(), entry.bucket());
             Path dataFilePath = new Path(bucketPath, entry.file().fileName());
@@ -243,11 +286,7 @@ public class FileStoreExpireImpl implements FileStoreExpire {
                     dataFileToDelete.remove(dataFilePath);
                     break;
                 case DELETE:
-                    List<Path> extraFiles = new ArrayList<>(entry.file().extraFiles().size());
-                    for (String file : entry.file().extraFiles()) {
-                        extraFiles.add(new Path(bucketPath, file));
-                    }
-                    dataFileToDelete.put(dataFilePath, extraFiles);
+                    dataFileToDelete.put(dataFilePath, entry);
                     break;
                 default:
                     throw new UnsupportedOperationException(
@@ -255,20 +294,61 @@ public class FileStoreExpireImpl implements FileStoreExpire {
             }
         }
         dataFileToDelete.forEach(
-                (path, extraFiles) -> {
-                    fileIO.deleteQuietly(path);
-                    extraFiles.forEach(fileIO::deleteQuietly);
+                (path, entry) -> {
+                    candidates.add(path, entry.file().fileSize());
+                    Path bucketPath = path.getParent();
+                    for (String file : entry.file().extraFiles()) {
+                        candidates.add(new Path(bucketPath, file));
+                    }
                 });
     }
 
-    private void expireChangelogFiles(String manifestListName) {
+    private void collectChangelogFiles(String manifestListName, DeletionCandidates candidates) {
         for (ManifestEntry changelogEntry : getManifestEntriesFromManifestList(manifestListName)) {
-            fileIO.deleteQuietly(
+            candidates.add(
                     new Path(
                             pathFactory.bucketPath(
                                     changelogEntry.partition(), changelogEntry.bucket()),
-                            changelogEntry.file().fileName()));
+                            changelogEntry.file().fileName()),
+                    changelogEntry.file().fileSize());
+        }
+    }
+
+    /**
+     * Deletes the candidates in parallel. Candidates are split into batches, so that file systems
+     * supporting bulk deletion can delete a whole batch in one request.
+     */
+    private void deleteFiles(DeletionCandidates candidates, ExpireMetrics metrics) {
+        List<Path> files = candidates.files;
+        if (files.isEmpty()) {
+            return;
+        }
+
+        int parallelism = FileUtils.COMMON_IO_FORK_JOIN_POOL.getParallelism();
+        int batchSize =
+                Math.max(1, Math.min(MAX_DELETE_BATCH_SIZE, ceilDiv(files.size(), parallelism)));
+        List<List<Path>> batches = new ArrayList<>();
+        for (int i = 0; i < files.size(); i += batchSize) {
+            batches.add(files.subList(i, Math.min(i + batchSize, files.size())));
+        }
+
+        try {
+            FileUtils.COMMON_IO_FORK_JOIN_POOL
+                    .submit(() -> batches.parallelStream().forEach(fileIO::deleteFilesQuietly))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while deleting expired files", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to delete expired files concurrently", e);
         }
+
+        metrics.filesDeleted += files.size();
+        metrics.bytesReclaimed += candidates.bytes;
+    }
+
+    private static int ceilDiv(int x, int y) {
+        return (x + y - 1) / y;
     }
 
     private Iterable<ManifestEntry> getManifestEntriesFromManifestList(String manifestListName) {
@@ -327,4 +407,52 @@ public class FileStoreExpireImpl implements FileStoreExpire {
             throw new RuntimeException(e);
         }
     }
+
+    /** Metrics of the last expiration, null if no snapshot has been expired. */
+    @Nullable
+    public ExpireMetrics lastMetrics() {
+        return lastMetrics;
+    }
+
+    /** Files to be deleted in one phase of expiration. */
+    private static class DeletionCandidates {
+
+        private final List<Path> files = new ArrayList<>();
+        // total size of the files whose sizes are known
+        private long bytes = 0;
+
+        private void add(Path file) {
+            files.add(file);
+        }
+
+        private void add(Path file, long fileSize) {
+            files.add(file);
+            bytes += fileSize;
+        }
+    }
+
+    /** Metrics of an expiration. */
+    public static class ExpireMetrics {
+
+        private long filesDeleted;
+        private long bytesReclaimed;
+        private long durationMillis;
+
+        /** Number of deleted files, including data, manifest and snapshot files. */
+        public long filesDeleted() {
+            return filesDeleted;
+        }
+
+        /**
+         * Total size of the deleted data files and manifest files. The sizes of other files are not
+         * recorded in metadata, so they are not counted.
+         */
+        public long bytesReclaimed() {
+            return bytesReclaimed;
+        }
+
+        public long durationMillis() {
+            return durationMillis;
+        }
+    }
 }
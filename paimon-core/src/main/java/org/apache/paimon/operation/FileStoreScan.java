@@ -43,6 +43,8 @@ public interface FileStoreScan {
 
     FileStoreScan withBucket(int bucket);
 
+    FileStoreScan withBucketFilter(Filter<Integer> bucketFilter);
+
     FileStoreScan withSnapshot(long snapshotId);
 
     FileStoreScan withManifestList(List<ManifestFileMeta> manifests);
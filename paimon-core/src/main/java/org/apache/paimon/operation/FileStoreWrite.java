@@ -20,10 +20,12 @@ package org.apache.paimon.operation;
 
 import org.apache.paimon.FileStore;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.SinkRecord;
+import org.apache.paimon.utils.BatchRecordWriter;
 import org.apache.paimon.utils.RecordWriter;
 
 import java.util.List;
@@ -55,6 +57,19 @@ public interface FileStoreWrite<T> {
      */
     void write(BinaryRow partition, int bucket, T data) throws Exception;
 
+    /**
+     * Write all rows of a columnar batch to the store if the writer of the partition and bucket is
+     * a {@link BatchRecordWriter}.
+     *
+     * @param partition the partition of the rows
+     * @param bucket the bucket id of the rows
+     * @param batch the columnar batch, its rows are all inserts
+     * @return false if the writer can not write columnar batches, nothing is written then
+     * @throws Exception the thrown exception when writing the batch
+     */
+    boolean writeBatch(BinaryRow partition, int bucket, VectorizedColumnBatch batch)
+            throws Exception;
+
     /**
      * Compact data stored in given partition and bucket. Note that compaction process is only
      * submitted and may not be completed when the method returns.
@@ -18,6 +18,8 @@
 
 package org.apache.paimon.operation;
 
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.CoreOptions.SortEngine;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.KeyValueFileStore;
 import org.apache.paimon.data.InternalRow;
@@ -65,6 +67,7 @@ public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
     private final Comparator<InternalRow> keyComparator;
     private final MergeFunctionFactory<KeyValue> mfFactory;
     private final boolean valueCountMode;
+    private final SortEngine sortEngine;
 
     @Nullable private int[][] keyProjectedFields;
 
@@ -99,6 +102,7 @@ public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
         this.keyComparator = keyComparator;
         this.mfFactory = mfFactory;
         this.valueCountMode = tableSchema.trimmedPrimaryKeys().isEmpty();
+        this.sortEngine = new CoreOptions(tableSchema.options()).sortEngine();
     }
 
     public KeyValueFileStoreRead withKeyProjection(int[][] projectedFields) {
@@ -196,7 +200,8 @@ public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
                                                 ? overlappedSectionFactory
                                                 : nonOverlappedSectionFactory,
                                         keyComparator,
-                                        mergeFuncWrapper));
+                                        mergeFuncWrapper,
+                                        sortEngine));
             }
             DropDeleteReader reader =
                     new DropDeleteReader(ConcatRecordReader.create(sectionReaders));
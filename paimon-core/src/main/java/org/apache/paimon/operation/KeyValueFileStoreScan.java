@@ -21,6 +21,7 @@ package org.apache.paimon.operation;
 import org.apache.paimon.KeyValueFileStore;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFile;
+import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
@@ -97,4 +98,20 @@ public class KeyValueFileStoreScan extends AbstractFileStoreScan {
                                         fieldStatsConverters.getOrCreate(entry.file().schemaId()),
                                         entry.file().rowCount()));
     }
+
+    /** Note: Keep this thread-safe. */
+    @Override
+    protected boolean filterManifestByStats(ManifestFileMeta manifest) {
+        if (keyFilter == null || manifest.keyStats() == null) {
+            return true;
+        }
+
+        // null counts are not aggregated, the row count only marks fields added after the
+        // manifest file was written as all nulls, so any positive count works
+        long rowCount = manifest.numAddedFiles() + manifest.numDeletedFiles();
+        return keyFilter.test(
+                rowCount,
+                manifest.keyStats()
+                        .fields(fieldStatsConverters.getOrCreate(manifest.schemaId()), rowCount));
+    }
 }
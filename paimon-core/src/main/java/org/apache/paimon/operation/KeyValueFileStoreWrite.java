@@ -26,15 +26,20 @@ import org.apache.paimon.compact.CompactManager;
 import org.apache.paimon.compact.NoopCompactManager;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.format.FileFormatDiscover;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
+import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.lookup.sort.SortLookupStoreFactory;
 import org.apache.paimon.mergetree.Levels;
 import org.apache.paimon.mergetree.LookupLevels;
 import org.apache.paimon.mergetree.MergeTreeWriter;
+import org.apache.paimon.mergetree.RemoteLookupFileManager;
+import org.apache.paimon.mergetree.compact.ChangelogMergeTreeRewriter;
 import org.apache.paimon.mergetree.compact.CompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactStrategy;
 import org.apache.paimon.mergetree.compact.FullChangelogMergeTreeCompactRewriter;
@@ -44,10 +49,12 @@ import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactManager;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactRewriter;
 import org.apache.paimon.mergetree.compact.UniversalCompaction;
+import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.SnapshotManager;
 import org.slf4j.Logger;
@@ -58,6 +65,10 @@ import javax.annotation.Nullable;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import static org.apache.paimon.io.DataFileMeta.getMaxSequenceNumber;
@@ -75,6 +86,11 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     private final FileIO fileIO;
     private final RowType keyType;
     private final RowType valueType;
+    private final long schemaId;
+
+    private ExecutorService lazySectionExecutor;
+    private ExecutorService lazyFlushExecutor;
+    private ExecutorService lazySpillIoExecutor;
 
     public KeyValueFileStoreWrite(
             FileIO fileIO,
@@ -94,6 +110,7 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
         this.fileIO = fileIO;
         this.keyType = keyType;
         this.valueType = valueType;
+        this.schemaId = schemaId;
         this.readerFactoryBuilder =
                 KeyValueFileReaderFactory.builder(
                         fileIO,
@@ -112,7 +129,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                         valueType,
                         options.fileFormat(),
                         pathFactory,
-                        options.targetFileSize());
+                        options.targetFileSize(),
+                        options.statsModes(valueType.getFieldNames()));
         this.keyComparatorSupplier = keyComparatorSupplier;
         this.mfFactory = mfFactory;
         this.options = options;
@@ -160,7 +178,23 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 writerFactory,
                 options.commitForceCompact(),
                 options.changelogProducer(),
-                restoreIncrement);
+                restoreIncrement,
+                asyncFlushWriteBuffer() ? flushExecutor() : null,
+                preMergeWriteBuffer() ? mfFactory : null,
+                options.localSortAsyncIo() && bufferSpillable() ? spillIoExecutor() : null);
+    }
+
+    private boolean asyncFlushWriteBuffer() {
+        // a spillable write buffer spills to disk instead of becoming full
+        return options.writeBufferAsyncFlush() && (preMergeWriteBuffer() || !bufferSpillable());
+    }
+
+    private boolean preMergeWriteBuffer() {
+        // raw input records are needed by input changelog producer, and records with a user
+        // defined sequence field may not come in the order of sequence numbers
+        return options.writeBufferPreMerge()
+                && options.changelogProducer() != ChangelogProducer.INPUT
+                && !options.sequenceField().isPresent();
     }
 
     private boolean bufferSpillable() {
@@ -178,6 +212,11 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
         } else {
             Comparator<InternalRow> keyComparator = keyComparatorSupplier.get();
             CompactRewriter rewriter = createRewriter(partition, bucket, keyComparator, levels);
+            // changelog rewriters share state between sections, such as the lookup files of
+            // lookup levels which may be evicted while in use, so they rewrite sequentially
+            boolean parallelSections =
+                    options.compactionSectionParallelism() > 1
+                            && !(rewriter instanceof ChangelogMergeTreeRewriter);
             return new MergeTreeCompactManager(
                     compactExecutor,
                     levels,
@@ -185,7 +224,71 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                     keyComparator,
                     options.targetFileSize(),
                     options.numSortedRunStopTrigger(),
-                    rewriter);
+                    rewriter,
+                    parallelSections ? sectionExecutor() : null,
+                    options.compactionSectionParallelism());
+        }
+    }
+
+    private ExecutorService sectionExecutor() {
+        if (lazySectionExecutor == null) {
+            // each compaction thread rewrites at most section-parallelism - 1 chunks in background
+            lazySectionExecutor =
+                    newBoundedExecutor(
+                            options.compactionThreadNum()
+                                    * (options.compactionSectionParallelism() - 1),
+                            "-compaction-section");
+        }
+        return lazySectionExecutor;
+    }
+
+    private ExecutorService flushExecutor() {
+        if (lazyFlushExecutor == null) {
+            // flushes are bounded like compactions, further flushes wait for a free thread
+            lazyFlushExecutor =
+                    newBoundedExecutor(options.compactionThreadNum(), "-write-buffer-flush");
+        }
+        return lazyFlushExecutor;
+    }
+
+    private static ExecutorService newBoundedExecutor(int maxThreads, String threadNameSuffix) {
+        // threads are created on demand and released when idle
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(
+                        maxThreads,
+                        maxThreads,
+                        60L,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        new ExecutorThreadFactory(
+                                Thread.currentThread().getName() + threadNameSuffix));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private ExecutorService spillIoExecutor() {
+        if (lazySpillIoExecutor == null) {
+            // a merge reads ahead all its spilled files at once, so threads are bounded here
+            lazySpillIoExecutor =
+                    Executors.newFixedThreadPool(
+                            options.localSortAsyncIoThreadNum(),
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-spill-io"));
+        }
+        return lazySpillIoExecutor;
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (lazySectionExecutor != null) {
+            lazySectionExecutor.shutdownNow();
+        }
+        if (lazyFlushExecutor != null) {
+            lazyFlushExecutor.shutdownNow();
+        }
+        if (lazySpillIoExecutor != null) {
+            lazySpillIoExecutor.shutdownNow();
         }
     }
 
@@ -201,19 +304,32 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                         readerFactory,
                         writerFactory,
                         keyComparator,
-                        mfFactory);
+                        mfFactory,
+                        options.sortEngine());
             case LOOKUP:
-                LookupLevels lookupLevels = createLookupLevels(levels, readerFactory);
+                LookupLevels lookupLevels =
+                        createLookupLevels(levels, readerFactory, writerFactory);
                 return new LookupMergeTreeCompactRewriter(
-                        lookupLevels, readerFactory, writerFactory, keyComparator, mfFactory);
+                        lookupLevels,
+                        readerFactory,
+                        writerFactory,
+                        keyComparator,
+                        mfFactory,
+                        options.sortEngine());
             default:
                 return new MergeTreeCompactRewriter(
-                        readerFactory, writerFactory, keyComparator, mfFactory);
+                        readerFactory,
+                        writerFactory,
+                        keyComparator,
+                        mfFactory,
+                        options.sortEngine());
         }
     }
 
     private LookupLevels createLookupLevels(
-            Levels levels, KeyValueFileReaderFactory readerFactory) {
+            Levels levels,
+            KeyValueFileReaderFactory readerFactory,
+            KeyValueFileWriterFactory writerFactory) {
         if (ioManager == null) {
             throw new RuntimeException(
                     "Can not use lookup, there is no temp disk directory to use.");
@@ -227,10 +343,59 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                         readerFactory.createRecordReader(
                                 file.schemaId(), file.fileName(), file.level()),
                 () -> ioManager.createChannel().getPathFile(),
-                new HashLookupStoreFactory(
-                        cacheManager,
-                        options.toConfiguration().get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR)),
+                createLookupStoreFactory(),
                 options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
-                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE));
+                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE),
+                options.toConfiguration().get(CoreOptions.LOOKUP_BLOOM_FILTER_ENABLED)
+                        ? options.toConfiguration().get(CoreOptions.LOOKUP_BLOOM_FILTER_FPP)
+                        : null,
+                options.toConfiguration().get(CoreOptions.LOOKUP_REMOTE_FILE_ENABLED)
+                        ? new RemoteLookupFileManager(
+                                fileIO,
+                                writerFactory.pathFactory(),
+                                schemaId,
+                                options.toConfiguration()
+                                        .get(CoreOptions.LOOKUP_LOCAL_FILE_TYPE)
+                                        .toString())
+                        : null);
+    }
+
+    private LookupStoreFactory createLookupStoreFactory() {
+        Options conf = options.toConfiguration();
+        switch (conf.get(CoreOptions.LOOKUP_LOCAL_FILE_TYPE)) {
+            case HASH:
+                return new HashLookupStoreFactory(
+                        cacheManager, conf.get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR));
+            case SORT:
+                return new SortLookupStoreFactory(
+                        createSerializedKeyComparator(),
+                        cacheManager,
+                        (int) conf.get(CoreOptions.LOOKUP_SORT_FILE_BLOCK_SIZE).getBytes(),
+                        conf.get(CoreOptions.LOOKUP_SORT_FILE_COMPRESSION_ENABLED));
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported lookup local file type: "
+                                + conf.get(CoreOptions.LOOKUP_LOCAL_FILE_TYPE));
+        }
+    }
+
+    /**
+     * Keys are written to the sort lookup store in the order of the key comparator, serialized keys
+     * are compared in the same order.
+     */
+    private Comparator<byte[]> createSerializedKeyComparator() {
+        Comparator<byte[]> comparator = RowCompactedSerializer.createSliceComparator(keyType);
+        if (comparator != null) {
+            return comparator;
+        }
+
+        // nested key fields can only be compared by the generated comparator
+        Comparator<InternalRow> keyComparator = keyComparatorSupplier.get();
+        ThreadLocal<RowCompactedSerializer> keySerializer =
+                ThreadLocal.withInitial(() -> new RowCompactedSerializer(keyType));
+        return (key1, key2) ->
+                keyComparator.compare(
+                        keySerializer.get().deserialize(key1),
+                        keySerializer.get().deserialize(key2));
     }
 }
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.utils.SnapshotManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The live files of some buckets at a snapshot. Buckets are planned fully once when they are first
+ * requested, after that the files are kept up to date by applying the delta manifests of each new
+ * snapshot, so getting the files of a newer snapshot only costs O(delta) instead of O(table).
+ *
+ * <p>Only the files of requested buckets are kept, so a writer owning a few buckets of a large
+ * partition does not hold the files of the other buckets. Buckets which are no longer needed should
+ * be removed by {@link #remove(BinaryRow, int)}.
+ *
+ * <p>NOTE: The given {@link FileStoreScan} must be exclusively used by this class, because its
+ * snapshot, kind, partition filter and bucket filter are modified for each plan.
+ */
+public class LiveFileSet {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LiveFileSet.class);
+
+    private final SnapshotManager snapshotManager;
+    private final FileStoreScan scan;
+
+    private final Map<BinaryRow, Map<Integer, Map<ManifestEntry.Identifier, ManifestEntry>>>
+            partitions;
+
+    @Nullable private Long snapshotId;
+
+    public LiveFileSet(SnapshotManager snapshotManager, FileStoreScan scan) {
+        this.snapshotManager = snapshotManager;
+        this.scan = scan;
+        this.partitions = new HashMap<>();
+        this.snapshotId = null;
+    }
+
+    /** Snapshot id of the current files, null if no snapshot has been applied. */
+    @Nullable
+    public Long snapshotId() {
+        return snapshotId;
+    }
+
+    /** Returns the live files of the given partition and bucket at the given snapshot. */
+    public List<DataFileMeta> files(@Nullable Long snapshotId, BinaryRow partition, int bucket) {
+        List<DataFileMeta> files = new ArrayList<>();
+        for (ManifestEntry entry : entries(snapshotId, partition, bucket)) {
+            files.add(entry.file());
+        }
+        return files;
+    }
+
+    /**
+     * Returns the manifest entries of the live files of the given partition and bucket at the given
+     * snapshot, all entries are of kind {@link org.apache.paimon.manifest.FileKind#ADD}.
+     */
+    public List<ManifestEntry> entries(@Nullable Long snapshotId, BinaryRow partition, int bucket) {
+        if (snapshotId == null) {
+            return Collections.emptyList();
+        }
+
+        advance(snapshotId);
+        Map<Integer, Map<ManifestEntry.Identifier, ManifestEntry>> buckets =
+                partitions.get(partition);
+        Map<ManifestEntry.Identifier, ManifestEntry> entries =
+                buckets == null ? null : buckets.get(bucket);
+        if (entries == null) {
+            entries = new LinkedHashMap<>();
+            for (ManifestEntry entry :
+                    plan(
+                            snapshotId,
+                            ScanKind.ALL,
+                            Collections.singletonList(partition),
+                            Collections.singleton(bucket))) {
+                entries.put(entry.identifier(), entry);
+            }
+            if (buckets == null) {
+                buckets = new HashMap<>();
+                partitions.put(partition.copy(), buckets);
+            }
+            buckets.put(bucket, entries);
+        }
+        return new ArrayList<>(entries.values());
+    }
+
+    /** Stops tracking the given bucket, its files will be planned again when requested. */
+    public void remove(BinaryRow partition, int bucket) {
+        Map<Integer, Map<ManifestEntry.Identifier, ManifestEntry>> buckets =
+                partitions.get(partition);
+        if (buckets != null) {
+            buckets.remove(bucket);
+            if (buckets.isEmpty()) {
+                partitions.remove(partition);
+            }
+        }
+    }
+
+    /** Stops tracking all buckets of the given partition. */
+    public void remove(BinaryRow partition) {
+        partitions.remove(partition);
+    }
+
+    /** Stops tracking all partitions except the given ones. */
+    public void retainAll(Collection<BinaryRow> partitionsToRetain) {
+        partitions.keySet().retainAll(new HashSet<>(partitionsToRetain));
+    }
+
+    /** Stops tracking all buckets. */
+    public void clear() {
+        partitions.clear();
+    }
+
+    private void advance(long targetSnapshotId) {
+        if (snapshotId != null && snapshotId >= targetSnapshotId) {
+            // files are only tracked forward, a smaller snapshot is planned from scratch
+            if (snapshotId > targetSnapshotId) {
+                reset(targetSnapshotId);
+            }
+            return;
+        }
+
+        if (partitions.isEmpty()) {
+            snapshotId = targetSnapshotId;
+            return;
+        }
+
+        List<BinaryRow> trackedPartitions = new ArrayList<>(partitions.keySet());
+        Set<Integer> trackedBuckets = trackedBuckets();
+        for (long id = snapshotId + 1; id <= targetSnapshotId; id++) {
+            if (!snapshotManager.snapshotExists(id)) {
+                LOG.info(
+                        "Snapshot #{} does not exist, plan live files of snapshot #{} from scratch.",
+                        id,
+                        targetSnapshotId);
+                reset(targetSnapshotId);
+                return;
+            }
+
+            for (ManifestEntry entry :
+                    plan(id, ScanKind.DELTA, trackedPartitions, trackedBuckets)) {
+                if (!apply(entry)) {
+                    // should not happen, just plan from scratch to be safe
+                    LOG.warn(
+                            "File {} is deleted in snapshot #{} but not previously added, "
+                                    + "plan live files of snapshot #{} from scratch.",
+                            entry.file().fileName(),
+                            id,
+                            targetSnapshotId);
+                    reset(targetSnapshotId);
+                    return;
+                }
+            }
+        }
+        snapshotId = targetSnapshotId;
+    }
+
+    private boolean apply(ManifestEntry entry) {
+        Map<Integer, Map<ManifestEntry.Identifier, ManifestEntry>> buckets =
+                partitions.get(entry.partition());
+        Map<ManifestEntry.Identifier, ManifestEntry> entries =
+                buckets == null ? null : buckets.get(entry.bucket());
+        if (entries == null) {
+            // the bucket filter of the plan is shared by all partitions
+            return true;
+        }
+
+        switch (entry.kind()) {
+            case ADD:
+                entries.put(entry.identifier(), entry);
+                return true;
+            case DELETE:
+                return entries.remove(entry.identifier()) != null;
+            default:
+                throw new UnsupportedOperationException(
+                        "Unknown value kind " + entry.kind().name());
+        }
+    }
+
+    private void reset(long targetSnapshotId) {
+        if (!partitions.isEmpty()) {
+            List<BinaryRow> trackedPartitions = new ArrayList<>(partitions.keySet());
+            Set<Integer> trackedBuckets = trackedBuckets();
+            for (Map<Integer, Map<ManifestEntry.Identifier, ManifestEntry>> buckets :
+                    partitions.values()) {
+                buckets.values().forEach(Map::clear);
+            }
+            for (ManifestEntry entry :
+                    plan(targetSnapshotId, ScanKind.ALL, trackedPartitions, trackedBuckets)) {
+                apply(entry);
+            }
+        }
+        snapshotId = targetSnapshotId;
+    }
+
+    private Set<Integer> trackedBuckets() {
+        Set<Integer> buckets = new HashSet<>();
+        for (Map<Integer, Map<ManifestEntry.Identifier, ManifestEntry>> partition :
+                partitions.values()) {
+            buckets.addAll(partition.keySet());
+        }
+        return buckets;
+    }
+
+    private List<ManifestEntry> plan(
+            long snapshotId, ScanKind kind, List<BinaryRow> partitions, Set<Integer> buckets) {
+        return scan.withSnapshot(snapshotId)
+                .withKind(kind)
+                .withPartitionFilter(partitions)
+                .withBucketFilter(buckets::contains)
+                .plan()
+                .files();
+    }
+}
@@ -25,13 +25,21 @@ import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
 import org.apache.paimon.memory.MemoryOwner;
 import org.apache.paimon.memory.MemoryPoolFactory;
+import org.apache.paimon.memory.MemoryPreemptPolicy;
+import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.memory.OffHeapMemorySegmentPool;
+import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.utils.RecordWriter;
 import org.apache.paimon.utils.SnapshotManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_MAX_MEMORY_SIZE;
+import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_MEMORY_MAPPED;
 
 /**
  * Base {@link FileStoreWrite} implementation which supports using shared memory and preempting
@@ -41,6 +49,9 @@ import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_MAX_MEMORY_SIZE;
  */
 public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryFileStoreWrite.class);
+
+    private final MemorySegmentPool memoryPool;
     private final MemoryPoolFactory writeBufferPool;
     protected final CacheManager cacheManager;
 
@@ -49,14 +60,22 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
             SnapshotManager snapshotManager,
             FileStoreScan scan,
             CoreOptions options) {
-        super(commitUser, snapshotManager, scan);
-        HeapMemorySegmentPool memoryPool =
-                new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize());
-        this.writeBufferPool = new MemoryPoolFactory(memoryPool, this::memoryOwners);
+        super(commitUser, snapshotManager, scan, options.compactionThreadNum());
+        this.memoryPool =
+                options.writeBufferOffHeap()
+                        ? new OffHeapMemorySegmentPool(
+                                options.writeBufferSize(), options.pageSize())
+                        : new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize());
+        this.writeBufferPool =
+                new MemoryPoolFactory(
+                        memoryPool,
+                        this::memoryOwners,
+                        MemoryPreemptPolicy.create(options.writeBufferPreemptPolicy()));
         this.cacheManager =
                 new CacheManager(
                         options.pageSize(),
-                        options.toConfiguration().get(LOOKUP_CACHE_MAX_MEMORY_SIZE));
+                        options.toConfiguration().get(LOOKUP_CACHE_MAX_MEMORY_SIZE),
+                        options.toConfiguration().get(LOOKUP_CACHE_MEMORY_MAPPED));
     }
 
     private Iterator<MemoryOwner> memoryOwners() {
@@ -80,6 +99,30 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
                 });
     }
 
+    @Override
+    public List<CommitMessage> prepareCommit(boolean waitCompaction, long commitIdentifier)
+            throws Exception {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(
+                    "Write buffer metrics of write task: {}, owner occupancy: {}",
+                    writeBufferPool,
+                    writeBufferPool.ownerOccupancy().values());
+        }
+        return super.prepareCommit(waitCompaction, commitIdentifier);
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            super.close();
+        } finally {
+            // off-heap pages are not garbage collected with the write
+            if (memoryPool instanceof OffHeapMemorySegmentPool) {
+                ((OffHeapMemorySegmentPool) memoryPool).close();
+            }
+        }
+    }
+
     @Override
     protected void notifyNewWriter(RecordWriter<T> writer) {
         if (!(writer instanceof MemoryOwner)) {
@@ -35,11 +35,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import static org.apache.paimon.CoreOptions.FIELDS_PREFIX;
+import static org.apache.paimon.CoreOptions.LOCAL_SORT_ASYNC_IO_THREAD_NUM;
 import static org.apache.paimon.CoreOptions.SCAN_MODE;
 import static org.apache.paimon.CoreOptions.SCAN_SNAPSHOT_ID;
 import static org.apache.paimon.CoreOptions.SCAN_TIMESTAMP_MILLIS;
 import static org.apache.paimon.CoreOptions.SNAPSHOT_NUM_RETAINED_MAX;
 import static org.apache.paimon.CoreOptions.SNAPSHOT_NUM_RETAINED_MIN;
+import static org.apache.paimon.CoreOptions.STATS_MODE_SUFFIX;
 import static org.apache.paimon.WriteMode.APPEND_ONLY;
 import static org.apache.paimon.schema.SystemColumns.KEY_FIELD_PREFIX;
 import static org.apache.paimon.schema.SystemColumns.SYSTEM_FIELD_NAMES;
@@ -84,6 +87,9 @@ public class SchemaValidation {
                 SNAPSHOT_NUM_RETAINED_MIN.key()
                         + " should not be larger than "
                         + SNAPSHOT_NUM_RETAINED_MAX.key());
+        checkArgument(
+                options.localSortAsyncIoThreadNum() > 0,
+                LOCAL_SORT_ASYNC_IO_THREAD_NUM.key() + " should be at least 1");
 
         // Only changelog tables with primary keys support full compaction or lookup changelog
         // producer
@@ -116,6 +122,23 @@ public class SchemaValidation {
                                             f, KEY_FIELD_PREFIX));
                         });
 
+        // Check stats modes of all fields are valid and only configured for existing fields
+        options.statsModes(schema.fieldNames());
+        String statsModePrefix = FIELDS_PREFIX + ".";
+        String statsModeSuffix = "." + STATS_MODE_SUFFIX;
+        for (String key : schema.options().keySet()) {
+            if (key.startsWith(statsModePrefix) && key.endsWith(statsModeSuffix)) {
+                String field =
+                        key.substring(
+                                statsModePrefix.length(), key.length() - statsModeSuffix.length());
+                checkArgument(
+                        schema.fieldNames().contains(field),
+                        String.format(
+                                "Field %s can not be found in table schema for option %s.",
+                                field, key));
+            }
+        }
+
         // Cannot define any primary key in an append-only table.
         if (!schema.primaryKeys().isEmpty() && Objects.equals(APPEND_ONLY, options.writeMode())) {
             throw new RuntimeException(
@@ -30,11 +30,14 @@ import org.apache.paimon.utils.MutableObjectIterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Spilled files Merger of {@link BinaryExternalSortBuffer}. It merges {@link #maxFanIn} spilled
@@ -52,6 +55,7 @@ public abstract class AbstractBinaryExternalMerger<Entry> implements Closeable {
     private final SpillChannelManager channelManager;
     private final BlockCompressionFactory compressionCodecFactory;
     private final int compressionBlockSize;
+    @Nullable private final ExecutorService ioExecutor;
 
     protected final int pageSize;
     protected final IOManager ioManager;
@@ -62,13 +66,15 @@ public abstract class AbstractBinaryExternalMerger<Entry> implements Closeable {
             int maxFanIn,
             SpillChannelManager channelManager,
             BlockCompressionFactory compressionCodecFactory,
-            int compressionBlockSize) {
+            int compressionBlockSize,
+            @Nullable ExecutorService ioExecutor) {
         this.ioManager = ioManager;
         this.pageSize = pageSize;
         this.maxFanIn = maxFanIn;
         this.channelManager = channelManager;
         this.compressionCodecFactory = compressionCodecFactory;
         this.compressionBlockSize = compressionBlockSize;
+        this.ioExecutor = ioExecutor;
     }
 
     @Override
@@ -99,7 +105,8 @@ public abstract class AbstractBinaryExternalMerger<Entry> implements Closeable {
                             channel,
                             openChannels,
                             compressionCodecFactory,
-                            compressionBlockSize);
+                            compressionBlockSize,
+                            ioExecutor);
             iterators.add(channelReaderInputViewIterator(view));
         }
 
@@ -180,7 +187,8 @@ public abstract class AbstractBinaryExternalMerger<Entry> implements Closeable {
                             ioManager,
                             mergedChannelID,
                             compressionCodecFactory,
-                            compressionBlockSize);
+                            compressionBlockSize,
+                            ioExecutor);
             writeMergingOutput(mergeIterator, output);
             numBytesInLastBlock = output.close();
             numBlocksWritten = output.getBlockCount();
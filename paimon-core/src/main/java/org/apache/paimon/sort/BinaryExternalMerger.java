@@ -28,10 +28,13 @@ import org.apache.paimon.disk.ChannelReaderInputViewIterator;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.utils.MutableObjectIterator;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /** Record merger for sort of BinaryRow. Copied from Flink. */
 public class BinaryExternalMerger extends AbstractBinaryExternalMerger<BinaryRow> {
@@ -47,14 +50,16 @@ public class BinaryExternalMerger extends AbstractBinaryExternalMerger<BinaryRow
             BinaryRowSerializer serializer,
             RecordComparator comparator,
             BlockCompressionFactory compressionCodecFactory,
-            int compressionBlockSize) {
+            int compressionBlockSize,
+            @Nullable ExecutorService ioExecutor) {
         super(
                 ioManager,
                 pageSize,
                 maxFanIn,
                 channelManager,
                 compressionCodecFactory,
-                compressionBlockSize);
+                compressionBlockSize,
+                ioExecutor);
         this.serializer = serializer;
         this.comparator = comparator;
     }
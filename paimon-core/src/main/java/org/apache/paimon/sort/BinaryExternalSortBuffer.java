@@ -33,11 +33,20 @@ import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.utils.MutableObjectIterator;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
-/** A spillable {@link SortBuffer}. */
+/**
+ * A spillable {@link SortBuffer}.
+ *
+ * <p>If an I/O executor is given, spilling is only blocked by sorting and serializing the records,
+ * the blocks of spilled channels are compressed by the executor in parallel. When merging spilled
+ * channels, each channel reads ahead its next block in the executor.
+ */
 public class BinaryExternalSortBuffer implements SortBuffer {
 
     private final BinaryRowSerializer serializer;
@@ -48,6 +57,7 @@ public class BinaryExternalSortBuffer implements SortBuffer {
     private final BlockCompressionFactory compressionCodecFactory;
     private final int compressionBlockSize;
     private final BinaryExternalMerger merger;
+    @Nullable private final ExecutorService ioExecutor;
 
     private final FileIOChannel.Enumerator enumerator;
     private final List<ChannelWithMeta> spillChannelIDs;
@@ -61,6 +71,24 @@ public class BinaryExternalSortBuffer implements SortBuffer {
             BinaryInMemorySortBuffer inMemorySortBuffer,
             IOManager ioManager,
             int maxNumFileHandles) {
+        this(
+                serializer,
+                comparator,
+                pageSize,
+                inMemorySortBuffer,
+                ioManager,
+                maxNumFileHandles,
+                null);
+    }
+
+    public BinaryExternalSortBuffer(
+            BinaryRowSerializer serializer,
+            RecordComparator comparator,
+            int pageSize,
+            BinaryInMemorySortBuffer inMemorySortBuffer,
+            IOManager ioManager,
+            int maxNumFileHandles,
+            @Nullable ExecutorService ioExecutor) {
         this.serializer = serializer;
         this.inMemorySortBuffer = inMemorySortBuffer;
         this.ioManager = ioManager;
@@ -77,7 +105,9 @@ public class BinaryExternalSortBuffer implements SortBuffer {
                         (BinaryRowSerializer) serializer.duplicate(),
                         comparator,
                         compressionCodecFactory,
-                        compressionBlockSize);
+                        compressionBlockSize,
+                        ioExecutor);
+        this.ioExecutor = ioExecutor;
         this.enumerator = ioManager.createChannelEnumerator();
         this.spillChannelIDs = new ArrayList<>();
     }
@@ -188,7 +218,11 @@ public class BinaryExternalSortBuffer implements SortBuffer {
         try {
             output =
                     FileChannelUtil.createOutputView(
-                            ioManager, channel, compressionCodecFactory, compressionBlockSize);
+                            ioManager,
+                            channel,
+                            compressionCodecFactory,
+                            compressionBlockSize,
+                            ioExecutor);
             new QuickSort().sort(inMemorySortBuffer);
             inMemorySortBuffer.writeToOutput(output);
             bytesInLastBuffer = output.close();
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.stats;
+
+import org.apache.paimon.format.FieldStats;
+import org.apache.paimon.types.RowType;
+
+import javax.annotation.Nullable;
+
+import static org.apache.paimon.predicate.CompareUtils.compareLiteral;
+
+/**
+ * Aggregates the {@link BinaryTableStats} of several data files of the same type into the min and
+ * max values of all files.
+ *
+ * <p>Null counts are not aggregated, and the min and max values of a field are unknown if they are
+ * unknown in any file which contains non-null values of the field. So a predicate never rejects the
+ * aggregated stats if it accepts the stats of any of the files.
+ */
+public class FieldStatsAggregator {
+
+    private final RowType type;
+    private final FieldStatsArraySerializer serializer;
+
+    private final Object[] minValues;
+    private final Object[] maxValues;
+    private final boolean[] unknown;
+
+    private boolean empty = true;
+
+    public FieldStatsAggregator(RowType type) {
+        this(type, null);
+    }
+
+    /** Aggregates stats of which only the given fields are stored, and stores them the same way. */
+    public FieldStatsAggregator(RowType type, @Nullable int[] storedFields) {
+        this.type = type;
+        this.serializer = new FieldStatsArraySerializer(type, storedFields);
+        this.minValues = new Object[type.getFieldCount()];
+        this.maxValues = new Object[type.getFieldCount()];
+        this.unknown = new boolean[type.getFieldCount()];
+    }
+
+    /**
+     * Collects the stats of a data file, returns false if the stats do not match the type of this
+     * aggregator, in which case the aggregated stats should be discarded.
+     */
+    public boolean collect(BinaryTableStats stats, long rowCount) {
+        if (stats.min().getFieldCount() != serializer.numStoredFields()
+                || stats.max().getFieldCount() != serializer.numStoredFields()) {
+            return false;
+        }
+
+        // deserialize without the cache of the stats, which is reserved for the schema evolution
+        // converters of scans
+        FieldStats[] fields = serializer.fromBinary(stats);
+        for (int i = 0; i < fields.length; i++) {
+            Object min = fields[i].minValue();
+            Object max = fields[i].maxValue();
+            if (min == null || max == null) {
+                Long nullCount = fields[i].nullCount();
+                if (nullCount == null || nullCount != rowCount) {
+                    // non-null values exist but their range is unknown
+                    unknown[i] = true;
+                }
+                continue;
+            }
+            if (!(min instanceof Comparable) && !(min instanceof byte[])) {
+                unknown[i] = true;
+                continue;
+            }
+
+            if (minValues[i] == null || compareLiteral(type.getTypeAt(i), min, minValues[i]) < 0) {
+                minValues[i] = min;
+            }
+            if (maxValues[i] == null || compareLiteral(type.getTypeAt(i), max, maxValues[i]) > 0) {
+                maxValues[i] = max;
+            }
+        }
+        empty = false;
+        return true;
+    }
+
+    /** Returns the aggregated stats, null if no stats has been collected. */
+    @Nullable
+    public BinaryTableStats result() {
+        if (empty) {
+            return null;
+        }
+
+        FieldStats[] result = new FieldStats[minValues.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] =
+                    unknown[i]
+                            ? new FieldStats(null, null, null)
+                            : new FieldStats(minValues[i], maxValues[i], null);
+        }
+        return serializer.toBinary(result);
+    }
+}
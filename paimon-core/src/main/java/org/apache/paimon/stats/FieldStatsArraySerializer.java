@@ -23,6 +23,7 @@ import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.format.FieldStats;
+import org.apache.paimon.format.FieldStatsMode;
 import org.apache.paimon.types.ArrayType;
 import org.apache.paimon.types.BigIntType;
 import org.apache.paimon.types.DataField;
@@ -33,28 +34,66 @@ import org.apache.paimon.utils.RowDataUtils;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.IntStream;
 
 import static org.apache.paimon.utils.SerializationUtils.newBytesType;
 
-/** Serializer for array of {@link FieldStats}. */
+/**
+ * Serializer for array of {@link FieldStats}.
+ *
+ * <p>If stored fields are given, only the stats of these fields are stored in {@link
+ * BinaryTableStats}, and the stats of the other fields are unknown when deserialized. The stored
+ * fields of data files are derived from the {@link FieldStatsMode}s of their schema, see {@link
+ * #storedFields}.
+ */
 public class FieldStatsArraySerializer {
 
     private final InternalRowSerializer serializer;
 
     private final InternalRow.FieldGetter[] fieldGetters;
 
+    @Nullable private final int[] storedFields;
+    // position of each field in the stored stats, -1 if its stats are not stored
+    @Nullable private final int[] storedPositions;
+
     @Nullable private final int[] indexMapping;
     @Nullable private final CastExecutor<Object, Object>[] converterMapping;
 
     public FieldStatsArraySerializer(RowType type) {
-        this(type, null, null);
+        this(type, null, null, null);
+    }
+
+    public FieldStatsArraySerializer(RowType type, @Nullable int[] storedFields) {
+        this(type, storedFields, null, null);
     }
 
     public FieldStatsArraySerializer(
             RowType type, int[] indexMapping, CastExecutor<Object, Object>[] converterMapping) {
-        RowType safeType = toAllFieldsNullableRowType(type);
+        this(type, null, indexMapping, converterMapping);
+    }
+
+    public FieldStatsArraySerializer(
+            RowType type,
+            @Nullable int[] storedFields,
+            @Nullable int[] indexMapping,
+            @Nullable CastExecutor<Object, Object>[] converterMapping) {
+        RowType storedType = type;
+        if (storedFields != null) {
+            List<DataField> fields = new ArrayList<>();
+            storedPositions = new int[type.getFieldCount()];
+            Arrays.fill(storedPositions, -1);
+            for (int i = 0; i < storedFields.length; i++) {
+                fields.add(type.getFields().get(storedFields[i]));
+                storedPositions[storedFields[i]] = i;
+            }
+            storedType = new RowType(fields);
+        } else {
+            storedPositions = null;
+        }
+
+        RowType safeType = toAllFieldsNullableRowType(storedType);
         this.serializer = new InternalRowSerializer(safeType);
         this.fieldGetters =
                 IntStream.range(0, safeType.getFieldCount())
@@ -63,11 +102,40 @@ public class FieldStatsArraySerializer {
                                         RowDataUtils.createNullCheckingFieldGetter(
                                                 safeType.getTypeAt(i), i))
                         .toArray(InternalRow.FieldGetter[]::new);
+        this.storedFields = storedFields;
         this.indexMapping = indexMapping;
         this.converterMapping = converterMapping;
     }
 
+    /**
+     * Returns the fields whose stats are stored by the given modes, which are the fields with any
+     * stats, or null if the stats of all fields are stored.
+     */
+    @Nullable
+    public static int[] storedFields(@Nullable FieldStatsMode[] modes) {
+        if (modes == null) {
+            return null;
+        }
+
+        int[] storedFields =
+                IntStream.range(0, modes.length).filter(i -> modes[i].collectNullCount()).toArray();
+        return storedFields.length == modes.length ? null : storedFields;
+    }
+
+    /** Number of fields whose stats are stored in {@link BinaryTableStats}. */
+    public int numStoredFields() {
+        return fieldGetters.length;
+    }
+
     public BinaryTableStats toBinary(FieldStats[] stats) {
+        if (storedFields != null) {
+            FieldStats[] allStats = stats;
+            stats =
+                    Arrays.stream(storedFields)
+                            .mapToObj(i -> allStats[i])
+                            .toArray(FieldStats[]::new);
+        }
+
         int rowFieldCount = stats.length;
         GenericRow minValues = new GenericRow(rowFieldCount);
         GenericRow maxValues = new GenericRow(rowFieldCount);
@@ -89,27 +157,39 @@ public class FieldStatsArraySerializer {
     }
 
     public FieldStats[] fromBinary(BinaryTableStats array, @Nullable Long rowCount) {
-        int fieldCount = indexMapping == null ? fieldGetters.length : indexMapping.length;
+        int numFields =
+                storedPositions == null ? array.min().getFieldCount() : storedPositions.length;
+        int fieldCount =
+                indexMapping != null
+                        ? indexMapping.length
+                        : storedPositions == null ? fieldGetters.length : storedPositions.length;
         FieldStats[] stats = new FieldStats[fieldCount];
         Long[] nullCounts = array.nullCounts();
         for (int i = 0; i < fieldCount; i++) {
             int fieldIndex = indexMapping == null ? i : indexMapping[i];
-            if (fieldIndex < 0 || fieldIndex >= array.min().getFieldCount()) {
+            if (fieldIndex < 0 || fieldIndex >= numFields) {
                 // simple evolution for add column
                 if (rowCount == null) {
                     throw new RuntimeException("Schema Evolution for stats needs row count.");
                 }
                 stats[i] = new FieldStats(null, null, rowCount);
+                continue;
+            }
+
+            int position = storedPositions == null ? fieldIndex : storedPositions[fieldIndex];
+            if (position < 0) {
+                // stats of the field are not stored
+                stats[i] = new FieldStats(null, null, null);
             } else {
                 CastExecutor<Object, Object> converter =
                         converterMapping == null ? null : converterMapping[i];
-                Object min = fieldGetters[fieldIndex].getFieldOrNull(array.min());
+                Object min = fieldGetters[position].getFieldOrNull(array.min());
                 min = converter == null || min == null ? min : converter.cast(min);
 
-                Object max = fieldGetters[fieldIndex].getFieldOrNull(array.max());
+                Object max = fieldGetters[position].getFieldOrNull(array.max());
                 max = converter == null || max == null ? max : converter.cast(max);
 
-                stats[i] = new FieldStats(min, max, nullCounts[fieldIndex]);
+                stats[i] = new FieldStats(min, max, nullCounts[position]);
             }
         }
         return stats;
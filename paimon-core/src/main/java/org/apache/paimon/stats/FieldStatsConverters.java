@@ -19,6 +19,7 @@
 package org.apache.paimon.stats;
 
 import org.apache.paimon.casting.CastExecutor;
+import org.apache.paimon.format.FieldStatsMode;
 import org.apache.paimon.schema.SchemaEvolutionUtil;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.RowType;
@@ -32,13 +33,26 @@ import java.util.function.Function;
 /** Converters to create field stats array serializer. */
 public class FieldStatsConverters {
     private final Function<Long, List<DataField>> schemaFields;
+    private final Function<Long, FieldStatsMode[]> schemaStatsModes;
     private final long tableSchemaId;
     private final List<DataField> tableDataFields;
     private final ConcurrentMap<Long, FieldStatsArraySerializer> serializers;
     private final AtomicReference<List<DataField>> tableFields;
 
     public FieldStatsConverters(Function<Long, List<DataField>> schemaFields, long tableSchemaId) {
+        this(schemaFields, id -> null, tableSchemaId);
+    }
+
+    /**
+     * Creates converters of stats which are stored by the {@link FieldStatsMode}s of the schema
+     * fields, see {@link FieldStatsArraySerializer#storedFields}.
+     */
+    public FieldStatsConverters(
+            Function<Long, List<DataField>> schemaFields,
+            Function<Long, FieldStatsMode[]> schemaStatsModes,
+            long tableSchemaId) {
         this.schemaFields = schemaFields;
+        this.schemaStatsModes = schemaStatsModes;
         this.tableSchemaId = tableSchemaId;
         this.tableDataFields = schemaFields.apply(tableSchemaId);
         this.serializers = new ConcurrentHashMap<>();
@@ -49,8 +63,11 @@ public class FieldStatsConverters {
         return serializers.computeIfAbsent(
                 dataSchemaId,
                 id -> {
+                    int[] storedFields =
+                            FieldStatsArraySerializer.storedFields(schemaStatsModes.apply(id));
                     if (tableSchemaId == id) {
-                        return new FieldStatsArraySerializer(new RowType(schemaFields.apply(id)));
+                        return new FieldStatsArraySerializer(
+                                new RowType(schemaFields.apply(id)), storedFields);
                     }
 
                     // Get atomic schema fields.
@@ -65,7 +82,7 @@ public class FieldStatsConverters {
                                             schemaTableFields, dataFields, indexMapping);
                     // Create field stats array serializer with schema evolution
                     return new FieldStatsArraySerializer(
-                            new RowType(dataFields), indexMapping, castExecutors);
+                            new RowType(dataFields), storedFields, indexMapping, castExecutors);
                 });
     }
 
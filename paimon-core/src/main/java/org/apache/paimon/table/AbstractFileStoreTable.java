@@ -105,6 +105,14 @@ public abstract class AbstractFileStoreTable implements FileStoreTable {
                 (k, v) -> {
                     if (!Objects.equals(v, options.get(k))) {
                         SchemaManager.checkAlterTableOption(k);
+                        // readers know which stats are stored in data files by their schema
+                        if (CoreOptions.isStatsModeOption(k)) {
+                            throw new UnsupportedOperationException(
+                                    String.format(
+                                            "Dynamic option '%s' is not supported, "
+                                                    + "stats modes can only be changed by altering the table.",
+                                            k));
+                        }
                     }
                 });
 
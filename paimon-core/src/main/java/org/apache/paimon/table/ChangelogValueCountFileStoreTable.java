@@ -24,6 +24,7 @@ import org.apache.paimon.KeyValueFileStore;
 import org.apache.paimon.WriteMode;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.format.FieldStatsMode;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.io.DataFileMeta;
@@ -31,6 +32,7 @@ import org.apache.paimon.mergetree.compact.ValueCountMergeFunction;
 import org.apache.paimon.operation.FileStoreScan;
 import org.apache.paimon.operation.KeyValueFileStoreScan;
 import org.apache.paimon.operation.ReverseReader;
+import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
@@ -75,12 +77,16 @@ public class ChangelogValueCountFileStoreTable extends AbstractFileStoreTable {
         if (lazyStore == null) {
             KeyValueFieldsExtractor extractor = ValueCountTableKeyValueFieldsExtractor.EXTRACTOR;
             RowType countType = new RowType(extractor.valueFields(tableSchema));
+            // records cancel out when their counts sum up to zero, which the pre-merge write
+            // buffer does not support
+            Options options = Options.fromMap(tableSchema.options());
+            options.set(CoreOptions.WRITE_BUFFER_PRE_MERGE, false);
             lazyStore =
                     new KeyValueFileStore(
                             fileIO,
                             schemaManager(),
                             tableSchema.id(),
-                            new CoreOptions(tableSchema.options()),
+                            new CoreOptions(options),
                             tableSchema.logicalPartitionType(),
                             tableSchema.logicalBucketKeyType(),
                             new RowType(extractor.keyFields(tableSchema)),
@@ -168,6 +174,12 @@ public class ChangelogValueCountFileStoreTable extends AbstractFileStoreTable {
         return dataFileMeta.keyStats();
     }
 
+    @Override
+    public FieldStatsMode[] getSchemaFieldStatsModes(TableSchema schema) {
+        // key fields always have full stats
+        return FieldStatsMode.full(schema.fields().size());
+    }
+
     /**
      * {@link KeyValueFieldsExtractor} implementation for {@link ChangelogValueCountFileStoreTable}.
      */
@@ -18,8 +18,10 @@
 
 package org.apache.paimon.table;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.FileStore;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.format.FieldStatsMode;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.stats.BinaryTableStats;
@@ -67,4 +69,9 @@ public interface FileStoreTable extends DataTable, SupportsPartition {
     default BinaryTableStats getSchemaFieldStats(DataFileMeta dataFileMeta) {
         return dataFileMeta.valueStats();
     }
+
+    /** Stats modes of the fields of the given schema in {@link #getSchemaFieldStats}. */
+    default FieldStatsMode[] getSchemaFieldStatsModes(TableSchema schema) {
+        return new CoreOptions(schema.options()).statsModes(schema.fieldNames());
+    }
 }
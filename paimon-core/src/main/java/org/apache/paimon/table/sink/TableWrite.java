@@ -21,6 +21,7 @@ package org.apache.paimon.table.sink;
 import org.apache.paimon.annotation.Experimental;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.table.Table;
 
@@ -44,6 +45,16 @@ public interface TableWrite extends AutoCloseable {
     /** Write a row to the writer. */
     void write(InternalRow row) throws Exception;
 
+    /**
+     * Write all rows of a columnar batch to the writer, the rows must be inserts and belong to the
+     * given partition and bucket. Writers of append-only tables write whole column vectors, other
+     * writers write the rows one by one.
+     *
+     * @throws IllegalArgumentException if any row does not belong to the given partition and
+     *     bucket, nothing of the batch is written then
+     */
+    void writeBatch(BinaryRow partition, int bucket, VectorizedColumnBatch batch) throws Exception;
+
     /**
      * Compact a bucket of a partition. By default, it will determine whether to perform the
      * compaction according to the 'num-sorted-run.compaction-trigger' option. If fullCompaction is
@@ -21,6 +21,8 @@ package org.apache.paimon.table.sink;
 import org.apache.paimon.FileStore;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.operation.AbstractFileStoreWrite;
@@ -29,6 +31,7 @@ import org.apache.paimon.utils.Restorable;
 
 import java.util.List;
 
+import static org.apache.paimon.utils.Preconditions.checkArgument;
 import static org.apache.paimon.utils.Preconditions.checkState;
 
 /**
@@ -87,6 +90,32 @@ public class TableWriteImpl<T>
         return record;
     }
 
+    @Override
+    public void writeBatch(BinaryRow partition, int bucket, VectorizedColumnBatch batch)
+            throws Exception {
+        // check all rows before writing any of them, so a misplaced batch writes nothing
+        ColumnarRow row = new ColumnarRow(batch);
+        for (int i = 0; i < batch.getNumRows(); i++) {
+            row.setRowId(i);
+            checkArgument(
+                    recordConverter.bucket(row) == bucket
+                            && recordConverter.partition(row).equals(partition),
+                    "Row %s of the batch does not belong to the given partition and bucket %s.",
+                    i,
+                    bucket);
+        }
+
+        if (write.writeBatch(partition, bucket, batch)) {
+            return;
+        }
+
+        for (int i = 0; i < batch.getNumRows(); i++) {
+            row.setRowId(i);
+            SinkRecord record = recordConverter.convert(row);
+            write.write(partition, bucket, recordExtractor.extract(record));
+        }
+    }
+
     public SinkRecord toLogRecord(SinkRecord record) {
         return recordConverter.convertToLogSinkRecord(record);
     }
@@ -233,6 +233,7 @@ public class FilesTable implements ReadonlyTable {
             FieldStatsConverters fieldStatsConverters =
                     new FieldStatsConverters(
                             sid -> schemaManager.schema(sid).fields(),
+                            sid -> table.getSchemaFieldStatsModes(schemaManager.schema(sid)),
                             dataFilePlan.snapshotId == null
                                     ? table.schema().id()
                                     : table.snapshotManager()
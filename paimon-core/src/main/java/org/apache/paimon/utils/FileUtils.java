@@ -30,6 +30,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.stream.Stream;
@@ -37,20 +39,32 @@ import java.util.stream.Stream;
 /** Utils for file reading and writing. */
 public class FileUtils {
 
-    public static final ForkJoinPool COMMON_IO_FORK_JOIN_POOL;
+    public static final ForkJoinPool COMMON_IO_FORK_JOIN_POOL =
+            createForkJoinPool("file-store-common-io-", Runtime.getRuntime().availableProcessors());
+
+    private static final Map<Integer, ForkJoinPool> IO_FORK_JOIN_POOLS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a fork join pool for IO tasks with the given parallelism, which is shared by all
+     * callers asking for the same parallelism. Idle threads of the pool are reclaimed, so the pool
+     * is never shut down.
+     */
+    public static ForkJoinPool ioForkJoinPool(int parallelism) {
+        return IO_FORK_JOIN_POOLS.computeIfAbsent(
+                parallelism, p -> createForkJoinPool("file-store-io-" + p + "-", p));
+    }
 
     // if we want to name threads in the fork join pool we need all these
     // see https://stackoverflow.com/questions/34303094/
-    static {
+    private static ForkJoinPool createForkJoinPool(String threadNamePrefix, int parallelism) {
         ForkJoinPool.ForkJoinWorkerThreadFactory factory =
                 pool -> {
                     ForkJoinWorkerThread worker =
                             ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
-                    worker.setName("file-store-common-io-" + worker.getPoolIndex());
+                    worker.setName(threadNamePrefix + worker.getPoolIndex());
                     return worker;
                 };
-        COMMON_IO_FORK_JOIN_POOL =
-                new ForkJoinPool(Runtime.getRuntime().availableProcessors(), factory, null, false);
+        return new ForkJoinPool(parallelism, factory, null, false);
     }
 
     public static <T> List<T> readListFromFile(
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.flink.shaded.guava30.com.google.common.cache.Cache;
+import org.apache.flink.shaded.guava30.com.google.common.cache.CacheBuilder;
+import org.apache.flink.shaded.guava30.com.google.common.cache.CacheStats;
+import org.apache.flink.shaded.guava30.com.google.common.util.concurrent.UncheckedExecutionException;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.format.FormatReaderFactory;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.options.MemorySize;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A process-wide cache for the records of immutable files, such as manifest files and manifest
+ * lists. Records are cached as {@link BinaryRow}s so that the cache is weighted by their actual
+ * memory size, and every reader gets its own deserialized objects.
+ *
+ * <p>Files are identified by their paths. The files cached here are never modified after being
+ * written, so cached records never need to be invalidated.
+ */
+public class ObjectsCache {
+
+    /** Estimated memory overhead of a cached file and of each cached row, in bytes. */
+    private static final int FILE_OVERHEAD = 128;
+
+    private static final int ROW_OVERHEAD = 64;
+
+    private static final ConcurrentMap<Long, ObjectsCache> SHARED_CACHES =
+            new ConcurrentHashMap<>();
+
+    private final Cache<Path, List<BinaryRow>> cache;
+
+    public ObjectsCache(MemorySize maxMemorySize) {
+        this.cache =
+                CacheBuilder.newBuilder()
+                        .weigher(ObjectsCache::weigh)
+                        .maximumWeight(maxMemorySize.getBytes())
+                        .recordStats()
+                        .build();
+    }
+
+    /**
+     * Returns the cache shared by the whole process for the given max memory size. Tables
+     * configured with the same size share one cache.
+     */
+    public static ObjectsCache shared(MemorySize maxMemorySize) {
+        return SHARED_CACHES.computeIfAbsent(
+                maxMemorySize.getBytes(), size -> new ObjectsCache(maxMemorySize));
+    }
+
+    public <T> List<T> read(
+            FileIO fileIO,
+            Path path,
+            ObjectSerializer<T> serializer,
+            FormatReaderFactory readerFactory)
+            throws IOException {
+        List<BinaryRow> rows;
+        try {
+            rows = cache.get(path, () -> readRows(fileIO, path, serializer, readerFactory));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+
+        List<T> result = new ArrayList<>(rows.size());
+        for (BinaryRow row : rows) {
+            result.add(serializer.fromRow(row));
+        }
+        return result;
+    }
+
+    private static List<BinaryRow> readRows(
+            FileIO fileIO,
+            Path path,
+            ObjectSerializer<?> serializer,
+            FormatReaderFactory readerFactory)
+            throws IOException {
+        // the serializer may be shared by multiple threads, duplicate it for thread safety
+        InternalRowSerializer rowSerializer =
+                (InternalRowSerializer) serializer.rowSerializer.duplicate();
+        List<BinaryRow> rows = new ArrayList<>();
+        FileUtils.createFormatReader(fileIO, readerFactory, path)
+                .forEachRemaining(
+                        (InternalRow row) -> rows.add(rowSerializer.toBinaryRow(row).copy()));
+        return rows;
+    }
+
+    private static int weigh(Path path, List<BinaryRow> rows) {
+        long weight = FILE_OVERHEAD;
+        for (BinaryRow row : rows) {
+            weight += ROW_OVERHEAD + row.getSizeInBytes();
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    public long evictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    @Override
+    public String toString() {
+        CacheStats stats = cache.stats();
+        return String.format(
+                "ObjectsCache{size=%d, hitCount=%d, missCount=%d, evictionCount=%d}",
+                cache.size(), stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+}
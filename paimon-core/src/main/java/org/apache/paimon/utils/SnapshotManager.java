@@ -30,6 +30,7 @@ import java.util.Iterator;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BinaryOperator;
+import java.util.function.LongPredicate;
 
 import static org.apache.paimon.utils.FileUtils.listVersionedFiles;
 
@@ -126,13 +127,8 @@ public class SnapshotManager implements Serializable {
             return null;
         }
 
-        for (long i = latest; i >= earliest; i--) {
-            long commitTime = snapshot(i).timeMillis();
-            if (commitTime < timestampMills) {
-                return i;
-            }
-        }
-        return earliest - 1;
+        Long snapshotId = latestMatching(earliest, latest, t -> t < timestampMills);
+        return snapshotId == null ? earliest - 1 : snapshotId;
     }
 
     /** Returns a snapshot earlier than or equals to the timestamp mills. */
@@ -143,13 +139,44 @@ public class SnapshotManager implements Serializable {
             return null;
         }
 
-        for (long i = latest; i >= earliest; i--) {
-            long commitTime = snapshot(i).timeMillis();
-            if (commitTime <= timestampMills) {
-                return i;
+        return latestMatching(earliest, latest, t -> t <= timestampMills);
+    }
+
+    /**
+     * Binary searches the latest snapshot in [earliest, latest] whose commit time matches the
+     * predicate. Commit times increase with snapshot ids, so once a snapshot matches, all snapshots
+     * before it match too. Only O(log n) snapshots are read instead of every snapshot.
+     */
+    private @Nullable Long latestMatching(
+            long earliest, long latest, LongPredicate commitTimeMatches) {
+        Long result = null;
+        long low = earliest;
+        long high = latest;
+        while (low <= high) {
+            long mid = low + (high - low) / 2;
+            Snapshot snapshot = tryGetSnapshot(mid);
+            if (snapshot == null) {
+                // expired concurrently, so are all snapshots before it
+                low = mid + 1;
+            } else if (commitTimeMatches.test(snapshot.timeMillis())) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    private @Nullable Snapshot tryGetSnapshot(long snapshotId) {
+        try {
+            return snapshot(snapshotId);
+        } catch (RuntimeException e) {
+            if (!snapshotExists(snapshotId)) {
+                return null;
             }
+            throw e;
         }
-        return null;
     }
 
     public long snapshotCount() throws IOException {
@@ -473,10 +473,11 @@ public class TestFileStore extends KeyValueFileStore {
         // data file
         List<ManifestEntry> entries = scan.withManifestList(manifests).plan().files();
         for (ManifestEntry entry : entries) {
-            result.add(
-                    new Path(
-                            pathFactory.bucketPath(entry.partition(), entry.bucket()),
-                            entry.file().fileName()));
+            Path bucketPath = pathFactory.bucketPath(entry.partition(), entry.bucket());
+            result.add(new Path(bucketPath, entry.file().fileName()));
+            for (String extraFile : entry.file().extraFiles()) {
+                result.add(new Path(bucketPath, extraFile));
+            }
         }
 
         return result;
@@ -495,6 +496,7 @@ public class TestFileStore extends KeyValueFileStore {
         private final MergeFunctionFactory<KeyValue> mfFactory;
 
         private CoreOptions.ChangelogProducer changelogProducer;
+        private Integer commitThreadNum;
 
         public Builder(
                 String format,
@@ -522,6 +524,11 @@ public class TestFileStore extends KeyValueFileStore {
             return this;
         }
 
+        public Builder commitThreadNum(int commitThreadNum) {
+            this.commitThreadNum = commitThreadNum;
+            return this;
+        }
+
         public TestFileStore build() {
             Options conf = new Options();
 
@@ -539,6 +546,9 @@ public class TestFileStore extends KeyValueFileStore {
             conf.set(CoreOptions.BUCKET, numBuckets);
 
             conf.set(CoreOptions.CHANGELOG_PRODUCER, changelogProducer);
+            if (commitThreadNum != null) {
+                conf.set(CoreOptions.COMMIT_THREAD_NUM, commitThreadNum);
+            }
 
             return new TestFileStore(
                     root,
@@ -24,6 +24,10 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
 import org.apache.paimon.format.FieldStats;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.fs.Path;
@@ -44,6 +48,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -124,6 +129,47 @@ public class AppendOnlyWriterTest {
         assertThat(meta.level()).isEqualTo(DataFileMeta.DUMMY_LEVEL);
     }
 
+    @Test
+    public void testBatchWrite() throws Exception {
+        AppendOnlyWriter writer = createEmptyWriter(1024 * 1024L);
+        writer.write(row(0, "AAA", PART));
+
+        String[] names = {"BBB", null, "CCC"};
+        HeapIntVector ids = new HeapIntVector(names.length);
+        HeapBytesVector nameVector = new HeapBytesVector(names.length);
+        HeapBytesVector dts = new HeapBytesVector(names.length);
+        byte[] part = PART.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < names.length; i++) {
+            ids.setInt(i, i + 1);
+            if (names[i] == null) {
+                nameVector.setNullAt(i);
+                nameVector.appendBytes(i, new byte[0], 0, 0);
+            } else {
+                byte[] name = names[i].getBytes(StandardCharsets.UTF_8);
+                nameVector.appendBytes(i, name, 0, name.length);
+            }
+            dts.appendBytes(i, part, 0, part.length);
+        }
+        VectorizedColumnBatch batch =
+                new VectorizedColumnBatch(new ColumnVector[] {ids, nameVector, dts});
+        batch.setNumRows(names.length);
+        writer.writeBatch(batch);
+
+        CommitIncrement increment = writer.prepareCommit(true);
+        writer.close();
+
+        assertThat(increment.newFilesIncrement().newFiles().size()).isEqualTo(1);
+        DataFileMeta meta = increment.newFilesIncrement().newFiles().get(0);
+        assertThat(meta.rowCount()).isEqualTo(4L);
+        FieldStats[] expected =
+                new FieldStats[] {
+                    initStats(0, 3, 0), initStats("AAA", "CCC", 1), initStats(PART, PART, 0)
+                };
+        assertThat(meta.valueStats()).isEqualTo(STATS_SERIALIZER.toBinary(expected));
+        assertThat(meta.minSequenceNumber()).isEqualTo(0);
+        assertThat(meta.maxSequenceNumber()).isEqualTo(3);
+    }
+
     @Test
     public void testMultipleCommits() throws Exception {
         RecordWriter<InternalRow> writer =
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.utils.ExecutorThreadFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link CompactExecutor}. */
+public class CompactExecutorTest {
+
+    private CompactExecutor executor;
+
+    @BeforeEach
+    public void beforeEach() {
+        executor = new CompactExecutor(1, new ExecutorThreadFactory("compaction-test"));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPriority() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        Future<?> blocking =
+                executor.submit(
+                        () -> {
+                            blocker.await();
+                            return null;
+                        });
+
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        List<Future<CompactResult>> futures = new ArrayList<>();
+        int[] priorities = {10, 50, 0, 50, 100};
+        for (int i = 0; i < priorities.length; i++) {
+            futures.add(
+                    executor.submit(new TestCompactTask(i, executed).withPriority(priorities[i])));
+        }
+        assertThat(executor.queueDepth()).isEqualTo(priorities.length);
+
+        blocker.countDown();
+        blocking.get();
+        for (Future<CompactResult> future : futures) {
+            future.get();
+        }
+
+        // higher priority first, same priority in submission order
+        assertThat(executed).containsExactly(4, 1, 3, 0, 2);
+
+        // metrics are updated after futures are completed
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(executor.queueDepth()).isEqualTo(0);
+        assertThat(executor.finishedTasks()).isEqualTo(priorities.length + 1);
+        assertThat(executor.avgExecutionMillis()).isGreaterThanOrEqualTo(0);
+        assertThat(executor.avgQueueMillis()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    public void testRunnable() throws Exception {
+        CountDownLatch latch = new CountDownLatch(2);
+        executor.execute(latch::countDown);
+        executor.submit(latch::countDown).get();
+        latch.await();
+        assertThat(latch.getCount()).isEqualTo(0);
+    }
+
+    private static class TestCompactTask extends CompactTask {
+
+        private final int id;
+        private final List<Integer> executed;
+
+        private TestCompactTask(int id, List<Integer> executed) {
+            super(Collections.emptyList());
+            this.id = id;
+            this.executed = executed;
+        }
+
+        @Override
+        protected CompactResult doCompact(List<DataFileMeta> inputs) {
+            executed.add(id);
+            return new CompactResult();
+        }
+    }
+}
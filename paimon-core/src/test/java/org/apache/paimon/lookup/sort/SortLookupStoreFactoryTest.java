@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.KeyComparatorSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link SortLookupStoreFactory}. */
+public class SortLookupStoreFactoryTest {
+
+    private static final Comparator<byte[]> KEY_COMPARATOR =
+            Comparator.comparingLong(key -> ByteBuffer.wrap(key).getLong());
+
+    @TempDir Path tempDir;
+
+    private File file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        this.file = new File(tempDir.toFile(), UUID.randomUUID().toString());
+        if (!file.createNewFile()) {
+            throw new IOException("Can not create file: " + file);
+        }
+    }
+
+    private SortLookupStoreFactory createFactory(boolean compressionEnabled) {
+        return new SortLookupStoreFactory(
+                KEY_COMPARATOR,
+                new CacheManager(1024, MemorySize.ofMebiBytes(1)),
+                1024,
+                compressionEnabled);
+    }
+
+    private static byte[] key(long key) {
+        return ByteBuffer.allocate(8).putLong(key).array();
+    }
+
+    private static byte[] value(long key) {
+        return ("value-" + key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        SortLookupStoreFactory factory = createFactory(true);
+        factory.createWriter(file).close();
+
+        SortLookupStoreReader reader = factory.createReader(file);
+        assertThat(reader.lookup(key(1))).isNull();
+        assertThat(reader.iterator(null).hasNext()).isFalse();
+        assertThat(reader.recordCount()).isEqualTo(0);
+        reader.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testLookupAndIterate(boolean compressionEnabled) throws IOException {
+        SortLookupStoreFactory factory = createFactory(compressionEnabled);
+        TreeSet<Long> keys = new TreeSet<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (keys.size() < 5000) {
+            keys.add(random.nextLong(100000));
+        }
+
+        SortLookupStoreWriter writer = factory.createWriter(file);
+        for (long key : keys) {
+            writer.put(key(key), value(key));
+        }
+        writer.close();
+
+        SortLookupStoreReader reader = factory.createReader(file);
+        assertThat(reader.recordCount()).isEqualTo(keys.size());
+        for (long key = -1; key <= 100000; key++) {
+            byte[] value = reader.lookup(key(key));
+            if (keys.contains(key)) {
+                assertThat(value).isEqualTo(value(key));
+            } else {
+                assertThat(value).isNull();
+            }
+        }
+
+        // range scans from present and absent keys
+        for (int i = 0; i < 100; i++) {
+            long from = random.nextLong(-10, 100010);
+            List<Long> expected = new ArrayList<>(keys.tailSet(from, true));
+            List<Long> actual = new ArrayList<>();
+            Iterator<Map.Entry<byte[], byte[]>> iterator = reader.iterator(key(from));
+            while (iterator.hasNext()) {
+                Map.Entry<byte[], byte[]> entry = iterator.next();
+                long key = ByteBuffer.wrap(entry.getKey()).getLong();
+                assertThat(entry.getValue()).isEqualTo(value(key));
+                actual.add(key);
+            }
+            assertThat(actual).isEqualTo(expected);
+        }
+        reader.close();
+    }
+
+    @Test
+    public void testSerializedRowKeys() throws IOException {
+        RowType keyType =
+                RowType.of(
+                        DataTypes.INT(),
+                        DataTypes.STRING(),
+                        DataTypes.BYTES(),
+                        DataTypes.DECIMAL(20, 2),
+                        DataTypes.TIMESTAMP(9),
+                        DataTypes.DOUBLE());
+        RowCompactedSerializer serializer = new RowCompactedSerializer(keyType);
+        Comparator<InternalRow> rowComparator = new KeyComparatorSupplier(keyType).get();
+        Comparator<byte[]> keyComparator = RowCompactedSerializer.createSliceComparator(keyType);
+        assertThat(keyComparator).isNotNull();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<InternalRow> rows = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            rows.add(randomKey(random));
+        }
+        for (int i = 0; i < 10000; i++) {
+            InternalRow row1 = rows.get(random.nextInt(rows.size()));
+            InternalRow row2 = rows.get(random.nextInt(rows.size()));
+            assertThat(
+                            Integer.signum(
+                                    keyComparator.compare(
+                                            serializer.serializeToBytes(row1),
+                                            serializer.serializeToBytes(row2))))
+                    .isEqualTo(Integer.signum(rowComparator.compare(row1, row2)));
+        }
+
+        // write keys in the order of the row comparator and look them up by serialized keys
+        TreeMap<InternalRow, byte[]> sorted = new TreeMap<>(rowComparator);
+        for (int i = 0; i < rows.size() / 2; i++) {
+            sorted.put(rows.get(i), serializer.serializeToBytes(rows.get(i)));
+        }
+        SortLookupStoreFactory factory =
+                new SortLookupStoreFactory(
+                        keyComparator,
+                        new CacheManager(1024, MemorySize.ofMebiBytes(1)),
+                        1024,
+                        true);
+        SortLookupStoreWriter writer = factory.createWriter(file);
+        for (byte[] key : sorted.values()) {
+            writer.put(key, key);
+        }
+        writer.close();
+
+        SortLookupStoreReader reader = factory.createReader(file);
+        for (InternalRow row : rows) {
+            byte[] key = serializer.serializeToBytes(row);
+            if (sorted.containsKey(row)) {
+                assertThat(reader.lookup(key)).isEqualTo(sorted.get(row));
+            } else {
+                assertThat(reader.lookup(key)).isNull();
+            }
+        }
+        reader.close();
+    }
+
+    private static InternalRow randomKey(ThreadLocalRandom random) {
+        // few distinct values per field so that rows often share leading fields
+        return GenericRow.of(
+                random.nextInt(10) == 0 ? null : random.nextInt(-2, 2),
+                random.nextInt(10) == 0 ? null : BinaryString.fromString(randomString(random)),
+                random.nextInt(10) == 0 ? null : randomString(random).getBytes(),
+                random.nextInt(10) == 0
+                        ? null
+                        : Decimal.fromBigDecimal(
+                                new BigDecimal(random.nextLong(-1000, 1000)).movePointLeft(2),
+                                20,
+                                2),
+                random.nextInt(10) == 0
+                        ? null
+                        : Timestamp.fromEpochMillis(random.nextLong(2), random.nextInt(2)),
+                random.nextInt(10) == 0 ? null : (double) random.nextInt(-2, 2));
+    }
+
+    private static String randomString(ThreadLocalRandom random) {
+        // variable lengths with shared prefixes, some longer than a single varint byte
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(5) == 0 ? random.nextInt(100, 300) : random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(2)));
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void testCompression() throws IOException {
+        File uncompressed = new File(tempDir.toFile(), UUID.randomUUID().toString());
+        writeRepetitiveValues(createFactory(false), uncompressed);
+        writeRepetitiveValues(createFactory(true), file);
+        assertThat(file.length()).isLessThan(uncompressed.length() / 2);
+
+        SortLookupStoreReader reader = createFactory(true).createReader(file);
+        for (long key = 0; key < 1000; key++) {
+            assertThat(reader.lookup(key(key))).isEqualTo(repetitiveValue(key));
+        }
+        reader.close();
+    }
+
+    private void writeRepetitiveValues(SortLookupStoreFactory factory, File file)
+            throws IOException {
+        SortLookupStoreWriter writer = factory.createWriter(file);
+        for (long key = 0; key < 1000; key++) {
+            writer.put(key(key), repetitiveValue(key));
+        }
+        writer.close();
+    }
+
+    private static byte[] repetitiveValue(long key) {
+        byte[] value = new byte[100];
+        value[0] = (byte) key;
+        return value;
+    }
+
+    @Test
+    public void testConcurrentLookup() throws Exception {
+        SortLookupStoreFactory factory = createFactory(true);
+        int numKeys = 10000;
+        SortLookupStoreWriter writer = factory.createWriter(file);
+        for (long key = 0; key < numKeys; key++) {
+            writer.put(key(key * 2), value(key * 2));
+        }
+        writer.close();
+
+        SortLookupStoreReader reader = factory.createReader(file);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                                    for (int i = 0; i < 5000; i++) {
+                                        long key = random.nextLong(numKeys * 2);
+                                        byte[] value = reader.lookup(key(key));
+                                        if (key % 2 == 0) {
+                                            assertThat(value).isEqualTo(value(key));
+                                        } else {
+                                            assertThat(value).isNull();
+                                        }
+                                    }
+                                    return null;
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            reader.close();
+        }
+    }
+}
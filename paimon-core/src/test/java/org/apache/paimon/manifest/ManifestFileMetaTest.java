@@ -41,6 +41,8 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -48,6 +50,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -76,11 +79,26 @@ public class ManifestFileMetaTest {
     @ParameterizedTest
     @ValueSource(ints = {2, 3, 4})
     public void testMerge(int numLastBits) {
+        innerTestMerge(numLastBits, null);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4})
+    public void testMergeConcurrently(int numLastBits) {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            innerTestMerge(numLastBits, pool);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void innerTestMerge(int numLastBits, @Nullable ForkJoinPool pool) {
         List<ManifestFileMeta> input = new ArrayList<>();
         List<ManifestFileMeta> expected = new ArrayList<>();
         createData(numLastBits, input, expected);
 
-        List<ManifestFileMeta> actual = ManifestFileMeta.merge(input, manifestFile, 500, 3);
+        List<ManifestFileMeta> actual = ManifestFileMeta.merge(input, manifestFile, 500, 3, pool);
         assertThat(actual).hasSameSizeAs(expected);
 
         // these two manifest files are merged from the input
@@ -111,6 +129,20 @@ public class ManifestFileMetaTest {
 
     @RepeatedTest(10)
     public void testCleanUpForException() throws IOException {
+        innerTestCleanUpForException(null);
+    }
+
+    @RepeatedTest(10)
+    public void testCleanUpForExceptionConcurrently() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            innerTestCleanUpForException(pool);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void innerTestCleanUpForException(@Nullable ForkJoinPool pool) throws IOException {
         String failingName = UUID.randomUUID().toString();
         FailingFileIO.reset(failingName, 1, 10);
         List<ManifestFileMeta> input = new ArrayList<>();
@@ -119,7 +151,7 @@ public class ManifestFileMetaTest {
                 createManifestFile(FailingFileIO.getFailingPath(failingName, tempDir.toString()));
 
         try {
-            ManifestFileMeta.merge(input, failingManifestFile, 500, 3);
+            ManifestFileMeta.merge(input, failingManifestFile, 500, 3, pool);
         } catch (Throwable e) {
             assertThat(e).hasRootCauseExactlyInstanceOf(FailingFileIO.ArtificialException.class);
             // old files should be kept untouched, while new files should be cleaned up
@@ -19,21 +19,28 @@
 package org.apache.paimon.manifest;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.FileIOFinder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.stats.StatsTestUtils;
 import org.apache.paimon.utils.FailingFileIO;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.KeyComparatorSupplier;
+import org.apache.paimon.utils.ObjectsCache;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.io.TempDir;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
@@ -65,6 +72,29 @@ public class ManifestFileTest {
         assertThat(actualEntries).isEqualTo(entries);
     }
 
+    @RepeatedTest(10)
+    public void testWriteClusteredByPartition() {
+        List<ManifestEntry> entries = generateData();
+        ManifestFileMeta meta = gen.createManifestFileMeta(entries);
+        KeyComparatorSupplier partitionComparatorSupplier =
+                new KeyComparatorSupplier(DEFAULT_PART_TYPE);
+        ManifestFile manifestFile =
+                createManifestFile(tempDir.toString(), null, partitionComparatorSupplier);
+
+        List<ManifestFileMeta> actualMetas = manifestFile.write(entries);
+        checkRollingFiles(meta, actualMetas, manifestFile.suggestedFileSize());
+        List<ManifestEntry> actualEntries =
+                actualMetas.stream()
+                        .flatMap(m -> manifestFile.read(m.fileName()).stream())
+                        .collect(Collectors.toList());
+
+        // entries are sorted by partition, entries of the same partition keep their order
+        Comparator<InternalRow> partitionComparator = partitionComparatorSupplier.get();
+        List<ManifestEntry> expected = new ArrayList<>(entries);
+        expected.sort((a, b) -> partitionComparator.compare(a.partition(), b.partition()));
+        assertThat(actualEntries).isEqualTo(expected);
+    }
+
     @RepeatedTest(10)
     public void testCleanUpForException() throws IOException {
         String failingName = UUID.randomUUID().toString();
@@ -82,6 +112,45 @@ public class ManifestFileTest {
         }
     }
 
+    @RepeatedTest(10)
+    public void testReadWithCache() {
+        List<ManifestEntry> entries = generateData();
+        ObjectsCache cache = new ObjectsCache(MemorySize.ofMebiBytes(16));
+        ManifestFile manifestFile = createManifestFile(tempDir.toString(), cache);
+
+        List<ManifestFileMeta> actualMetas = manifestFile.write(entries);
+        for (int i = 0; i < 3; i++) {
+            List<ManifestEntry> actualEntries =
+                    actualMetas.stream()
+                            .flatMap(m -> manifestFile.read(m.fileName()).stream())
+                            .collect(Collectors.toList());
+            assertThat(actualEntries).isEqualTo(entries);
+        }
+
+        assertThat(cache.missCount()).isEqualTo(actualMetas.size());
+        assertThat(cache.hitCount()).isEqualTo(2L * actualMetas.size());
+        assertThat(cache.evictionCount()).isEqualTo(0);
+    }
+
+    @RepeatedTest(10)
+    public void testReadWithSmallCache() {
+        List<ManifestEntry> entries = generateData();
+        ObjectsCache cache = new ObjectsCache(MemorySize.ofKibiBytes(1));
+        ManifestFile manifestFile = createManifestFile(tempDir.toString(), cache);
+
+        List<ManifestFileMeta> actualMetas = manifestFile.write(entries);
+        for (int i = 0; i < 2; i++) {
+            List<ManifestEntry> actualEntries =
+                    actualMetas.stream()
+                            .flatMap(m -> manifestFile.read(m.fileName()).stream())
+                            .collect(Collectors.toList());
+            assertThat(actualEntries).isEqualTo(entries);
+        }
+
+        assertThat(cache.hitCount()).isEqualTo(0);
+        assertThat(cache.evictionCount()).isEqualTo(2L * actualMetas.size());
+    }
+
     private List<ManifestEntry> generateData() {
         List<ManifestEntry> entries = new ArrayList<>();
         for (int i = 0; i < 100; i++) {
@@ -91,6 +160,17 @@ public class ManifestFileTest {
     }
 
     private ManifestFile createManifestFile(String pathStr) {
+        return createManifestFile(pathStr, null);
+    }
+
+    private ManifestFile createManifestFile(String pathStr, @Nullable ObjectsCache cache) {
+        return createManifestFile(pathStr, cache, null);
+    }
+
+    private ManifestFile createManifestFile(
+            String pathStr,
+            @Nullable ObjectsCache cache,
+            @Nullable KeyComparatorSupplier partitionComparatorSupplier) {
         Path path = new Path(pathStr);
         FileStorePathFactory pathFactory =
                 new FileStorePathFactory(
@@ -103,7 +183,9 @@ public class ManifestFileTest {
                         DEFAULT_PART_TYPE,
                         avro,
                         pathFactory,
-                        suggestedFileSize)
+                        suggestedFileSize,
+                        cache,
+                        partitionComparatorSupplier)
                 .create();
     }
 
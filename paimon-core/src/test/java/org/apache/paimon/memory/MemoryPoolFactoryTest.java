@@ -18,9 +18,12 @@
 
 package org.apache.paimon.memory;
 
+import org.apache.paimon.CoreOptions.WriteBufferPreemptPolicy;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -42,6 +45,150 @@ public class MemoryPoolFactoryTest {
         assertThat(pool2.freePages()).isEqualTo(8);
     }
 
+    @Test
+    public void testLargestOccupancy() {
+        List<MemoryOwner> owners = new ArrayList<>();
+        MemoryPoolFactory factory =
+                new MemoryPoolFactory(
+                        new HeapMemorySegmentPool(1024 * 10, 1024),
+                        owners,
+                        MemoryPreemptPolicy.create(WriteBufferPreemptPolicy.LARGEST_OCCUPANCY));
+        PagedMemoryOwner small = newOwner(factory, owners);
+        PagedMemoryOwner large = newOwner(factory, owners);
+        PagedMemoryOwner writer = newOwner(factory, owners);
+
+        small.allocate(3);
+        large.allocate(7);
+        writer.allocate(1);
+
+        assertThat(large.pages()).isEqualTo(0);
+        assertThat(small.pages()).isEqualTo(3);
+        assertThat(writer.pages()).isEqualTo(1);
+        assertThat(factory.preemptCount()).isEqualTo(1);
+        assertThat(factory.preemptedBytes())
+                .containsEntry(MemoryPoolFactory.ACTIVE_OWNER, 7 * 1024L);
+    }
+
+    @Test
+    public void testLeastRecentlyWritten() {
+        List<MemoryOwner> owners = new ArrayList<>();
+        MemoryPoolFactory factory =
+                new MemoryPoolFactory(
+                        new HeapMemorySegmentPool(1024 * 10, 1024),
+                        owners,
+                        MemoryPreemptPolicy.create(
+                                WriteBufferPreemptPolicy.LEAST_RECENTLY_WRITTEN));
+        PagedMemoryOwner first = newOwner(factory, owners);
+        PagedMemoryOwner second = newOwner(factory, owners);
+        PagedMemoryOwner writer = newOwner(factory, owners);
+
+        first.allocate(2);
+        second.allocate(7);
+        first.allocate(1);
+        writer.allocate(1);
+
+        // second has not written since first wrote its last page
+        assertThat(second.pages()).isEqualTo(0);
+        assertThat(first.pages()).isEqualTo(3);
+        assertThat(factory.preemptCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testColdFirst() {
+        List<MemoryOwner> owners = new ArrayList<>();
+        MemoryPoolFactory factory =
+                new MemoryPoolFactory(
+                        new HeapMemorySegmentPool(1024 * 10, 1024),
+                        owners,
+                        MemoryPreemptPolicy.create(WriteBufferPreemptPolicy.COLD_FIRST));
+        PagedMemoryOwner hot = newOwner(factory, owners);
+        PagedMemoryOwner cold = newOwner(factory, owners);
+        PagedMemoryOwner writer = newOwner(factory, owners);
+
+        cold.allocate(2);
+        hot.allocate(8);
+
+        // no preemption yet, every owner is active and the largest one is flushed
+        writer.allocate(1);
+        assertThat(hot.pages()).isEqualTo(0);
+        assertThat(factory.preemptedBytes())
+                .containsEntry(MemoryPoolFactory.ACTIVE_OWNER, 8 * 1024L);
+
+        // cold has not written since the last preemption, flush it before the larger hot owner
+        hot.allocate(7);
+        writer.allocate(1);
+        assertThat(cold.pages()).isEqualTo(0);
+        assertThat(hot.pages()).isEqualTo(7);
+        assertThat(factory.preemptCount()).isEqualTo(2);
+        assertThat(factory.preemptedBytes()).containsEntry(MemoryPoolFactory.COLD_OWNER, 2 * 1024L);
+
+        assertThat(factory.ownerOccupancy())
+                .containsEntry(hot, 7 * 1024L)
+                .containsEntry(cold, 0L)
+                .containsEntry(writer, 2 * 1024L);
+    }
+
+    @Test
+    public void testClosedOwnersNotRetained() throws InterruptedException {
+        MemoryPoolFactory factory =
+                new MemoryPoolFactory(
+                        new HeapMemorySegmentPool(1024 * 10, 1024), new ArrayList<>());
+        PagedMemoryOwner owner = new PagedMemoryOwner();
+        factory.notifyNewOwner(owner);
+        owner.allocate(2);
+        owner.flushMemory();
+
+        WeakReference<PagedMemoryOwner> reference = new WeakReference<>(owner);
+        owner = null;
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(reference.get()).isNull();
+    }
+
+    private static PagedMemoryOwner newOwner(MemoryPoolFactory factory, List<MemoryOwner> owners) {
+        PagedMemoryOwner owner = new PagedMemoryOwner();
+        factory.notifyNewOwner(owner);
+        owners.add(owner);
+        return owner;
+    }
+
+    /** A {@link MemoryOwner} which holds pages until it is flushed. */
+    private static class PagedMemoryOwner implements MemoryOwner {
+
+        private final List<MemorySegment> segments = new ArrayList<>();
+        private MemorySegmentPool pool;
+
+        private void allocate(int numPages) {
+            for (int i = 0; i < numPages; i++) {
+                MemorySegment segment = pool.nextSegment();
+                assertThat(segment).isNotNull();
+                segments.add(segment);
+            }
+        }
+
+        private int pages() {
+            return segments.size();
+        }
+
+        @Override
+        public void setMemoryPool(MemorySegmentPool memoryPool) {
+            this.pool = memoryPool;
+        }
+
+        @Override
+        public long memoryOccupancy() {
+            return (long) segments.size() * pool.pageSize();
+        }
+
+        @Override
+        public void flushMemory() {
+            pool.returnAll(segments);
+            segments.clear();
+        }
+    }
+
     private static class TestMemoryOwner implements MemoryOwner {
         @Override
         public void setMemoryPool(MemorySegmentPool memoryPool) {}
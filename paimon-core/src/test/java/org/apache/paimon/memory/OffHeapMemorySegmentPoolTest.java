@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link OffHeapMemorySegmentPool}. */
+public class OffHeapMemorySegmentPoolTest {
+
+    @Test
+    public void testAllocateLazilyAndReuse() {
+        OffHeapMemorySegmentPool pool = new OffHeapMemorySegmentPool(1024 * 10, 1024);
+        assertThat(pool.pageSize()).isEqualTo(1024);
+        assertThat(pool.allocatedPages()).isEqualTo(0);
+        assertThat(pool.freePages()).isEqualTo(10);
+
+        MemorySegment first = pool.nextSegment();
+        assertThat(pool.allocatedPages()).isEqualTo(1);
+        assertThat(pool.freePages()).isEqualTo(9);
+        pool.returnAll(Collections.singletonList(first));
+        assertThat(pool.allocatedPages()).isEqualTo(1);
+        assertThat(pool.freePages()).isEqualTo(10);
+
+        List<MemorySegment> segments = new ArrayList<>();
+        MemorySegment segment;
+        while ((segment = pool.nextSegment()) != null) {
+            assertThat(segment.isOffHeap()).isTrue();
+            assertThat(segment.size()).isEqualTo(1024);
+            segments.add(segment);
+        }
+        assertThat(segments).hasSize(10);
+        assertThat(pool.freePages()).isEqualTo(0);
+
+        segments.get(0).putLong(0, 42L);
+        pool.returnAll(segments.subList(0, 4));
+        assertThat(pool.freePages()).isEqualTo(4);
+        assertThat(pool.allocatedPages()).isEqualTo(10);
+
+        // returned pages are reused instead of allocating new ones
+        List<MemorySegment> reused = new ArrayList<>();
+        while ((segment = pool.nextSegment()) != null) {
+            reused.add(segment);
+        }
+        assertThat(reused).containsExactlyInAnyOrderElementsOf(segments.subList(0, 4));
+        assertThat(pool.allocatedPages()).isEqualTo(10);
+        pool.close();
+    }
+
+    @Test
+    public void testClose() {
+        OffHeapMemorySegmentPool pool = new OffHeapMemorySegmentPool(1024 * 10, 1024);
+        List<MemorySegment> segments = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            segments.add(pool.nextSegment());
+        }
+        pool.returnAll(segments);
+
+        pool.close();
+        assertThat(pool.allocatedPages()).isEqualTo(0);
+        assertThat(pool.freePages()).isEqualTo(10);
+        // closed pages are not handed out again
+        assertThat(pool.nextSegment()).isNotIn(segments);
+        pool.close();
+    }
+
+    @Test
+    public void testMemoryPoolFactory() {
+        OffHeapMemorySegmentPool pool = new OffHeapMemorySegmentPool(1024 * 10, 1024);
+        MemoryPoolFactory factory = new MemoryPoolFactory(pool, new ArrayList<>());
+        MemorySegmentPool subPool = factory.createSubPool(new TestMemoryOwner());
+
+        List<MemorySegment> segments = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            segments.add(subPool.nextSegment());
+        }
+        assertThat(subPool.freePages()).isEqualTo(7);
+        assertThat(pool.freePages()).isEqualTo(7);
+
+        subPool.returnAll(segments);
+        assertThat(subPool.freePages()).isEqualTo(10);
+        assertThat(pool.freePages()).isEqualTo(10);
+        pool.close();
+    }
+
+    private static class TestMemoryOwner implements MemoryOwner {
+        @Override
+        public void setMemoryPool(MemorySegmentPool memoryPool) {}
+
+        @Override
+        public long memoryOccupancy() {
+            return 0;
+        }
+
+        @Override
+        public void flushMemory() {}
+    }
+}
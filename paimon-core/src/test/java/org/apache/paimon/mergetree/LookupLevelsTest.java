@@ -25,11 +25,16 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.format.FlushingFileFormat;
 import org.apache.paimon.fs.FileIOFinder;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataFilePathFactory;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.lookup.LookupStoreReader;
+import org.apache.paimon.lookup.LookupStoreWriter;
 import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
@@ -44,6 +49,8 @@ import org.apache.paimon.utils.FileStorePathFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javax.annotation.Nullable;
+
 import java.io.File;
 import java.io.IOException;
 import java.time.Duration;
@@ -55,6 +62,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.paimon.CoreOptions.TARGET_FILE_SIZE;
 import static org.apache.paimon.KeyValue.UNKNOWN_SEQUENCE;
@@ -195,7 +203,101 @@ public class LookupLevelsTest {
         assertThat(lookupLevels.lookupFiles().size()).isEqualTo(0);
     }
 
+    @Test
+    public void testBloomFilter() throws IOException {
+        KeyValue[] records = new KeyValue[100];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = kv(i * 2, i);
+        }
+        Levels levels = new Levels(comparator, Collections.singletonList(newFile(1, records)), 1);
+
+        AtomicInteger withoutFilter = new AtomicInteger();
+        LookupLevels lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10), withoutFilter, null, null);
+        lookupAbsentKeys(lookupLevels, records.length);
+        assertThat(withoutFilter.get()).isEqualTo(records.length - 1);
+        lookupLevels.close();
+
+        AtomicInteger withFilter = new AtomicInteger();
+        lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10), withFilter, 0.01, null);
+        lookupAbsentKeys(lookupLevels, records.length);
+        assertThat(withFilter.get()).isLessThan(withoutFilter.get() / 2);
+
+        // existing keys are never filtered out
+        for (int i = 0; i < records.length; i++) {
+            KeyValue kv = lookupLevels.lookup(row(i * 2), 1);
+            assertThat(kv).isNotNull();
+            assertThat(kv.value().getInt(1)).isEqualTo(i);
+        }
+        lookupLevels.close();
+    }
+
+    @Test
+    public void testRemoteLookupFile() throws IOException {
+        LocalFileIO fileIO = LocalFileIO.create();
+        DataFilePathFactory pathFactory = createWriterFactory().pathFactory();
+        RemoteLookupFileManager remoteFileManager =
+                new RemoteLookupFileManager(fileIO, pathFactory, 0, "hash");
+        DataFileMeta file = newFile(1, kv(1, 11), kv(3, 33), kv(5, 55));
+
+        LookupLevels lookupLevels =
+                createLookupLevels(
+                        new Levels(comparator, Collections.singletonList(file), 2),
+                        MemorySize.ofMebiBytes(10),
+                        new AtomicInteger(),
+                        0.05,
+                        remoteFileManager);
+        DataFileMeta persisted = lookupLevels.persistLookupFile(file);
+        lookupLevels.close();
+        String lookupFileName =
+                file.fileName() + ".hash" + RemoteLookupFileManager.LOOKUP_FILE_SUFFIX;
+        assertThat(persisted.extraFiles()).containsExactly(lookupFileName);
+        assertThat(fileIO.exists(pathFactory.toPath(lookupFileName))).isTrue();
+        assertThat(remoteFileManager.lookupFileName(persisted)).isEqualTo(lookupFileName);
+        assertThat(
+                        new RemoteLookupFileManager(fileIO, pathFactory, 1, "hash")
+                                .lookupFileName(persisted))
+                .isNull();
+
+        // the data file is not needed anymore, lookups are served by the remote lookup file
+        fileIO.delete(pathFactory.toPath(file.fileName()), false);
+        lookupLevels =
+                createLookupLevels(
+                        new Levels(comparator, Collections.singletonList(persisted), 2),
+                        MemorySize.ofMebiBytes(10),
+                        new AtomicInteger(),
+                        0.05,
+                        remoteFileManager);
+        for (int key : new int[] {1, 3, 5}) {
+            KeyValue kv = lookupLevels.lookup(row(key), 1);
+            assertThat(kv).isNotNull();
+            assertThat(kv.level()).isEqualTo(1);
+            assertThat(kv.value().getInt(1)).isEqualTo(key * 11);
+        }
+        assertThat(lookupLevels.lookup(row(2), 1)).isNull();
+        lookupLevels.close();
+    }
+
+    private void lookupAbsentKeys(LookupLevels lookupLevels, int numRecords) throws IOException {
+        // odd keys inside the key range of the file
+        for (int i = 0; i < numRecords - 1; i++) {
+            assertThat(lookupLevels.lookup(row(i * 2 + 1), 1)).isNull();
+        }
+    }
+
     private LookupLevels createLookupLevels(Levels levels, MemorySize maxDiskSize) {
+        return createLookupLevels(levels, maxDiskSize, new AtomicInteger(), 0.05, null);
+    }
+
+    private LookupLevels createLookupLevels(
+            Levels levels,
+            MemorySize maxDiskSize,
+            AtomicInteger readerLookups,
+            @Nullable Double bloomFilterFpp,
+            @Nullable RemoteLookupFileManager remoteFileManager) {
+        LookupStoreFactory storeFactory =
+                new HashLookupStoreFactory(new CacheManager(2048, MemorySize.ofMebiBytes(1)), 0.75);
         return new LookupLevels(
                 levels,
                 comparator,
@@ -203,9 +305,33 @@ public class LookupLevelsTest {
                 rowType,
                 file -> createReaderFactory().createRecordReader(0, file.fileName(), file.level()),
                 () -> new File(tempDir.toFile(), LOOKUP_FILE_PREFIX + UUID.randomUUID()),
-                new HashLookupStoreFactory(new CacheManager(2048, MemorySize.ofMebiBytes(1)), 0.75),
+                new LookupStoreFactory() {
+                    @Override
+                    public LookupStoreWriter createWriter(File file) throws IOException {
+                        return storeFactory.createWriter(file);
+                    }
+
+                    @Override
+                    public LookupStoreReader createReader(File file) throws IOException {
+                        LookupStoreReader reader = storeFactory.createReader(file);
+                        return new LookupStoreReader() {
+                            @Override
+                            public byte[] lookup(byte[] key) throws IOException {
+                                readerLookups.incrementAndGet();
+                                return reader.lookup(key);
+                            }
+
+                            @Override
+                            public void close() throws IOException {
+                                reader.close();
+                            }
+                        };
+                    }
+                },
                 Duration.ofHours(1),
-                maxDiskSize);
+                maxDiskSize,
+                bloomFilterFpp,
+                remoteFileManager);
     }
 
     private KeyValue kv(int key, int value) {
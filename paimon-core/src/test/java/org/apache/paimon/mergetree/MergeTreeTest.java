@@ -20,6 +20,7 @@ package org.apache.paimon.mergetree;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.CoreOptions.ChangelogProducer;
+import org.apache.paimon.CoreOptions.SortEngine;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.compact.CompactResult;
 import org.apache.paimon.data.BinaryRow;
@@ -39,6 +40,7 @@ import org.apache.paimon.mergetree.compact.AbstractCompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactStrategy;
 import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.paimon.mergetree.compact.IntervalPartition;
+import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactManager;
 import org.apache.paimon.mergetree.compact.UniversalCompaction;
 import org.apache.paimon.options.MemorySize;
@@ -64,6 +66,8 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -76,8 +80,12 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
@@ -265,6 +273,100 @@ public class MergeTreeTest {
         doTestWriteRead(3, 20_000);
     }
 
+    @Test
+    public void testParallelSections() throws Exception {
+        AtomicInteger submitted = new AtomicInteger();
+        ExecutorService pool = Executors.newCachedThreadPool();
+        ExecutorService sectionExecutor =
+                new AbstractExecutorService() {
+                    @Override
+                    public void execute(Runnable command) {
+                        submitted.incrementAndGet();
+                        pool.execute(command);
+                    }
+
+                    @Override
+                    public void shutdown() {
+                        pool.shutdown();
+                    }
+
+                    @Override
+                    public List<Runnable> shutdownNow() {
+                        return pool.shutdownNow();
+                    }
+
+                    @Override
+                    public boolean isShutdown() {
+                        return pool.isShutdown();
+                    }
+
+                    @Override
+                    public boolean isTerminated() {
+                        return pool.isTerminated();
+                    }
+
+                    @Override
+                    public boolean awaitTermination(long timeout, TimeUnit unit)
+                            throws InterruptedException {
+                        return pool.awaitTermination(timeout, unit);
+                    }
+                };
+        try {
+            // small target file size and key-disjoint batches to produce many sections
+            recreateMergeTree(1024);
+            writer = createMergeTreeWriter(Collections.emptyList(), sectionExecutor, 4);
+            int perBatch = 500;
+            List<TestRecord> expected = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                List<TestRecord> records = new ArrayList<>();
+                for (TestRecord record : generateRandom(perBatch)) {
+                    records.add(new TestRecord(record.kind, record.k + i * perBatch, record.v));
+                }
+                writeAll(records);
+                expected.addAll(records);
+                writer.prepareCommit(true);
+            }
+            writer.sync();
+            writer.prepareCommit(true);
+            assertRecords(expected);
+            assertThat(submitted.get()).isGreaterThan(0);
+
+            // output files of each level are ordered by keys
+            Levels levels =
+                    ((MergeTreeCompactManager) ((MergeTreeWriter) writer).compactManager())
+                            .levels();
+            for (int level = 1; level < levels.numberOfLevels(); level++) {
+                List<DataFileMeta> files = levels.runOfLevel(level).files();
+                for (int i = 1; i < files.size(); i++) {
+                    assertThat(comparator.compare(files.get(i - 1).maxKey(), files.get(i).minKey()))
+                            .isLessThan(0);
+                }
+            }
+        } finally {
+            sectionExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAsyncFlush() throws Exception {
+        ThreadPoolExecutor flushExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+        try {
+            writer = createMergeTreeWriter(Collections.emptyList(), null, 1, flushExecutor, null);
+            doTestWriteRead(3, 20_000);
+            assertThat(flushExecutor.getCompletedTaskCount()).isGreaterThan(0);
+        } finally {
+            flushExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPreMerge() throws Exception {
+        writer =
+                createMergeTreeWriter(
+                        Collections.emptyList(), null, 1, null, DeduplicateMergeFunction.factory());
+        doTestWriteRead(3, 20_000);
+    }
+
     private void doTestWriteRead(int batchNumber) throws Exception {
         doTestWriteRead(batchNumber, 200);
     }
@@ -312,6 +414,22 @@ public class MergeTreeTest {
     }
 
     private MergeTreeWriter createMergeTreeWriter(List<DataFileMeta> files) {
+        return createMergeTreeWriter(files, null, 1);
+    }
+
+    private MergeTreeWriter createMergeTreeWriter(
+            List<DataFileMeta> files,
+            @Nullable ExecutorService sectionExecutor,
+            int sectionParallelism) {
+        return createMergeTreeWriter(files, sectionExecutor, sectionParallelism, null, null);
+    }
+
+    private MergeTreeWriter createMergeTreeWriter(
+            List<DataFileMeta> files,
+            @Nullable ExecutorService sectionExecutor,
+            int sectionParallelism,
+            @Nullable ExecutorService flushExecutor,
+            @Nullable MergeFunctionFactory<KeyValue> preMergeFunctionFactory) {
         long maxSequenceNumber =
                 files.stream().map(DataFileMeta::maxSequenceNumber).max(Long::compare).orElse(-1L);
         MergeTreeWriter writer =
@@ -319,21 +437,29 @@ public class MergeTreeTest {
                         false,
                         128,
                         null,
-                        createCompactManager(service, files),
+                        createCompactManager(service, files, sectionExecutor, sectionParallelism),
                         maxSequenceNumber,
                         comparator,
                         DeduplicateMergeFunction.factory().create(),
                         writerFactory,
                         options.commitForceCompact(),
                         ChangelogProducer.NONE,
+                        null,
+                        flushExecutor,
+                        preMergeFunctionFactory,
                         null);
-        writer.setMemoryPool(
-                new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize()));
+        // each of the two write buffers of async flushing can use half of the memory
+        long writeBufferSize =
+                flushExecutor == null ? options.writeBufferSize() : 2 * options.writeBufferSize();
+        writer.setMemoryPool(new HeapMemorySegmentPool(writeBufferSize, options.pageSize()));
         return writer;
     }
 
     private MergeTreeCompactManager createCompactManager(
-            ExecutorService compactExecutor, List<DataFileMeta> files) {
+            ExecutorService compactExecutor,
+            List<DataFileMeta> files,
+            @Nullable ExecutorService sectionExecutor,
+            int sectionParallelism) {
         CompactStrategy strategy =
                 new UniversalCompaction(
                         options.maxSizeAmplificationPercent(),
@@ -347,7 +473,9 @@ public class MergeTreeTest {
                 comparator,
                 options.targetFileSize(),
                 options.numSortedRunStopTrigger(),
-                new TestRewriter());
+                new TestRewriter(),
+                sectionExecutor,
+                sectionParallelism);
     }
 
     private void mergeCompacted(
@@ -426,7 +554,8 @@ public class MergeTreeTest {
                         dropDelete,
                         readerFactory,
                         comparator,
-                        DeduplicateMergeFunction.factory().create());
+                        DeduplicateMergeFunction.factory().create(),
+                        SortEngine.MIN_HEAP);
         List<TestRecord> records = new ArrayList<>();
         try (RecordReaderIterator<KeyValue> iterator = new RecordReaderIterator<>(reader)) {
             while (iterator.hasNext()) {
@@ -469,7 +598,8 @@ public class MergeTreeTest {
                             dropDelete,
                             compactReaderFactory,
                             comparator,
-                            DeduplicateMergeFunction.factory().create());
+                            DeduplicateMergeFunction.factory().create(),
+                            SortEngine.TOURNAMENT_TREE);
             writer.write(new RecordReaderIterator<>(sectionsReader));
             writer.close();
             return new CompactResult(extractFilesFromSections(sections), writer.result());
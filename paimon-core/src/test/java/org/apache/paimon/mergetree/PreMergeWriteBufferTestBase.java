@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.codegen.RecordComparator;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.mergetree.compact.MergeFunctionTestUtils;
+import org.apache.paimon.mergetree.compact.aggregate.AggregateMergeFunction;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.types.BigIntType;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.ReusingKeyValue;
+import org.apache.paimon.utils.ReusingTestData;
+import org.apache.paimon.utils.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link PreMergeWriteBuffer}. */
+public abstract class PreMergeWriteBufferTestBase {
+
+    private static final RecordComparator KEY_COMPARATOR =
+            (a, b) -> Integer.compare(a.getInt(0), b.getInt(0));
+
+    private final HeapMemorySegmentPool pool = new HeapMemorySegmentPool(32 * 1024 * 3L, 32 * 1024);
+
+    protected final PreMergeWriteBuffer table =
+            new PreMergeWriteBuffer(
+                    new RowType(Collections.singletonList(new DataField(0, "key", new IntType()))),
+                    new RowType(
+                            Collections.singletonList(new DataField(1, "value", new BigIntType()))),
+                    pool,
+                    createMergeFunction());
+
+    protected abstract boolean addOnly();
+
+    protected abstract List<ReusingTestData> getExpected(List<ReusingTestData> input);
+
+    protected abstract MergeFunction<KeyValue> createMergeFunction();
+
+    @Test
+    public void testAndClear() throws IOException {
+        int freePages = pool.freePages();
+        testRandom(100);
+        assertThat(table.memoryOccupancy()).isGreaterThan(0);
+        table.clear();
+        assertThat(table.size()).isEqualTo(0);
+        assertThat(table.memoryOccupancy()).isEqualTo(0);
+        assertThat(pool.freePages()).isEqualTo(freePages);
+        testRandom(200);
+    }
+
+    @Test
+    public void testHotKeys() throws IOException {
+        // records of a few keys never fill the buffer
+        List<ReusingTestData> input = new ArrayList<>();
+        for (ReusingTestData data : ReusingTestData.generateData(100000, addOnly())) {
+            input.add(
+                    new ReusingTestData(
+                            data.key % 10, data.sequenceNumber, data.valueKind, data.value));
+        }
+        runTest(input);
+        assertThat(table.size()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    public void testOverflow() throws IOException {
+        int numEof = 0;
+        try {
+            testRandom(100000);
+        } catch (EOFException e) {
+            numEof++;
+        }
+        table.clear();
+        try {
+            testRandom(100000);
+        } catch (EOFException e) {
+            numEof++;
+        }
+        assertThat(numEof).isEqualTo(2);
+    }
+
+    private void testRandom(int numRecords) throws IOException {
+        List<ReusingTestData> input = ReusingTestData.generateData(numRecords, addOnly());
+        runTest(input);
+    }
+
+    protected void runTest(List<ReusingTestData> input) throws IOException {
+        // records are put in the order of sequence numbers
+        List<ReusingTestData> sorted = new ArrayList<>(input);
+        sorted.sort(Comparator.comparingLong(data -> data.sequenceNumber));
+
+        Queue<ReusingTestData> expected = new LinkedList<>(getExpected(sorted));
+        prepareTable(sorted);
+        assertThat(table.size()).isLessThanOrEqualTo(input.size());
+        table.forEach(
+                KEY_COMPARATOR,
+                createMergeFunction(),
+                null,
+                kv -> expected.poll().assertEquals(kv));
+        assertThat(expected).isEmpty();
+    }
+
+    private void prepareTable(List<ReusingTestData> input) throws IOException {
+        ReusingKeyValue reuse = new ReusingKeyValue();
+        for (ReusingTestData data : input) {
+            KeyValue keyValue = reuse.update(data);
+            boolean success =
+                    table.put(
+                            keyValue.sequenceNumber(),
+                            keyValue.valueKind(),
+                            keyValue.key(),
+                            keyValue.value());
+            if (!success) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    /** Test for {@link PreMergeWriteBuffer} with {@link DeduplicateMergeFunction}. */
+    public static class WithDeduplicateMergeFunctionTest extends PreMergeWriteBufferTestBase {
+
+        @Test
+        public void testVariableLengthRecords() throws IOException {
+            RowType keyType = RowType.of(DataTypes.STRING());
+            RowType valueType = RowType.of(DataTypes.STRING());
+            HeapMemorySegmentPool pool = new HeapMemorySegmentPool(32 * 1024 * 16L, 32 * 1024);
+            PreMergeWriteBuffer buffer =
+                    new PreMergeWriteBuffer(
+                            keyType, valueType, pool, DeduplicateMergeFunction.factory().create());
+
+            // values grow and shrink, some of them are larger than a page
+            Random random = new Random();
+            Map<String, String> expected = new TreeMap<>();
+            for (int i = 0; i < 2000; i++) {
+                String key = "key-" + random.nextInt(20);
+                int length = random.nextInt(10) == 0 ? 40 * 1024 : random.nextInt(100);
+                String value = StringUtils.repeat(String.valueOf(i % 10), length);
+                boolean success =
+                        buffer.put(
+                                i,
+                                RowKind.INSERT,
+                                GenericRow.of(BinaryString.fromString(key)),
+                                GenericRow.of(BinaryString.fromString(value)));
+                if (!success) {
+                    assertThat(buffer.memoryOccupancy()).isGreaterThan(0);
+                    break;
+                }
+                expected.put(key, value);
+            }
+            assertThat(buffer.size()).isEqualTo(expected.size());
+
+            Map<String, String> actual = new TreeMap<>();
+            buffer.forEach(
+                    (a, b) -> a.getString(0).compareTo(b.getString(0)),
+                    DeduplicateMergeFunction.factory().create(),
+                    null,
+                    kv ->
+                            actual.put(
+                                    kv.key().getString(0).toString(),
+                                    kv.value().getString(0).toString()));
+            assertThat(actual).isEqualTo(expected);
+
+            buffer.clear();
+            assertThat(pool.freePages()).isEqualTo(16);
+        }
+
+        @Override
+        protected boolean addOnly() {
+            return false;
+        }
+
+        @Override
+        protected List<ReusingTestData> getExpected(List<ReusingTestData> input) {
+            return MergeFunctionTestUtils.getExpectedForDeduplicate(input);
+        }
+
+        @Override
+        protected MergeFunction<KeyValue> createMergeFunction() {
+            return DeduplicateMergeFunction.factory().create();
+        }
+    }
+
+    /** Test for {@link PreMergeWriteBuffer} with {@link AggregateMergeFunction}. */
+    public static class WithAggregateMergeFunctionTest extends PreMergeWriteBufferTestBase {
+
+        @Override
+        protected boolean addOnly() {
+            return true;
+        }
+
+        @Override
+        protected List<ReusingTestData> getExpected(List<ReusingTestData> input) {
+            return MergeFunctionTestUtils.getExpectedForSum(input);
+        }
+
+        @Override
+        protected MergeFunction<KeyValue> createMergeFunction() {
+            Options options = new Options();
+            options.set("fields.value.aggregate-function", "sum");
+            return AggregateMergeFunction.factory(
+                            options,
+                            Collections.singletonList("value"),
+                            Collections.singletonList(new BigIntType()),
+                            Collections.emptyList())
+                    .create();
+        }
+    }
+}
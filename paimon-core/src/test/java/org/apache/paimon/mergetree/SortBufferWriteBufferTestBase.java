@@ -21,6 +21,8 @@ package org.apache.paimon.mergetree;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.codegen.RecordComparator;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.memory.OffHeapMemorySegmentPool;
 import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.paimon.mergetree.compact.MergeFunction;
 import org.apache.paimon.mergetree.compact.MergeFunctionTestUtils;
@@ -55,11 +57,15 @@ public abstract class SortBufferWriteBufferTestBase {
                     new RowType(Collections.singletonList(new DataField(0, "key", new IntType()))),
                     new RowType(
                             Collections.singletonList(new DataField(1, "value", new BigIntType()))),
-                    new HeapMemorySegmentPool(32 * 1024 * 3L, 32 * 1024),
+                    createMemoryPool(),
                     false,
                     128,
                     null);
 
+    protected MemorySegmentPool createMemoryPool() {
+        return new HeapMemorySegmentPool(32 * 1024 * 3L, 32 * 1024);
+    }
+
     protected abstract boolean addOnly();
 
     protected abstract List<ReusingTestData> getExpected(List<ReusingTestData> input);
@@ -145,6 +151,19 @@ public abstract class SortBufferWriteBufferTestBase {
         }
     }
 
+    /**
+     * Test for {@link SortBufferWriteBuffer} with {@link DeduplicateMergeFunction} and {@link
+     * OffHeapMemorySegmentPool}.
+     */
+    public static class WithDeduplicateMergeFunctionAndOffHeapTest
+            extends WithDeduplicateMergeFunctionTest {
+
+        @Override
+        protected MemorySegmentPool createMemoryPool() {
+            return new OffHeapMemorySegmentPool(32 * 1024 * 3L, 32 * 1024);
+        }
+    }
+
     /** Test for {@link SortBufferWriteBuffer} with {@link ValueCountMergeFunction}. */
     public static class WithValueCountMergeFunctionTest extends SortBufferWriteBufferTestBase {
 
@@ -55,6 +55,27 @@ public class MergeFunctionTestUtils {
         return expected;
     }
 
+    public static List<ReusingTestData> getExpectedForSum(List<ReusingTestData> input) {
+        input = new ArrayList<>(input);
+        Collections.sort(input);
+
+        List<ReusingTestData> expected = new ArrayList<>();
+        long sum = 0;
+        for (int i = 0; i < input.size(); i++) {
+            ReusingTestData data = input.get(i);
+            Preconditions.checkArgument(
+                    data.valueKind == RowKind.INSERT,
+                    "Only ADD value kind is supported for sum aggregate function.");
+            sum += data.value;
+            if (i + 1 >= input.size() || data.key != input.get(i + 1).key) {
+                expected.add(
+                        new ReusingTestData(data.key, data.sequenceNumber, RowKind.INSERT, sum));
+                sum = 0;
+            }
+        }
+        return expected;
+    }
+
     public static List<ReusingTestData> getExpectedForDeduplicate(List<ReusingTestData> input) {
         input = new ArrayList<>(input);
         Collections.sort(input);
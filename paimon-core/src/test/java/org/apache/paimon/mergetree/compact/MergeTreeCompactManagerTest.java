@@ -44,6 +44,7 @@ import java.util.stream.Collectors;
 
 import static org.apache.paimon.io.DataFileTestUtils.newFile;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Test for {@link MergeTreeCompactManager}. */
 public class MergeTreeCompactManagerTest {
@@ -178,6 +179,68 @@ public class MergeTreeCompactManagerTest {
                 Collections.singletonList(new LevelMinMax(2, 1, 10)));
     }
 
+    @Test
+    public void testAbortParallelSectionsOnFailure() {
+        List<LevelMinMax> inputs =
+                Arrays.asList(
+                        new LevelMinMax(0, 1, 3),
+                        new LevelMinMax(0, 1, 3),
+                        new LevelMinMax(0, 5, 7),
+                        new LevelMinMax(0, 5, 7),
+                        new LevelMinMax(0, 9, 11),
+                        new LevelMinMax(0, 9, 11));
+        List<DataFileMeta> files = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            files.add(inputs.get(i).toFile(i));
+        }
+        Levels levels = new Levels(comparator, files, 3);
+
+        // each of the three sections is rewritten in its own chunk, the last one fails
+        List<DataFileMeta> aborted = Collections.synchronizedList(new ArrayList<>());
+        TestRewriter rewriter =
+                new TestRewriter(true) {
+                    @Override
+                    public CompactResult rewrite(
+                            int outputLevel, boolean dropDelete, List<List<SortedRun>> sections)
+                            throws Exception {
+                        CompactResult result = super.rewrite(outputLevel, dropDelete, sections);
+                        if (result.after().get(0).minKey().getInt(0) == 9) {
+                            throw new RuntimeException("Failed section");
+                        }
+                        return result;
+                    }
+
+                    @Override
+                    public void abort(CompactResult result) {
+                        aborted.addAll(result.after());
+                    }
+                };
+        ExecutorService sectionExecutor = Executors.newFixedThreadPool(2);
+        try {
+            MergeTreeCompactManager manager =
+                    new MergeTreeCompactManager(
+                            service,
+                            levels,
+                            testStrategy(),
+                            comparator,
+                            2,
+                            Integer.MAX_VALUE,
+                            rewriter,
+                            sectionExecutor,
+                            3);
+            manager.triggerCompaction(false);
+            assertThatThrownBy(() -> manager.getCompactionResult(true))
+                    .hasRootCauseMessage("Failed section");
+        } finally {
+            sectionExecutor.shutdownNow();
+        }
+
+        // files written by the other sections are cleaned up
+        assertThat(aborted.stream().map(LevelMinMax::new).collect(Collectors.toList()))
+                .containsExactlyInAnyOrder(new LevelMinMax(2, 1, 3), new LevelMinMax(2, 5, 7));
+        assertThat(levels.allFiles()).containsExactlyInAnyOrderElementsOf(files);
+    }
+
     private void innerTest(List<LevelMinMax> inputs, List<LevelMinMax> expected)
             throws ExecutionException, InterruptedException {
         innerTest(inputs, expected, testStrategy(), true);
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.mergetree.compact;
 
+import org.apache.paimon.CoreOptions.SortEngine;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.utils.ReusingTestData;
@@ -33,12 +34,17 @@ public abstract class SortMergeReaderTestBase extends CombiningRecordReaderTestB
 
     protected abstract MergeFunction<KeyValue> createMergeFunction();
 
+    protected SortEngine sortEngine() {
+        return SortEngine.MIN_HEAP;
+    }
+
     @Override
     protected RecordReader<KeyValue> createRecordReader(List<TestReusingRecordReader> readers) {
-        return new SortMergeReader<>(
+        return SortMergeReader.createSortMergeReader(
                 new ArrayList<>(readers),
                 KEY_COMPARATOR,
-                new ReducerMergeFunctionWrapper(createMergeFunction()));
+                new ReducerMergeFunctionWrapper(createMergeFunction()),
+                sortEngine());
     }
 
     @Test
@@ -92,6 +98,18 @@ public abstract class SortMergeReaderTestBase extends CombiningRecordReaderTestB
         }
     }
 
+    /**
+     * Tests for {@link SortMergeReaderWithTournamentTree} with {@link DeduplicateMergeFunction}.
+     */
+    public static class WithDeduplicateMergeFunctionAndTournamentTree
+            extends WithDeduplicateMergeFunction {
+
+        @Override
+        protected SortEngine sortEngine() {
+            return SortEngine.TOURNAMENT_TREE;
+        }
+    }
+
     /** Tests for {@link SortMergeReader} with {@link ValueCountMergeFunction}. */
     public static class WithValueRecordMergeFunctionTest extends SortMergeReaderTestBase {
 
@@ -123,4 +141,14 @@ public abstract class SortMergeReaderTestBase extends CombiningRecordReaderTestB
             runTest(parseData("1, 2, +, 100", "1, 1, +, -100"));
         }
     }
+
+    /** Tests for {@link SortMergeReaderWithTournamentTree} with {@link ValueCountMergeFunction}. */
+    public static class WithValueRecordMergeFunctionAndTournamentTreeTest
+            extends WithValueRecordMergeFunctionTest {
+
+        @Override
+        protected SortEngine sortEngine() {
+            return SortEngine.TOURNAMENT_TREE;
+        }
+    }
 }
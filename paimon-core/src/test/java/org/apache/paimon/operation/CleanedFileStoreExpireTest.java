@@ -24,6 +24,7 @@ import org.apache.paimon.data.Timestamp;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataFilePathFactory;
 import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.utils.SnapshotManager;
@@ -31,10 +32,15 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.apache.paimon.data.BinaryRow.EMPTY_ROW;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -211,4 +217,52 @@ public class CleanedFileStoreExpireTest extends FileStoreExpireTestBase {
             }
         }
     }
+
+    @Test
+    public void testExpireMetrics() throws Exception {
+        FileStoreExpireImpl expire = store.newExpire(1, 1, Long.MAX_VALUE);
+
+        expire.expire();
+        assertThat(expire.lastMetrics()).isNull();
+
+        List<KeyValue> allData = new ArrayList<>();
+        List<Integer> snapshotPositions = new ArrayList<>();
+        commit(3, allData, snapshotPositions);
+        Map<java.nio.file.Path, Long> filesBefore = fileSizes();
+        expire.expire();
+
+        Map<java.nio.file.Path, Long> deletedFiles = new HashMap<>(filesBefore);
+        deletedFiles.keySet().removeAll(fileSizes().keySet());
+        // only the sizes of data, changelog and manifest files are recorded in metadata
+        long expectedBytes =
+                deletedFiles.entrySet().stream()
+                        .filter(
+                                e -> {
+                                    String name = e.getKey().getFileName().toString();
+                                    return name.startsWith(DataFilePathFactory.DATA_FILE_PREFIX)
+                                            || name.startsWith(
+                                                    DataFilePathFactory.CHANGELOG_FILE_PREFIX)
+                                            || (name.startsWith("manifest-")
+                                                    && !name.startsWith("manifest-list-"));
+                                })
+                        .mapToLong(Map.Entry::getValue)
+                        .sum();
+
+        int latestSnapshotId = snapshotManager.latestSnapshotId().intValue();
+        FileStoreExpireImpl.ExpireMetrics metrics = expire.lastMetrics();
+        assertThat(metrics).isNotNull();
+        // at least the snapshot files and manifest lists of expired snapshots
+        assertThat(metrics.filesDeleted()).isGreaterThanOrEqualTo(3L * (latestSnapshotId - 1));
+        assertThat(metrics.filesDeleted()).isEqualTo(deletedFiles.size());
+        assertThat(metrics.bytesReclaimed()).isPositive().isEqualTo(expectedBytes);
+        assertThat(metrics.durationMillis()).isGreaterThanOrEqualTo(0);
+        assertSnapshot(latestSnapshotId, allData, snapshotPositions);
+    }
+
+    private Map<java.nio.file.Path, Long> fileSizes() throws IOException {
+        try (Stream<java.nio.file.Path> files = Files.walk(tempDir)) {
+            return files.filter(Files::isRegularFile)
+                    .collect(Collectors.toMap(f -> f, f -> f.toFile().length()));
+        }
+    }
 }
@@ -44,6 +44,8 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -546,6 +548,109 @@ public class FileStoreCommitTest {
         }
     }
 
+    @Test
+    public void testCommitOldSnapshotAgainWithSameCommit() throws Exception {
+        TestFileStore store = createStore(false, 2);
+        FileStoreCommitImpl commit = store.newCommit();
+        List<ManifestCommittable> committables = new ArrayList<>();
+
+        // commit 3 snapshots with the same commit, live files are tracked incrementally
+        for (int i = 0; i < 3; i++) {
+            store.commitDataImpl(
+                    generateDataList(10),
+                    gen::getPartition,
+                    kv -> 0,
+                    false,
+                    (long) i,
+                    null,
+                    (c, committable) -> {
+                        commit.commit(committable, Collections.emptyMap());
+                        committables.add(committable);
+                    });
+        }
+
+        RuntimeException e =
+                assertThrows(
+                        RuntimeException.class,
+                        () -> commit.commit(committables.get(0), Collections.emptyMap()),
+                        "Expecting RuntimeException, but nothing is thrown.");
+        assertThat(e).hasMessageContaining("Give up committing.");
+    }
+
+    @Test
+    public void testCommitMetrics() throws Exception {
+        TestFileStore store = createStore(false, 2);
+        List<CommitMetrics> metrics = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            store.commitDataImpl(
+                    generateDataList(10),
+                    gen::getPartition,
+                    kv -> 0,
+                    false,
+                    (long) i,
+                    null,
+                    (commit, committable) -> {
+                        commit.commit(committable, Collections.emptyMap());
+                        metrics.add(((FileStoreCommitImpl) commit).lastCommitMetrics());
+                    });
+        }
+
+        // there are no concurrent commits, so no snapshot commit is retried
+        for (CommitMetrics m : metrics) {
+            assertThat(m.retries()).isEqualTo(0);
+            assertThat(m.readMillis()).isGreaterThanOrEqualTo(0);
+            assertThat(m.conflictCheckMillis()).isGreaterThanOrEqualTo(0);
+            assertThat(m.writeMillis()).isGreaterThanOrEqualTo(0);
+            assertThat(m.commitMillis()).isGreaterThanOrEqualTo(0);
+        }
+    }
+
+    @Test
+    public void testCommitWithThreads() throws Exception {
+        TestFileStore store = createStore(false, 2, CoreOptions.ChangelogProducer.NONE, 3);
+        List<KeyValue> expectedKvs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            List<KeyValue> kvs = generateDataList(100);
+            expectedKvs.addAll(kvs);
+            store.commitDataImpl(
+                    kvs,
+                    gen::getPartition,
+                    kv -> Math.abs(kv.key().hashCode()) % 2,
+                    false,
+                    (long) i,
+                    null,
+                    (commit, committable) -> {
+                        long startMillis = System.currentTimeMillis();
+                        commit.commit(committable, Collections.emptyMap());
+                        long elapsedMillis = System.currentTimeMillis() - startMillis;
+
+                        // phases are timed one after another within the commit, which may
+                        // commit both an append and a compact snapshot without retries
+                        CommitMetrics metrics = ((FileStoreCommitImpl) commit).lastCommitMetrics();
+                        assertThat(metrics.retries()).isEqualTo(0);
+                        assertThat(
+                                        metrics.readMillis()
+                                                + metrics.conflictCheckMillis()
+                                                + metrics.writeMillis()
+                                                + metrics.commitMillis())
+                                .isBetween(0L, elapsedMillis);
+                    });
+        }
+
+        gen.sort(expectedKvs);
+        List<KeyValue> actualKvs =
+                store.readKvsFromSnapshot(store.snapshotManager().latestSnapshotId());
+        gen.sort(actualKvs);
+        assertThat(store.toKvMap(actualKvs)).isEqualTo(store.toKvMap(expectedKvs));
+
+        // all commits share one pool of at most commit.thread-num threads
+        long commitThreads =
+                Thread.getAllStackTraces().keySet().stream()
+                        .filter(t -> t.getName().startsWith("file-store-io-3-"))
+                        .count();
+        assertThat(commitThreads).isBetween(1L, 3L);
+    }
+
     @Test
     public void testCommitWatermarkWithValue() throws Exception {
         TestFileStore store = createStore(false, 2);
@@ -593,6 +698,15 @@ public class FileStoreCommitTest {
     private TestFileStore createStore(
             boolean failing, int numBucket, CoreOptions.ChangelogProducer changelogProducer)
             throws Exception {
+        return createStore(failing, numBucket, changelogProducer, null);
+    }
+
+    private TestFileStore createStore(
+            boolean failing,
+            int numBucket,
+            CoreOptions.ChangelogProducer changelogProducer,
+            @Nullable Integer commitThreadNum)
+            throws Exception {
         String root =
                 failing
                         ? FailingFileIO.getFailingPath(failingName, tempDir.toString())
@@ -607,17 +721,21 @@ public class FileStoreCommitTest {
                                 TestKeyValueGenerator.GeneratorMode.MULTI_PARTITIONED),
                         Collections.emptyMap(),
                         null));
-        return new TestFileStore.Builder(
-                        "avro",
-                        root,
-                        numBucket,
-                        TestKeyValueGenerator.DEFAULT_PART_TYPE,
-                        TestKeyValueGenerator.KEY_TYPE,
-                        TestKeyValueGenerator.DEFAULT_ROW_TYPE,
-                        TestKeyValueGenerator.TestKeyValueFieldsExtractor.EXTRACTOR,
-                        DeduplicateMergeFunction.factory())
-                .changelogProducer(changelogProducer)
-                .build();
+        TestFileStore.Builder builder =
+                new TestFileStore.Builder(
+                                "avro",
+                                root,
+                                numBucket,
+                                TestKeyValueGenerator.DEFAULT_PART_TYPE,
+                                TestKeyValueGenerator.KEY_TYPE,
+                                TestKeyValueGenerator.DEFAULT_ROW_TYPE,
+                                TestKeyValueGenerator.TestKeyValueFieldsExtractor.EXTRACTOR,
+                                DeduplicateMergeFunction.factory())
+                        .changelogProducer(changelogProducer);
+        if (commitThreadNum != null) {
+            builder.commitThreadNum(commitThreadNum);
+        }
+        return builder.build();
     }
 
     private List<KeyValue> generateDataList(int numRecords) {
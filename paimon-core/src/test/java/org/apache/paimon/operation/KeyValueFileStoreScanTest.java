@@ -142,6 +142,33 @@ public class KeyValueFileStoreScanTest {
         runTestContainsAll(scan, snapshot.id(), expected);
     }
 
+    @Test
+    public void testSkipManifestsByKeyStats() throws Exception {
+        List<KeyValue> data = generateData(1000);
+        Snapshot first =
+                writeData(
+                        data.stream()
+                                .filter(kv -> kv.key().getInt(0) < 5)
+                                .collect(Collectors.toList()));
+        List<KeyValue> wantedData =
+                data.stream().filter(kv -> kv.key().getInt(0) >= 5).collect(Collectors.toList());
+        Snapshot second = writeData(wantedData);
+
+        ManifestList manifestList = store.manifestListFactory().create();
+        List<ManifestFileMeta> manifests = second.dataManifests(manifestList);
+        assertThat(manifests).allMatch(m -> m.keyStats() != null && m.valueStats() == null);
+
+        KeyValueFileStoreScan scan = store.newScan();
+        scan.withSnapshot(second.id());
+        scan.withKeyFilter(
+                new PredicateBuilder(RowType.of(new IntType(false))).greaterOrEqual(0, 5));
+        assertThat(manifests.stream().filter(scan::filterManifestByStats))
+                .containsExactlyInAnyOrderElementsOf(second.deltaManifests(manifestList))
+                .doesNotContainAnyElementsOf(first.dataManifests(manifestList));
+
+        runTestExactMatch(scan, second.id(), store.toKvMap(wantedData));
+    }
+
     @Test
     public void testWithBucket() throws Exception {
         ThreadLocalRandom random = ThreadLocalRandom.current();
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.TestFileStore;
+import org.apache.paimon.TestKeyValueGenerator;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.FileKind;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.utils.SnapshotManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link LiveFileSet}. */
+public class LiveFileSetTest {
+
+    private static final int NUM_BUCKETS = 3;
+
+    private TestKeyValueGenerator gen;
+    @TempDir java.nio.file.Path tempDir;
+    private TestFileStore store;
+    private SnapshotManager snapshotManager;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        gen = new TestKeyValueGenerator();
+        store =
+                new TestFileStore.Builder(
+                                "avro",
+                                tempDir.toString(),
+                                NUM_BUCKETS,
+                                TestKeyValueGenerator.DEFAULT_PART_TYPE,
+                                TestKeyValueGenerator.KEY_TYPE,
+                                TestKeyValueGenerator.DEFAULT_ROW_TYPE,
+                                TestKeyValueGenerator.TestKeyValueFieldsExtractor.EXTRACTOR,
+                                DeduplicateMergeFunction.factory())
+                        .build();
+        snapshotManager = store.snapshotManager();
+
+        SchemaManager schemaManager =
+                new SchemaManager(LocalFileIO.create(), new Path(tempDir.toUri()));
+        schemaManager.createTable(
+                new Schema(
+                        TestKeyValueGenerator.DEFAULT_ROW_TYPE.getFields(),
+                        TestKeyValueGenerator.DEFAULT_PART_TYPE.getFieldNames(),
+                        TestKeyValueGenerator.getPrimaryKeys(
+                                TestKeyValueGenerator.GeneratorMode.MULTI_PARTITIONED),
+                        Collections.emptyMap(),
+                        null));
+    }
+
+    @Test
+    public void testIncrementalFiles() throws Exception {
+        LiveFileSet liveFiles = new LiveFileSet(snapshotManager, store.newScan());
+        assertThat(liveFiles.files(null, BinaryRow.EMPTY_ROW, 0)).isEmpty();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 10; i++) {
+            List<KeyValue> data = generateData(random.nextInt(300) + 1);
+            store.commitData(data, gen::getPartition, this::getBucket);
+            long snapshotId = snapshotManager.latestSnapshotId();
+
+            for (BinaryRow partition : partitions(snapshotId)) {
+                for (int bucket = 0; bucket < NUM_BUCKETS; bucket++) {
+                    assertThat(fileNames(liveFiles.files(snapshotId, partition, bucket)))
+                            .containsExactlyInAnyOrderElementsOf(
+                                    fileNames(scanFiles(snapshotId, partition, bucket)));
+                }
+            }
+            assertThat(liveFiles.snapshotId()).isEqualTo(snapshotId);
+        }
+    }
+
+    @Test
+    public void testExpiredSnapshots() throws Exception {
+        LiveFileSet liveFiles = new LiveFileSet(snapshotManager, store.newScan());
+
+        store.commitData(generateData(100), gen::getPartition, this::getBucket);
+        long firstSnapshotId = snapshotManager.latestSnapshotId();
+        List<BinaryRow> partitions = partitions(firstSnapshotId);
+        for (BinaryRow partition : partitions) {
+            liveFiles.files(firstSnapshotId, partition, 0);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            store.commitData(generateData(100), gen::getPartition, this::getBucket);
+        }
+        long latestSnapshotId = snapshotManager.latestSnapshotId();
+        store.newExpire(1, 1, Long.MAX_VALUE).expire();
+        assertThat(snapshotManager.snapshotExists(firstSnapshotId + 1)).isFalse();
+
+        for (BinaryRow partition : partitions) {
+            for (int bucket = 0; bucket < NUM_BUCKETS; bucket++) {
+                assertThat(fileNames(liveFiles.files(latestSnapshotId, partition, bucket)))
+                        .containsExactlyInAnyOrderElementsOf(
+                                fileNames(scanFiles(latestSnapshotId, partition, bucket)));
+            }
+        }
+    }
+
+    @Test
+    public void testRetainPartitions() throws Exception {
+        LiveFileSet liveFiles = new LiveFileSet(snapshotManager, store.newScan());
+
+        for (int i = 0; i < 5; i++) {
+            store.commitData(generateData(100), gen::getPartition, this::getBucket);
+            long snapshotId = snapshotManager.latestSnapshotId();
+            List<BinaryRow> partitions = partitions(snapshotId);
+            for (BinaryRow partition : partitions) {
+                for (int bucket = 0; bucket < NUM_BUCKETS; bucket++) {
+                    List<String> expected = fileNames(scanFiles(snapshotId, partition, bucket));
+                    assertThat(fileNames(liveFiles.files(snapshotId, partition, bucket)))
+                            .containsExactlyInAnyOrderElementsOf(expected);
+                    int expectedBucket = bucket;
+                    assertThat(liveFiles.entries(snapshotId, partition, bucket))
+                            .allMatch(e -> e.kind() == FileKind.ADD)
+                            .allMatch(e -> e.bucket() == expectedBucket);
+                }
+            }
+
+            // untracked partitions are planned again when requested
+            liveFiles.retainAll(partitions.subList(0, partitions.size() / 2));
+        }
+    }
+
+    @Test
+    public void testTrackRequestedBuckets() throws Exception {
+        LiveFileSet liveFiles = new LiveFileSet(snapshotManager, store.newScan());
+
+        for (int i = 0; i < 5; i++) {
+            store.commitData(generateData(100), gen::getPartition, this::getBucket);
+            long snapshotId = snapshotManager.latestSnapshotId();
+            List<BinaryRow> partitions = partitions(snapshotId);
+
+            // bucket 0 is tracked all the time, the other buckets are tracked from the i-th
+            // commit on, and bucket 1 is dropped after each commit
+            for (BinaryRow partition : partitions) {
+                for (int bucket = 0; bucket <= Math.min(i, NUM_BUCKETS - 1); bucket++) {
+                    assertThat(fileNames(liveFiles.files(snapshotId, partition, bucket)))
+                            .containsExactlyInAnyOrderElementsOf(
+                                    fileNames(scanFiles(snapshotId, partition, bucket)));
+                }
+                liveFiles.remove(partition, 1);
+            }
+        }
+    }
+
+    private List<BinaryRow> partitions(long snapshotId) {
+        return store.newScan().withSnapshot(snapshotId).plan().files().stream()
+                .map(ManifestEntry::partition)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private List<DataFileMeta> scanFiles(long snapshotId, BinaryRow partition, int bucket) {
+        return store.newScan().withSnapshot(snapshotId)
+                .withPartitionFilter(Collections.singletonList(partition)).withBucket(bucket).plan()
+                .files().stream()
+                .map(ManifestEntry::file)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> fileNames(List<DataFileMeta> files) {
+        return files.stream().map(DataFileMeta::fileName).collect(Collectors.toList());
+    }
+
+    private List<KeyValue> generateData(int numRecords) {
+        List<KeyValue> data = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            data.add(gen.next());
+        }
+        return data;
+    }
+
+    private int getBucket(KeyValue kv) {
+        return (kv.key().hashCode() % NUM_BUCKETS + NUM_BUCKETS) % NUM_BUCKETS;
+    }
+}
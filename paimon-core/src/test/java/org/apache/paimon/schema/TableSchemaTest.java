@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Test for {@link TableSchema}. */
 public class TableSchemaTest {
@@ -51,6 +52,40 @@ public class TableSchemaTest {
                 () -> new TableSchema(1, fields, 10, partitionKeys, primaryKeys, options, ""));
     }
 
+    @Test
+    public void testStatsModeOfUnknownField() {
+        List<DataField> fields =
+                Arrays.asList(
+                        new DataField(0, "f0", new IntType()),
+                        new DataField(1, "f1", new IntType()));
+        Map<String, String> options = new HashMap<>();
+        options.put("fields.f1.stats-mode", "counts");
+        TableSchema schema =
+                new TableSchema(
+                        1,
+                        fields,
+                        10,
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        options,
+                        "");
+        SchemaValidation.validateTableSchema(schema);
+
+        options.put("fields.f2.stats-mode", "none");
+        TableSchema invalid =
+                new TableSchema(
+                        1,
+                        fields,
+                        10,
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        options,
+                        "");
+        assertThatThrownBy(() -> SchemaValidation.validateTableSchema(invalid))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Field f2 can not be found in table schema");
+    }
+
     @Test
     public void testInvalidFieldIds() {
         List<DataField> fields =
@@ -40,6 +40,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -55,6 +57,7 @@ public class BinaryExternalSortBufferTest {
     private MemorySegmentPool memorySegmentPool;
     private int totalPages;
     private BinaryRowSerializer serializer;
+    private ThreadPoolExecutor ioExecutor;
 
     private static String getString(int count) {
         StringBuilder builder = new StringBuilder();
@@ -75,6 +78,9 @@ public class BinaryExternalSortBufferTest {
     public void afterTest() throws Exception {
         assertAfterTest();
         this.ioManager.close();
+        if (ioExecutor != null) {
+            ioExecutor.shutdownNow();
+        }
     }
 
     private void initMemorySegmentPool(long maxMemory) {
@@ -204,6 +210,16 @@ public class BinaryExternalSortBufferTest {
         sorter.clear();
     }
 
+    @Test
+    public void testSpillingWithAsyncIo() throws Exception {
+        ioExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(4);
+        BinaryExternalSortBuffer sorter = createBuffer(8);
+        innerTestSpilling(sorter);
+        assertAfterTest();
+        innerTestSpilling(sorter);
+        assertThat(ioExecutor.getCompletedTaskCount()).isGreaterThan(0);
+    }
+
     @Test
     public void testMergeManyTimes() throws Exception {
         int size = 1000_000;
@@ -279,7 +295,8 @@ public class BinaryExternalSortBufferTest {
                 MemorySegmentPool.DEFAULT_PAGE_SIZE,
                 inMemorySortBuffer,
                 ioManager,
-                maxNumFileHandles);
+                maxNumFileHandles,
+                ioExecutor);
     }
 
     /** Mock reader for binary row. */
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.stats;
+
+import org.apache.paimon.format.FieldStats;
+import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.RowType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link FieldStatsAggregator}. */
+public class FieldStatsAggregatorTest {
+
+    private static final RowType TYPE = RowType.of(new IntType(), new IntType(), new IntType());
+
+    private final FieldStatsArraySerializer serializer = new FieldStatsArraySerializer(TYPE);
+
+    @Test
+    public void testAggregate() {
+        FieldStatsAggregator aggregator = new FieldStatsAggregator(TYPE);
+        assertThat(aggregator.result()).isNull();
+
+        // the last field is all null in the first file
+        assertThat(
+                        aggregator.collect(
+                                stats(
+                                        new FieldStats(5, 10, 0L),
+                                        new FieldStats(1, 3, 0L),
+                                        new FieldStats(null, null, 8L)),
+                                8))
+                .isTrue();
+        assertThat(
+                        aggregator.collect(
+                                stats(
+                                        new FieldStats(1, 6, 0L),
+                                        new FieldStats(2, 9, 1L),
+                                        new FieldStats(7, 7, 0L)),
+                                4))
+                .isTrue();
+
+        assertThat(serializer.fromBinary(aggregator.result()))
+                .containsExactly(
+                        new FieldStats(1, 10, null),
+                        new FieldStats(1, 9, null),
+                        new FieldStats(7, 7, null));
+    }
+
+    @Test
+    public void testUnknownStats() {
+        FieldStatsAggregator aggregator = new FieldStatsAggregator(TYPE);
+        assertThat(
+                        aggregator.collect(
+                                stats(
+                                        new FieldStats(1, 2, 0L),
+                                        new FieldStats(1, 2, 0L),
+                                        new FieldStats(1, 2, 0L)),
+                                4))
+                .isTrue();
+        // stats of the second field are not collected in this file
+        assertThat(
+                        aggregator.collect(
+                                stats(
+                                        new FieldStats(3, 4, 0L),
+                                        new FieldStats(null, null, null),
+                                        new FieldStats(3, 4, 0L)),
+                                4))
+                .isTrue();
+
+        assertThat(serializer.fromBinary(aggregator.result()))
+                .containsExactly(
+                        new FieldStats(1, 4, null),
+                        new FieldStats(null, null, null),
+                        new FieldStats(1, 4, null));
+
+        // stats of another type
+        assertThat(
+                        aggregator.collect(
+                                new FieldStatsArraySerializer(RowType.of(new IntType()))
+                                        .toBinary(new FieldStats[] {new FieldStats(1, 2, 0L)}),
+                                4))
+                .isFalse();
+    }
+
+    @Test
+    public void testStoredFields() {
+        int[] storedFields = new int[] {0, 2};
+        FieldStatsArraySerializer projected = new FieldStatsArraySerializer(TYPE, storedFields);
+        FieldStatsAggregator aggregator = new FieldStatsAggregator(TYPE, storedFields);
+
+        assertThat(
+                        aggregator.collect(
+                                projected.toBinary(
+                                        new FieldStats[] {
+                                            new FieldStats(5, 10, 0L),
+                                            new FieldStats(null, null, null),
+                                            new FieldStats(1, 3, 0L)
+                                        }),
+                                4))
+                .isTrue();
+        assertThat(
+                        aggregator.collect(
+                                projected.toBinary(
+                                        new FieldStats[] {
+                                            new FieldStats(2, 6, 0L),
+                                            new FieldStats(null, null, null),
+                                            new FieldStats(4, 8, 0L)
+                                        }),
+                                4))
+                .isTrue();
+
+        assertThat(projected.fromBinary(aggregator.result()))
+                .containsExactly(
+                        new FieldStats(2, 10, null),
+                        new FieldStats(null, null, null),
+                        new FieldStats(1, 8, null));
+
+        // full width stats do not match the stored fields
+        assertThat(
+                        aggregator.collect(
+                                stats(
+                                        new FieldStats(1, 2, 0L),
+                                        new FieldStats(1, 2, 0L),
+                                        new FieldStats(1, 2, 0L)),
+                                4))
+                .isFalse();
+    }
+
+    private BinaryTableStats stats(FieldStats... fields) {
+        return serializer.toBinary(fields);
+    }
+}
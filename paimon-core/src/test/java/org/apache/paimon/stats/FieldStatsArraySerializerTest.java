@@ -21,10 +21,12 @@ package org.apache.paimon.stats;
 import org.apache.paimon.casting.CastExecutor;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.format.FieldStats;
+import org.apache.paimon.format.FieldStatsMode;
 import org.apache.paimon.schema.SchemaEvolutionUtil;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.RowType;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
@@ -88,6 +90,44 @@ public class FieldStatsArraySerializerTest {
         checkFieldStats(fieldStatsArray[4], null, null, 1000L);
     }
 
+    @Test
+    public void testStoredFields() {
+        RowType type = RowType.of(new IntType(), new IntType(), new IntType(), new IntType());
+        int[] storedFields =
+                FieldStatsArraySerializer.storedFields(
+                        new FieldStatsMode[] {
+                            FieldStatsMode.NONE,
+                            FieldStatsMode.FULL,
+                            FieldStatsMode.NONE,
+                            FieldStatsMode.COUNTS
+                        });
+        assertThat(storedFields).containsExactly(1, 3);
+        assertThat(FieldStatsArraySerializer.storedFields(FieldStatsMode.full(4))).isNull();
+
+        FieldStatsArraySerializer serializer = new FieldStatsArraySerializer(type, storedFields);
+        BinaryTableStats stats =
+                serializer.toBinary(
+                        new FieldStats[] {
+                            new FieldStats(null, null, null),
+                            new FieldStats(1, 10, 0L),
+                            new FieldStats(null, null, null),
+                            new FieldStats(null, null, 5L)
+                        });
+        assertThat(stats.min().getFieldCount()).isEqualTo(2);
+        assertThat(stats.max().getFieldCount()).isEqualTo(2);
+        assertThat(stats.nullCounts()).containsExactly(0L, 5L);
+
+        // deserialize from the stored fields only
+        BinaryTableStats stored =
+                new BinaryTableStats(stats.min(), stats.max(), stats.nullCounts());
+        FieldStats[] fieldStatsArray = stored.fields(serializer);
+        assertThat(fieldStatsArray.length).isEqualTo(4);
+        checkFieldStats(fieldStatsArray[0], null, null, null);
+        checkFieldStats(fieldStatsArray[1], 1, 10, 0L);
+        checkFieldStats(fieldStatsArray[2], null, null, null);
+        checkFieldStats(fieldStatsArray[3], null, null, 5L);
+    }
+
     private void checkFieldStats(FieldStats fieldStats, Integer min, Integer max, Long nullCount) {
         assertThat(fieldStats.minValue()).isEqualTo(min);
         assertThat(fieldStats.maxValue()).isEqualTo(max);
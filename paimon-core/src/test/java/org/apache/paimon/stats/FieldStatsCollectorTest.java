@@ -21,14 +21,27 @@ package org.apache.paimon.stats;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericArray;
 import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapDoubleVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.heap.HeapLongVector;
 import org.apache.paimon.format.FieldStats;
 import org.apache.paimon.format.FieldStatsCollector;
+import org.apache.paimon.format.FieldStatsMode;
 import org.apache.paimon.types.ArrayType;
+import org.apache.paimon.types.BigIntType;
+import org.apache.paimon.types.DoubleType;
 import org.apache.paimon.types.IntType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.types.VarCharType;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /** Tests for {@link FieldStatsCollector}. */
@@ -94,4 +107,92 @@ public class FieldStatsCollectorTest {
                             new FieldStats(null, null, 1L)
                         });
     }
+
+    @Test
+    public void testCollectWithStatsModes() {
+        RowType rowType =
+                RowType.of(
+                        new IntType(),
+                        new IntType(),
+                        VarCharType.STRING_TYPE,
+                        VarCharType.STRING_TYPE);
+        FieldStatsMode[] modes =
+                new FieldStatsMode[] {
+                    FieldStatsMode.NONE,
+                    FieldStatsMode.COUNTS,
+                    FieldStatsMode.truncate(3),
+                    FieldStatsMode.FULL
+                };
+        FieldStatsCollector collector = new FieldStatsCollector(rowType, modes);
+
+        collector.collect(
+                GenericRow.of(
+                        1,
+                        null,
+                        BinaryString.fromString("Paimon"),
+                        BinaryString.fromString("Paimon")));
+        collector.collect(
+                GenericRow.of(
+                        null,
+                        2,
+                        BinaryString.fromString("Flink"),
+                        BinaryString.fromString("Flink")));
+        assertThat(collector.extract())
+                .isEqualTo(
+                        new FieldStats[] {
+                            new FieldStats(null, null, null),
+                            new FieldStats(null, null, 1L),
+                            new FieldStats(
+                                    BinaryString.fromString("Fli"),
+                                    BinaryString.fromString("Paj"),
+                                    0L),
+                            new FieldStats(
+                                    BinaryString.fromString("Flink"),
+                                    BinaryString.fromString("Paimon"),
+                                    0L)
+                        });
+    }
+
+    @Test
+    public void testCollectBatch() {
+        RowType rowType =
+                RowType.of(new IntType(), new BigIntType(), new DoubleType(), new VarCharType(10));
+        int numRows = 100;
+        HeapIntVector ints = new HeapIntVector(numRows);
+        HeapLongVector longs = new HeapLongVector(numRows);
+        HeapDoubleVector doubles = new HeapDoubleVector(numRows);
+        HeapBytesVector strings = new HeapBytesVector(numRows);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < numRows; i++) {
+            if (random.nextInt(5) == 0) {
+                ints.setNullAt(i);
+                longs.setNullAt(i);
+                doubles.setNullAt(i);
+                strings.setNullAt(i);
+                strings.appendBytes(i, new byte[0], 0, 0);
+            } else {
+                ints.setInt(i, random.nextInt());
+                longs.setLong(i, random.nextLong());
+                doubles.setDouble(i, random.nextDouble() - 0.5);
+                byte[] bytes =
+                        String.valueOf(random.nextInt(1000)).getBytes(StandardCharsets.UTF_8);
+                strings.appendBytes(i, bytes, 0, bytes.length);
+            }
+        }
+        VectorizedColumnBatch batch =
+                new VectorizedColumnBatch(new ColumnVector[] {ints, longs, doubles, strings});
+        batch.setNumRows(numRows);
+
+        FieldStatsCollector batchCollector = new FieldStatsCollector(rowType);
+        batchCollector.collect(batch);
+
+        FieldStatsCollector rowCollector = new FieldStatsCollector(rowType);
+        ColumnarRow row = new ColumnarRow(batch);
+        for (int i = 0; i < numRows; i++) {
+            row.setRowId(i);
+            rowCollector.collect(row);
+        }
+
+        assertThat(batchCollector.extract()).isEqualTo(rowCollector.extract());
+    }
 }
@@ -21,9 +21,12 @@ package org.apache.paimon.table;
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.WriteMode;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.format.FieldStats;
 import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.operation.ScanKind;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.Predicate;
@@ -32,11 +35,15 @@ import org.apache.paimon.schema.Schema;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.SchemaUtils;
 import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.stats.FieldStatsArraySerializer;
 import org.apache.paimon.table.sink.StreamTableCommit;
 import org.apache.paimon.table.sink.StreamTableWrite;
 import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.table.source.Split;
 import org.apache.paimon.table.source.TableRead;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -47,11 +54,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.table.sink.BucketComputer.bucket;
 import static org.apache.paimon.table.sink.BucketComputer.hashcode;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Tests for {@link AppendOnlyFileStoreTable}. */
 public class AppendOnlyFileStoreTableTest extends FileStoreTableTestBase {
@@ -168,6 +177,57 @@ public class AppendOnlyFileStoreTableTest extends FileStoreTableTestBase {
         assertThat(partitions).containsExactly(1, 2, 3);
     }
 
+    @Test
+    public void testStatsModes() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        options -> {
+                            options.set(CoreOptions.METADATA_STATS_MODE, "none");
+                            options.setString("fields.a.stats-mode", "counts");
+                            options.setString("fields.b.stats-mode", "full");
+                        });
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        write.write(rowData(1, 10, 100L));
+        write.write(rowData(1, 11, 101L));
+        commit.commit(0, write.prepareCommit(true, 0));
+        write.close();
+
+        List<DataSplit> splits = table.newSnapshotSplitReader().splits();
+        assertThat(splits).hasSize(1);
+        DataFileMeta file = splits.get(0).files().get(0);
+        // only fields a and b have stats, other fields are left out
+        assertThat(file.valueStats().min().getFieldCount()).isEqualTo(2);
+        int[] storedFields =
+                FieldStatsArraySerializer.storedFields(
+                        table.getSchemaFieldStatsModes(table.schema()));
+        assertThat(storedFields).containsExactly(1, 2);
+        FieldStats[] stats =
+                new FieldStatsArraySerializer(ROW_TYPE, storedFields).fromBinary(file.valueStats());
+        FieldStats none = new FieldStats(null, null, null);
+        assertThat(stats)
+                .containsExactly(
+                        none,
+                        new FieldStats(null, null, 0L),
+                        new FieldStats(100L, 101L, 0L),
+                        none,
+                        none,
+                        none,
+                        none);
+
+        // stats of b filter files, fields without stats never do
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        assertThat(table.newSnapshotSplitReader().withFilter(builder.greaterThan(2, 101L)).splits())
+                .isEmpty();
+        assertThat(table.newSnapshotSplitReader().withFilter(builder.greaterThan(1, 100)).splits())
+                .hasSize(1);
+
+        assertThatThrownBy(
+                        () -> table.copy(Collections.singletonMap("fields.c.stats-mode", "full")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Test
     public void testStreamingProjection() throws Exception {
         writeData();
@@ -262,6 +322,36 @@ public class AppendOnlyFileStoreTableTest extends FileStoreTableTestBase {
                                 .collect(Collectors.toList()));
     }
 
+    @Test
+    public void testWriteBatch() throws Exception {
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {DataTypes.INT(), DataTypes.INT(), DataTypes.BIGINT()},
+                        new String[] {"pt", "a", "b"});
+        FileStoreTable table = createFileStoreTable(conf -> {}, rowType);
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        write.writeBatch(binaryRow(1), 0, columnBatch(1, 1, 2, 3));
+        write.write(GenericRow.of(1, 4, 40L));
+        write.writeBatch(binaryRow(1), 0, columnBatch(1, 5, 6));
+        assertThatThrownBy(() -> write.writeBatch(binaryRow(2), 0, columnBatch(1, 7)))
+                .isInstanceOf(IllegalArgumentException.class);
+        commit.commit(0, write.prepareCommit(true, 0));
+        write.close();
+
+        List<Split> splits = toSplits(table.newSnapshotSplitReader().splits());
+        Function<InternalRow, String> toString =
+                row ->
+                        row.getInt(0)
+                                + "|"
+                                + row.getInt(1)
+                                + "|"
+                                + (row.isNullAt(2) ? null : row.getLong(2));
+        assertThat(getResult(table.newRead(), splits, binaryRow(1), 0, toString))
+                .containsExactlyInAnyOrder(
+                        "1|1|null", "1|2|20", "1|3|null", "1|4|40", "1|5|null", "1|6|60");
+    }
+
     private void writeData() throws Exception {
         FileStoreTable table = createFileStoreTable();
         StreamTableWrite write = table.newWrite(commitUser);
@@ -287,6 +377,11 @@ public class AppendOnlyFileStoreTableTest extends FileStoreTableTestBase {
 
     @Override
     protected FileStoreTable createFileStoreTable(Consumer<Options> configure) throws Exception {
+        return createFileStoreTable(configure, ROW_TYPE);
+    }
+
+    private FileStoreTable createFileStoreTable(Consumer<Options> configure, RowType rowType)
+            throws Exception {
         Options conf = new Options();
         conf.set(CoreOptions.PATH, tablePath.toString());
         conf.set(CoreOptions.WRITE_MODE, WriteMode.APPEND_ONLY);
@@ -295,7 +390,7 @@ public class AppendOnlyFileStoreTableTest extends FileStoreTableTestBase {
                 SchemaUtils.forceCommit(
                         new SchemaManager(LocalFileIO.create(), tablePath),
                         new Schema(
-                                ROW_TYPE.getFields(),
+                                rowType.getFields(),
                                 Collections.singletonList("pt"),
                                 Collections.emptyList(),
                                 conf.toMap(),
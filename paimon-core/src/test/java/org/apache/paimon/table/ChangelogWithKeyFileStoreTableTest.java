@@ -20,12 +20,15 @@ package org.apache.paimon.table;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.CoreOptions.ChangelogProducer;
+import org.apache.paimon.CoreOptions.SortEngine;
 import org.apache.paimon.WriteMode;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.operation.ScanKind;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
@@ -57,6 +60,7 @@ import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CompatibilityTestUtils;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -815,6 +819,104 @@ public class ChangelogWithKeyFileStoreTableTest extends FileStoreTableTestBase {
                                 + " you can configure 'fields.${field_name}.ignore-retract'='true'");
     }
 
+    @Test
+    public void testWriteBatchRowByRow() throws Exception {
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {DataTypes.INT(), DataTypes.INT(), DataTypes.BIGINT()},
+                        new String[] {"pt", "a", "b"});
+        FileStoreTable table = createFileStoreTable(conf -> {}, rowType);
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        write.writeBatch(binaryRow(1), 0, columnBatch(1, 1, 2, 3));
+        write.write(GenericRow.of(1, 4, 40L));
+        write.writeBatch(binaryRow(1), 0, columnBatch(1, 5, 6));
+        assertThatThrownBy(() -> write.writeBatch(binaryRow(2), 0, columnBatch(1, 7)))
+                .isInstanceOf(IllegalArgumentException.class);
+        commit.commit(0, write.prepareCommit(true, 0));
+        write.close();
+
+        List<Split> splits = toSplits(table.newSnapshotSplitReader().splits());
+        Function<InternalRow, String> toString =
+                row ->
+                        row.getInt(0)
+                                + "|"
+                                + row.getInt(1)
+                                + "|"
+                                + (row.isNullAt(2) ? null : row.getLong(2));
+        assertThat(getResult(table.newRead(), splits, binaryRow(1), 0, toString))
+                .containsExactlyInAnyOrder(
+                        "1|1|null", "1|2|20", "1|3|null", "1|4|40", "1|5|null", "1|6|60");
+    }
+
+    @Test
+    public void testTournamentTreeSortEngine() throws Exception {
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {DataTypes.INT(), DataTypes.INT(), DataTypes.BIGINT()},
+                        new String[] {"pt", "a", "b"});
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> conf.set(CoreOptions.SORT_ENGINE, SortEngine.TOURNAMENT_TREE),
+                        rowType);
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        // each commit produces a sorted run overlapping the previous ones
+        for (int i = 0; i < 3; i++) {
+            for (int a = i; a < 5; a++) {
+                write.write(GenericRow.of(1, a, (long) (i * 10 + a)));
+            }
+            commit.commit(i, write.prepareCommit(false, i));
+        }
+        write.close();
+
+        List<Split> splits = toSplits(table.newSnapshotSplitReader().splits());
+        Function<InternalRow, String> toString =
+                row -> row.getInt(0) + "|" + row.getInt(1) + "|" + row.getLong(2);
+        assertThat(getResult(table.newRead(), splits, binaryRow(1), 0, toString))
+                .containsExactly("1|0|0", "1|1|11", "1|2|22", "1|3|23", "1|4|24");
+    }
+
+    @Test
+    public void testSpillWithAsyncIo() throws Exception {
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {DataTypes.INT(), DataTypes.INT(), DataTypes.BIGINT()},
+                        new String[] {"pt", "a", "b"});
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> {
+                            conf.set(CoreOptions.WRITE_BUFFER_SPILLABLE, true);
+                            conf.set(CoreOptions.WRITE_BUFFER_SIZE, MemorySize.parse("64 kb"));
+                            conf.set(CoreOptions.PAGE_SIZE, MemorySize.parse("4 kb"));
+                            conf.set(CoreOptions.LOCAL_SORT_ASYNC_IO, true);
+                            conf.set(CoreOptions.LOCAL_SORT_ASYNC_IO_THREAD_NUM, 1);
+                        },
+                        rowType);
+        List<String> expected = new ArrayList<>();
+        try (IOManager ioManager = IOManager.create(tempDir.toString())) {
+            StreamTableWrite write = table.newWrite(commitUser);
+            write.withIOManager(ioManager);
+            StreamTableCommit commit = table.newCommit(commitUser);
+            for (int i = 0; i < 10000; i++) {
+                write.write(GenericRow.of(1, i, (long) i));
+                // update the first keys again so that spilled runs are merged
+                if (i < 1000) {
+                    write.write(GenericRow.of(1, i, (long) -i));
+                }
+                expected.add("1|" + i + "|" + (i < 1000 ? -i : i));
+            }
+            commit.commit(0, write.prepareCommit(true, 0));
+            write.close();
+        }
+
+        List<Split> splits = toSplits(table.newSnapshotSplitReader().splits());
+        Function<InternalRow, String> toString =
+                row -> row.getInt(0) + "|" + row.getInt(1) + "|" + row.getLong(2);
+        assertThat(getResult(table.newRead(), splits, binaryRow(1), 0, toString))
+                .containsExactlyInAnyOrderElementsOf(expected);
+    }
+
     @Override
     protected FileStoreTable createFileStoreTable(Consumer<Options> configure) throws Exception {
         return createFileStoreTable(configure, ROW_TYPE);
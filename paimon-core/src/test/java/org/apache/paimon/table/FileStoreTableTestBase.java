@@ -26,6 +26,10 @@ import org.apache.paimon.data.GenericMap;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.JoinedRow;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.heap.HeapLongVector;
 import org.apache.paimon.fs.FileIOFinder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.io.DataFileMeta;
@@ -481,6 +485,26 @@ public abstract class FileStoreTableTestBase {
                 new GenericMap(Collections.singletonMap(BinaryString.fromString("multiset"), 1)));
     }
 
+    /** Creates a batch of rows (pt, a, b) in one partition, where b is null for odd a. */
+    protected VectorizedColumnBatch columnBatch(int pt, int... a) {
+        HeapIntVector ptVector = new HeapIntVector(a.length);
+        HeapIntVector aVector = new HeapIntVector(a.length);
+        HeapLongVector bVector = new HeapLongVector(a.length);
+        for (int i = 0; i < a.length; i++) {
+            ptVector.setInt(i, pt);
+            aVector.setInt(i, a[i]);
+            if (a[i] % 2 == 0) {
+                bVector.setLong(i, a[i] * 10L);
+            } else {
+                bVector.setNullAt(i);
+            }
+        }
+        VectorizedColumnBatch batch =
+                new VectorizedColumnBatch(new ColumnVector[] {ptVector, aVector, bVector});
+        batch.setNumRows(a.length);
+        return batch;
+    }
+
     protected FileStoreTable createFileStoreTable(int numOfBucket) throws Exception {
         return createFileStoreTable(conf -> conf.set(BUCKET, numOfBucket));
     }
@@ -18,11 +18,15 @@
 
 package org.apache.paimon.utils;
 
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /** Tests for {@link SnapshotManager}. */
@@ -39,4 +43,59 @@ public class SnapshotManagerTest {
                     .isEqualTo(new Path(tempDir.toString() + "/snapshot/snapshot-" + i));
         }
     }
+
+    @Test
+    public void testEarlierThanTimeMills() throws IOException {
+        FileIO fileIO = LocalFileIO.create();
+        SnapshotManager snapshotManager = new SnapshotManager(fileIO, new Path(tempDir.toString()));
+        // snapshot i is committed at 1000 + 10 * i, from snapshot 5 to snapshot 104
+        long earliest = 5;
+        long latest = 104;
+        for (long id = earliest; id <= latest; id++) {
+            commitSnapshot(fileIO, snapshotManager, id, 1000 + 10 * id);
+        }
+
+        for (long id = earliest; id <= latest; id++) {
+            long millis = 1000 + 10 * id;
+            assertThat(snapshotManager.earlierThanTimeMills(millis)).isEqualTo(id - 1);
+            assertThat(snapshotManager.earlierThanTimeMills(millis + 1)).isEqualTo(id);
+            assertThat(snapshotManager.earlierOrEqualTimeMills(millis)).isEqualTo(id);
+            assertThat(snapshotManager.earlierOrEqualTimeMills(millis - 1))
+                    .isEqualTo(id == earliest ? null : id - 1);
+        }
+        assertThat(snapshotManager.earlierThanTimeMills(Long.MAX_VALUE)).isEqualTo(latest);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(Long.MAX_VALUE)).isEqualTo(latest);
+        assertThat(snapshotManager.earlierThanTimeMills(0)).isEqualTo(earliest - 1);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(0)).isNull();
+    }
+
+    @Test
+    public void testEarlierThanTimeMillsWithoutSnapshot() {
+        SnapshotManager snapshotManager =
+                new SnapshotManager(LocalFileIO.create(), new Path(tempDir.toString()));
+        assertThat(snapshotManager.earlierThanTimeMills(1000)).isNull();
+        assertThat(snapshotManager.earlierOrEqualTimeMills(1000)).isNull();
+    }
+
+    private void commitSnapshot(
+            FileIO fileIO, SnapshotManager snapshotManager, long id, long millis)
+            throws IOException {
+        Snapshot snapshot =
+                new Snapshot(
+                        id,
+                        0L,
+                        null,
+                        null,
+                        null,
+                        null,
+                        0L,
+                        Snapshot.CommitKind.APPEND,
+                        millis,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null);
+        fileIO.writeFileUtf8(snapshotManager.snapshotPath(id), snapshot.toJson());
+    }
 }
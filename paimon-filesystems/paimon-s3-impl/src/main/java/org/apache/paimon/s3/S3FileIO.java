@@ -18,11 +18,13 @@
 
 package org.apache.paimon.s3;
 
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.s3a.S3AFileSystem;
 import org.apache.paimon.catalog.CatalogContext;
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
 import org.apache.paimon.options.Options;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +32,8 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -45,6 +49,9 @@ public class S3FileIO extends HadoopCompliantFileIO {
 
     private static final String HADOOP_CONFIG_PREFIX = "fs.s3a.";
 
+    // maximum number of keys in one multi-object delete request
+    private static final int MAX_DELETE_KEYS = 1000;
+
     private static final String[][] MIRRORED_CONFIG_KEYS = {
         {"fs.s3a.access-key", "fs.s3a.access.key"},
         {"fs.s3a.secret-key", "fs.s3a.secret.key"},
@@ -70,6 +77,34 @@ public class S3FileIO extends HadoopCompliantFileIO {
         this.hadoopOptions = mirrorCertainHadoopConfig(loadHadoopConfigFromFlink(context));
     }
 
+    @Override
+    public void deleteFilesQuietly(List<Path> files) {
+        if (files.isEmpty()) {
+            return;
+        }
+
+        List<DeleteObjectsRequest.KeyVersion> keys = new ArrayList<>(files.size());
+        try {
+            S3AFileSystem fs = (S3AFileSystem) getFileSystem(path(files.get(0)));
+            for (Path file : files) {
+                keys.add(new DeleteObjectsRequest.KeyVersion(fs.pathToKey(path(file))));
+                if (keys.size() == MAX_DELETE_KEYS) {
+                    fs.removeKeys(keys, false, null);
+                    keys.clear();
+                }
+            }
+            if (!keys.isEmpty()) {
+                fs.removeKeys(keys, false, null);
+            }
+        } catch (Exception e) {
+            LOG.warn(
+                    "Exception occurs when deleting {} files in bulk, fall back to deleting them one by one.",
+                    files.size(),
+                    e);
+            files.forEach(this::deleteQuietly);
+        }
+    }
+
     // add additional config entries from the IO config to the Hadoop config
     private Options loadHadoopConfigFromFlink(CatalogContext context) {
         Options hadoopConfig = new Options();
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.s3;
+
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.s3a.S3AFileSystem;
+import org.apache.hadoop.fs.s3a.s3guard.BulkOperationState;
+import org.apache.paimon.fs.Path;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link S3FileIO}. */
+public class S3FileIOTest {
+
+    @Test
+    public void testDeleteFilesInBulk() {
+        RecordingFileSystem fs = new RecordingFileSystem(false);
+        List<Path> files = files(2500);
+
+        new TestS3FileIO(fs).deleteFilesQuietly(files);
+
+        // S3 accepts at most 1000 keys in one multi-object delete request
+        assertThat(fs.requests).hasSize(3);
+        assertThat(fs.requests.get(0)).hasSize(1000);
+        assertThat(fs.requests.get(1)).hasSize(1000);
+        assertThat(fs.requests.get(2)).hasSize(500);
+        assertThat(fs.requests.stream().flatMap(List::stream))
+                .containsExactlyElementsOf(
+                        files.stream()
+                                .map(f -> f.toUri().getPath().substring(1))
+                                .collect(Collectors.toList()));
+        assertThat(fs.deleted).isEmpty();
+    }
+
+    @Test
+    public void testDeleteFilesOfFullBatches() {
+        RecordingFileSystem fs = new RecordingFileSystem(false);
+
+        new TestS3FileIO(fs).deleteFilesQuietly(files(2000));
+
+        assertThat(fs.requests).hasSize(2);
+        assertThat(fs.requests).allMatch(keys -> keys.size() == 1000);
+    }
+
+    @Test
+    public void testFallBackToSingleDeletes() {
+        RecordingFileSystem fs = new RecordingFileSystem(true);
+        List<Path> files = files(10);
+
+        new TestS3FileIO(fs).deleteFilesQuietly(files);
+
+        assertThat(fs.requests).isEmpty();
+        assertThat(fs.deleted)
+                .containsExactlyElementsOf(
+                        files.stream()
+                                .map(f -> new org.apache.hadoop.fs.Path(f.toUri()))
+                                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testDeleteNoFiles() {
+        RecordingFileSystem fs = new RecordingFileSystem(false);
+
+        new TestS3FileIO(fs).deleteFilesQuietly(new ArrayList<>());
+
+        assertThat(fs.requests).isEmpty();
+        assertThat(fs.deleted).isEmpty();
+    }
+
+    private static List<Path> files(int numFiles) {
+        List<Path> files = new ArrayList<>(numFiles);
+        for (int i = 0; i < numFiles; i++) {
+            files.add(new Path("s3://bucket/table/bucket-0/data-" + i + ".orc"));
+        }
+        return files;
+    }
+
+    /** {@link S3FileIO} on a given file system. */
+    private static class TestS3FileIO extends S3FileIO {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileSystem fileSystem;
+
+        private TestS3FileIO(FileSystem fileSystem) {
+            this.fileSystem = fileSystem;
+        }
+
+        @Override
+        protected FileSystem createFileSystem(org.apache.hadoop.fs.Path path) {
+            return fileSystem;
+        }
+    }
+
+    /** {@link S3AFileSystem} recording delete requests instead of sending them. */
+    private static class RecordingFileSystem extends S3AFileSystem {
+
+        private final boolean failBulkDelete;
+        private final List<List<String>> requests = new ArrayList<>();
+        private final List<org.apache.hadoop.fs.Path> deleted = new ArrayList<>();
+
+        private RecordingFileSystem(boolean failBulkDelete) {
+            this.failBulkDelete = failBulkDelete;
+        }
+
+        @Override
+        public void removeKeys(
+                List<DeleteObjectsRequest.KeyVersion> keysToDelete,
+                boolean deleteFakeDir,
+                BulkOperationState operationState)
+                throws IOException {
+            if (failBulkDelete) {
+                throw new IOException("Multi-object delete is not supported.");
+            }
+            // the list is reused by the caller
+            requests.add(
+                    keysToDelete.stream()
+                            .map(DeleteObjectsRequest.KeyVersion::getKey)
+                            .collect(Collectors.toList()));
+        }
+
+        @Override
+        public boolean delete(org.apache.hadoop.fs.Path path, boolean recursive) {
+            deleted.add(path);
+            return true;
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.paimon.format.orc.writer;
 import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
 import org.apache.orc.Writer;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.format.FormatWriter;
 
 import java.io.IOException;
@@ -53,6 +54,27 @@ public class OrcBulkWriter implements FormatWriter {
         }
     }
 
+    @Override
+    public void addBatch(VectorizedColumnBatch batch) throws IOException {
+        if (!(vectorizer instanceof RowDataVectorizer)) {
+            FormatWriter.super.addBatch(batch);
+            return;
+        }
+
+        RowDataVectorizer rowDataVectorizer = (RowDataVectorizer) vectorizer;
+        int numRows = batch.getNumRows();
+        int offset = 0;
+        while (offset < numRows) {
+            int length = Math.min(numRows - offset, rowBatch.getMaxSize() - rowBatch.size);
+            rowDataVectorizer.vectorize(batch, offset, length, rowBatch);
+            offset += length;
+            if (rowBatch.size == rowBatch.getMaxSize()) {
+                writer.addRowBatch(rowBatch);
+                rowBatch.reset();
+            }
+        }
+    }
+
     @Override
     public void flush() throws IOException {
         if (rowBatch.size != 0) {
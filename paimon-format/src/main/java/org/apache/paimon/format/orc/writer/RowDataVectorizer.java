@@ -33,6 +33,8 @@ import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalArray;
 import org.apache.paimon.data.InternalMap;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.types.ArrayType;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.DecimalType;
@@ -61,6 +63,83 @@ public class RowDataVectorizer extends Vectorizer<InternalRow> {
         }
     }
 
+    /**
+     * Appends the rows {@code [offset, offset + length)} of a columnar batch to the ORC batch
+     * column by column. The ORC batch must have enough capacity for the rows.
+     */
+    public void vectorize(
+            VectorizedColumnBatch batch, int offset, int length, VectorizedRowBatch rowBatch) {
+        int start = rowBatch.size;
+        ColumnarRow row = new ColumnarRow(batch);
+        for (int i = 0; i < fieldTypes.length; i++) {
+            ColumnVector column = rowBatch.cols[i];
+            switch (fieldTypes[i].getTypeRoot()) {
+                case DATE:
+                case TIME_WITHOUT_TIME_ZONE:
+                case INTEGER:
+                    {
+                        long[] vector = ((LongColumnVector) column).vector;
+                        for (int j = 0; j < length; j++) {
+                            if (!setNull(column, start + j, batch, offset + j, i)) {
+                                vector[start + j] = batch.getInt(offset + j, i);
+                            }
+                        }
+                        break;
+                    }
+                case BIGINT:
+                    {
+                        long[] vector = ((LongColumnVector) column).vector;
+                        for (int j = 0; j < length; j++) {
+                            if (!setNull(column, start + j, batch, offset + j, i)) {
+                                vector[start + j] = batch.getLong(offset + j, i);
+                            }
+                        }
+                        break;
+                    }
+                case FLOAT:
+                    {
+                        double[] vector = ((DoubleColumnVector) column).vector;
+                        for (int j = 0; j < length; j++) {
+                            if (!setNull(column, start + j, batch, offset + j, i)) {
+                                vector[start + j] = batch.getFloat(offset + j, i);
+                            }
+                        }
+                        break;
+                    }
+                case DOUBLE:
+                    {
+                        double[] vector = ((DoubleColumnVector) column).vector;
+                        for (int j = 0; j < length; j++) {
+                            if (!setNull(column, start + j, batch, offset + j, i)) {
+                                vector[start + j] = batch.getDouble(offset + j, i);
+                            }
+                        }
+                        break;
+                    }
+                default:
+                    for (int j = 0; j < length; j++) {
+                        row.setRowId(offset + j);
+                        setColumn(start + j, column, fieldTypes[i], row, i);
+                    }
+            }
+        }
+        rowBatch.size += length;
+    }
+
+    private static boolean setNull(
+            ColumnVector column,
+            int rowId,
+            VectorizedColumnBatch batch,
+            int batchRowId,
+            int colId) {
+        if (batch.isNullAt(batchRowId, colId)) {
+            column.noNulls = false;
+            column.isNull[rowId] = true;
+            return true;
+        }
+        return false;
+    }
+
     private static void setColumn(
             int rowId, ColumnVector column, DataType type, InternalRow row, int columnId) {
         if (row.isNullAt(columnId)) {
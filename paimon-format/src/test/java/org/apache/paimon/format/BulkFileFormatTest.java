@@ -18,19 +18,28 @@
 
 package org.apache.paimon.format;
 
+import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.heap.HeapLongVector;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.PositionOutputStream;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.types.BigIntType;
 import org.apache.paimon.types.IntType;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.types.VarCharType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -86,4 +95,69 @@ public class BulkFileFormatTest {
 
         assertThat(result).isEqualTo(expected);
     }
+
+    @Test
+    public void testAvroBatch(@TempDir java.nio.file.Path tempDir) throws IOException {
+        testFormatBatchWriteRead(tempDir, "avro", "snappy");
+    }
+
+    @Test
+    public void testOrcBatch(@TempDir java.nio.file.Path tempDir) throws IOException {
+        testFormatBatchWriteRead(tempDir, "orc", "snappy");
+    }
+
+    private void testFormatBatchWriteRead(java.nio.file.Path tempDir, String format, String codec)
+            throws IOException {
+        FileFormat fileFormat = createFileFormat(format, codec);
+        RowType rowType = RowType.of(new IntType(), new BigIntType(), VarCharType.STRING_TYPE);
+
+        Path path = new Path(tempDir.toUri().toString(), "1." + format);
+
+        // more rows than a single orc row batch
+        int numRows = 3000;
+        HeapIntVector ints = new HeapIntVector(numRows);
+        HeapLongVector longs = new HeapLongVector(numRows);
+        HeapBytesVector strings = new HeapBytesVector(numRows);
+        List<InternalRow> expected = new ArrayList<>();
+        for (int i = 0; i < numRows; i++) {
+            ints.setInt(i, i);
+            if (i % 7 == 0) {
+                longs.setNullAt(i);
+                strings.setNullAt(i);
+                strings.appendBytes(i, new byte[0], 0, 0);
+                expected.add(GenericRow.of(i, null, null));
+            } else {
+                longs.setLong(i, i * 10L);
+                byte[] bytes = String.valueOf(i).getBytes(StandardCharsets.UTF_8);
+                strings.appendBytes(i, bytes, 0, bytes.length);
+                expected.add(GenericRow.of(i, i * 10L, BinaryString.fromString(String.valueOf(i))));
+            }
+        }
+        VectorizedColumnBatch batch =
+                new VectorizedColumnBatch(new ColumnVector[] {ints, longs, strings});
+        batch.setNumRows(numRows);
+
+        // write
+        PositionOutputStream out = new LocalFileIO().newOutputStream(path, false);
+        FormatWriter writer = fileFormat.createWriterFactory(rowType).create(out);
+        writer.addElement(GenericRow.of(-1, -10L, BinaryString.fromString("-1")));
+        writer.addBatch(batch);
+        writer.finish();
+        out.close();
+        expected.add(0, GenericRow.of(-1, -10L, BinaryString.fromString("-1")));
+
+        // read
+        RecordReader<InternalRow> reader =
+                fileFormat.createReaderFactory(rowType).createReader(new LocalFileIO(), path);
+        List<InternalRow> result = new ArrayList<>();
+        reader.forEachRemaining(
+                rowData ->
+                        result.add(
+                                GenericRow.of(
+                                        rowData.getInt(0),
+                                        rowData.isNullAt(1) ? null : rowData.getLong(1),
+                                        rowData.isNullAt(2) ? null : rowData.getString(2).copy())));
+
+        assertThat(result).isEqualTo(expected);
+    }
 }